@@ -70,6 +70,8 @@ public class ConnectorAction implements ToXContentObject, Writeable {
     private String requestBody;
     private String preProcessFunction;
     private String postProcessFunction;
+    @EqualsAndHashCode.Exclude
+    private transient volatile RequestBodyTemplate requestBodyTemplate;
 
     @Builder(toBuilder = true)
     public ConnectorAction(
@@ -118,6 +120,19 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         }
     }
 
+    /**
+     * Get the request body compiled into a template, compiled on first use.
+     * @return compiled request body template, or null if there is no request body or it can't be compiled
+     */
+    RequestBodyTemplate getRequestBodyTemplate() {
+        RequestBodyTemplate template = requestBodyTemplate;
+        if (template == null && requestBody != null) {
+            template = RequestBodyTemplate.compile(requestBody);
+            requestBodyTemplate = template;
+        }
+        return template;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeEnum(actionType);
@@ -351,11 +351,18 @@ public class HttpConnector extends AbstractConnector {
     public <T> T createPayload(String action, Map<String, String> parameters) {
         Optional<ConnectorAction> connectorAction = findAction(action);
         if (connectorAction.isPresent() && connectorAction.get().getRequestBody() != null) {
-            String payload = connectorAction.get().getRequestBody();
-            payload = fillNullParameters(parameters, payload);
-            parseParameters(parameters);
-            StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-            payload = substitutor.replace(payload);
+            String payload;
+            RequestBodyTemplate requestBodyTemplate = connectorAction.get().getRequestBodyTemplate();
+            if (requestBodyTemplate != null) {
+                parseParameters(parameters);
+                payload = requestBodyTemplate.render(parameters);
+            } else {
+                payload = connectorAction.get().getRequestBody();
+                payload = fillNullParameters(parameters, payload);
+                parseParameters(parameters);
+                StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
+                payload = substitutor.replace(payload);
+            }
 
             if (!isJsonOrNdjson(payload)) {
                 throw new IllegalArgumentException("Invalid payload: " + payload);
@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apache.commons.text.StringSubstitutor;
+
+/**
+ * Connector action request body compiled into literal segments and parameter placeholders, so rendering the
+ * request body doesn't scan the whole template for placeholders on every request.
+ * <p>
+ * Rendering gives the same result as {@link HttpConnector#fillNullParameters} followed by a
+ * {@link StringSubstitutor} with the "${parameters." prefix: a {@code "${parameters.key:-null}"} placeholder
+ * of a missing parameter renders JSON null, a missing parameter renders its default value or stays as it is,
+ * and placeholders in parameter values are substituted recursively. Templates which use escaped or nested
+ * placeholders are not compiled.
+ */
+class RequestBodyTemplate {
+    static final String PARAMETER_PREFIX = "${parameters.";
+    static final String PARAMETER_SUFFIX = "}";
+    private static final String DEFAULT_VALUE_DELIMITER = ":-";
+    private static final String NULL_VALUE = "null";
+    private static final Pattern NULLABLE_PARAMETER_NAME_PATTERN = Pattern.compile("\\w+");
+
+    private final String template;
+    private final List<String> literals;
+    private final List<Placeholder> placeholders;
+    private volatile int lastRenderedLength;
+
+    private RequestBodyTemplate(String template, List<String> literals, List<Placeholder> placeholders) {
+        this.template = template;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.lastRenderedLength = template.length();
+    }
+
+    /**
+     * Compile the request body template.
+     * @param template request body template
+     * @return compiled template, or null if the template uses placeholder syntax which can't be compiled
+     */
+    static RequestBodyTemplate compile(String template) {
+        if (template == null || template.contains("$$")) {
+            return null;
+        }
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int start = template.indexOf(PARAMETER_PREFIX);
+        while (start >= 0) {
+            int end = template.indexOf(PARAMETER_SUFFIX, start + PARAMETER_PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            String variable = template.substring(start + PARAMETER_PREFIX.length(), end);
+            if (variable.contains("${")) {
+                return null;
+            }
+            String name = variable;
+            String defaultValue = null;
+            int delimiter = variable.indexOf(DEFAULT_VALUE_DELIMITER);
+            if (delimiter >= 0) {
+                name = variable.substring(0, delimiter);
+                defaultValue = variable.substring(delimiter + DEFAULT_VALUE_DELIMITER.length());
+            }
+            boolean quotedNullable = NULL_VALUE.equals(defaultValue)
+                && NULLABLE_PARAMETER_NAME_PATTERN.matcher(name).matches()
+                && start > literalStart
+                && template.charAt(start - 1) == '"'
+                && end + 1 < template.length()
+                && template.charAt(end + 1) == '"';
+            if (quotedNullable) {
+                // the quotes belong to the placeholder, so a missing parameter renders JSON null
+                literals.add(template.substring(literalStart, start - 1));
+                literalStart = end + 2;
+            } else {
+                literals.add(template.substring(literalStart, start));
+                literalStart = end + 1;
+            }
+            placeholders.add(new Placeholder(template.substring(start, end + 1), name, defaultValue, quotedNullable));
+            start = template.indexOf(PARAMETER_PREFIX, literalStart);
+        }
+        literals.add(template.substring(literalStart));
+        return new RequestBodyTemplate(template, literals, placeholders);
+    }
+
+    String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Render the request body with the parameters.
+     * @param parameters parameters
+     * @return request body
+     */
+    String render(Map<String, String> parameters) {
+        StringBuilder builder = new StringBuilder(lastRenderedLength);
+        StringSubstitutor substitutor = null;
+        for (int i = 0; i < placeholders.size(); i++) {
+            builder.append(literals.get(i));
+            Placeholder placeholder = placeholders.get(i);
+            String value = parameters == null ? null : parameters.get(placeholder.name);
+            if (value != null && value.contains(PARAMETER_PREFIX)) {
+                if (substitutor == null) {
+                    substitutor = new StringSubstitutor(parameters, PARAMETER_PREFIX, PARAMETER_SUFFIX);
+                }
+                value = substitutor.replace(value);
+            }
+            if (placeholder.quotedNullable) {
+                if (value == null) {
+                    builder.append(NULL_VALUE);
+                } else {
+                    builder.append('"').append(value).append('"');
+                }
+            } else if (value != null) {
+                builder.append(value);
+            } else if (placeholder.defaultValue != null) {
+                builder.append(placeholder.defaultValue);
+            } else {
+                builder.append(placeholder.text);
+            }
+        }
+        builder.append(literals.get(placeholders.size()));
+        lastRenderedLength = builder.length();
+        return builder.toString();
+    }
+
+    private static class Placeholder {
+        private final String text;
+        private final String name;
+        private final String defaultValue;
+        private final boolean quotedNullable;
+
+        Placeholder(String text, String name, String defaultValue, boolean quotedNullable) {
+            this.text = text;
+            this.name = name;
+            this.defaultValue = defaultValue;
+            this.quotedNullable = quotedNullable;
+        }
+    }
+}
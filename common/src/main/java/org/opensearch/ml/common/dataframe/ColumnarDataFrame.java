@@ -0,0 +1,751 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.CommonValue;
+
+/**
+ * Data frame which stores every column in one primitive array instead of one value object per cell.
+ * String columns are dictionary encoded. Rows are only built on demand when iterating the data frame,
+ * numeric features can be exported directly with {@link #toDoubleArray()} and {@link #toFloatArray()}.
+ * <p>
+ * The XContent output is the same as {@link DefaultDataFrame}. Nodes before 3.6.0 receive it as a
+ * {@link DefaultDataFrame}.
+ */
+public class ColumnarDataFrame extends AbstractDataFrame {
+    private static final String COLUMN_META_FIELD = "column_metas";
+    private static final String ROWS_FIELD = "rows";
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long STRING_ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ColumnMeta[] columnMetas;
+    private final Column[] columns;
+    private int size;
+
+    public ColumnarDataFrame(final ColumnMeta[] columnMetas) {
+        this(columnMetas, INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param columnMetas column metas
+     * @param expectedSize expected number of rows, used as initial capacity of columns
+     */
+    public ColumnarDataFrame(final ColumnMeta[] columnMetas, int expectedSize) {
+        super(DataFrameType.COLUMNAR);
+        if (columnMetas == null || columnMetas.length == 0) {
+            throw new IllegalArgumentException("columnMetas array is null or empty");
+        }
+        this.columnMetas = columnMetas;
+        this.columns = new Column[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i] = new Column(columnMetas[i].getColumnType(), Math.max(expectedSize, 1));
+        }
+        this.size = 0;
+    }
+
+    private ColumnarDataFrame(final ColumnMeta[] columnMetas, final Column[] columns, int size) {
+        super(DataFrameType.COLUMNAR);
+        this.columnMetas = columnMetas;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    public ColumnarDataFrame(StreamInput streamInput) throws IOException {
+        super(DataFrameType.COLUMNAR);
+        this.columnMetas = streamInput.readArray(ColumnMeta::new, ColumnMeta[]::new);
+        this.size = streamInput.readVInt();
+        this.columns = new Column[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i] = new Column(columnMetas[i].getColumnType(), streamInput, size);
+        }
+    }
+
+    /**
+     * Copy rows of any data frame into a new columnar data frame.
+     * @param dataFrame data frame
+     * @return columnar data frame
+     */
+    public static ColumnarDataFrame from(DataFrame dataFrame) {
+        if (dataFrame instanceof ColumnarDataFrame) {
+            return (ColumnarDataFrame) dataFrame;
+        }
+        ColumnarDataFrame columnarDataFrame = new ColumnarDataFrame(dataFrame.columnMetas(), dataFrame.size());
+        for (Row row : dataFrame) {
+            columnarDataFrame.appendRow(row);
+        }
+        return columnarDataFrame;
+    }
+
+    @Override
+    public void appendRow(final Object[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("input values can't be null");
+        }
+        ColumnValue[] columnValues = new ColumnValue[values.length];
+        for (int i = 0; i < values.length; i++) {
+            columnValues[i] = ColumnValueBuilder.build(values[i]);
+        }
+        appendRow(new Row(columnValues));
+    }
+
+    @Override
+    public void appendRow(final Row row) {
+        if (row == null) {
+            throw new IllegalArgumentException("input row can't be null");
+        }
+
+        if (row.size() != columnMetas.length) {
+            final String message = String
+                .format("the size is different between input row:%d " + "and column size in dataframe:%d", row.size(), columnMetas.length);
+            throw new IllegalArgumentException(message);
+        }
+
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (columnMetas[i].getColumnType() != row.getValue(i).columnType()) {
+                final String message = String
+                    .format(
+                        "the column type is different in column meta:%s and input row:%s for index: %d",
+                        columnMetas[i].getColumnType(),
+                        row.getValue(i).columnType(),
+                        i
+                    );
+                throw new IllegalArgumentException(message);
+            }
+        }
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].append(row.getValue(i));
+        }
+        size++;
+    }
+
+    /**
+     * Append a double to the current row. Unlike {@link #appendRow(Row)}, the typed append methods don't build any
+     * value object. Each column gets one value with the method of its type, then {@link #endRow()} completes the row.
+     * @param columnIndex column index
+     * @param value value
+     */
+    public void appendDouble(int columnIndex, double value) {
+        currentRowColumn(columnIndex).appendDouble(value);
+    }
+
+    public void appendFloat(int columnIndex, float value) {
+        currentRowColumn(columnIndex).appendFloat(value);
+    }
+
+    public void appendLong(int columnIndex, long value) {
+        currentRowColumn(columnIndex).appendLong(value);
+    }
+
+    public void appendInt(int columnIndex, int value) {
+        currentRowColumn(columnIndex).appendInt(value);
+    }
+
+    public void appendShort(int columnIndex, short value) {
+        currentRowColumn(columnIndex).appendShort(value);
+    }
+
+    public void appendBoolean(int columnIndex, boolean value) {
+        currentRowColumn(columnIndex).appendBoolean(value);
+    }
+
+    public void appendString(int columnIndex, String value) {
+        currentRowColumn(columnIndex).appendString(value);
+    }
+
+    public void appendNull(int columnIndex) {
+        currentRowColumn(columnIndex).appendNull();
+    }
+
+    /**
+     * Complete the row of the typed append methods. Every column must have a value for the row.
+     */
+    public void endRow() {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].size != size + 1) {
+                throw new IllegalStateException("column " + columnMetas[i].getName() + " has no value for row " + size);
+            }
+        }
+        size++;
+    }
+
+    private Column currentRowColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columns.length) {
+            throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length:" + columns.length);
+        }
+        Column column = columns[columnIndex];
+        if (column.size != size) {
+            throw new IllegalStateException("column " + columnMetas[columnIndex].getName() + " already has a value for row " + size);
+        }
+        return column;
+    }
+
+    @Override
+    public Row getRow(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index is out of scope, index:" + index + "; data frame size:" + size);
+        }
+        ColumnValue[] values = new ColumnValue[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i].get(index);
+        }
+        return new Row(values);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ColumnMeta[] columnMetas() {
+        return Arrays.copyOf(columnMetas, columnMetas.length);
+    }
+
+    @Override
+    public DataFrame remove(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnMetas.length) {
+            throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length:" + columnMetas.length);
+        }
+        ColumnMeta[] newColumnMetas = new ColumnMeta[columnMetas.length - 1];
+        Column[] newColumns = new Column[columns.length - 1];
+        int index = 0;
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (i == columnIndex) {
+                continue;
+            }
+            newColumnMetas[index] = columnMetas[i];
+            newColumns[index++] = columns[i].copy(size);
+        }
+        return new ColumnarDataFrame(newColumnMetas, newColumns, size);
+    }
+
+    @Override
+    public DataFrame select(int[] columns) {
+        if (columns == null || columns.length == 0) {
+            throw new IllegalArgumentException("columns can't be null or empty");
+        }
+        ColumnMeta[] newColumnMetas = new ColumnMeta[columns.length];
+        Column[] newColumns = new Column[columns.length];
+        int index = 0;
+        for (int col : columns) {
+            if (col < 0 || col >= columnMetas.length) {
+                throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length");
+            }
+            newColumnMetas[index] = columnMetas[col];
+            newColumns[index++] = this.columns[col].copy(size);
+        }
+        return new ColumnarDataFrame(newColumnMetas, newColumns, size);
+    }
+
+    @Override
+    public int getColumnIndex(String target) {
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (columnMetas[i].getName().equals(target)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No matched target when generating dataset from data frame.");
+    }
+
+    /**
+     * Get the numeric value of one cell without building a row.
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return value as double
+     */
+    public double getDouble(int rowIndex, int columnIndex) {
+        return columns[columnIndex].doubleValue(rowIndex);
+    }
+
+    /**
+     * Export all columns as rows of doubles. All columns must be numeric.
+     * @return array of rows
+     */
+    public double[][] toDoubleArray() {
+        double[][] values = new double[size][columns.length];
+        for (int col = 0; col < columns.length; col++) {
+            Column column = columns[col];
+            for (int row = 0; row < size; row++) {
+                values[row][col] = column.doubleValue(row);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Export all columns as rows of floats. All columns must be numeric.
+     * @return array of rows
+     */
+    public float[][] toFloatArray() {
+        float[][] values = new float[size][columns.length];
+        for (int col = 0; col < columns.length; col++) {
+            Column column = columns[col];
+            for (int row = 0; row < size; row++) {
+                values[row][col] = (float) column.doubleValue(row);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Estimate heap memory used by the column arrays and string dictionaries.
+     * @return estimated size in bytes
+     */
+    public long ramBytesUsed() {
+        long bytes = 0;
+        for (Column column : columns) {
+            bytes += column.ramBytesUsed();
+        }
+        return bytes;
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Row next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(next++);
+            }
+        };
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        if (out.getVersion().before(CommonValue.VERSION_3_6_0)) {
+            // old nodes only know the row based data frame
+            out.writeEnum(DataFrameType.DEFAULT);
+            out.writeArray(columnMetas);
+            out.writeVInt(size);
+            for (Row row : this) {
+                row.writeTo(out);
+            }
+            return;
+        }
+        super.writeTo(out);
+        out.writeArray(columnMetas);
+        out.writeVInt(size);
+        for (Column column : columns) {
+            column.writeTo(out, size);
+        }
+    }
+
+    public XContentBuilder toXContent(XContentBuilder builder) throws IOException {
+        return toXContent(builder, EMPTY_PARAMS);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
+        builder.startArray(COLUMN_META_FIELD);
+        for (ColumnMeta columnMeta : columnMetas) {
+            columnMeta.toXContent(builder, params);
+        }
+        builder.endArray();
+
+        builder.startArray(ROWS_FIELD);
+        for (Row row : this) {
+            row.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarDataFrame(columnMetas=" + Arrays.toString(columnMetas) + ", size=" + size + ")";
+    }
+
+    /**
+     * Values of one column in a primitive array of the column type.
+     */
+    private static final class Column {
+        private final ColumnType columnType;
+        private double[] doubles;
+        private float[] floats;
+        private long[] longs;
+        // values of integer column, or dictionary codes of string column
+        private int[] ints;
+        private short[] shorts;
+        private boolean[] booleans;
+        private List<String> dictionary;
+        private Map<String, Integer> dictionaryCodes;
+        private int size;
+
+        Column(ColumnType columnType, int capacity) {
+            this.columnType = columnType;
+            allocate(capacity);
+            if (columnType == ColumnType.STRING) {
+                this.dictionary = new ArrayList<>();
+                this.dictionaryCodes = new HashMap<>();
+            }
+        }
+
+        Column(ColumnType columnType, StreamInput in, int size) throws IOException {
+            this.columnType = columnType;
+            this.size = size;
+            allocate(size);
+            switch (columnType) {
+                case DOUBLE:
+                    for (int i = 0; i < size; i++) {
+                        doubles[i] = in.readDouble();
+                    }
+                    break;
+                case FLOAT:
+                    for (int i = 0; i < size; i++) {
+                        floats[i] = in.readFloat();
+                    }
+                    break;
+                case LONG:
+                    for (int i = 0; i < size; i++) {
+                        longs[i] = in.readLong();
+                    }
+                    break;
+                case INTEGER:
+                    for (int i = 0; i < size; i++) {
+                        ints[i] = in.readInt();
+                    }
+                    break;
+                case SHORT:
+                    for (int i = 0; i < size; i++) {
+                        shorts[i] = in.readShort();
+                    }
+                    break;
+                case BOOLEAN:
+                    for (int i = 0; i < size; i++) {
+                        booleans[i] = in.readBoolean();
+                    }
+                    break;
+                case STRING:
+                    this.dictionary = new ArrayList<>(in.readStringList());
+                    this.dictionaryCodes = new HashMap<>();
+                    for (int i = 0; i < dictionary.size(); i++) {
+                        dictionaryCodes.put(dictionary.get(i), i);
+                    }
+                    for (int i = 0; i < size; i++) {
+                        ints[i] = in.readVInt();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void allocate(int capacity) {
+            switch (columnType) {
+                case DOUBLE:
+                    doubles = new double[capacity];
+                    break;
+                case FLOAT:
+                    floats = new float[capacity];
+                    break;
+                case LONG:
+                    longs = new long[capacity];
+                    break;
+                case INTEGER:
+                case STRING:
+                    ints = new int[capacity];
+                    break;
+                case SHORT:
+                    shorts = new short[capacity];
+                    break;
+                case BOOLEAN:
+                    booleans = new boolean[capacity];
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            int newCapacity = Math.max(capacity, size + (size >> 1) + 1);
+            switch (columnType) {
+                case DOUBLE:
+                    if (doubles.length < capacity) {
+                        doubles = Arrays.copyOf(doubles, newCapacity);
+                    }
+                    break;
+                case FLOAT:
+                    if (floats.length < capacity) {
+                        floats = Arrays.copyOf(floats, newCapacity);
+                    }
+                    break;
+                case LONG:
+                    if (longs.length < capacity) {
+                        longs = Arrays.copyOf(longs, newCapacity);
+                    }
+                    break;
+                case INTEGER:
+                case STRING:
+                    if (ints.length < capacity) {
+                        ints = Arrays.copyOf(ints, newCapacity);
+                    }
+                    break;
+                case SHORT:
+                    if (shorts.length < capacity) {
+                        shorts = Arrays.copyOf(shorts, newCapacity);
+                    }
+                    break;
+                case BOOLEAN:
+                    if (booleans.length < capacity) {
+                        booleans = Arrays.copyOf(booleans, newCapacity);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        void append(ColumnValue value) {
+            switch (columnType) {
+                case DOUBLE:
+                    appendDouble(value.doubleValue());
+                    break;
+                case FLOAT:
+                    appendFloat(value.floatValue());
+                    break;
+                case LONG:
+                    appendLong(value.longValue());
+                    break;
+                case INTEGER:
+                    appendInt(value.intValue());
+                    break;
+                case SHORT:
+                    appendShort(value.shortValue());
+                    break;
+                case BOOLEAN:
+                    appendBoolean(value.booleanValue());
+                    break;
+                case STRING:
+                    appendString(value.stringValue());
+                    break;
+                default:
+                    appendNull();
+                    break;
+            }
+        }
+
+        void appendDouble(double value) {
+            checkType(ColumnType.DOUBLE);
+            ensureCapacity(size + 1);
+            doubles[size++] = value;
+        }
+
+        void appendFloat(float value) {
+            checkType(ColumnType.FLOAT);
+            ensureCapacity(size + 1);
+            floats[size++] = value;
+        }
+
+        void appendLong(long value) {
+            checkType(ColumnType.LONG);
+            ensureCapacity(size + 1);
+            longs[size++] = value;
+        }
+
+        void appendInt(int value) {
+            checkType(ColumnType.INTEGER);
+            ensureCapacity(size + 1);
+            ints[size++] = value;
+        }
+
+        void appendShort(short value) {
+            checkType(ColumnType.SHORT);
+            ensureCapacity(size + 1);
+            shorts[size++] = value;
+        }
+
+        void appendBoolean(boolean value) {
+            checkType(ColumnType.BOOLEAN);
+            ensureCapacity(size + 1);
+            booleans[size++] = value;
+        }
+
+        void appendString(String value) {
+            checkType(ColumnType.STRING);
+            ensureCapacity(size + 1);
+            ints[size++] = dictionaryCodes.computeIfAbsent(value, key -> {
+                dictionary.add(key);
+                return dictionary.size() - 1;
+            });
+        }
+
+        void appendNull() {
+            checkType(ColumnType.NULL);
+            size++;
+        }
+
+        private void checkType(ColumnType type) {
+            if (columnType != type) {
+                throw new IllegalArgumentException(
+                    String.format("the column type is different in column meta:%s and input value:%s", columnType, type)
+                );
+            }
+        }
+
+        ColumnValue get(int index) {
+            switch (columnType) {
+                case DOUBLE:
+                    return new DoubleValue(doubles[index]);
+                case FLOAT:
+                    return new FloatValue(floats[index]);
+                case LONG:
+                    return new LongValue(longs[index]);
+                case INTEGER:
+                    return new IntValue(ints[index]);
+                case SHORT:
+                    return new ShortValue(shorts[index]);
+                case BOOLEAN:
+                    return new BooleanValue(booleans[index]);
+                case STRING:
+                    return new StringValue(dictionary.get(ints[index]));
+                default:
+                    return new NullValue();
+            }
+        }
+
+        double doubleValue(int index) {
+            switch (columnType) {
+                case DOUBLE:
+                    return doubles[index];
+                case FLOAT:
+                    return floats[index];
+                case LONG:
+                    return longs[index];
+                case INTEGER:
+                    return ints[index];
+                case SHORT:
+                    return shorts[index];
+                default:
+                    throw new RuntimeException("the value isn't Double type");
+            }
+        }
+
+        long ramBytesUsed() {
+            switch (columnType) {
+                case DOUBLE:
+                    return 8L * doubles.length;
+                case FLOAT:
+                    return 4L * floats.length;
+                case LONG:
+                    return 8L * longs.length;
+                case INTEGER:
+                    return 4L * ints.length;
+                case SHORT:
+                    return 2L * shorts.length;
+                case BOOLEAN:
+                    return booleans.length;
+                case STRING:
+                    long bytes = 4L * ints.length;
+                    for (String value : dictionary) {
+                        // string content plus object, list and map entry overhead
+                        bytes += 2L * value.length() + STRING_ENTRY_OVERHEAD_BYTES;
+                    }
+                    return bytes;
+                default:
+                    return 0;
+            }
+        }
+
+        Column copy(int size) {
+            Column column = new Column(columnType, Math.max(size, 1));
+            column.size = size;
+            switch (columnType) {
+                case DOUBLE:
+                    System.arraycopy(doubles, 0, column.doubles, 0, size);
+                    break;
+                case FLOAT:
+                    System.arraycopy(floats, 0, column.floats, 0, size);
+                    break;
+                case LONG:
+                    System.arraycopy(longs, 0, column.longs, 0, size);
+                    break;
+                case INTEGER:
+                    System.arraycopy(ints, 0, column.ints, 0, size);
+                    break;
+                case SHORT:
+                    System.arraycopy(shorts, 0, column.shorts, 0, size);
+                    break;
+                case BOOLEAN:
+                    System.arraycopy(booleans, 0, column.booleans, 0, size);
+                    break;
+                case STRING:
+                    System.arraycopy(ints, 0, column.ints, 0, size);
+                    column.dictionary.addAll(dictionary);
+                    column.dictionaryCodes.putAll(dictionaryCodes);
+                    break;
+                default:
+                    break;
+            }
+            return column;
+        }
+
+        void writeTo(StreamOutput out, int size) throws IOException {
+            switch (columnType) {
+                case DOUBLE:
+                    for (int i = 0; i < size; i++) {
+                        out.writeDouble(doubles[i]);
+                    }
+                    break;
+                case FLOAT:
+                    for (int i = 0; i < size; i++) {
+                        out.writeFloat(floats[i]);
+                    }
+                    break;
+                case LONG:
+                    for (int i = 0; i < size; i++) {
+                        out.writeLong(longs[i]);
+                    }
+                    break;
+                case INTEGER:
+                    for (int i = 0; i < size; i++) {
+                        out.writeInt(ints[i]);
+                    }
+                    break;
+                case SHORT:
+                    for (int i = 0; i < size; i++) {
+                        out.writeShort(shorts[i]);
+                    }
+                    break;
+                case BOOLEAN:
+                    for (int i = 0; i < size; i++) {
+                        out.writeBoolean(booleans[i]);
+                    }
+                    break;
+                case STRING:
+                    out.writeStringCollection(dictionary);
+                    for (int i = 0; i < size; i++) {
+                        out.writeVInt(ints[i]);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -100,6 +100,118 @@ public class DataFrameBuilder {
         return new DefaultDataFrame(columnMetas, rows);
     }
 
+    /**
+     * Load columnar data frame based on list of map objects. It will use the first object to build the ColumnMeta, and all of
+     * the map objects should have same key set, otherwise it will throw exception.
+     * @param input input list of map objects
+     * @return columnar data frame
+     */
+    public DataFrame loadColumnar(final List<Map<String, Object>> input) {
+        if (input == null || input.isEmpty()) {
+            throw new IllegalArgumentException("input is null or empty");
+        }
+        ColumnarDataFrame dataFrame = emptyColumnarDataFrame(input.get(0), input.size());
+        appendColumnar(dataFrame, input);
+        return dataFrame;
+    }
+
+    /**
+     * Build empty columnar data frame with the columns of the given map object.
+     * @param element map object to build the ColumnMeta
+     * @param expectedSize expected number of rows
+     * @return empty columnar data frame
+     */
+    public ColumnarDataFrame emptyColumnarDataFrame(final Map<String, Object> element, int expectedSize) {
+        if (element == null || element.isEmpty()) {
+            throw new IllegalArgumentException("input is null or empty");
+        }
+        ColumnMeta[] columnMetas = new ColumnMeta[element.size()];
+        int index = 0;
+        for (Map.Entry<String, Object> entry : element.entrySet()) {
+            columnMetas[index++] = ColumnMeta.builder().name(entry.getKey()).columnType(ColumnType.from(entry.getValue())).build();
+        }
+        return new ColumnarDataFrame(columnMetas, expectedSize);
+    }
+
+    /**
+     * Append list of map objects to columnar data frame. All of the map objects should have the same key set as the
+     * data frame columns, otherwise it will throw exception. The values are appended to the columns directly, without
+     * building a row of column values.
+     * @param dataFrame columnar data frame
+     * @param input input list of map objects
+     */
+    public void appendColumnar(final ColumnarDataFrame dataFrame, final List<Map<String, Object>> input) {
+        ColumnMeta[] columnMetas = dataFrame.columnMetas();
+        for (Map<String, Object> item : input) {
+            appendColumnar(dataFrame, columnMetas, item);
+        }
+    }
+
+    private void appendColumnar(final ColumnarDataFrame dataFrame, final ColumnMeta[] columnMetas, final Map<String, Object> item) {
+        if (item.size() != columnMetas.length) {
+            throw new IllegalArgumentException("input item map size is different in the map");
+        }
+        // check the whole item first, so an invalid item doesn't leave a partial row
+        for (ColumnMeta columnMeta : columnMetas) {
+            if (!item.containsKey(columnMeta.getName())) {
+                String field = item.keySet().stream().filter(key -> !containsColumn(columnMetas, key)).findFirst().orElse(null);
+                throw new IllegalArgumentException("field of input item doesn't exist in columns, filed:" + field);
+            }
+            Object value = item.get(columnMeta.getName());
+            ColumnType valueType = value == null ? ColumnType.NULL : ColumnType.from(value);
+            if (valueType != columnMeta.getColumnType()) {
+                throw new IllegalArgumentException(
+                    String
+                        .format(
+                            "the column type is different in column meta:%s and input value:%s for column: %s",
+                            columnMeta.getColumnType(),
+                            valueType,
+                            columnMeta.getName()
+                        )
+                );
+            }
+        }
+        for (int i = 0; i < columnMetas.length; i++) {
+            Object value = item.get(columnMetas[i].getName());
+            switch (columnMetas[i].getColumnType()) {
+                case DOUBLE:
+                    dataFrame.appendDouble(i, (Double) value);
+                    break;
+                case FLOAT:
+                    dataFrame.appendFloat(i, (Float) value);
+                    break;
+                case LONG:
+                    dataFrame.appendLong(i, (Long) value);
+                    break;
+                case INTEGER:
+                    dataFrame.appendInt(i, (Integer) value);
+                    break;
+                case SHORT:
+                    dataFrame.appendShort(i, (Short) value);
+                    break;
+                case BOOLEAN:
+                    dataFrame.appendBoolean(i, (Boolean) value);
+                    break;
+                case STRING:
+                    dataFrame.appendString(i, (String) value);
+                    break;
+                default:
+                    dataFrame.appendNull(i);
+                    break;
+            }
+        }
+        dataFrame.endRow();
+    }
+
+    private boolean containsColumn(final ColumnMeta[] columnMetas, final String name) {
+        for (ColumnMeta columnMeta : columnMetas) {
+            if (columnMeta.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Load data frame from stream input.
      * @param input stream input
@@ -111,6 +223,8 @@ public class DataFrameBuilder {
         switch (dataFrameType) {
             case DEFAULT:
                 return new DefaultDataFrame(input);
+            case COLUMNAR:
+                return new ColumnarDataFrame(input);
             default:
                 throw new IllegalStateException("Unexpected value: " + dataFrameType);
         }
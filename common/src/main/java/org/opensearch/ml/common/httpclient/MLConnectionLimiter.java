@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.httpclient;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+
+/**
+ * Non-blocking limit of concurrent http requests. Requests over the limit wait in a queue and are started
+ * on the thread which releases a connection, so no thread is blocked while waiting. A request which waits
+ * longer than its timeout is dropped from the queue.
+ */
+class MLConnectionLimiter {
+    static final int MAX_PENDING_REQUESTS = 10000;
+
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Queue<Waiter> queue = new ConcurrentLinkedQueue<>();
+    private volatile int maxConnections;
+
+    MLConnectionLimiter(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Run the task once a connection is available. The task must call {@link #release()} when its request is done.
+     * @param task task to run
+     * @throws MLLimitExceededException if too many requests are waiting
+     */
+    void acquire(Runnable task) {
+        acquire(task, null, null, null);
+    }
+
+    /**
+     * Run the task once a connection is available, or the timeout task if no connection is available in time.
+     * The task must call {@link #release()} when its request is done, the timeout task must not.
+     * @param task task to run
+     * @param timeout max time to wait for a connection
+     * @param scheduler scheduler of the timeout
+     * @param onTimeout task to run instead of the task when the timeout passes
+     * @throws MLLimitExceededException if too many requests are waiting
+     */
+    void acquire(Runnable task, Duration timeout, ScheduledExecutorService scheduler, Runnable onTimeout) {
+        if (pending.incrementAndGet() > MAX_PENDING_REQUESTS) {
+            pending.decrementAndGet();
+            throw new MLLimitExceededException("Too many pending requests to remote services, please retry later");
+        }
+        Waiter waiter = new Waiter(task);
+        if (timeout != null) {
+            // scheduled before the waiter is queued, so the waiter never runs without its timeout being cancelled
+            waiter.timeout = scheduler.schedule(() -> {
+                if (waiter.claim()) {
+                    queue.remove(waiter);
+                    pending.decrementAndGet();
+                    onTimeout.run();
+                }
+            }, Math.max(timeout.toNanos(), 0), TimeUnit.NANOSECONDS);
+        }
+        queue.add(waiter);
+        drain();
+    }
+
+    void release() {
+        leased.decrementAndGet();
+        drain();
+    }
+
+    void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        drain();
+    }
+
+    int getMaxConnections() {
+        return maxConnections;
+    }
+
+    int getLeased() {
+        return leased.get();
+    }
+
+    int getPending() {
+        return pending.get();
+    }
+
+    private void drain() {
+        while (true) {
+            int current = leased.get();
+            if (current >= maxConnections || queue.isEmpty()) {
+                return;
+            }
+            if (!leased.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Waiter waiter = queue.poll();
+            if (waiter == null || !waiter.claim()) {
+                // the queue was drained by another thread, or the waiter timed out
+                leased.decrementAndGet();
+                continue;
+            }
+            pending.decrementAndGet();
+            if (waiter.timeout != null) {
+                waiter.timeout.cancel(false);
+            }
+            waiter.task.run();
+        }
+    }
+
+    private static class Waiter {
+        private final Runnable task;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeout;
+
+        Waiter(Runnable task) {
+            this.task = task;
+        }
+
+        // either the task or the timeout runs, whichever claims the waiter first
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -10,10 +10,7 @@ import static org.opensearch.secure_sm.AccessController.doPrivileged;
 import java.time.Duration;
 
 import lombok.extern.log4j.Log4j2;
-import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
-import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
-import software.amazon.awssdk.utils.AttributeMap;
 
 @Log4j2
 public class MLHttpClientFactory {
@@ -50,14 +47,7 @@ public class MLHttpClientFactory {
                     maxConnections,
                     skipSslVerification
                 );
-            SdkAsyncHttpClient delegate = NettyNioAsyncHttpClient
-                .builder()
-                .connectionTimeout(connectionTimeout)
-                .readTimeout(readTimeout)
-                .maxConcurrency(maxConnections)
-                .buildWithDefaults(
-                    AttributeMap.builder().put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, skipSslVerification).build()
-                );
+            SdkAsyncHttpClient delegate = MLHttpClientRegistry.acquire(connectionTimeout, readTimeout, maxConnections, skipSslVerification);
             return new MLValidatableAsyncHttpClient(delegate, connectorPrivateIpEnabled);
         });
     }
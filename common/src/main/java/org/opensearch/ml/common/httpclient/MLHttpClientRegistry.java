@@ -0,0 +1,288 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.httpclient;
+
+import static org.opensearch.secure_sm.AccessController.doPrivileged;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Node level registry of the http clients used by remote connectors.
+ * <p>
+ * Connectors with the same timeouts and TLS config share one http client, which keeps a connection pool per
+ * scheme, host and port, and all clients share one event loop group. So connectors calling the same endpoint
+ * reuse warm connections instead of each opening their own pool and event loop threads.
+ * <p>
+ * Requests are limited by the max connections of the connector, the max connections per host and the max
+ * connections of the node. Requests over a limit wait in a queue without blocking a thread, and fail if they
+ * don't get a connection within the connection timeout. The limit of a host is dropped once it has no requests.
+ */
+@Log4j2
+public class MLHttpClientRegistry {
+    public static final int DEFAULT_MAX_CONNECTIONS = 1024;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 256;
+
+    private static final Map<ClientKey, SharedClient> clients = new HashMap<>();
+    private static final Map<String, HostLimiter> hostLimiters = new ConcurrentHashMap<>();
+    private static final MLConnectionLimiter nodeLimiter = new MLConnectionLimiter(DEFAULT_MAX_CONNECTIONS);
+    private static volatile int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+    private static SdkEventLoopGroup eventLoopGroup;
+
+    private MLHttpClientRegistry() {}
+
+    /**
+     * Set the max number of concurrent requests to remote services of this node.
+     * @param maxConnections max connections of the node
+     */
+    public static void setMaxConnections(int maxConnections) {
+        nodeLimiter.setMaxConnections(maxConnections);
+    }
+
+    /**
+     * Set the max number of concurrent requests to one remote host.
+     * @param maxConnections max connections per scheme, host and port
+     */
+    public static void setMaxConnectionsPerHost(int maxConnections) {
+        maxConnectionsPerHost = maxConnections;
+        hostLimiters.values().forEach(hostLimiter -> hostLimiter.limiter.setMaxConnections(maxConnections));
+    }
+
+    /**
+     * Get an http client backed by the shared client of the config. The returned client must be closed when it's
+     * not used anymore, the shared client is closed when all its clients are closed.
+     * @param connectionTimeout connection timeout
+     * @param readTimeout read timeout
+     * @param maxConnections max concurrent requests of the returned client
+     * @param skipSslVerification skip SSL certificate verification or not
+     * @return http client
+     */
+    static SdkAsyncHttpClient acquire(Duration connectionTimeout, Duration readTimeout, int maxConnections, boolean skipSslVerification) {
+        ClientKey key = new ClientKey(connectionTimeout, readTimeout, skipSslVerification);
+        SharedClient sharedClient;
+        synchronized (MLHttpClientRegistry.class) {
+            sharedClient = clients.computeIfAbsent(key, MLHttpClientRegistry::createSharedClient);
+            sharedClient.refCount++;
+        }
+        return new PooledHttpClient(key, sharedClient, new MLConnectionLimiter(maxConnections));
+    }
+
+    /**
+     * Get the connection pool stats of the node and of each remote host.
+     * @return map of pool name to leased, pending and max connections
+     */
+    public static Map<String, Map<String, Integer>> getPoolStats() {
+        Map<String, Map<String, Integer>> stats = new HashMap<>();
+        stats.put("_node", limiterStats(nodeLimiter));
+        hostLimiters.forEach((host, hostLimiter) -> stats.put(host, limiterStats(hostLimiter.limiter)));
+        return stats;
+    }
+
+    @VisibleForTesting
+    static synchronized int getSharedClientCount() {
+        return clients.size();
+    }
+
+    @VisibleForTesting
+    static int getHostLimiterCount() {
+        return hostLimiters.size();
+    }
+
+    private static Map<String, Integer> limiterStats(MLConnectionLimiter limiter) {
+        return Map.of("leased", limiter.getLeased(), "pending", limiter.getPending(), "max", limiter.getMaxConnections());
+    }
+
+    private static SharedClient createSharedClient(ClientKey key) {
+        return doPrivileged(() -> {
+            if (eventLoopGroup == null) {
+                eventLoopGroup = SdkEventLoopGroup.builder().build();
+            }
+            log
+                .debug(
+                    "Creating shared MLHttpClient with connectionTimeout: {}, readTimeout: {}, skipSslVerification: {}",
+                    key.connectionTimeout(),
+                    key.readTimeout(),
+                    key.skipSslVerification()
+                );
+            SdkAsyncHttpClient client = NettyNioAsyncHttpClient
+                .builder()
+                .eventLoopGroup(eventLoopGroup)
+                .connectionTimeout(key.connectionTimeout())
+                .readTimeout(key.readTimeout())
+                // connections are limited by the registry
+                .maxConcurrency(Integer.MAX_VALUE)
+                .buildWithDefaults(
+                    AttributeMap.builder().put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, key.skipSslVerification()).build()
+                );
+            return new SharedClient(client);
+        });
+    }
+
+    private static void release(ClientKey key, SharedClient sharedClient) {
+        synchronized (MLHttpClientRegistry.class) {
+            if (--sharedClient.refCount > 0) {
+                return;
+            }
+            clients.remove(key);
+        }
+        // the shared event loop group is not closed with the client
+        sharedClient.client.close();
+    }
+
+    private static String hostKey(SdkHttpRequest request) {
+        String protocol = request.protocol() == null ? "http" : request.protocol().toLowerCase(Locale.ROOT);
+        int port = request.port() == -1 ? ("https".equals(protocol) ? 443 : 80) : request.port();
+        return protocol + "://" + request.host() + ":" + port;
+    }
+
+    /**
+     * Get the limiter of a host for a request, which must be returned with {@link #returnHostLimiter} when the request
+     * is done.
+     */
+    private static MLConnectionLimiter borrowHostLimiter(String host) {
+        return hostLimiters.compute(host, (key, hostLimiter) -> {
+            HostLimiter borrowed = hostLimiter == null ? new HostLimiter(new MLConnectionLimiter(maxConnectionsPerHost)) : hostLimiter;
+            borrowed.requests++;
+            return borrowed;
+        }).limiter;
+    }
+
+    private static void returnHostLimiter(String host) {
+        hostLimiters.computeIfPresent(host, (key, hostLimiter) -> --hostLimiter.requests == 0 ? null : hostLimiter);
+    }
+
+    private record ClientKey(Duration connectionTimeout, Duration readTimeout, boolean skipSslVerification) {}
+
+    private static class HostLimiter {
+        private final MLConnectionLimiter limiter;
+        // requests using the limiter, only changed while computing the map entry of the host
+        private int requests;
+
+        HostLimiter(MLConnectionLimiter limiter) {
+            this.limiter = limiter;
+        }
+    }
+
+    private static class SharedClient {
+        private final SdkAsyncHttpClient client;
+        private int refCount;
+
+        SharedClient(SdkAsyncHttpClient client) {
+            this.client = client;
+        }
+    }
+
+    private static class PooledHttpClient implements SdkAsyncHttpClient {
+        private final ClientKey key;
+        private final SharedClient sharedClient;
+        private final MLConnectionLimiter clientLimiter;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        PooledHttpClient(ClientKey key, SharedClient sharedClient, MLConnectionLimiter clientLimiter) {
+            this.key = key;
+            this.sharedClient = sharedClient;
+            this.clientLimiter = clientLimiter;
+        }
+
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            String host = hostKey(request.request());
+            List<MLConnectionLimiter> limiters = List.of(clientLimiter, borrowHostLimiter(host), nodeLimiter);
+            result.whenComplete((r, e) -> returnHostLimiter(host));
+            // the wait for a connection of all limiters is bounded by the connection timeout
+            long deadline = System.nanoTime() + key.connectionTimeout().toNanos();
+            acquire(limiters, 0, deadline, request, result);
+            return result;
+        }
+
+        private void acquire(
+            List<MLConnectionLimiter> limiters,
+            int index,
+            long deadline,
+            AsyncExecuteRequest request,
+            CompletableFuture<Void> result
+        ) {
+            if (index == limiters.size()) {
+                send(limiters, request, result);
+                return;
+            }
+            try {
+                limiters
+                    .get(index)
+                    .acquire(
+                        () -> acquire(limiters, index + 1, deadline, request, result),
+                        Duration.ofNanos(deadline - System.nanoTime()),
+                        eventLoopGroup.eventLoopGroup(),
+                        () -> fail(
+                            limiters.subList(0, index),
+                            request,
+                            result,
+                            new MLLimitExceededException(
+                                "Timed out waiting for a connection to remote service after " + key.connectionTimeout().toMillis() + "ms"
+                            )
+                        )
+                    );
+            } catch (Exception e) {
+                fail(limiters.subList(0, index), request, result, e);
+            }
+        }
+
+        private void send(List<MLConnectionLimiter> limiters, AsyncExecuteRequest request, CompletableFuture<Void> result) {
+            CompletableFuture<Void> future;
+            try {
+                if (closed.get()) {
+                    throw new IllegalStateException("Http client is closed");
+                }
+                future = doPrivileged(() -> sharedClient.client.execute(request));
+            } catch (Exception e) {
+                fail(limiters, request, result, e);
+                return;
+            }
+            future.whenComplete((r, e) -> {
+                limiters.forEach(MLConnectionLimiter::release);
+                if (e != null) {
+                    result.completeExceptionally(e);
+                } else {
+                    result.complete(r);
+                }
+            });
+        }
+
+        private void fail(List<MLConnectionLimiter> acquired, AsyncExecuteRequest request, CompletableFuture<Void> result, Exception e) {
+            acquired.forEach(MLConnectionLimiter::release);
+            log.error("Failed to send request to remote service", e);
+            request.responseHandler().onError(e);
+            result.completeExceptionally(e);
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(key, sharedClient);
+            }
+        }
+    }
+}
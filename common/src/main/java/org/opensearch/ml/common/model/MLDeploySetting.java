@@ -28,19 +28,45 @@ import lombok.Setter;
 public class MLDeploySetting implements ToXContentObject, Writeable {
     public static final String IS_AUTO_DEPLOY_ENABLED_FIELD = "is_auto_deploy_enabled";
     public static final String MODEL_TTL_MINUTES_FIELD = "model_ttl_minutes";
+    public static final String MAX_BATCH_SIZE_FIELD = "max_batch_size";
+    public static final String MAX_BATCH_WAIT_MILLIS_FIELD = "max_batch_wait_ms";
     private static final long DEFAULT_TTL_MINUTES = -1;
+    // same bound as the batch size of local model predict, plugins.ml_commons.local_model_predict_batch_size
+    public static final int MAX_BATCH_SIZE = 1024;
+    public static final long MAX_BATCH_WAIT_MILLIS = 1000;
     public static final Version MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL = CommonValue.VERSION_2_14_0;
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_BATCHING = CommonValue.VERSION_3_6_0;
 
     private Boolean isAutoDeployEnabled;
     private Long modelTTLInMinutes; // in minutes
+    // Max number of docs of concurrent predict requests merged into one batched predict, between 1 and MAX_BATCH_SIZE,
+    // batching is disabled if not set
+    private Integer maxBatchSize;
+    private Long maxBatchWaitMillis; // in milliseconds
 
-    @Builder(toBuilder = true)
     public MLDeploySetting(Boolean isAutoDeployEnabled, Long modelTTLInMinutes) {
+        this(isAutoDeployEnabled, modelTTLInMinutes, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public MLDeploySetting(Boolean isAutoDeployEnabled, Long modelTTLInMinutes, Integer maxBatchSize, Long maxBatchWaitMillis) {
         this.isAutoDeployEnabled = isAutoDeployEnabled;
         this.modelTTLInMinutes = modelTTLInMinutes;
         if (modelTTLInMinutes == null) {
             this.modelTTLInMinutes = DEFAULT_TTL_MINUTES;
         }
+        if (maxBatchSize != null && (maxBatchSize < 1 || maxBatchSize > MAX_BATCH_SIZE)) {
+            throw new IllegalArgumentException(
+                MAX_BATCH_SIZE_FIELD + " must be between 1 and " + MAX_BATCH_SIZE + ", but got " + maxBatchSize
+            );
+        }
+        if (maxBatchWaitMillis != null && (maxBatchWaitMillis < 0 || maxBatchWaitMillis > MAX_BATCH_WAIT_MILLIS)) {
+            throw new IllegalArgumentException(
+                MAX_BATCH_WAIT_MILLIS_FIELD + " must be between 0 and " + MAX_BATCH_WAIT_MILLIS + ", but got " + maxBatchWaitMillis
+            );
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchWaitMillis = maxBatchWaitMillis;
     }
 
     public MLDeploySetting(StreamInput in) throws IOException {
@@ -49,6 +75,10 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             this.modelTTLInMinutes = in.readOptionalLong();
         }
+        if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCHING)) {
+            this.maxBatchSize = in.readOptionalInt();
+            this.maxBatchWaitMillis = in.readOptionalLong();
+        }
     }
 
     @Override
@@ -58,11 +88,17 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             out.writeOptionalLong(modelTTLInMinutes);
         }
+        if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCHING)) {
+            out.writeOptionalInt(maxBatchSize);
+            out.writeOptionalLong(maxBatchWaitMillis);
+        }
     }
 
     public static MLDeploySetting parse(XContentParser parser) throws IOException {
         Boolean isAutoDeployEnabled = null;
         Long modelTTLMinutes = null;
+        Integer maxBatchSize = null;
+        Long maxBatchWaitMillis = null;
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
             String fieldName = parser.currentName();
@@ -73,12 +109,19 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
                     break;
                 case MODEL_TTL_MINUTES_FIELD:
                     modelTTLMinutes = parser.longValue();
+                    break;
+                case MAX_BATCH_SIZE_FIELD:
+                    maxBatchSize = parser.intValue();
+                    break;
+                case MAX_BATCH_WAIT_MILLIS_FIELD:
+                    maxBatchWaitMillis = parser.longValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new MLDeploySetting(isAutoDeployEnabled, modelTTLMinutes);
+        return new MLDeploySetting(isAutoDeployEnabled, modelTTLMinutes, maxBatchSize, maxBatchWaitMillis);
     }
 
     @Override
@@ -90,6 +133,12 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (modelTTLInMinutes != null) {
             builder.field(MODEL_TTL_MINUTES_FIELD, modelTTLInMinutes);
         }
+        if (maxBatchSize != null) {
+            builder.field(MAX_BATCH_SIZE_FIELD, maxBatchSize);
+        }
+        if (maxBatchWaitMillis != null) {
+            builder.field(MAX_BATCH_WAIT_MILLIS_FIELD, maxBatchWaitMillis);
+        }
         builder.endObject();
         return builder;
     }
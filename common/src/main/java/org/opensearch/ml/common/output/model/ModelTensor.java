@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.Version;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -26,9 +27,13 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.CommonValue;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Setter;
 
 @Data
 public class ModelTensor implements Writeable, ToXContentObject {
@@ -42,9 +47,18 @@ public class ModelTensor implements Writeable, ToXContentObject {
     public static final String BYTE_BUFFER_ORDER_FIELD = "order";
     public static final String RESULT_FIELD = "result";
     public static final String DATA_AS_MAP_FIELD = "dataAsMap";
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_BINARY_DATA_AS_MAP = CommonValue.VERSION_3_6_0;
 
     private String name;
     private Number[] data;
+    // Primitive storage of data, used instead of data to avoid boxing every number of large tensors like embeddings.
+    // Only one of data, floatData and intData is set.
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private float[] floatData;
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int[] intData;
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;// whole result in bytes
@@ -59,13 +73,17 @@ public class ModelTensor implements Writeable, ToXContentObject {
         MLResultDataType dataType,
         ByteBuffer byteBuffer,
         String result,
-        Map<String, ?> dataAsMap
+        Map<String, ?> dataAsMap,
+        float[] floatData,
+        int[] intData
     ) {
-        if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
+        if ((data != null || floatData != null || intData != null) && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
         }
         this.name = name;
         this.data = data;
+        this.floatData = floatData;
+        this.intData = intData;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
@@ -78,6 +96,35 @@ public class ModelTensor implements Writeable, ToXContentObject {
         this.result = result;
     }
 
+    /**
+     * Get data as numbers. Primitive data is boxed on every call, use {@link #getFloatData()} or
+     * {@link #getIntData()} to read large tensors without boxing.
+     * @return data as numbers
+     */
+    public Number[] getData() {
+        if (floatData != null) {
+            Number[] numbers = new Number[floatData.length];
+            for (int i = 0; i < floatData.length; i++) {
+                numbers[i] = floatData[i];
+            }
+            return numbers;
+        }
+        if (intData != null) {
+            Number[] numbers = new Number[intData.length];
+            for (int i = 0; i < intData.length; i++) {
+                numbers[i] = intData[i];
+            }
+            return numbers;
+        }
+        return data;
+    }
+
+    public void setData(Number[] data) {
+        this.data = data;
+        this.floatData = null;
+        this.intData = null;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
         builder.startObject();
@@ -90,7 +137,11 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (shape != null) {
             builder.field(SHAPE_FIELD, shape);
         }
-        if (data != null) {
+        if (floatData != null) {
+            builder.array(DATA_FIELD, floatData);
+        } else if (intData != null) {
+            builder.array(DATA_FIELD, intData);
+        } else if (data != null) {
             builder.field(DATA_FIELD, data);
         }
         if (byteBuffer != null) {
@@ -193,6 +244,7 @@ public class ModelTensor implements Writeable, ToXContentObject {
         return ModelTensor.builder().name(name).shape(shape).dataType(dataType).data(data).result(result).dataAsMap(dataAsMap).build();
     }
 
+    @SuppressWarnings("unchecked")
     public ModelTensor(StreamInput in) throws IOException {
         this.name = in.readOptionalString();
         if (in.readBoolean()) {
@@ -203,17 +255,12 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
             if (dataType.isFloating()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
-                }
+                this.floatData = new float[size];
+                readNumberBytes(in, size).asFloatBuffer().get(floatData);
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readInt();
-                }
-            } else {
-                data = null;
+                this.intData = new int[size];
+                readNumberBytes(in, size).asIntBuffer().get(intData);
             }
         }
         if (in.readBoolean()) {
@@ -232,8 +279,12 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         this.result = in.readOptionalString();
         if (in.readBoolean()) {
-            String mapStr = in.readString();
-            this.dataAsMap = gson.fromJson(mapStr, Map.class);
+            if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BINARY_DATA_AS_MAP) && in.readBoolean()) {
+                this.dataAsMap = (Map<String, ?>) in.readGenericValue();
+            } else {
+                String mapStr = in.readString();
+                this.dataAsMap = gson.fromJson(mapStr, Map.class);
+            }
         }
     }
 
@@ -253,17 +304,23 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        if ((data != null || floatData != null || intData != null) && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
-            out.writeInt(data.length);
+            // Same encoding as writing each number with writeFloat/writeInt, but written in one bulk copy.
             if (dataType.isFloating()) {
-                for (Number n : data) {
-                    out.writeFloat(n.floatValue());
-                }
+                float[] values = toFloatArray();
+                out.writeInt(values.length);
+                ByteBuffer buffer = ByteBuffer.allocate(values.length * Float.BYTES);
+                buffer.asFloatBuffer().put(values);
+                out.writeBytes(buffer.array());
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (Number n : data) {
-                    out.writeInt(n.intValue());
-                }
+                int[] values = toIntArray();
+                out.writeInt(values.length);
+                ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+                buffer.asIntBuffer().put(values);
+                out.writeBytes(buffer.array());
+            } else {
+                out.writeInt(data != null ? data.length : 0);
             }
         } else {
             out.writeBoolean(false);
@@ -278,19 +335,90 @@ public class ModelTensor implements Writeable, ToXContentObject {
         out.writeOptionalString(result);
         if (dataAsMap != null) {
             out.writeBoolean(true);
-            try {
-                AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                    out.writeString(gson.toJson(dataAsMap));
-                    return null;
-                });
-            } catch (PrivilegedActionException e) {
-                throw new RuntimeException(e);
+            // Write plain JSON-like maps as typed binary values, other maps still go through JSON.
+            boolean binaryDataAsMap = out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BINARY_DATA_AS_MAP);
+            boolean writeGenericValue = binaryDataAsMap && isGenericValue(dataAsMap);
+            if (binaryDataAsMap) {
+                out.writeBoolean(writeGenericValue);
+            }
+            if (writeGenericValue) {
+                out.writeGenericValue(dataAsMap);
+            } else {
+                try {
+                    AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                        out.writeString(gson.toJson(dataAsMap));
+                        return null;
+                    });
+                } catch (PrivilegedActionException e) {
+                    throw new RuntimeException(e);
+                }
             }
         } else {
             out.writeBoolean(false);
         }
     }
 
+    private static boolean isGenericValue(Object value) {
+        if (value == null
+            || value instanceof String
+            || value instanceof Boolean
+            || value instanceof Integer
+            || value instanceof Long
+            || value instanceof Float
+            || value instanceof Double
+            || value instanceof Short
+            || value instanceof Byte) {
+            return true;
+        }
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!(entry.getKey() instanceof String) || !isGenericValue(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                if (!isGenericValue(item)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private float[] toFloatArray() {
+        if (floatData != null) {
+            return floatData;
+        }
+        Number[] numbers = getData();
+        float[] values = new float[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            values[i] = numbers[i].floatValue();
+        }
+        return values;
+    }
+
+    private int[] toIntArray() {
+        if (intData != null) {
+            return intData;
+        }
+        Number[] numbers = getData();
+        int[] values = new int[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            values[i] = numbers[i].intValue();
+        }
+        return values;
+    }
+
+    private static ByteBuffer readNumberBytes(StreamInput in, int size) throws IOException {
+        byte[] bytes = new byte[size * Integer.BYTES];
+        in.readBytes(bytes, 0, bytes.length);
+        return ByteBuffer.wrap(bytes);
+    }
+
     @Override
     public String toString() {
         try {
@@ -18,6 +18,7 @@ import java.util.function.Function;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.ml.common.httpclient.MLHttpClientRegistry;
 
 import com.google.common.collect.ImmutableList;
 
@@ -85,6 +86,62 @@ public final class MLCommonsSettings {
             Setting.Property.NodeScope,
             Setting.Property.Dynamic
         );
+    // Maximum number of documents sent to a local model in one batched forward pass, applied when a model is deployed
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_SIZE = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "local_model_predict_batch_size", 32, 1, 1024, Setting.Property.NodeScope);
+    // Max number of predictors per device of a deployed local model, applied when a model is deployed, 0 means one per predict thread
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_PREDICTOR_POOL_SIZE = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "local_model_predictor_pool_size",
+            0,
+            0,
+            256,
+            Setting.Property.NodeScope
+        );
+    // Max number of model chunks fetched in parallel when deploying a local model
+    public static final Setting<Integer> ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_chunk_retrieval_concurrency",
+            4,
+            1,
+            32,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Max total size of model zip files cached on disk for deploying local models again, 0 disables the cache. Cached files are
+    // also evicted to keep the free disk space of plugins.ml_commons.disk_free_space_threshold.
+    public static final Setting<ByteSizeValue> ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE = Setting
+        .byteSizeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_artifact_cache_size",
+            new ByteSizeValue(2, ByteSizeUnit.GB),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Max decoded size of deserialized models cached for predict of models which don't need deployment
+    public static final Setting<ByteSizeValue> ML_COMMONS_MODEL_OBJECT_CACHE_SIZE = Setting
+        .memorySizeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_object_cache_size",
+            "1%",
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Max number of documents loaded into a data frame from a search query input, the query size defaults to 10 like a search
+    public static final Setting<Integer> ML_COMMONS_SEARCH_QUERY_INPUT_MAX_ROWS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "search_query_input_max_rows",
+            1_000_000,
+            1,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Max heap memory of a data frame loaded from a search query input, either a byte size or a percentage of heap
+    public static final Setting<ByteSizeValue> ML_COMMONS_SEARCH_QUERY_INPUT_MAX_MEMORY = Setting
+        .memorySizeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "search_query_input_max_memory",
+            "10%",
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
     public static final Setting<Integer> ML_COMMONS_MAX_ML_TASK_PER_NODE = Setting
         .intSetting(ML_PLUGIN_SETTING_PREFIX + "max_ml_task_per_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Boolean> ML_COMMONS_ONLY_RUN_ON_ML_NODE = Setting
@@ -92,6 +149,18 @@ public final class MLCommonsSettings {
 
     public static final Setting<Boolean> ML_COMMONS_ENABLE_INHOUSE_PYTHON_MODEL = Setting
         .boolSetting(ML_PLUGIN_SETTING_PREFIX + "enable_inhouse_python_model", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Share of a model or user rate limit split evenly over the nodes of the model, the rest is rebalanced by the demand of each node
+    // on every sync up. 1 keeps the rate limit evenly split.
+    public static final Setting<Double> ML_COMMONS_RATE_LIMITER_EVEN_SHARE_RATIO = Setting
+        .doubleSetting(
+            ML_PLUGIN_SETTING_PREFIX + "rate_limiter_even_share_ratio",
+            0.2,
+            0.0,
+            1.0,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Integer> ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS = Setting
         .intSetting(
             ML_PLUGIN_SETTING_PREFIX + "sync_up_job_interval_in_seconds",
@@ -334,6 +403,34 @@ public final class MLCommonsSettings {
     public static final Setting<Boolean> ML_COMMONS_UNIFIED_AGENT_API_ENABLED = Setting
         .boolSetting(ML_PLUGIN_SETTING_PREFIX + "unified_agent_api_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // Max number of concurrent requests from remote connectors of a node
+    public static final Setting<Integer> ML_COMMONS_REMOTE_INFERENCE_MAX_CONNECTIONS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_inference.max_connections",
+            MLHttpClientRegistry.DEFAULT_MAX_CONNECTIONS,
+            1,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Max number of concurrent requests from remote connectors of a node to one remote host
+    public static final Setting<Integer> ML_COMMONS_REMOTE_INFERENCE_MAX_CONNECTIONS_PER_HOST = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_inference.max_connections_per_host",
+            MLHttpClientRegistry.DEFAULT_MAX_CONNECTIONS_PER_HOST,
+            1,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Adapt the max number of concurrent requests of each remote connector of a node to throttling and latency of the remote service
+    public static final Setting<Boolean> ML_COMMONS_REMOTE_INFERENCE_ADAPTIVE_CONCURRENCY_ENABLED = Setting
+        .boolSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_inference.adaptive_concurrency_enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Boolean> ML_COMMONS_CONNECTOR_PRIVATE_IP_ENABLED = Setting
         .boolSetting(
             ML_PLUGIN_SETTING_PREFIX + "connector.private_ip_enabled",
@@ -12,6 +12,7 @@ import java.util.Set;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.ml.common.CommonValue;
 
 import lombok.Builder;
 import lombok.Data;
@@ -36,6 +37,9 @@ public class MLSyncUpInput implements Writeable {
     // profile API has consistent data with model index.
     private Map<String, Boolean> deployToAllNodes;
 
+    // key is rate limiter key, value is map of node id and number of requests on the node since last sync up
+    private Map<String, Map<String, Long>> rateLimiterDemands;
+
     @Builder
     public MLSyncUpInput(
         boolean getDeployedModels,
@@ -45,7 +49,8 @@ public class MLSyncUpInput implements Writeable {
         Map<String, Set<String>> runningDeployModelTasks,
         Map<String, Boolean> deployToAllNodes,
         boolean clearRoutingTable,
-        boolean syncRunningDeployModelTasks
+        boolean syncRunningDeployModelTasks,
+        Map<String, Map<String, Long>> rateLimiterDemands
     ) {
         this.getDeployedModels = getDeployedModels;
         this.addedWorkerNodes = addedWorkerNodes;
@@ -55,6 +60,7 @@ public class MLSyncUpInput implements Writeable {
         this.deployToAllNodes = deployToAllNodes;
         this.clearRoutingTable = clearRoutingTable;
         this.syncRunningDeployModelTasks = syncRunningDeployModelTasks;
+        this.rateLimiterDemands = rateLimiterDemands;
     }
 
     public MLSyncUpInput() {}
@@ -78,6 +84,9 @@ public class MLSyncUpInput implements Writeable {
         }
         this.clearRoutingTable = in.readBoolean();
         this.syncRunningDeployModelTasks = in.readBoolean();
+        if (in.getVersion().onOrAfter(CommonValue.VERSION_3_6_0) && in.readBoolean()) {
+            rateLimiterDemands = in.readMap(StreamInput::readString, s -> s.readMap(StreamInput::readString, StreamInput::readLong));
+        }
     }
 
     @Override
@@ -115,6 +124,19 @@ public class MLSyncUpInput implements Writeable {
         }
         out.writeBoolean(clearRoutingTable);
         out.writeBoolean(syncRunningDeployModelTasks);
+        if (out.getVersion().onOrAfter(CommonValue.VERSION_3_6_0)) {
+            if (rateLimiterDemands != null && rateLimiterDemands.size() > 0) {
+                out.writeBoolean(true);
+                out
+                    .writeMap(
+                        rateLimiterDemands,
+                        StreamOutput::writeString,
+                        (o, nodeDemands) -> o.writeMap(nodeDemands, StreamOutput::writeString, StreamOutput::writeLong)
+                    );
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
 }
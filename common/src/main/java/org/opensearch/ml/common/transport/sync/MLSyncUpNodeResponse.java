@@ -6,12 +6,14 @@
 package org.opensearch.ml.common.transport.sync;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.opensearch.Version;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.model.MLDeploySetting;
 
 import lombok.Getter;
@@ -26,6 +28,8 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
     private String[] runningDeployModelIds; // model ids which have deploying model task running
     private String[] runningDeployModelTaskIds; // deploy model task ids which is running
     private String[] expiredModelIds;
+    // key is rate limiter key, value is number of requests on the node since last sync up
+    private Map<String, Long> rateLimiterDemands;
 
     public MLSyncUpNodeResponse(
         DiscoveryNode node,
@@ -34,6 +38,18 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         String[] runningDeployModelIds,
         String[] runningDeployModelTaskIds,
         String[] expiredModelIds
+    ) {
+        this(node, modelStatus, deployedModelIds, runningDeployModelIds, runningDeployModelTaskIds, expiredModelIds, null);
+    }
+
+    public MLSyncUpNodeResponse(
+        DiscoveryNode node,
+        String modelStatus,
+        String[] deployedModelIds,
+        String[] runningDeployModelIds,
+        String[] runningDeployModelTaskIds,
+        String[] expiredModelIds,
+        Map<String, Long> rateLimiterDemands
     ) {
         super(node);
         this.modelStatus = modelStatus;
@@ -41,6 +57,7 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         this.runningDeployModelIds = runningDeployModelIds;
         this.runningDeployModelTaskIds = runningDeployModelTaskIds;
         this.expiredModelIds = expiredModelIds;
+        this.rateLimiterDemands = rateLimiterDemands;
     }
 
     public MLSyncUpNodeResponse(StreamInput in) throws IOException {
@@ -53,6 +70,9 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         if (streamInputVersion.onOrAfter(MLDeploySetting.MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             this.expiredModelIds = in.readOptionalStringArray();
         }
+        if (streamInputVersion.onOrAfter(CommonValue.VERSION_3_6_0) && in.readBoolean()) {
+            this.rateLimiterDemands = in.readMap(StreamInput::readString, StreamInput::readLong);
+        }
     }
 
     public static MLSyncUpNodeResponse readStats(StreamInput in) throws IOException {
@@ -70,5 +90,13 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         if (streamOutputVersion.onOrAfter(MLDeploySetting.MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             out.writeOptionalStringArray(expiredModelIds);
         }
+        if (streamOutputVersion.onOrAfter(CommonValue.VERSION_3_6_0)) {
+            if (rateLimiterDemands != null) {
+                out.writeBoolean(true);
+                out.writeMap(rateLimiterDemands, StreamOutput::writeString, StreamOutput::writeLong);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 }
@@ -111,6 +111,7 @@ public class StringUtils {
             .create();
     }
     public static final String TO_STRING_FUNCTION_NAME = ".toString()";
+    private static final Pattern TO_STRING_PARAMETER_PATTERN = Pattern.compile("\\$\\{parameters\\.(.+?)\\.toString\\(\\)\\}");
 
     public static final ObjectMapper MAPPER = new ObjectMapper()
         .configure(com.fasterxml.jackson.core.JsonParser.Feature.STRICT_DUPLICATE_DETECTION, true)
@@ -449,11 +450,9 @@ public class StringUtils {
      */
     public static List<String> collectToStringPrefixes(Map<String, String> map) {
         List<String> prefixes = new ArrayList<>();
-        for (String key : map.keySet()) {
-            String value = map.get(key);
-            if (value != null) {
-                Pattern pattern = Pattern.compile("\\$\\{parameters\\.(.+?)\\.toString\\(\\)\\}");
-                Matcher matcher = pattern.matcher(value);
+        for (String value : map.values()) {
+            if (value != null && value.contains(TO_STRING_FUNCTION_NAME)) {
+                Matcher matcher = TO_STRING_PARAMETER_PATTERN.matcher(value);
                 while (matcher.find()) {
                     String prefix = matcher.group(1);
                     prefixes.add(prefix);
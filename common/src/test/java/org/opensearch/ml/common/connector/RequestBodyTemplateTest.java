@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RequestBodyTemplateTest {
+
+    @Test
+    public void render_SameAsSubstitutor() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("model", "text-embedding-3-small");
+        parameters.put("input", "[\"hello\", \"world\"]");
+        parameters.put("prompt", "Answer ${parameters.question}");
+        parameters.put("question", "what is ml?");
+
+        assertSameAsSubstitutor("{\"model\": \"${parameters.model}\", \"input\": ${parameters.input}}", parameters);
+        assertSameAsSubstitutor("{\"prompt\": \"${parameters.prompt}\"}", parameters);
+        assertSameAsSubstitutor("{\"temperature\": ${parameters.temperature:-0.5}}", parameters);
+        assertSameAsSubstitutor("{\"missing\": \"${parameters.missing}\"}", parameters);
+        assertSameAsSubstitutor("{\"user\": \"${parameters.user:-null}\", \"model\": \"${parameters.model:-null}\"}", parameters);
+        assertSameAsSubstitutor("{\"unclosed\": \"${parameters.model", parameters);
+        assertSameAsSubstitutor("no placeholder", parameters);
+    }
+
+    @Test
+    public void render_NullParameter() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("user", null);
+        RequestBodyTemplate template = RequestBodyTemplate.compile("{\"user\": \"${parameters.user:-null}\"}");
+
+        Assert.assertEquals("{\"user\": null}", template.render(parameters));
+    }
+
+    @Test
+    public void compile_Unsupported() {
+        Assert.assertNull(RequestBodyTemplate.compile(null));
+        Assert.assertNull(RequestBodyTemplate.compile("{\"input\": \"$${parameters.input}\"}"));
+        Assert.assertNull(RequestBodyTemplate.compile("{\"input\": \"${parameters.input:-${parameters.default}}\"}"));
+    }
+
+    @Test
+    public void createPayload_UseTemplate() {
+        HttpConnector connector = HttpConnectorTest.createHttpConnector();
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("input", "test input value");
+
+        String payload = connector.createPayload(ConnectorAction.ActionType.PREDICT.name(), parameters);
+        Assert.assertEquals("{\"input\": \"test input value\"}", payload);
+        Assert.assertNotNull(connector.getActions().get(0).getRequestBodyTemplate());
+    }
+
+    private void assertSameAsSubstitutor(String requestBody, Map<String, String> parameters) {
+        HttpConnector connector = HttpConnectorTest.createHttpConnector();
+        String expected = new StringSubstitutor(parameters, "${parameters.", "}")
+            .replace(connector.fillNullParameters(parameters, requestBody));
+        Assert.assertEquals(expected, RequestBodyTemplate.compile(requestBody).render(parameters));
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.TestHelper;
+
+public class ColumnarDataFrameTest {
+
+    private ColumnarDataFrame columnarDataFrame;
+    private DefaultDataFrame defaultDataFrame;
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        ColumnMeta[] columnMetas = new ColumnMeta[] {
+            ColumnMeta.builder().name("c1").columnType(ColumnType.STRING).build(),
+            ColumnMeta.builder().name("c2").columnType(ColumnType.INTEGER).build(),
+            ColumnMeta.builder().name("c3").columnType(ColumnType.DOUBLE).build(),
+            ColumnMeta.builder().name("c4").columnType(ColumnType.BOOLEAN).build() };
+        columnarDataFrame = new ColumnarDataFrame(columnMetas, 1);
+        defaultDataFrame = new DefaultDataFrame(columnMetas);
+        for (int i = 0; i < 20; i++) {
+            Object[] values = new Object[] { i % 2 == 0 ? "even" : "odd", i, i * 1.5D, i % 3 == 0 };
+            columnarDataFrame.appendRow(values);
+            defaultDataFrame.appendRow(values);
+        }
+    }
+
+    @Test
+    public void getRow_SameAsDefaultDataFrame() {
+        assertEquals(20, columnarDataFrame.size());
+        for (int i = 0; i < defaultDataFrame.size(); i++) {
+            assertEquals(defaultDataFrame.getRow(i), columnarDataFrame.getRow(i));
+        }
+        List<Row> rows = new ArrayList<>();
+        columnarDataFrame.forEach(rows::add);
+        assertEquals(20, rows.size());
+    }
+
+    @Test
+    public void appendRow_WrongType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("the column type is different in column meta");
+        columnarDataFrame.appendRow(new Object[] { "value", 1.0D, 1.0D, true });
+    }
+
+    @Test
+    public void writeToAndReadFrom() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        columnarDataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+
+        DataFrame dataFrame = DataFrameBuilder.load(streamInput);
+        assertTrue(dataFrame instanceof ColumnarDataFrame);
+        assertEquals(columnarDataFrame.size(), dataFrame.size());
+        for (int i = 0; i < columnarDataFrame.size(); i++) {
+            assertEquals(columnarDataFrame.getRow(i), dataFrame.getRow(i));
+        }
+    }
+
+    @Test
+    public void writeTo_OldVersionAsDefaultDataFrame() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_3_0_0);
+        columnarDataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_0_0);
+
+        DataFrame dataFrame = DataFrameBuilder.load(streamInput);
+        assertTrue(dataFrame instanceof DefaultDataFrame);
+        for (int i = 0; i < columnarDataFrame.size(); i++) {
+            assertEquals(columnarDataFrame.getRow(i), dataFrame.getRow(i));
+        }
+    }
+
+    @Test
+    public void toXContent_SameAsDefaultDataFrame() throws IOException {
+        XContentBuilder columnarBuilder = XContentBuilder.builder(XContentType.JSON.xContent());
+        columnarBuilder.startObject();
+        columnarDataFrame.toXContent(columnarBuilder);
+        columnarBuilder.endObject();
+
+        XContentBuilder defaultBuilder = XContentBuilder.builder(XContentType.JSON.xContent());
+        defaultBuilder.startObject();
+        defaultDataFrame.toXContent(defaultBuilder);
+        defaultBuilder.endObject();
+
+        assertEquals(TestHelper.xContentBuilderToString(defaultBuilder), TestHelper.xContentBuilderToString(columnarBuilder));
+    }
+
+    @Test
+    public void selectAndRemove() {
+        DataFrame selected = columnarDataFrame.select(new int[] { 1, 2 });
+        assertEquals(2, selected.columnMetas().length);
+        assertEquals(20, selected.size());
+        assertEquals(3, selected.getRow(2).getValue(0).intValue());
+
+        DataFrame removed = columnarDataFrame.remove(0);
+        assertEquals(3, removed.columnMetas().length);
+        assertEquals("c2", removed.columnMetas()[0].getName());
+        assertEquals(5, removed.getRow(5).getValue(0).intValue());
+        assertFalse(removed.getRow(5).getValue(2).booleanValue());
+        assertEquals(2, columnarDataFrame.getColumnIndex("c3"));
+    }
+
+    @Test
+    public void toDoubleArray() {
+        ColumnarDataFrame numeric = (ColumnarDataFrame) columnarDataFrame.select(new int[] { 1, 2 });
+        double[][] values = numeric.toDoubleArray();
+        float[][] floatValues = numeric.toFloatArray();
+        assertEquals(20, values.length);
+        assertArrayEquals(new double[] { 4, 6.0D }, values[4], 0.0D);
+        assertArrayEquals(new float[] { 4, 6.0F }, floatValues[4], 0.0F);
+        assertEquals(6.0D, numeric.getDouble(4, 1), 0.0D);
+    }
+
+    @Test
+    public void toDoubleArray_NonNumericColumn() {
+        exceptionRule.expect(RuntimeException.class);
+        exceptionRule.expectMessage("the value isn't Double type");
+        columnarDataFrame.toDoubleArray();
+    }
+
+    @Test
+    public void loadColumnar() {
+        DataFrame dataFrame = DataFrameBuilder.loadColumnar(List.of(Map.of("k1", 1.0D, "k2", "v1"), Map.of("k1", 2.0D, "k2", "v2")));
+        assertTrue(dataFrame instanceof ColumnarDataFrame);
+        assertEquals(2, dataFrame.size());
+        int k1 = dataFrame.getColumnIndex("k1");
+        int k2 = dataFrame.getColumnIndex("k2");
+        assertEquals(2.0D, dataFrame.getRow(1).getValue(k1).doubleValue(), 0.0D);
+        assertEquals("v2", dataFrame.getRow(1).getValue(k2).stringValue());
+    }
+
+    @Test
+    public void appendTyped_SameAsAppendRow() {
+        ColumnarDataFrame dataFrame = new ColumnarDataFrame(columnarDataFrame.columnMetas(), 1);
+        for (int i = 0; i < 20; i++) {
+            dataFrame.appendString(0, i % 2 == 0 ? "even" : "odd");
+            dataFrame.appendInt(1, i);
+            dataFrame.appendDouble(2, i * 1.5D);
+            dataFrame.appendBoolean(3, i % 3 == 0);
+            dataFrame.endRow();
+        }
+        assertEquals(columnarDataFrame.size(), dataFrame.size());
+        for (int i = 0; i < dataFrame.size(); i++) {
+            assertEquals(columnarDataFrame.getRow(i), dataFrame.getRow(i));
+        }
+    }
+
+    @Test
+    public void appendTyped_WrongType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("the column type is different in column meta:INTEGER and input value:DOUBLE");
+        columnarDataFrame.appendDouble(1, 1.0D);
+    }
+
+    @Test
+    public void appendTyped_ColumnAppendedTwice() {
+        exceptionRule.expect(IllegalStateException.class);
+        exceptionRule.expectMessage("column c2 already has a value for row 20");
+        columnarDataFrame.appendInt(1, 1);
+        columnarDataFrame.appendInt(1, 2);
+    }
+
+    @Test
+    public void endRow_MissingColumn() {
+        exceptionRule.expect(IllegalStateException.class);
+        exceptionRule.expectMessage("column c1 has no value for row 20");
+        columnarDataFrame.appendInt(1, 1);
+        columnarDataFrame.endRow();
+    }
+
+    @Test
+    public void loadColumnar_DifferentTypesForSameField() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("the column type is different in column meta:DOUBLE and input value:INTEGER for column: k1");
+        DataFrameBuilder.loadColumnar(List.of(Map.of("k1", 1.0D), Map.of("k1", 2)));
+    }
+
+    @Test
+    public void loadColumnar_DifferentFields() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("field of input item doesn't exist in columns, filed:k2");
+        DataFrameBuilder.loadColumnar(List.of(Map.of("k1", 1.0D), Map.of("k2", 2.0D)));
+    }
+}
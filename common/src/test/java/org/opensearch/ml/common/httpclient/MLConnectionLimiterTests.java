@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+
+public class MLConnectionLimiterTests {
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void acquire_QueueOverLimit() {
+        MLConnectionLimiter limiter = new MLConnectionLimiter(2);
+        List<Integer> started = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int request = i;
+            limiter.acquire(() -> started.add(request));
+        }
+        assertEquals(List.of(0, 1), started);
+        assertEquals(2, limiter.getLeased());
+        assertEquals(1, limiter.getPending());
+
+        limiter.release();
+        assertEquals(List.of(0, 1, 2), started);
+        assertEquals(2, limiter.getLeased());
+        assertEquals(0, limiter.getPending());
+    }
+
+    @Test
+    public void setMaxConnections_StartPendingRequests() {
+        MLConnectionLimiter limiter = new MLConnectionLimiter(1);
+        List<Integer> started = new ArrayList<>();
+        limiter.acquire(() -> started.add(0));
+        limiter.acquire(() -> started.add(1));
+        assertEquals(List.of(0), started);
+
+        limiter.setMaxConnections(2);
+        assertEquals(List.of(0, 1), started);
+    }
+
+    @Test
+    public void acquire_TooManyPendingRequests() {
+        MLConnectionLimiter limiter = new MLConnectionLimiter(0);
+        for (int i = 0; i < MLConnectionLimiter.MAX_PENDING_REQUESTS; i++) {
+            limiter.acquire(() -> {});
+        }
+        assertThrows(MLLimitExceededException.class, () -> limiter.acquire(() -> {}));
+        assertEquals(MLConnectionLimiter.MAX_PENDING_REQUESTS, limiter.getPending());
+    }
+
+    @Test
+    public void acquire_TimeoutDropsPendingRequest() throws InterruptedException {
+        MLConnectionLimiter limiter = new MLConnectionLimiter(1);
+        List<Integer> started = new ArrayList<>();
+        limiter.acquire(() -> started.add(0));
+        CountDownLatch timedOut = new CountDownLatch(1);
+        limiter.acquire(() -> started.add(1), Duration.ofMillis(10), scheduler, timedOut::countDown);
+        assertTrue(timedOut.await(10, TimeUnit.SECONDS));
+        assertEquals(0, limiter.getPending());
+
+        limiter.release();
+        assertEquals(List.of(0), started);
+        assertEquals(0, limiter.getLeased());
+    }
+
+    @Test
+    public void acquire_StartBeforeTimeout() throws InterruptedException {
+        MLConnectionLimiter limiter = new MLConnectionLimiter(1);
+        List<Integer> started = new ArrayList<>();
+        limiter.acquire(() -> started.add(0));
+        CountDownLatch timedOut = new CountDownLatch(1);
+        limiter.acquire(() -> started.add(1), Duration.ofMillis(200), scheduler, timedOut::countDown);
+
+        limiter.release();
+        assertEquals(List.of(0, 1), started);
+        assertFalse(timedOut.await(500, TimeUnit.MILLISECONDS));
+        assertEquals(1, limiter.getLeased());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+public class MLHttpClientRegistryTests {
+
+    @Test
+    public void acquire_ShareClientOfSameConfig() {
+        int sharedClientCount = MLHttpClientRegistry.getSharedClientCount();
+        SdkAsyncHttpClient client1 = MLHttpClientRegistry.acquire(Duration.ofSeconds(11), Duration.ofSeconds(12), 10, false);
+        SdkAsyncHttpClient client2 = MLHttpClientRegistry.acquire(Duration.ofSeconds(11), Duration.ofSeconds(12), 20, false);
+        assertEquals(sharedClientCount + 1, MLHttpClientRegistry.getSharedClientCount());
+
+        SdkAsyncHttpClient client3 = MLHttpClientRegistry.acquire(Duration.ofSeconds(11), Duration.ofSeconds(12), 10, true);
+        assertEquals(sharedClientCount + 2, MLHttpClientRegistry.getSharedClientCount());
+
+        client1.close();
+        // closing a client twice doesn't release the shared client of other clients
+        client1.close();
+        assertEquals(sharedClientCount + 2, MLHttpClientRegistry.getSharedClientCount());
+        client2.close();
+        client3.close();
+        assertEquals(sharedClientCount, MLHttpClientRegistry.getSharedClientCount());
+    }
+
+    @Test
+    public void getPoolStats() {
+        MLHttpClientRegistry.setMaxConnections(100);
+        try {
+            Map<String, Map<String, Integer>> stats = MLHttpClientRegistry.getPoolStats();
+            assertTrue(stats.containsKey("_node"));
+            assertEquals(100, stats.get("_node").get("max").intValue());
+        } finally {
+            MLHttpClientRegistry.setMaxConnections(MLHttpClientRegistry.DEFAULT_MAX_CONNECTIONS);
+        }
+    }
+
+    @Test
+    public void execute_TimeoutWaitingForConnection_ThenEvictHostLimiter() throws Exception {
+        int hostLimiterCount = MLHttpClientRegistry.getHostLimiterCount();
+        SdkAsyncHttpClient client = MLHttpClientRegistry.acquire(Duration.ofMillis(50), Duration.ofSeconds(1), 0, false);
+        try {
+            SdkHttpRequest httpRequest = SdkHttpRequest
+                .builder()
+                .method(SdkHttpMethod.GET)
+                .protocol("http")
+                .host("connection-limit.test")
+                .encodedPath("/")
+                .build();
+            SdkAsyncHttpResponseHandler responseHandler = mock(SdkAsyncHttpResponseHandler.class);
+            AsyncExecuteRequest request = AsyncExecuteRequest
+                .builder()
+                .request(httpRequest)
+                .requestContentPublisher(mock(SdkHttpContentPublisher.class))
+                .responseHandler(responseHandler)
+                .build();
+
+            CompletableFuture<Void> result = client.execute(request);
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof MLLimitExceededException);
+            verify(responseHandler).onError(any(MLLimitExceededException.class));
+            // the limiter of a host without requests is dropped once the request completes
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (MLHttpClientRegistry.getHostLimiterCount() > hostLimiterCount && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(hostLimiterCount, MLHttpClientRegistry.getHostLimiterCount());
+        } finally {
+            client.close();
+        }
+    }
+}
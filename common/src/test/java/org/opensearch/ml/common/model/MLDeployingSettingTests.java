@@ -117,6 +117,71 @@ public class MLDeployingSettingTests {
         });
     }
 
+    @Test
+    public void parseBatchSettings() throws Exception {
+        final String inputStr = "{\"is_auto_deploy_enabled\":true,\"model_ttl_minutes\":-1,\"max_batch_size\":16,\"max_batch_wait_ms\":5}";
+
+        testParseFromJsonString(inputStr, parsedInput -> {
+            assertEquals(16, parsedInput.getMaxBatchSize().intValue());
+            assertEquals(5L, parsedInput.getMaxBatchWaitMillis().longValue());
+            try {
+                assertEquals(inputStr, serializationWithToXContent(parsedInput));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    public void readInputStreamWithBatchSettings() throws IOException {
+        MLDeploySetting batchSetting = MLDeploySetting.builder().maxBatchSize(8).maxBatchWaitMillis(10L).build();
+        readInputStream(batchSetting, parsedInput -> {
+            assertEquals(8, parsedInput.getMaxBatchSize().intValue());
+            assertEquals(10L, parsedInput.getMaxBatchWaitMillis().longValue());
+        });
+    }
+
+    @Test
+    public void negativeMaxBatchWait() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max_batch_wait_ms must be between 0 and 1000, but got -1");
+        MLDeploySetting.builder().maxBatchSize(8).maxBatchWaitMillis(-1L).build();
+    }
+
+    @Test
+    public void parseExcessiveMaxBatchWait() throws Exception {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max_batch_wait_ms must be between 0 and 1000, but got 60000");
+        testParseFromJsonString("{\"max_batch_size\":16,\"max_batch_wait_ms\":60000}", parsedInput -> {});
+    }
+
+    @Test
+    public void zeroMaxBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max_batch_size must be between 1 and 1024, but got 0");
+        MLDeploySetting.builder().maxBatchSize(0).maxBatchWaitMillis(10L).build();
+    }
+
+    @Test
+    public void negativeMaxBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max_batch_size must be between 1 and 1024, but got -1");
+        new MLDeploySetting(true, null, -1, 10L);
+    }
+
+    @Test
+    public void parseExcessiveMaxBatchSize() throws Exception {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max_batch_size must be between 1 and 1024, but got 100000");
+        testParseFromJsonString("{\"max_batch_size\":100000,\"max_batch_wait_ms\":5}", parsedInput -> {});
+    }
+
+    @Test
+    public void parseMaxBatchSizeBounds() throws Exception {
+        testParseFromJsonString("{\"max_batch_size\":1}", parsedInput -> assertEquals(1, parsedInput.getMaxBatchSize().intValue()));
+        testParseFromJsonString("{\"max_batch_size\":1024}", parsedInput -> assertEquals(1024, parsedInput.getMaxBatchSize().intValue()));
+    }
+
     private void testParseFromJsonString(String expectedInputStr, Consumer<MLDeploySetting> verify) throws Exception {
         XContentParser parser = XContentType.JSON
             .xContent()
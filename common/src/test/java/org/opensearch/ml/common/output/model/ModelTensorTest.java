@@ -5,7 +5,9 @@
 
 package org.opensearch.ml.common.output.model;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.spy;
@@ -14,12 +16,14 @@ import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -144,4 +148,92 @@ public class ModelTensorTest {
 
         spyTensor.toString();
     }
+
+    @Test
+    public void test_StreamInAndOut_FloatData() throws IOException {
+        ModelTensor floatTensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { 0.1f, -0.2f, 0.3f })
+            .shape(new long[] { 3 })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        ModelTensor boxedTensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .data(new Number[] { 0.1f, -0.2f, 0.3f })
+            .shape(new long[] { 3 })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+
+        BytesStreamOutput floatOutput = new BytesStreamOutput();
+        floatTensor.writeTo(floatOutput);
+        BytesStreamOutput boxedOutput = new BytesStreamOutput();
+        boxedTensor.writeTo(boxedOutput);
+        // primitive and boxed data have the same transport encoding
+        assertEquals(boxedOutput.bytes(), floatOutput.bytes());
+
+        ModelTensor parsedTensor = new ModelTensor(floatOutput.bytes().streamInput());
+        assertArrayEquals(new float[] { 0.1f, -0.2f, 0.3f }, parsedTensor.getFloatData(), 0f);
+        assertArrayEquals(new Number[] { 0.1f, -0.2f, 0.3f }, parsedTensor.getData());
+        assertEquals(boxedTensor, parsedTensor);
+        assertEquals(boxedTensor.toString(), parsedTensor.toString());
+    }
+
+    @Test
+    public void test_SetData_ClearsPrimitiveData() {
+        ModelTensor intTensor = ModelTensor.builder().intData(new int[] { 1, 2 }).dataType(MLResultDataType.INT32).build();
+        assertArrayEquals(new Number[] { 1, 2 }, intTensor.getData());
+
+        intTensor.setData(null);
+        assertNull(intTensor.getData());
+        assertNull(intTensor.getIntData());
+    }
+
+    @Test
+    public void test_StreamInAndOut_DataAsMapKeepsTypes() throws IOException {
+        Map<String, Object> dataMap = new HashMap<>();
+        dataMap.put("count", 3);
+        dataMap.put("embedding", List.of(0.5, 1.5));
+        dataMap.put("nested", Map.of("ok", true));
+        ModelTensor tensor = ModelTensor.builder().name("response").dataAsMap(dataMap).build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+
+        assertEquals(3, parsedTensor.getDataAsMap().get("count"));
+        assertEquals(List.of(0.5, 1.5), parsedTensor.getDataAsMap().get("embedding"));
+        assertEquals(Map.of("ok", true), parsedTensor.getDataAsMap().get("nested"));
+    }
+
+    @Test
+    public void test_StreamInAndOut_DataAsMapOldVersion() throws IOException {
+        Map<String, Object> dataMap = new HashMap<>();
+        dataMap.put("count", 3);
+        ModelTensor tensor = ModelTensor.builder().name("response").dataAsMap(dataMap).build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_3_0_0);
+        tensor.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_0_0);
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+
+        // old nodes exchange dataAsMap as JSON string, which parses numbers as double
+        assertEquals(3.0, parsedTensor.getDataAsMap().get("count"));
+    }
+
+    @Test
+    public void test_StreamInAndOut_DataAsMapWithNonJsonValue() throws IOException {
+        Map<String, Object> dataMap = new HashMap<>();
+        dataMap.put("values", new int[] { 1, 2 });
+        ModelTensor tensor = ModelTensor.builder().name("response").dataAsMap(dataMap).build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+
+        assertEquals(List.of(1.0, 2.0), parsedTensor.getDataAsMap().get("values"));
+    }
 }
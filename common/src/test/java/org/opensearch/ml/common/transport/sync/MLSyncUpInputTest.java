@@ -84,4 +84,16 @@ public class MLSyncUpInputTest {
         );
 
     }
+
+    @Test
+    public void testConstructorSerialization_RateLimiterDemands() throws IOException {
+        Map<String, Map<String, Long>> rateLimiterDemands = Map.of("model1", Map.of("node1", 10L, "node2", 0L));
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder().rateLimiterDemands(rateLimiterDemands).build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+
+        assertEquals(rateLimiterDemands, parsedInput.getRateLimiterDemands());
+    }
 }
@@ -6,6 +6,7 @@ import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE
 import java.io.IOException;
 import java.net.InetAddress;
 import java.util.Collections;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -14,6 +15,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.transport.TransportAddress;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -79,4 +81,28 @@ public class MLSyncUpNodeResponseTest {
         assertArrayEquals(newResponse.getRunningDeployModelTaskIds(), response.getRunningDeployModelTaskIds());
 
     }
+
+    @Test
+    public void testSerializationDeserialization_RateLimiterDemands() throws IOException {
+        MLSyncUpNodeResponse response = new MLSyncUpNodeResponse(
+            localNode,
+            modelStatus,
+            loadedModelIds,
+            runningLoadModelIds,
+            runningLoadModelTaskIds,
+            expiredModelIds,
+            Map.of("modelid1", 10L, "modelid1/user1", 3L)
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLSyncUpNodeResponse newResponse = new MLSyncUpNodeResponse(output.bytes().streamInput());
+        assertEquals(Map.of("modelid1", 10L, "modelid1/user1", 3L), newResponse.getRateLimiterDemands());
+
+        output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_0_0);
+        response.writeTo(output);
+        StreamInput streamInput = output.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_0_0);
+        assertNull(new MLSyncUpNodeResponse(streamInput).getRateLimiterDemands());
+    }
 }
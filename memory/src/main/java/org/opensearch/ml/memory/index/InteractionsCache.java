@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ml.common.conversation.Interaction;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Node local, write-through cache of the most recent interactions of conversations, so reading the latest messages of
+ * a conversation doesn't fetch them from the interactions index.
+ * <p>
+ * A conversation is cached when its whole history is read from the index, and the interactions created or updated on
+ * this node are written to it along with the document versions, the sequence number and primary term, the index gave
+ * them. Interactions created, updated or deleted on other nodes are not, so a cached conversation is only used while it
+ * agrees with the index: the index must have as many interactions as it counts, and the latest of them must be the ones
+ * it holds, with the same versions. Versions are assigned by the primary shard, so unlike update times they don't
+ * depend on the clocks of the nodes.
+ */
+public class InteractionsCache {
+    static final int MAX_CONVERSATIONS = 1000;
+    static final int MAX_INTERACTIONS_PER_CONVERSATION = 100;
+    static final long EXPIRE_AFTER_ACCESS_MINUTES = 10;
+
+    private final Cache<String, CachedConversation> cache;
+
+    public InteractionsCache() {
+        this.cache = CacheBuilder
+            .newBuilder()
+            .maximumSize(MAX_CONVERSATIONS)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+            .build();
+    }
+
+    /**
+     * Version of an interaction document
+     * @param seqNo sequence number of the last write of the document
+     * @param primaryTerm primary term of the last write of the document
+     */
+    public record Version(long seqNo, long primaryTerm) {}
+
+    /**
+     * Cache the whole history of a conversation
+     * @param conversationId id of the conversation
+     * @param interactions every interaction of the conversation, sorted by create time
+     * @param versions versions of the interactions, by interaction id
+     */
+    public void put(String conversationId, List<Interaction> interactions, Map<String, Version> versions) {
+        cache.put(conversationId, new CachedConversation(interactions, versions));
+    }
+
+    /**
+     * Append an interaction created on this node to its conversation, if the conversation is cached
+     * @param interaction the new interaction
+     * @param version version of the new interaction
+     */
+    public void add(Interaction interaction, Version version) {
+        CachedConversation conversation = cache.getIfPresent(interaction.getConversationId());
+        if (conversation != null && !conversation.add(interaction, version)) {
+            // created out of order, let the index sort it out
+            cache.invalidate(interaction.getConversationId());
+        }
+    }
+
+    /**
+     * Replace an updated interaction, if its conversation is cached
+     * @param interaction the updated interaction
+     * @param version version of the updated interaction
+     */
+    public void update(Interaction interaction, Version version) {
+        CachedConversation conversation = cache.getIfPresent(interaction.getConversationId());
+        if (conversation != null) {
+            conversation.update(interaction, version);
+        }
+    }
+
+    public void invalidate(String conversationId) {
+        cache.invalidate(conversationId);
+    }
+
+    /**
+     * Whether the cached interactions of a conversation contain the requested page
+     * @param conversationId id of the conversation
+     * @param from position of the first interaction of the page
+     * @return whether the page can be read from the cache
+     */
+    public boolean covers(String conversationId, int from) {
+        CachedConversation conversation = cache.getIfPresent(conversationId);
+        return conversation != null && conversation.covers(from);
+    }
+
+    /**
+     * Get a page of the cached interactions of a conversation, if they agree with the interactions in the index
+     * @param conversationId id of the conversation
+     * @param from position of the first interaction of the page
+     * @param maxResults max number of interactions of the page
+     * @param indexedCount number of interactions of the conversation in the index
+     * @param latestIndexedVersions versions of the latest {@link #MAX_INTERACTIONS_PER_CONVERSATION} interactions of the
+     *                              conversation in the index, by interaction id
+     * @return the page, sorted by create time, or null if it can't be read from the cache
+     */
+    public List<Interaction> get(
+        String conversationId,
+        int from,
+        int maxResults,
+        long indexedCount,
+        Map<String, Version> latestIndexedVersions
+    ) {
+        CachedConversation conversation = cache.getIfPresent(conversationId);
+        if (conversation == null) {
+            return null;
+        }
+        if (!conversation.isConsistent(indexedCount, latestIndexedVersions)) {
+            // changed on another node
+            cache.invalidate(conversationId);
+            return null;
+        }
+        return conversation.get(from, maxResults);
+    }
+
+    private static class CachedConversation {
+        // guarded by this
+        private final List<Interaction> interactions;
+        private final Map<String, Version> versions;
+        private long count;
+
+        CachedConversation(List<Interaction> interactions, Map<String, Version> versions) {
+            int from = Math.max(interactions.size() - MAX_INTERACTIONS_PER_CONVERSATION, 0);
+            this.interactions = new ArrayList<>(interactions.subList(from, interactions.size()));
+            this.versions = new HashMap<>();
+            for (Interaction interaction : this.interactions) {
+                this.versions.put(interaction.getId(), versions.get(interaction.getId()));
+            }
+            this.count = interactions.size();
+        }
+
+        synchronized boolean add(Interaction interaction, Version version) {
+            Interaction latest = interactions.isEmpty() ? null : interactions.get(interactions.size() - 1);
+            if (latest != null && interaction.getCreateTime().isBefore(latest.getCreateTime())) {
+                return false;
+            }
+            interactions.add(interaction);
+            versions.put(interaction.getId(), version);
+            count++;
+            if (interactions.size() > MAX_INTERACTIONS_PER_CONVERSATION) {
+                versions.remove(interactions.remove(0).getId());
+            }
+            return true;
+        }
+
+        synchronized void update(Interaction interaction, Version version) {
+            for (int i = 0; i < interactions.size(); i++) {
+                if (interactions.get(i).getId().equals(interaction.getId())) {
+                    interactions.set(i, interaction);
+                    versions.put(interaction.getId(), version);
+                    return;
+                }
+            }
+        }
+
+        synchronized boolean covers(int from) {
+            return from >= count - interactions.size();
+        }
+
+        synchronized boolean isConsistent(long indexedCount, Map<String, Version> latestIndexedVersions) {
+            // a creation or a deletion on another node changes the count, an update changes the version
+            return indexedCount == count && versions.equals(latestIndexedVersions);
+        }
+
+        synchronized List<Interaction> get(int from, int maxResults) {
+            int start = (int) (from - (count - interactions.size()));
+            if (start < 0) {
+                return null;
+            }
+            int end = (int) Math.min((long) start + maxResults, interactions.size());
+            return start >= end ? new ArrayList<>() : new ArrayList<>(interactions.subList(start, end));
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.lucene.search.TotalHits;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.OpenSearchWrapperException;
 import org.opensearch.ResourceAlreadyExistsException;
@@ -52,6 +53,7 @@ import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.get.GetResult;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.ExistsQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
@@ -83,6 +85,8 @@ public class InteractionsIndex {
     private ConversationMetaIndex conversationMetaIndex;
     // How big the steps should be when gathering *ALL* interactions in a conversation
     private final int resultsAtATime = 300;
+    // Recent interactions of conversations, so reading them doesn't fetch them from the index
+    private final InteractionsCache interactionsCache = new InteractionsCache();
 
     /**
      * 'PUT's the index in opensearch if it's not there already
@@ -189,6 +193,14 @@ public class InteractionsIndex {
                             ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                             ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
                                 if (resp.status() == RestStatus.CREATED) {
+                                    // traces are not messages of the conversation
+                                    if (traceNumber == null) {
+                                        interactionsCache
+                                            .add(
+                                                toInteraction(resp.getId(), sourceMap),
+                                                new InteractionsCache.Version(resp.getSeqNo(), resp.getPrimaryTerm())
+                                            );
+                                    }
                                     internalListener.onResponse(resp.getId());
                                     log.info("Successfully created the message with id : {}", resp.getId());
                                 } else {
@@ -272,7 +284,7 @@ public class InteractionsIndex {
         }
         ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
             if (access) {
-                innerGetInteractions(conversationId, from, maxResults, listener);
+                getCachedInteractions(conversationId, from, maxResults, listener);
             } else {
                 String userStr = client
                     .threadPool()
@@ -288,11 +300,79 @@ public class InteractionsIndex {
         conversationMetaIndex.checkAccess(conversationId, accessListener);
     }
 
+    /**
+     * Gets a page of the interactions of a conversation from the cache when it has them and agrees with the
+     * interactions in the index, else from the index
+     * @param conversationId the conversation to read from
+     * @param from where to start in the reading
+     * @param maxResults how many interactions to return
+     * @param listener gets the list, sorted by recency, of interactions
+     */
     @VisibleForTesting
-    void innerGetInteractions(String conversationId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
-        SearchRequest request = Requests.searchRequest(INTERACTIONS_INDEX_NAME);
+    void getCachedInteractions(String conversationId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
+        ActionListener<SearchResponse> indexListener = ActionListener.wrap(response -> {
+            List<Interaction> interactions = toInteractions(response);
+            // the first page has the whole conversation when it is not full
+            if (from == 0 && interactions.size() < maxResults) {
+                interactionsCache.put(conversationId, interactions, getVersions(response));
+            }
+            listener.onResponse(interactions);
+        }, listener::onFailure);
+        if (!interactionsCache.covers(conversationId, from)) {
+            searchInteractions(conversationId, getMessagesSource(conversationId, from, maxResults), true, indexListener);
+            return;
+        }
+        // the count and the versions of the latest messages, after a refresh so the messages created, updated or
+        // deleted on other nodes are searchable
+        SearchSourceBuilder source = new SearchSourceBuilder()
+            .query(getMessagesQuery(conversationId))
+            .size(InteractionsCache.MAX_INTERACTIONS_PER_CONVERSATION)
+            .trackTotalHits(true)
+            .fetchSource(false)
+            .seqNoAndPrimaryTerm(true)
+            .sort(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, SortOrder.DESC);
+        searchInteractions(conversationId, source, true, ActionListener.wrap(response -> {
+            TotalHits totalHits = response.getHits().getTotalHits();
+            List<Interaction> interactions = totalHits == null
+                ? null
+                : interactionsCache.get(conversationId, from, maxResults, totalHits.value(), getVersions(response));
+            if (interactions != null) {
+                log.debug("Got the messages for memory {} from the cache", conversationId);
+                listener.onResponse(interactions);
+            } else {
+                // already refreshed
+                searchInteractions(conversationId, getMessagesSource(conversationId, from, maxResults), false, indexListener);
+            }
+        }, listener::onFailure));
+    }
 
-        // Build the query
+    /**
+     * Gets the versions of the interactions found by a search
+     * @param response the search response, with the sequence numbers and primary terms of the hits
+     * @return the versions, by interaction id
+     */
+    private static Map<String, InteractionsCache.Version> getVersions(SearchResponse response) {
+        Map<String, InteractionsCache.Version> versions = new HashMap<>();
+        for (SearchHit hit : response.getHits()) {
+            versions.put(hit.getId(), new InteractionsCache.Version(hit.getSeqNo(), hit.getPrimaryTerm()));
+        }
+        return versions;
+    }
+
+    private static List<Interaction> toInteractions(SearchResponse response) {
+        List<Interaction> result = new LinkedList<Interaction>();
+        for (SearchHit hit : response.getHits()) {
+            result.add(Interaction.fromSearchHit(hit));
+        }
+        return result;
+    }
+
+    /**
+     * Builds the query of the messages of a conversation, leaving out the traces of the messages
+     * @param conversationId the conversation of the messages
+     * @return the query
+     */
+    private static QueryBuilder getMessagesQuery(String conversationId) {
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
 
         // Add the ExistsQueryBuilder for checking null values
@@ -303,27 +383,61 @@ public class InteractionsIndex {
         TermQueryBuilder termQueryBuilder = QueryBuilders
             .termQuery(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId);
         boolQueryBuilder.must(termQueryBuilder);
+        return boolQueryBuilder;
+    }
 
-        // Set the query to the search source
+    @VisibleForTesting
+    void innerGetInteractions(String conversationId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
+        searchInteractions(
+            conversationId,
+            getMessagesSource(conversationId, from, maxResults),
+            true,
+            ActionListener.wrap(response -> listener.onResponse(toInteractions(response)), listener::onFailure)
+        );
+    }
+
+    /**
+     * Builds the search of a page of the messages of a conversation, sorted by create time
+     * @param conversationId the conversation of the messages
+     * @param from where to start in the reading
+     * @param maxResults how many messages to return
+     * @return the search source, with the versions of the messages
+     */
+    private static SearchSourceBuilder getMessagesSource(String conversationId, int from, int maxResults) {
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
-        searchSourceBuilder.query(boolQueryBuilder);
+        searchSourceBuilder.query(getMessagesQuery(conversationId));
+        searchSourceBuilder.from(from).size(maxResults).seqNoAndPrimaryTerm(true);
+        searchSourceBuilder.sort(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, SortOrder.ASC);
+        return searchSourceBuilder;
+    }
 
-        request.source(searchSourceBuilder);
-        request.source().from(from).size(maxResults);
-        request.source().sort(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, SortOrder.ASC);
+    /**
+     * Searches the messages of a conversation
+     * @param conversationId the conversation of the messages
+     * @param source the search
+     * @param refresh whether to refresh the index first
+     * @param listener gets the search response
+     */
+    private void searchInteractions(
+        String conversationId,
+        SearchSourceBuilder source,
+        boolean refresh,
+        ActionListener<SearchResponse> listener
+    ) {
+        SearchRequest request = Requests.searchRequest(INTERACTIONS_INDEX_NAME).source(source);
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
-            ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
+            ActionListener<SearchResponse> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
             ActionListener<SearchResponse> al = ActionListener.wrap(response -> {
-                List<Interaction> result = new LinkedList<Interaction>();
-                for (SearchHit hit : response.getHits()) {
-                    result.add(Interaction.fromSearchHit(hit));
-                }
-                internalListener.onResponse(result);
+                internalListener.onResponse(response);
                 log.info("Successfully get the messages for memory {}", conversationId);
             }, e -> {
                 internalListener.onFailure(e);
                 log.error("Failed to get the messages for memory {}", conversationId);
             });
+            if (!refresh) {
+                client.search(request, al);
+                return;
+            }
             client
                 .admin()
                 .indices()
@@ -378,12 +492,7 @@ public class InteractionsIndex {
                 }, e -> { listener.onFailure(e); });
                 conversationMetaIndex.checkAccess(conversationId, accessListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -493,6 +602,7 @@ public class InteractionsIndex {
                     internalListener.onResponse(true);
                     return;
                 }
+                interactionsCache.invalidate(conversationId);
                 BulkRequest request = Requests.bulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
                 for (Interaction interaction : interactions) {
                     DeleteRequest delRequest = Requests.deleteRequest(INTERACTIONS_INDEX_NAME).id(interaction.getId());
@@ -589,12 +699,8 @@ public class InteractionsIndex {
                 // checks if the user has permission to access the conversation that the interaction belongs to
                 checkInteractionPermission(interactionId, interaction, internalListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // a realtime get sees the interaction without refreshing the index
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -628,7 +734,7 @@ public class InteractionsIndex {
                 String conversationId = interaction.getConversationId();
                 ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
                     if (access) {
-                        innerUpdateInteraction(updateRequest, internalListener);
+                        innerUpdateInteraction(interactionId, conversationId, updateRequest, internalListener);
                     } else {
                         String userStr = client
                             .threadPool()
@@ -645,27 +751,67 @@ public class InteractionsIndex {
                 }, e -> { listener.onFailure(e); });
                 conversationMetaIndex.checkAccess(conversationId, accessListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh messages index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
 
-    private void innerUpdateInteraction(UpdateRequest updateRequest, ActionListener<UpdateResponse> listener) {
+    private void innerUpdateInteraction(
+        String interactionId,
+        String conversationId,
+        UpdateRequest updateRequest,
+        ActionListener<UpdateResponse> listener
+    ) {
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<UpdateResponse> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
-            client.update(updateRequest, internalListener);
+            // get the updated interaction back to update the cache
+            updateRequest.fetchSource(true);
+            client.update(updateRequest, ActionListener.wrap(updateResponse -> {
+                GetResult getResult = updateResponse.getGetResult();
+                if (getResult != null && getResult.isExists()) {
+                    interactionsCache
+                        .update(
+                            Interaction.fromMap(interactionId, getResult.sourceAsMap()),
+                            new InteractionsCache.Version(updateResponse.getSeqNo(), updateResponse.getPrimaryTerm())
+                        );
+                } else {
+                    interactionsCache.invalidate(conversationId);
+                }
+                internalListener.onResponse(updateResponse);
+            }, e -> {
+                interactionsCache.invalidate(conversationId);
+                internalListener.onFailure(e);
+            }));
         } catch (Exception e) {
             log.error("Failed to update message. Details {}:", e);
             listener.onFailure(e);
         }
     }
 
+    /**
+     * Builds the interaction of a newly indexed interaction document
+     * @param interactionId id of the interaction
+     * @param sourceMap the source of the interaction document
+     * @return the interaction
+     */
+    @SuppressWarnings("unchecked")
+    private static Interaction toInteraction(String interactionId, Map<String, Object> sourceMap) {
+        return new Interaction(
+            interactionId,
+            (Instant) sourceMap.get(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD),
+            (Instant) sourceMap.get(ConversationalIndexConstants.INTERACTIONS_UPDATED_TIME_FIELD),
+            (String) sourceMap.get(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD),
+            (String) sourceMap.get(ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD),
+            (String) sourceMap.get(ConversationalIndexConstants.INTERACTIONS_PROMPT_TEMPLATE_FIELD),
+            (String) sourceMap.get(ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD),
+            (String) sourceMap.get(ConversationalIndexConstants.INTERACTIONS_ORIGIN_FIELD),
+            (Map<String, String>) sourceMap.get(ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD),
+            (String) sourceMap.get(ConversationalIndexConstants.PARENT_INTERACTIONS_ID_FIELD),
+            (Integer) sourceMap.get(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD)
+        );
+    }
+
     private void checkInteractionPermission(String interactionId, Interaction interaction, ActionListener<Interaction> internalListener) {
         String conversationId = interaction.getConversationId();
         ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
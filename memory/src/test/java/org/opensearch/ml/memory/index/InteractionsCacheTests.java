@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.index;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InteractionsCacheTests extends OpenSearchTestCase {
+    private final Instant start = Instant.now();
+
+    private Interaction interaction(String id, int second) {
+        Instant time = start.plusSeconds(second);
+        return new Interaction(id, time, time, "cid", "inp", "pt", "rsp", "ogn", null, null, null);
+    }
+
+    private InteractionsCache.Version version(long seqNo) {
+        return new InteractionsCache.Version(seqNo, 1);
+    }
+
+    public void testNotCached() {
+        InteractionsCache cache = new InteractionsCache();
+        assertFalse(cache.covers("cid", 0));
+        assertNull(cache.get("cid", 0, 10, 0, Map.of()));
+        cache.add(interaction("iid1", 1), version(0));
+        assertFalse(cache.covers("cid", 0));
+    }
+
+    public void testAddAfterPut() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", List.of(interaction("iid1", 1)), Map.of("iid1", version(0)));
+        cache.add(interaction("iid2", 2), version(1));
+
+        Map<String, InteractionsCache.Version> versions = Map.of("iid1", version(0), "iid2", version(1));
+        List<Interaction> interactions = cache.get("cid", 0, 10, 2, versions);
+        assertEquals(2, interactions.size());
+        assertEquals("iid2", interactions.get(1).getId());
+        assertEquals(1, cache.get("cid", 1, 10, 2, versions).size());
+        assertEquals(0, cache.get("cid", 2, 10, 2, versions).size());
+    }
+
+    public void testGet_CreatedOnOtherNode_ThenInvalidate() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", List.of(interaction("iid1", 1)), Map.of("iid1", version(0)));
+        assertNull(cache.get("cid", 0, 10, 2, Map.of("iid1", version(0), "iid3", version(2))));
+        assertFalse(cache.covers("cid", 0));
+    }
+
+    public void testGet_DeletedOnOtherNode_ThenInvalidate() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", List.of(interaction("iid1", 1)), Map.of("iid1", version(0)));
+        assertNull(cache.get("cid", 0, 10, 0, Map.of()));
+        assertFalse(cache.covers("cid", 0));
+    }
+
+    public void testGet_UpdatedOnOtherNode_ThenInvalidate() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", List.of(interaction("iid1", 1), interaction("iid2", 2)), Map.of("iid1", version(0), "iid2", version(1)));
+        assertEquals(2, cache.get("cid", 0, 10, 2, Map.of("iid1", version(0), "iid2", version(1))).size());
+
+        // the response of iid1 was updated on another node, whatever its update time is
+        assertNull(cache.get("cid", 0, 10, 2, Map.of("iid1", version(2), "iid2", version(1))));
+        assertFalse(cache.covers("cid", 0));
+    }
+
+    public void testGet_UpdatedOnThisNode() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", List.of(interaction("iid1", 1)), Map.of("iid1", version(0)));
+        Interaction updated = new Interaction("iid1", start, start, "cid", "inp", "pt", "new rsp", "ogn", null, null, null);
+        cache.update(updated, version(1));
+
+        assertEquals("new rsp", cache.get("cid", 0, 10, 1, Map.of("iid1", version(1))).get(0).getResponse());
+        // a later update on another node
+        assertNull(cache.get("cid", 0, 10, 1, Map.of("iid1", version(2))));
+    }
+
+    public void testAddOutOfOrder_ThenInvalidate() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", List.of(interaction("iid2", 2)), Map.of("iid2", version(0)));
+        cache.add(interaction("iid1", 1), version(1));
+        assertFalse(cache.covers("cid", 0));
+    }
+
+    public void testMaxInteractionsPerConversation() {
+        InteractionsCache cache = new InteractionsCache();
+        List<Interaction> interactions = new ArrayList<>();
+        Map<String, InteractionsCache.Version> versions = new HashMap<>();
+        for (int i = 0; i < InteractionsCache.MAX_INTERACTIONS_PER_CONVERSATION + 5; i++) {
+            interactions.add(interaction("iid" + i, i));
+            versions.put("iid" + i, version(i));
+        }
+        cache.put("cid", interactions, versions);
+        // the oldest interactions are only in the index
+        assertFalse(cache.covers("cid", 4));
+        assertTrue(cache.covers("cid", 5));
+        Map<String, InteractionsCache.Version> latestVersions = new HashMap<>(versions);
+        for (int i = 0; i < 5; i++) {
+            latestVersions.remove("iid" + i);
+        }
+        List<Interaction> page = cache.get("cid", 5, 10, interactions.size(), latestVersions);
+        assertEquals("iid5", page.get(0).getId());
+    }
+}
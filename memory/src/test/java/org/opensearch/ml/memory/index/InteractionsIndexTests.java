@@ -29,11 +29,15 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.lucene.search.TotalHits;
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
@@ -449,6 +453,91 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
             .equals("User [" + ActionConstants.DEFAULT_USERNAME_FOR_ERRORS + "] does not have access to memory cid"));
     }
 
+    public void testGet_CachedAfterCreate_ThenNoSource() throws IOException {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        setupRefreshSuccess();
+        // the history read from the index, then the versions of the latest messages
+        setupSearchResponses(new SearchHit[0], new SearchHit[] { getVersionHit("iid1", 3) });
+        setupIndexResponse("iid1", 3);
+
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
+        @SuppressWarnings("unchecked")
+        ActionListener<String> createInteractionListener = mock(ActionListener.class);
+        interactionsIndex.createInteraction("cid", "inp", "pt", "rsp", "ogn", Collections.emptyMap(), createInteractionListener);
+        interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
+        verify(getInteractionsListener, times(2)).onResponse(argCaptor.capture());
+        assertEquals(0, argCaptor.getAllValues().get(0).size());
+        assertEquals(1, argCaptor.getAllValues().get(1).size());
+        assertEquals("iid1", argCaptor.getAllValues().get(1).get(0).getId());
+        assertEquals("inp", argCaptor.getAllValues().get(1).get(0).getInput());
+        ArgumentCaptor<SearchRequest> searchCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(searchCaptor.capture(), any());
+        assertFalse(searchCaptor.getAllValues().get(1).source().fetchSource().fetchSource());
+        assertTrue(searchCaptor.getAllValues().get(1).source().seqNoAndPrimaryTerm());
+        // the versions are read after a refresh
+        verify(indicesAdminClient, times(2)).refresh(any(), any());
+    }
+
+    public void testGet_CreatedThroughOtherNode_ThenReadIndex() throws IOException {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        setupRefreshSuccess();
+        // the history read from the index, the versions of the latest messages, then the history again
+        setupSearchResponses(
+            new SearchHit[] { getInteractionHit("iid1", 3) },
+            new SearchHit[] { getVersionHit("iid2", 4), getVersionHit("iid1", 3) },
+            new SearchHit[] { getInteractionHit("iid1", 3), getInteractionHit("iid2", 4) }
+        );
+        setupIndexResponse("iid2", 4);
+
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
+        // the interactions index of another node, which doesn't write to the cache of this one
+        InteractionsIndex otherNode = new InteractionsIndex(client, clusterService, conversationMetaIndex);
+        @SuppressWarnings("unchecked")
+        ActionListener<String> createInteractionListener = mock(ActionListener.class);
+        otherNode.createInteraction("cid", "inp", "pt", "rsp", "ogn", Collections.emptyMap(), createInteractionListener);
+        verify(createInteractionListener, times(1)).onResponse("iid2");
+        interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
+        verify(getInteractionsListener, times(2)).onResponse(argCaptor.capture());
+        assertEquals(2, argCaptor.getAllValues().get(1).size());
+        assertEquals("iid2", argCaptor.getAllValues().get(1).get(1).getId());
+        verify(client, times(3)).search(any(), any());
+        verify(indicesAdminClient, times(2)).refresh(any(), any());
+    }
+
+    public void testGet_UpdatedThroughOtherNode_ThenReadIndex() throws IOException {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        setupRefreshSuccess();
+        // the same messages, but iid1 was updated since it was read, whatever the clock of the other node says
+        setupSearchResponses(
+            new SearchHit[] { getInteractionHit("iid1", 3) },
+            new SearchHit[] { getVersionHit("iid1", 5) },
+            new SearchHit[] { getInteractionHit("iid1", 5) }
+        );
+
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
+        interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
+
+        verify(getInteractionsListener, times(2)).onResponse(any());
+        // the versions don't match the cache, so the messages are read from the index again
+        verify(client, times(3)).search(any(), any());
+        verify(indicesAdminClient, times(2)).refresh(any(), any());
+    }
+
     public void testGetTraces_NoIndex_ThenEmpty() {
         doReturn(false).when(metadata).hasIndex(anyString());
         @SuppressWarnings("unchecked")
@@ -836,26 +925,27 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Message [iid] not found"));
     }
 
-    public void testGetSg_RefreshFails_ThenFail() {
+    public void testGetSg_GetFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed during Sg Get Refresh"));
+            ActionListener<GetResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failed during Sg Get"));
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(getListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed during Sg Get Refresh"));
+        assert (argCaptor.getValue().getMessage().equals("Failed during Sg Get"));
+        verify(indicesAdminClient, times(0)).refresh(any(), any());
     }
 
     public void testGetSg_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).admin();
+        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
@@ -979,6 +1069,67 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         return response;
     }
 
+    private SearchHit getInteractionHit(String interactionId) throws IOException {
+        XContentBuilder content = XContentBuilder.builder(XContentType.JSON.xContent());
+        content.startObject();
+        content.field(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, Instant.now());
+        content.field(ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD, "sample inputs");
+        content.field(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, "cid");
+        content.endObject();
+        return new SearchHit(0, interactionId, null, null).sourceRef(BytesReference.bytes(content));
+    }
+
+    private SearchHit getInteractionHit(String interactionId, long seqNo) throws IOException {
+        SearchHit hit = getInteractionHit(interactionId);
+        hit.setSeqNo(seqNo);
+        hit.setPrimaryTerm(1);
+        return hit;
+    }
+
+    // a hit without the source
+    private SearchHit getVersionHit(String interactionId, long seqNo) {
+        SearchHit hit = new SearchHit(0, interactionId, null, null);
+        hit.setSeqNo(seqNo);
+        hit.setPrimaryTerm(1);
+        return hit;
+    }
+
+    private void setupIndexResponse(String interactionId, long seqNo) {
+        IndexResponse indexResponse = mock(IndexResponse.class);
+        doReturn(RestStatus.CREATED).when(indexResponse).status();
+        doReturn(interactionId).when(indexResponse).getId();
+        doReturn(seqNo).when(indexResponse).getSeqNo();
+        doReturn(1L).when(indexResponse).getPrimaryTerm();
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> al = invocation.getArgument(1);
+            al.onResponse(indexResponse);
+            return null;
+        }).when(client).index(any(), any());
+    }
+
+    private void setupSearchResponses(SearchHit[]... responses) {
+        Deque<SearchResponse> searchResponses = new ArrayDeque<>();
+        for (SearchHit[] hits : responses) {
+            SearchHits searchHits = new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), Float.NaN);
+            SearchResponseSections searchSections = new SearchResponseSections(
+                searchHits,
+                InternalAggregations.EMPTY,
+                null,
+                false,
+                false,
+                null,
+                1
+            );
+            searchResponses
+                .add(new SearchResponse(searchSections, null, 1, 1, 0, 11, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY));
+        }
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onResponse(searchResponses.poll());
+            return null;
+        }).when(client).search(any(), any());
+    }
+
     private void setUpSearchTraceResponse() {
         doAnswer(invocation -> {
             XContentBuilder content = XContentBuilder.builder(XContentType.JSON.xContent());
@@ -27,6 +27,7 @@ import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.Output;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.ModelObjectCache;
 import org.opensearch.transport.TransportChannel;
 
 import lombok.Getter;
@@ -41,6 +42,7 @@ public class MLEngine {
     public static final String REGISTER_MODEL_FOLDER = "register";
     public static final String DEPLOY_MODEL_FOLDER = "deploy";
     public static final String ANALYSIS_FOLDER = "analysis";
+    public static final String MODEL_ARTIFACT_FOLDER = "artifacts";
     private final String MODEL_REPO = "https://artifacts.opensearch.org/models/ml-models";
 
     @Getter
@@ -52,11 +54,20 @@ public class MLEngine {
 
     private Encryptor encryptor;
 
+    // deserialized objects of models predicted without deployment
+    @Getter
+    private final ModelObjectCache modelObjectCache;
+
     public MLEngine(Path opensearchDataFolder, Encryptor encryptor) {
+        this(opensearchDataFolder, encryptor, new ModelObjectCache(0));
+    }
+
+    public MLEngine(Path opensearchDataFolder, Encryptor encryptor, ModelObjectCache modelObjectCache) {
         this.mlCachePath = opensearchDataFolder.resolve("ml_cache");
         this.mlModelsCachePath = mlCachePath.resolve("models_cache");
         this.mlConfigPath = mlCachePath.resolve("config");
         this.encryptor = encryptor;
+        this.modelObjectCache = modelObjectCache;
     }
 
     public String getPrebuiltModelMetaListPath() {
@@ -117,6 +128,10 @@ public class MLEngine {
         return mlModelsCachePath.resolve("models");
     }
 
+    public Path getModelArtifactCacheRootPath() {
+        return mlModelsCachePath.resolve(MODEL_ARTIFACT_FOLDER);
+    }
+
     public Path getAnalysisRootPath() {
         return mlModelsCachePath.resolve(ANALYSIS_FOLDER);
     }
@@ -170,7 +185,7 @@ public class MLEngine {
         if (predictable == null) {
             throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
         }
-        return predictable.predict(mlInput, model);
+        return predictable.predict(mlInput, model, modelObjectCache);
     }
 
     public MLOutput trainAndPredict(Input input) {
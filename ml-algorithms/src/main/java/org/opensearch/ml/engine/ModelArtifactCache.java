@@ -0,0 +1,231 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Disk cache of model zip files keyed by model content hash, so deploying a model which was deployed on this
+ * node before doesn't retrieve all model chunks again, also after undeploy or node restart.
+ * <p>
+ * Cached files are hard links of the deployed model zip file when possible, otherwise copies. A cached file is
+ * verified against the content hash before it's used. The least recently used files are removed when the
+ * total size is over the max size, or when the free disk space is below the min free space.
+ * <p>
+ * Every model which uses a cached file has a reference file under {@code refs/<content hash>/<model id>}, and a
+ * cached file is removed once the last model which uses it is removed, e.g. after the model is deleted.
+ */
+@Log4j2
+public class ModelArtifactCache {
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("^[a-zA-Z0-9]{1,128}$");
+    private static final Pattern MODEL_ID_PATTERN = Pattern.compile("^[a-zA-Z0-9_-]{1,512}$");
+    private static final String REFS_FOLDER = "refs";
+
+    private final Path cacheRootPath;
+    @Getter
+    private volatile long maxSizeInBytes;
+    @Getter
+    private volatile long minFreeSpaceInBytes;
+
+    /**
+     * @param cacheRootPath folder of cached model files
+     * @param maxSizeInBytes max total size of cached model files, 0 disables the cache
+     * @param minFreeSpaceInBytes min free disk space to keep when caching model files
+     */
+    public ModelArtifactCache(Path cacheRootPath, long maxSizeInBytes, long minFreeSpaceInBytes) {
+        this.cacheRootPath = cacheRootPath;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.minFreeSpaceInBytes = minFreeSpaceInBytes;
+    }
+
+    public void setMaxSizeInBytes(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        evict();
+    }
+
+    public void setMinFreeSpaceInBytes(long minFreeSpaceInBytes) {
+        this.minFreeSpaceInBytes = minFreeSpaceInBytes;
+        evict();
+    }
+
+    /**
+     * Copy the cached model file of the content hash to the target file.
+     * @param contentHash model content hash
+     * @param modelId id of the model to deploy
+     * @param targetFile model zip file to deploy
+     * @return true if the cached model file exists and matches the content hash
+     * @throws IOException if failed to copy the cached model file
+     */
+    public boolean get(String contentHash, String modelId, File targetFile) throws IOException {
+        if (!isCacheable(contentHash, modelId)) {
+            return false;
+        }
+        Path cachedPath = cacheRootPath.resolve(contentHash);
+        synchronized (this) {
+            if (!Files.exists(cachedPath)) {
+                return false;
+            }
+            Files.setLastModifiedTime(cachedPath, FileTime.fromMillis(System.currentTimeMillis()));
+            link(cachedPath, targetFile.toPath());
+            addReference(contentHash, modelId);
+        }
+        // the target file is only used by this deployment, so it's hashed without blocking other models
+        if (!contentHash.equals(calculateFileHash(targetFile))) {
+            log.warn("Cached model file doesn't match content hash {}, removing it", contentHash);
+            deleteFileQuietly(targetFile);
+            synchronized (this) {
+                deleteCachedFile(contentHash);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Add a verified model zip file to the cache.
+     * @param contentHash model content hash
+     * @param modelId id of the deployed model
+     * @param modelZipFile model zip file which matches the content hash
+     */
+    public void put(String contentHash, String modelId, File modelZipFile) {
+        if (!isCacheable(contentHash, modelId)) {
+            return;
+        }
+        Path cachedPath = cacheRootPath.resolve(contentHash);
+        synchronized (this) {
+            try {
+                if (!Files.exists(cachedPath)) {
+                    link(modelZipFile.toPath(), cachedPath);
+                }
+                addReference(contentHash, modelId);
+            } catch (IOException e) {
+                log.warn("Failed to cache model file with content hash {}", contentHash, e);
+                deleteCachedFile(contentHash);
+                return;
+            }
+        }
+        evict();
+    }
+
+    /**
+     * Remove the references of a model, and the cached model files which no other model uses.
+     * @param modelId model id
+     */
+    public synchronized void remove(String modelId) {
+        if (cacheRootPath == null || modelId == null || !MODEL_ID_PATTERN.matcher(modelId).matches()) {
+            return;
+        }
+        File[] refFolders = cacheRootPath.resolve(REFS_FOLDER).toFile().listFiles(File::isDirectory);
+        if (refFolders == null) {
+            return;
+        }
+        for (File refFolder : refFolders) {
+            File reference = new File(refFolder, modelId);
+            if (!reference.exists()) {
+                continue;
+            }
+            deleteFileQuietly(reference);
+            String[] otherModelIds = refFolder.list();
+            if (otherModelIds == null || otherModelIds.length == 0) {
+                log.debug("Remove cached model file {} which no model uses", refFolder.getName());
+                deleteCachedFile(refFolder.getName());
+            }
+        }
+    }
+
+    /**
+     * @return ids of the models which use cached model files
+     */
+    public synchronized Set<String> getModelIds() {
+        Set<String> modelIds = new HashSet<>();
+        if (cacheRootPath == null) {
+            return modelIds;
+        }
+        File[] refFolders = cacheRootPath.resolve(REFS_FOLDER).toFile().listFiles(File::isDirectory);
+        if (refFolders != null) {
+            for (File refFolder : refFolders) {
+                String[] ids = refFolder.list();
+                if (ids != null) {
+                    modelIds.addAll(Arrays.asList(ids));
+                }
+            }
+        }
+        return modelIds;
+    }
+
+    private boolean isCacheable(String contentHash, String modelId) {
+        return cacheRootPath != null
+            && maxSizeInBytes > 0
+            && contentHash != null
+            && CONTENT_HASH_PATTERN.matcher(contentHash).matches()
+            && modelId != null
+            && MODEL_ID_PATTERN.matcher(modelId).matches();
+    }
+
+    private void addReference(String contentHash, String modelId) throws IOException {
+        Path reference = cacheRootPath.resolve(REFS_FOLDER).resolve(contentHash).resolve(modelId);
+        Files.createDirectories(reference.getParent());
+        if (!Files.exists(reference)) {
+            Files.createFile(reference);
+        }
+    }
+
+    private void deleteCachedFile(String contentHash) {
+        deleteFileQuietly(cacheRootPath.resolve(contentHash));
+        deleteFileQuietly(cacheRootPath.resolve(REFS_FOLDER).resolve(contentHash));
+    }
+
+    private synchronized void evict() {
+        if (cacheRootPath == null) {
+            return;
+        }
+        File[] files = cacheRootPath.toFile().listFiles(File::isFile);
+        if (files == null) {
+            return;
+        }
+        long totalSize = Arrays.stream(files).mapToLong(File::length).sum();
+        // cached files may only use the disk space over the min free space, which deploying models needs
+        long maxSize = Math.min(maxSizeInBytes, Math.max(totalSize + cacheRootPath.toFile().getUsableSpace() - minFreeSpaceInBytes, 0));
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (totalSize <= maxSize) {
+                break;
+            }
+            totalSize -= file.length();
+            log.debug("Remove cached model file {}", file.getName());
+            deleteCachedFile(file.getName());
+        }
+    }
+
+    private static void link(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            // hard links need the same file store
+            Path tempPath = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.copy(source, tempPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.ModelObjectCache;
 import org.opensearch.transport.TransportChannel;
 
 /**
@@ -31,6 +32,18 @@ public interface Predictable {
      */
     MLOutput predict(MLInput mlInput, MLModel model);
 
+    /**
+     * Predict with given input data and model, reusing the model object deserialized for an earlier prediction
+     * when the algorithm only reads it.
+     * @param mlInput input data
+     * @param model the java serialized model
+     * @param modelObjectCache cache of deserialized model objects
+     * @return predicted results
+     */
+    default MLOutput predict(MLInput mlInput, MLModel model, ModelObjectCache modelObjectCache) {
+        return predict(mlInput, model);
+    }
+
     /**
      * Predict with given input data for deployed model.
      * @param mlInput input data
@@ -58,16 +58,34 @@ public abstract class DLModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    public static final String PREDICT_BATCH_SIZE = "predict_batch_size";
+    public static final int DEFAULT_PREDICT_BATCH_SIZE = 32;
+    public static final String PREDICTOR_POOL_SIZE = "predictor_pool_size";
+    public static final int DEFAULT_PREDICTOR_POOL_SIZE = 1;
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
     protected String modelId;
 
     protected Predictor<Input, Output>[] predictors;
+    protected PredictorPool[] predictorPools;
     protected ZooModel[] models;
     protected Device[] devices;
     protected AtomicInteger nextDevice = new AtomicInteger(0);
 
     protected MLModelConfig modelConfig;
+    protected int predictBatchSize = DEFAULT_PREDICT_BATCH_SIZE;
+    // whether the translators of the deployed model can batch inputs, false if any has no batchifier
+    protected boolean batchifierSupported = true;
+    protected int predictorPoolSize = DEFAULT_PREDICTOR_POOL_SIZE;
+
+    /**
+     * Inference call which runs on a checked out predictor.
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    protected interface PredictorCall<T> {
+        T apply(Predictor<Input, Output> predictor) throws TranslateException;
+    }
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
@@ -96,12 +114,41 @@ public abstract class DLModel implements Predictable {
     }
 
     protected Predictor<Input, Output> getPredictor() {
+        return predictors[nextDeviceIndex()];
+    }
+
+    /**
+     * Run an inference call on a predictor checked out from the pool of the next device. The predictor
+     * is not shared with other requests until the call returns.
+     * @param call inference call
+     * @return result of the call
+     * @param <T> result type
+     * @throws TranslateException if inference fails
+     */
+    protected <T> T withPredictor(PredictorCall<T> call) throws TranslateException {
+        if (predictorPools == null) {
+            return call.apply(getPredictor());
+        }
+        PredictorPool pool = predictorPools[nextDeviceIndex()];
+        Predictor<Input, Output> predictor = pool.checkout();
+        try {
+            return call.apply(predictor);
+        } finally {
+            pool.checkin(predictor);
+        }
+    }
+
+    public PredictorPool[] getPredictorPools() {
+        return predictorPools;
+    }
+
+    private int nextDeviceIndex() {
         int currentDevice = nextDevice.getAndIncrement();
         if (currentDevice > devices.length - 1) {
             currentDevice = currentDevice % devices.length;
             nextDevice.set(currentDevice + 1);
         }
-        return predictors[currentDevice];
+        return currentDevice;
     }
 
     public abstract ModelTensorOutput predict(String modelId, MLInput input) throws TranslateException;
@@ -132,6 +179,12 @@ public abstract class DLModel implements Predictable {
         if (mlEngine == null) {
             throw new IllegalArgumentException("ML engine is null");
         }
+        if (params.get(PREDICT_BATCH_SIZE) instanceof Integer) {
+            predictBatchSize = Math.max(1, (Integer) params.get(PREDICT_BATCH_SIZE));
+        }
+        if (params.get(PREDICTOR_POOL_SIZE) instanceof Integer) {
+            predictorPoolSize = Math.max(1, (Integer) params.get(PREDICTOR_POOL_SIZE));
+        }
         modelId = model.getModelId();
         if (modelId == null) {
             throw new IllegalArgumentException("model id is null");
@@ -146,6 +199,14 @@ public abstract class DLModel implements Predictable {
     public void close() {
         if (modelHelper != null && modelId != null) {
             modelHelper.deleteFileCache(modelId);
+            if (predictorPools != null) {
+                // pools also close the predictors created at deploy time
+                for (PredictorPool pool : predictorPools) {
+                    pool.close();
+                }
+                predictorPools = null;
+                predictors = null;
+            }
             if (predictors != null) {
                 closePredictors(predictors);
                 predictors = null;
@@ -215,6 +276,7 @@ public abstract class DLModel implements Predictable {
 
             Criteria<Input, Output> criteria = criteriaBuilder.build();
             model = criteria.loadModel();
+            batchifierSupported &= model.getTranslator() != null && model.getTranslator().getBatchifier() != null;
             predictor = model.newPredictor();
             predictorList.add(predictor);
             modelList.add(model);
@@ -231,6 +293,14 @@ public abstract class DLModel implements Predictable {
             this.models = modelList.toArray(new ZooModel[0]);
             modelList.clear();
         }
+        if (predictors != null && models != null) {
+            PredictorPool[] pools = new PredictorPool[predictors.length];
+            for (int i = 0; i < predictors.length; i++) {
+                ZooModel<Input, Output> model = models[i];
+                pools[i] = new PredictorPool(predictors[i], () -> newPooledPredictor(model, engine, modelConfig), predictorPoolSize);
+            }
+            this.predictorPools = pools;
+        }
         log.info("Model {} is successfully deployed on {} devices", modelId, devices.length);
     }
 
@@ -310,6 +380,44 @@ public abstract class DLModel implements Predictable {
         }
     }
 
+    /**
+     * Create one more predictor of a deployed model for the predictor pool. The predictor gets its own
+     * translator, so it doesn't share translator state with other predictors. Pooled predictors are created
+     * on predict threads, so this runs with the same privileges and context class loader as {@link #loadModel}.
+     */
+    @SuppressWarnings("removal")
+    private Predictor<Input, Output> newPooledPredictor(ZooModel<Input, Output> model, String engine, MLModelConfig modelConfig) {
+        try {
+            return AccessController.doPrivileged((PrivilegedExceptionAction<Predictor<Input, Output>>) () -> {
+                ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+                try {
+                    Thread.currentThread().setContextClassLoader(ai.djl.Model.class.getClassLoader());
+                    return createPredictor(model, engine, modelConfig);
+                } finally {
+                    Thread.currentThread().setContextClassLoader(contextClassLoader);
+                }
+            });
+        } catch (PrivilegedActionException e) {
+            throw new MLException("Failed to create predictor for model " + modelId, e.getException());
+        }
+    }
+
+    private Predictor<Input, Output> createPredictor(ZooModel<Input, Output> model, String engine, MLModelConfig modelConfig)
+        throws TranslateException {
+        TranslatorFactory translatorFactory = getTranslatorFactory(engine, modelConfig);
+        if (translatorFactory != null) {
+            Map<String, Object> arguments = getArguments(modelConfig);
+            Translator<Input, Output> translator = translatorFactory
+                .newInstance(Input.class, Output.class, model, arguments == null ? Map.of() : arguments);
+            return model.newPredictor(translator);
+        }
+        Translator<Input, Output> translator = getTranslator(engine, modelConfig);
+        if (translator != null) {
+            return model.newPredictor(translator);
+        }
+        return model.newPredictor();
+    }
+
     protected void closePredictors(Predictor[] predictors) {
         log.debug("will close {} predictor for model {}", predictors.length, modelId);
         for (Predictor<Input, Output> predictor : predictors) {
@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A bounded pool of predictors of one model on one device.
+ * <p>
+ * A predictor is checked out for one request and checked in when the request is done, so concurrent
+ * requests never share a predictor. Predictors are created lazily up to the max pool size, each one with
+ * its own translator. When all predictors are in use, callers wait until one is checked in.
+ */
+@Log4j2
+public class PredictorPool {
+    private static final long CHECKOUT_POLL_INTERVAL_MILLIS = 100;
+
+    @Getter
+    private final int maxSize;
+    private final Supplier<Predictor<Input, Output>> predictorFactory;
+    private final LinkedBlockingQueue<Predictor<Input, Output>> idlePredictors = new LinkedBlockingQueue<>();
+    private final List<Predictor<Input, Output>> predictors = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger size = new AtomicInteger(0);
+    private final AtomicInteger inUse = new AtomicInteger(0);
+    private final AtomicInteger waiting = new AtomicInteger(0);
+    private final AtomicLong waitCount = new AtomicLong(0);
+    private final AtomicLong totalWaitTimeNanos = new AtomicLong(0);
+    private volatile boolean closed = false;
+
+    /**
+     * @param initialPredictor predictor created and warmed up when the model was deployed
+     * @param predictorFactory creates a new predictor with its own translator
+     * @param maxSize max number of predictors in this pool
+     */
+    public PredictorPool(Predictor<Input, Output> initialPredictor, Supplier<Predictor<Input, Output>> predictorFactory, int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        this.predictorFactory = predictorFactory;
+        predictors.add(initialPredictor);
+        idlePredictors.offer(initialPredictor);
+        size.incrementAndGet();
+    }
+
+    /**
+     * Check out a predictor. Caller must check it in with {@link #checkin(Predictor)} once done.
+     * @return a predictor which is not used by any other request
+     */
+    public Predictor<Input, Output> checkout() {
+        Predictor<Input, Output> predictor = idlePredictors.poll();
+        if (predictor == null) {
+            predictor = tryCreatePredictor();
+        }
+        if (predictor == null) {
+            predictor = waitForPredictor();
+        }
+        inUse.incrementAndGet();
+        return predictor;
+    }
+
+    public void checkin(Predictor<Input, Output> predictor) {
+        inUse.decrementAndGet();
+        if (!closed) {
+            idlePredictors.offer(predictor);
+        }
+    }
+
+    public int getSize() {
+        return size.get();
+    }
+
+    public int getInUse() {
+        return inUse.get();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public long getWaitCount() {
+        return waitCount.get();
+    }
+
+    public long getTotalWaitTimeNanos() {
+        return totalWaitTimeNanos.get();
+    }
+
+    public void close() {
+        closed = true;
+        idlePredictors.clear();
+        log.debug("will close {} pooled predictors", predictors.size());
+        for (Predictor<Input, Output> predictor : predictors) {
+            predictor.close();
+        }
+        predictors.clear();
+    }
+
+    private Predictor<Input, Output> tryCreatePredictor() {
+        while (true) {
+            int current = size.get();
+            if (current >= maxSize) {
+                return null;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+        try {
+            Predictor<Input, Output> predictor = predictorFactory.get();
+            predictors.add(predictor);
+            return predictor;
+        } catch (RuntimeException e) {
+            size.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private Predictor<Input, Output> waitForPredictor() {
+        waiting.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            Predictor<Input, Output> predictor = null;
+            while (predictor == null) {
+                if (closed) {
+                    throw new MLException("model not deployed.");
+                }
+                predictor = idlePredictors.poll(CHECKOUT_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            return predictor;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while waiting for a predictor", e);
+        } finally {
+            waiting.decrementAndGet();
+            waitCount.incrementAndGet();
+            totalWaitTimeNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+}
@@ -35,9 +35,9 @@ public abstract class TextEmbeddingModel extends DLModel {
             : mlInput.getInputDataset();
 
         List<ModelTensors> tensorOutputs = new ArrayList<>();
-        Output output;
         TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
+        List<Input> inputs = new ArrayList<>(textDocsInput.getDocs().size());
         for (String doc : textDocsInput.getDocs()) {
             Input input = new Input();
             input.add(doc);
@@ -45,13 +45,34 @@ public abstract class TextEmbeddingModel extends DLModel {
                 AsymmetricTextEmbeddingParameters params = (AsymmetricTextEmbeddingParameters) mlParams;
                 input.add(AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD, params.getSparseEmbeddingFormat().name());
             }
+            inputs.add(input);
+        }
 
-            output = getPredictor().predict(input);
-            tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
+        if (isBatchPredictSupported() && predictBatchSize > 1 && inputs.size() > 1) {
+            // Run one forward pass per batch, the translator pads each batch to its longest sequence.
+            for (int start = 0; start < inputs.size(); start += predictBatchSize) {
+                List<Input> batch = inputs.subList(start, Math.min(start + predictBatchSize, inputs.size()));
+                for (Output output : withPredictor(predictor -> predictor.batchPredict(batch))) {
+                    tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
+                }
+            }
+        } else {
+            for (Input input : inputs) {
+                Output output = withPredictor(predictor -> predictor.predict(input));
+                tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
+            }
         }
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    /**
+     * Whether the translators of this model can run several docs in one padded batch.
+     * @return true if docs can be predicted with {@link Predictor#batchPredict}
+     */
+    protected boolean isBatchPredictSupported() {
+        return false;
+    }
+
     protected boolean isAsymmetricModel(MLAlgoParams mlParams) {
         if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
             // Check for the necessary prefixes in modelConfig
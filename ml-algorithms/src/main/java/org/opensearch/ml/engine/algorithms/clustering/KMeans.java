@@ -26,6 +26,7 @@ import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.ModelObjectCache;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import org.tribuo.MutableDataset;
@@ -118,10 +119,15 @@ public class KMeans implements TrainAndPredictable {
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
+        return predict(mlInput, model, null);
+    }
+
+    @Override
+    public MLOutput predict(MLInput mlInput, MLModel model, ModelObjectCache modelObjectCache) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for KMeans prediction.");
         }
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model, modelObjectCache);
         return predict(mlInput);
     }
 
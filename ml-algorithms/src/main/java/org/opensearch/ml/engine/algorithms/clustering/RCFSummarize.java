@@ -30,6 +30,7 @@ import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.utils.MathUtil;
+import org.opensearch.ml.engine.utils.ModelObjectCache;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 
@@ -186,11 +187,16 @@ public class RCFSummarize implements TrainAndPredictable {
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
+        return predict(mlInput, model, null);
+    }
+
+    @Override
+    public MLOutput predict(MLInput mlInput, MLModel model, ModelObjectCache modelObjectCache) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for RCFSummarize prediction.");
         }
 
-        summary = ((SerializableSummary) ModelSerDeSer.deserialize(model)).getSummary();
+        summary = ((SerializableSummary) ModelSerDeSer.deserialize(model, modelObjectCache)).getSummary();
         return predict(mlInput);
     }
 
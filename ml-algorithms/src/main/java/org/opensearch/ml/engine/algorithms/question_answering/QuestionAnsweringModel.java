@@ -110,7 +110,7 @@ public class QuestionAnsweringModel extends DLModel {
         input.add(context);
 
         try {
-            Output output = getPredictor().predict(input);
+            Output output = withPredictor(predictor -> predictor.predict(input));
             ModelTensors tensors = parseModelTensorOutput(output, null);
             return new ModelTensorOutput(List.of(tensors));
         } catch (Exception e) {
@@ -154,7 +154,7 @@ public class QuestionAnsweringModel extends DLModel {
 
         // Use batchPredict to process the chunk for complete results, predict only return the first result which can cause loss of relevant
         // results
-        List<Output> outputs = getPredictor().batchPredict(List.of(chunkInput));
+        List<Output> outputs = withPredictor(predictor -> predictor.batchPredict(List.of(chunkInput)));
 
         if (outputs.isEmpty()) {
             return;
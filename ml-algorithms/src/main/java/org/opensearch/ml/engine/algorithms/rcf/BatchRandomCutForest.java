@@ -16,7 +16,7 @@ import java.util.Optional;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
-import org.opensearch.ml.common.dataframe.ColumnValue;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.common.dataframe.Row;
@@ -30,6 +30,7 @@ import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.ModelObjectCache;
 
 import com.amazon.randomcutforest.RandomCutForest;
 import com.amazon.randomcutforest.state.RandomCutForestMapper;
@@ -98,10 +99,15 @@ public class BatchRandomCutForest implements TrainAndPredictable {
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
+        return predict(mlInput, model, null);
+    }
+
+    @Override
+    public MLOutput predict(MLInput mlInput, MLModel model, ModelObjectCache modelObjectCache) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for batch RCF prediction.");
         }
-        RandomCutForestState state = RCFModelSerDeSer.deserializeRCF(model);
+        RandomCutForestState state = RCFModelSerDeSer.deserializeRCF(model, modelObjectCache);
         forest = rcfMapper.toModel(state);
         return predict(mlInput);
     }
@@ -135,18 +141,22 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     }
 
     private List<Map<String, Object>> process(DataFrame dataFrame, RandomCutForest forest, Integer actualTrainingDataSize) {
-        List<Double> pointList = new ArrayList<>();
         ColumnMeta[] columnMetas = dataFrame.columnMetas();
         List<Map<String, Object>> predictResult = new ArrayList<>();
 
         for (int rowNum = 0; rowNum < dataFrame.size(); rowNum++) {
-            for (int i = 0; i < columnMetas.length; i++) {
+            double[] point = new double[columnMetas.length];
+            if (dataFrame instanceof ColumnarDataFrame) {
+                ColumnarDataFrame columnarDataFrame = (ColumnarDataFrame) dataFrame;
+                for (int i = 0; i < columnMetas.length; i++) {
+                    point[i] = columnarDataFrame.getDouble(rowNum, i);
+                }
+            } else {
                 Row row = dataFrame.getRow(rowNum);
-                ColumnValue value = row.getValue(i);
-                pointList.add(value.doubleValue());
+                for (int i = 0; i < columnMetas.length; i++) {
+                    point[i] = row.getValue(i).doubleValue();
+                }
             }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
             double anomalyScore = forest.getAnomalyScore(point);
             if (actualTrainingDataSize == null || rowNum < actualTrainingDataSize) {
                 forest.update(point);
@@ -11,6 +11,7 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.engine.utils.ModelObjectCache;
 
 import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
 import com.amazon.randomcutforest.state.RandomCutForestState;
@@ -44,6 +45,14 @@ public class RCFModelSerDeSer {
         return deserializeRCF(decodeBase64(model.getContent()));
     }
 
+    public static RandomCutForestState deserializeRCF(MLModel model, ModelObjectCache modelObjectCache) {
+        if (modelObjectCache == null) {
+            return deserializeRCF(model);
+        }
+        // batch RCF only reads the state to build a new forest, so the state can be shared
+        return modelObjectCache.get(model, m -> deserializeRCF(decodeBase64(m.getContent())));
+    }
+
     public static RandomCutForestState deserializeRCF(byte[] bytes) {
         return deserialize(bytes, rcfSchema);
     }
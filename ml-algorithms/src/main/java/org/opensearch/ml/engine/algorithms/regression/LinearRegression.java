@@ -29,6 +29,7 @@ import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.ModelObjectCache;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import org.tribuo.MutableDataset;
@@ -239,11 +240,16 @@ public class LinearRegression implements Trainable, Predictable {
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
+        return predict(mlInput, model, null);
+    }
+
+    @Override
+    public MLOutput predict(MLInput mlInput, MLModel model, ModelObjectCache modelObjectCache) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for linear regression prediction.");
         }
 
-        regressionModel = (org.tribuo.Model<Regressor>) ModelSerDeSer.deserialize(model);
+        regressionModel = (org.tribuo.Model<Regressor>) ModelSerDeSer.deserialize(model, modelObjectCache);
         return predict(mlInput);
     }
 
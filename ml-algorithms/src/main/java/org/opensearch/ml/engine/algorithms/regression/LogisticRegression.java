@@ -29,6 +29,7 @@ import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.ModelObjectCache;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import org.tribuo.MutableDataset;
@@ -236,11 +237,16 @@ public class LogisticRegression implements Trainable, Predictable {
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
+        return predict(mlInput, model, null);
+    }
+
+    @Override
+    public MLOutput predict(MLInput mlInput, MLModel model, ModelObjectCache modelObjectCache) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for logistic regression prediction.");
         }
 
-        classificationModel = (org.tribuo.Model<Label>) ModelSerDeSer.deserialize(model);
+        classificationModel = (org.tribuo.Model<Label>) ModelSerDeSer.deserialize(model, modelObjectCache);
         return predict(mlInput);
     }
 }
@@ -28,6 +28,8 @@ import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 @Getter
 public abstract class AbstractConnectorExecutor implements RemoteConnectorExecutor {
     private ConnectorClientConfig connectorClientConfig;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private SubRequestWindow subRequestWindow;
 
     protected final AtomicReference<SdkAsyncHttpClient> httpClientRef = new AtomicReference<>();
 
@@ -37,6 +39,10 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
         } else {
             connectorClientConfig = new ConnectorClientConfig();
         }
+        Integer maxConnections = connectorClientConfig.getMaxConnections();
+        int maxLimit = maxConnections == null ? ConnectorClientConfig.MAX_CONNECTION_DEFAULT_VALUE : maxConnections;
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(maxLimit);
+        subRequestWindow = new SubRequestWindow(maxLimit);
     }
 
     /**
@@ -84,8 +90,8 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
     }
 
     /**
-     * Closes the underlying HTTP client. Safe to call concurrently — NettyNioAsyncHttpClient.close()
-     * gracefully drains in-flight requests before shutting down the event loop group.
+     * Closes the underlying HTTP client. Safe to call concurrently — the shared client behind it is
+     * closed once no connector executor uses it anymore, which drains its in-flight requests.
      */
     @Override
     public void close() {
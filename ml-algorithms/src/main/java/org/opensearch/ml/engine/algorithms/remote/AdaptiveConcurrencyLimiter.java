@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+
+/**
+ * AIMD limit of the requests a connector executor sends to its remote service at the same time.
+ * <p>
+ * The limit starts at the max connections of the connector. It grows by one per round trip of successful requests
+ * that use at least half of it, and is cut by {@link #BACKOFF_RATIO} when the remote service throttles a request,
+ * returns a 5xx status, or gets much slower than its long term latency. Requests which were already in flight when
+ * the limit was cut don't cut it again, so a burst of throttled responses only backs off once. Requests over the
+ * limit are rejected before they are sent, as throttled requests, so retries back off locally instead of adding
+ * load to a remote service which is already overloaded.
+ */
+public class AdaptiveConcurrencyLimiter {
+    static final int MIN_LIMIT = 1;
+    static final double BACKOFF_RATIO = 0.9;
+    // recent latency higher than this times the long term latency counts as overload
+    static final double LATENCY_TOLERANCE = 2.0;
+    static final double RECENT_LATENCY_SMOOTHING = 0.2;
+    static final double LONG_TERM_LATENCY_SMOOTHING = 0.01;
+
+    private static volatile boolean enabled = false;
+
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong throttledCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private volatile double limit;
+    // guarded by this
+    private double recentLatencyNanos;
+    private double longTermLatencyNanos;
+    private long generation;
+
+    public AdaptiveConcurrencyLimiter(int maxLimit) {
+        this.maxLimit = Math.max(maxLimit, MIN_LIMIT);
+        this.limit = this.maxLimit;
+    }
+
+    /**
+     * Enable or disable adaptive concurrency limiting of all remote connectors of this node.
+     * @param enabled whether to limit the concurrent requests of remote connectors
+     */
+    public static void setEnabled(boolean enabled) {
+        AdaptiveConcurrencyLimiter.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Acquire a permit to send a request.
+     * @return permit which must be completed with the outcome of the request, or null if the limit is reached
+     */
+    Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejectedCount.incrementAndGet();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(System.nanoTime(), getGeneration());
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private synchronized long getGeneration() {
+        return generation;
+    }
+
+    private synchronized void onSuccess(Permit permit, long latencyNanos, int inFlightBefore) {
+        if (longTermLatencyNanos == 0) {
+            recentLatencyNanos = latencyNanos;
+            longTermLatencyNanos = latencyNanos;
+        } else {
+            recentLatencyNanos += (latencyNanos - recentLatencyNanos) * RECENT_LATENCY_SMOOTHING;
+            longTermLatencyNanos += (latencyNanos - longTermLatencyNanos) * LONG_TERM_LATENCY_SMOOTHING;
+        }
+        // a single slow response doesn't move the recent latency enough, only a sustained slowdown does
+        if (recentLatencyNanos > longTermLatencyNanos * LATENCY_TOLERANCE) {
+            backOff(permit);
+        } else if (inFlightBefore * 2 >= limit) {
+            // only grow when the limit is actually used, so an idle connector doesn't build up a limit it can't sustain
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    private synchronized void onDropped(Permit permit) {
+        throttledCount.incrementAndGet();
+        backOff(permit);
+    }
+
+    private void backOff(Permit permit) {
+        if (permit.generation == generation) {
+            limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+            generation++;
+        }
+    }
+
+    /**
+     * Whether the failure shows the remote service is overloaded.
+     */
+    static boolean isOverloaded(Exception e) {
+        Throwable cause = ExceptionsHelper.unwrapCause(e);
+        if (cause instanceof RemoteConnectorThrottlingException) {
+            return true;
+        }
+        return cause instanceof OpenSearchStatusException && ((OpenSearchStatusException) cause).status().getStatus() >= 500;
+    }
+
+    /**
+     * Permit of one request sent to the remote service.
+     */
+    class Permit {
+        private final long startNanos;
+        private final long generation;
+
+        private Permit(long startNanos, long generation) {
+            this.startNanos = startNanos;
+            this.generation = generation;
+        }
+
+        void onResponse() {
+            onResponse(System.nanoTime() - startNanos);
+        }
+
+        void onResponse(long latencyNanos) {
+            int inFlightBefore = inFlight.getAndDecrement();
+            onSuccess(this, latencyNanos, inFlightBefore);
+        }
+
+        void onFailure(Exception e) {
+            inFlight.decrementAndGet();
+            if (isOverloaded(e)) {
+                onDropped(this);
+            }
+        }
+    }
+}
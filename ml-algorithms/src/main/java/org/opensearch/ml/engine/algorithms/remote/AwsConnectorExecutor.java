@@ -216,18 +216,12 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
                     super.getConnectorClientConfig().getConnectionTimeout(),
                     super.getConnectorClientConfig().getReadTimeout()
                 );
-            this.httpClientRef
-                .compareAndSet(
-                    null,
-                    MLHttpClientFactory
-                        .getAsyncHttpClient(
-                            connectionTimeout,
-                            readTimeout,
-                            maxConnection,
-                            connectorPrivateIpEnabled,
-                            skipSslVerificationValue
-                        )
-                );
+            SdkAsyncHttpClient httpClient = MLHttpClientFactory
+                .getAsyncHttpClient(connectionTimeout, readTimeout, maxConnection, connectorPrivateIpEnabled, skipSslVerificationValue);
+            if (!this.httpClientRef.compareAndSet(null, httpClient)) {
+                // release the shared http client if another thread created the client first
+                httpClient.close();
+            }
         }
         return httpClientRef.get();
     }
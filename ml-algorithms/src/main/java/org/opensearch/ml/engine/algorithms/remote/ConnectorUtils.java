@@ -19,6 +19,7 @@ import static org.opensearch.ml.common.utils.StringUtils.gson;
 import static org.opensearch.ml.common.utils.StringUtils.processTextDoc;
 import static org.opensearch.ml.common.utils.StringUtils.processTextDocs;
 import static org.opensearch.ml.common.utils.ToolUtils.NO_ESCAPE_PARAMS;
+import static org.opensearch.ml.engine.processor.ProcessorChain.OUTPUT_PROCESSORS;
 import static org.opensearch.ml.engine.utils.ScriptUtils.executePostProcessFunction;
 
 import java.io.IOException;
@@ -36,6 +37,9 @@ import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringSubstitutor;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
@@ -248,8 +252,13 @@ public class ConnectorUtils {
             if (StringUtils.isBlank(responseFilter)) {
                 responseFilter = MLPostProcessFunction.getResponseFilter(postProcessFunction);
             }
-            Object filteredOutput = JsonPath.read(modelResponse, responseFilter);
             MLResultDataType dataType = parseMLResultDataTypeFromResponseFilter(responseFilter);
+            List<ModelTensor> extractedResponse = EmbeddingResponseExtractor
+                .extract(modelResponse, responseFilter, postProcessFunction, dataType);
+            if (extractedResponse != null) {
+                return ModelTensors.builder().mlModelTensors(extractedResponse).build();
+            }
+            Object filteredOutput = JsonPath.read(modelResponse, responseFilter);
             List<ModelTensor> processedResponse = MLPostProcessFunction.get(postProcessFunction).apply(filteredOutput, dataType);
             return ModelTensors.builder().mlModelTensors(processedResponse).build();
         }
@@ -257,17 +266,23 @@ public class ConnectorUtils {
         // execute user defined painless script.
         Optional<String> processedResponse = executePostProcessFunction(scriptService, postProcessFunction, modelResponse);
         String response = processedResponse.orElse(modelResponse);
-        boolean scriptReturnModelTensor = postProcessFunction != null
-            && processedResponse.isPresent()
-            && org.opensearch.ml.common.utils.StringUtils.isJson(response);
+        boolean scriptReturnResponse = postProcessFunction != null && processedResponse.isPresent();
 
         // Apply output processor chain if configured
         Object processedOutput;
         // Apply output processor chain if configured
-        List<Map<String, Object>> processorConfigs = ProcessorChain.extractProcessorConfigs(parameters);
-        if (!processorConfigs.isEmpty()) {
-            ProcessorChain processorChain = new ProcessorChain(processorConfigs);
-
+        ProcessorChain processorChain = ProcessorChain.getProcessorChain(parameters, OUTPUT_PROCESSORS);
+        if (scriptReturnResponse && responseFilter == null && !processorChain.hasProcessors()) {
+            // parse the model tensors returned by the script in one pass instead of validating the JSON first
+            List<ModelTensor> scriptModelTensors = parseModelTensors(response);
+            if (scriptModelTensors != null) {
+                return ModelTensors.builder().mlModelTensors(scriptModelTensors).build();
+            }
+            connector.parseResponse(response, modelTensors, false);
+            return ModelTensors.builder().mlModelTensors(modelTensors).build();
+        }
+        boolean scriptReturnModelTensor = scriptReturnResponse && org.opensearch.ml.common.utils.StringUtils.isJson(response);
+        if (processorChain.hasProcessors()) {
             if (responseFilter != null) {
                 // Apply filter first, then processor chain
                 Object filteredResponse = JsonPath.parse(response).read(responseFilter);
@@ -291,6 +306,35 @@ public class ConnectorUtils {
         return ModelTensors.builder().mlModelTensors(modelTensors).build();
     }
 
+    /**
+     * Parse the model tensors returned by a post process function.
+     * @param response post process function output
+     * @return model tensors, or null if the output is not a JSON object or array
+     */
+    private static List<ModelTensor> parseModelTensors(String response) throws IOException {
+        String json = response.strip();
+        if (!json.startsWith("{") && !json.startsWith("[")) {
+            return null;
+        }
+        List<ModelTensor> modelTensors = new ArrayList<>();
+        try (XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY, null, json)) {
+            if (parser.nextToken() == XContentParser.Token.START_ARRAY) {
+                while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                    modelTensors.add(ModelTensor.parser(parser));
+                }
+            } else {
+                modelTensors.add(ModelTensor.parser(parser));
+            }
+            if (parser.nextToken() != null) {
+                return null;
+            }
+        } catch (IOException e) {
+            // not valid JSON, the output is a plain response
+            return null;
+        }
+        return modelTensors;
+    }
+
     private static MLResultDataType parseMLResultDataTypeFromResponseFilter(String responseFilter) {
         for (MLResultDataType type : MLResultDataType.values()) {
             if (StringUtils.containsIgnoreCase(responseFilter, "." + type.name())) {
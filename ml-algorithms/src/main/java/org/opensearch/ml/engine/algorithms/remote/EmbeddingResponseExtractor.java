@@ -0,0 +1,217 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.connector.functions.postprocess.BedrockEmbeddingPostProcessFunction;
+import org.opensearch.ml.common.connector.functions.postprocess.EmbeddingPostProcessFunction;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Extracts embeddings of the built-in embedding post process functions from a remote model response with a
+ * streaming parser. Only the values on the response filter path are read, and the numbers of each embedding are
+ * decoded straight into a primitive array, so large embedding batches are not materialized as JSON maps and lists
+ * of boxed numbers.
+ * <p>
+ * Response filters made of field names and [*] wildcards are supported, e.g. "$.data[*].embedding". For other
+ * filters, post process functions and responses which don't have the expected shape, null is returned and the
+ * caller falls back to JsonPath and the post process function, which also reports any error.
+ */
+@Log4j2
+class EmbeddingResponseExtractor {
+    private static final String EMBEDDING_NAME = "sentence_embedding";
+    private static final Pattern SIMPLE_PATH_PATTERN = Pattern.compile("\\$((\\.\\w+)|(\\[\\*]))*");
+    private static final Pattern PATH_SEGMENT_PATTERN = Pattern.compile("\\.(\\w+)|\\[\\*]");
+    // null segment stands for a [*] wildcard
+    private static final String WILDCARD = null;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final List<String> path;
+    private final boolean floating;
+    private final List<Object> embeddings = new ArrayList<>();
+    private float[] floatBuffer;
+    private int[] intBuffer;
+
+    private EmbeddingResponseExtractor(List<String> path, boolean floating) {
+        this.path = path;
+        this.floating = floating;
+    }
+
+    /**
+     * Extract the embeddings of a built-in embedding post process function from the model response.
+     * @param modelResponse model response
+     * @param responseFilter response filter
+     * @param postProcessFunction built-in post process function
+     * @param dataType data type parsed from the response filter, FLOAT32 if null
+     * @return model tensors, or null if the embeddings can't be extracted by streaming
+     */
+    static List<ModelTensor> extract(String modelResponse, String responseFilter, String postProcessFunction, MLResultDataType dataType) {
+        BiFunction<Object, MLResultDataType, List<ModelTensor>> function = MLPostProcessFunction.get(postProcessFunction);
+        boolean batch;
+        if (function instanceof EmbeddingPostProcessFunction) {
+            batch = true;
+        } else if (function instanceof BedrockEmbeddingPostProcessFunction) {
+            batch = false;
+        } else {
+            return null;
+        }
+        MLResultDataType resultDataType = dataType == null ? MLResultDataType.FLOAT32 : dataType;
+        // float64 embeddings are kept as boxed doubles, binary embeddings have no primitive storage
+        boolean floating = resultDataType == MLResultDataType.FLOAT32 || resultDataType == MLResultDataType.FLOAT16;
+        if (!floating && !resultDataType.isInteger()) {
+            return null;
+        }
+        List<String> path = parsePath(responseFilter);
+        if (path == null) {
+            return null;
+        }
+        boolean wildcard = path.contains(WILDCARD);
+        if (!batch && wildcard) {
+            return null;
+        }
+
+        EmbeddingResponseExtractor extractor = new EmbeddingResponseExtractor(path, floating);
+        try (
+            XContentParser parser = XContentType.JSON
+                .xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, modelResponse)
+        ) {
+            // a definite path to a batch must point to an array of embeddings
+            int depth = batch && !wildcard ? 2 : 1;
+            if (parser.nextToken() == null || !extractor.match(parser, 0, depth) || parser.nextToken() != null) {
+                return null;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to extract embeddings by streaming, falling back to JsonPath", e);
+            return null;
+        }
+        if (!batch && extractor.embeddings.size() != 1) {
+            return null;
+        }
+        List<ModelTensor> modelTensors = new ArrayList<>(extractor.embeddings.size());
+        for (Object embedding : extractor.embeddings) {
+            ModelTensor.ModelTensorBuilder builder = ModelTensor.builder().name(EMBEDDING_NAME).dataType(resultDataType);
+            if (floating) {
+                float[] floatData = (float[]) embedding;
+                builder.shape(new long[] { floatData.length }).floatData(floatData);
+            } else {
+                int[] intData = (int[]) embedding;
+                builder.shape(new long[] { intData.length }).intData(intData);
+            }
+            modelTensors.add(builder.build());
+        }
+        return modelTensors;
+    }
+
+    private static List<String> parsePath(String responseFilter) {
+        if (responseFilter == null || !SIMPLE_PATH_PATTERN.matcher(responseFilter).matches()) {
+            return null;
+        }
+        List<String> path = new ArrayList<>();
+        Matcher matcher = PATH_SEGMENT_PATTERN.matcher(responseFilter);
+        while (matcher.find()) {
+            path.add(matcher.group(1));
+        }
+        return path;
+    }
+
+    /**
+     * Match the value at the current token against the path from the segment index. The parser is left on the last
+     * token of the value.
+     */
+    private boolean match(XContentParser parser, int index, int depth) throws IOException {
+        if (index == path.size()) {
+            return depth == 2 ? readEmbeddings(parser) : readEmbedding(parser);
+        }
+        String segment = path.get(index);
+        if (segment == WILDCARD) {
+            if (parser.currentToken() != XContentParser.Token.START_ARRAY) {
+                return false;
+            }
+            while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                if (!match(parser, index + 1, depth)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (parser.currentToken() != XContentParser.Token.START_OBJECT) {
+            return false;
+        }
+        boolean found = false;
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (segment.equals(fieldName)) {
+                if (found || !match(parser, index + 1, depth)) {
+                    return false;
+                }
+                found = true;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return found;
+    }
+
+    private boolean readEmbeddings(XContentParser parser) throws IOException {
+        if (parser.currentToken() != XContentParser.Token.START_ARRAY) {
+            return false;
+        }
+        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+            if (!readEmbedding(parser)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean readEmbedding(XContentParser parser) throws IOException {
+        if (parser.currentToken() != XContentParser.Token.START_ARRAY) {
+            return false;
+        }
+        int size = 0;
+        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+            if (parser.currentToken() != XContentParser.Token.VALUE_NUMBER) {
+                return false;
+            }
+            if (floating) {
+                if (floatBuffer == null || size == floatBuffer.length) {
+                    floatBuffer = floatBuffer == null ? new float[INITIAL_BUFFER_SIZE] : Arrays.copyOf(floatBuffer, size * 2);
+                }
+                floatBuffer[size++] = parser.floatValue();
+            } else {
+                if (parser.numberType() != XContentParser.NumberType.INT) {
+                    return false;
+                }
+                if (intBuffer == null || size == intBuffer.length) {
+                    intBuffer = intBuffer == null ? new int[INITIAL_BUFFER_SIZE] : Arrays.copyOf(intBuffer, size * 2);
+                }
+                intBuffer[size++] = parser.intValue();
+            }
+        }
+        if (size == 0) {
+            return false;
+        }
+        embeddings.add(floating ? Arrays.copyOf(floatBuffer, size) : Arrays.copyOf(intBuffer, size));
+        return true;
+    }
+}
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ExceptionsHelper;
@@ -30,6 +31,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
@@ -101,24 +103,35 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
                     tensorActionListener,
                     calculatedChunkSize.v1()
                 );
-                int sequence = 0;
-                for (int processedDocs = 0; processedDocs < textDocsInputDataSet.getDocs().size(); processedDocs += calculatedChunkSize
-                    .v2()) {
+                int stepSize = calculatedChunkSize.v2();
+                // sub-requests started when others complete run on the response thread, so they restore the request context
+                Supplier<ThreadContext.StoredContext> requestContext = getClient()
+                    .threadPool()
+                    .getThreadContext()
+                    .newRestorableContext(false);
+                SubRequestWindow subRequestWindow = getSubRequestWindow();
+                if (subRequestWindow == null) {
+                    subRequestWindow = new SubRequestWindow(getMaxConcurrentSubRequests());
+                }
+                subRequestWindow.run(calculatedChunkSize.v1(), (sequence, subRequestListener) -> {
+                    int processedDocs = sequence * stepSize;
                     List<String> textDocs = textDocsInputDataSet
                         .getDocs()
-                        .subList(processedDocs, Math.min(processedDocs + calculatedChunkSize.v2(), textDocsInputDataSet.getDocs().size()));
-                    preparePayloadAndInvoke(
-                        action,
-                        MLInput
-                            .builder()
-                            .algorithm(FunctionName.TEXT_EMBEDDING)
-                            .parameters(mlInput.getParameters())
-                            .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
-                            .build(),
-                        new ExecutionContext(sequence++),
-                        groupedActionListener
-                    );
-                }
+                        .subList(processedDocs, Math.min(processedDocs + stepSize, textDocsInputDataSet.getDocs().size()));
+                    try (ThreadContext.StoredContext ignored = requestContext.get()) {
+                        preparePayloadAndInvoke(
+                            action,
+                            MLInput
+                                .builder()
+                                .algorithm(FunctionName.TEXT_EMBEDDING)
+                                .parameters(mlInput.getParameters())
+                                .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
+                                .build(),
+                            new ExecutionContext(sequence),
+                            subRequestListener
+                        );
+                    }
+                }, groupedActionListener);
             } else {
                 preparePayloadAndInvoke(action, mlInput, new ExecutionContext(0), new GroupedActionListener<>(tensorActionListener, 1));
             }
@@ -127,6 +140,19 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
         }
     }
 
+    /**
+     * Get the max number of sub-requests of a split prediction sent to the remote service at the same time, which is
+     * bounded by the max connections of the connector.
+     * @return max concurrent sub-requests
+     */
+    private int getMaxConcurrentSubRequests() {
+        ConnectorClientConfig connectorClientConfig = getConnectorClientConfig();
+        if (connectorClientConfig == null || connectorClientConfig.getMaxConnections() == null) {
+            return ConnectorClientConfig.MAX_CONNECTION_DEFAULT_VALUE;
+        }
+        return connectorClientConfig.getMaxConnections();
+    }
+
     /**
      * Calculate the chunk size.
      * @param textDocsInputDataSet Input dataset in textDocsInputDataSet format.
@@ -198,6 +224,17 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
 
     default void setMlGuard(MLGuard mlGuard) {}
 
+    default AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return null;
+    }
+
+    /**
+     * Get the window shared by the split predictions of this executor, or null to bound each prediction on its own.
+     */
+    default SubRequestWindow getSubRequestWindow() {
+        return null;
+    }
+
     default void preparePayloadAndInvoke(
         String action,
         MLInput mlInput,
@@ -248,9 +285,8 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
         parameters.putAll(inputParameters);
         String payload = connector.createPayload(action, parameters);
 
-        List<Map<String, Object>> processorConfigs = ProcessorChain.extractProcessorConfigs(parameters, INPUT_PROCESSORS);
-        if (!processorConfigs.isEmpty()) {
-            ProcessorChain processorChain = new ProcessorChain(processorConfigs);
+        ProcessorChain processorChain = ProcessorChain.getProcessorChain(parameters, INPUT_PROCESSORS);
+        if (processorChain.hasProcessors()) {
             payload = StringUtils.toJson(processorChain.process(payload));
         }
 
@@ -301,7 +337,7 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
             } else if (getConnectorClientConfig().getMaxRetryTimes() != 0) {
                 invokeRemoteServiceWithRetry(action, mlInput, parameters, payload, executionContext, actionListener);
             } else {
-                invokeRemoteService(action, mlInput, parameters, payload, executionContext, actionListener);
+                invokeRemoteServiceWithinConcurrencyLimit(action, mlInput, parameters, payload, executionContext, actionListener);
             }
         }
     }
@@ -365,6 +401,44 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
         invokeRemoteModelAction.run();
     };
 
+    /**
+     * Invoke the remote service if the adaptive concurrency limit of the connector allows another request in flight,
+     * and report the outcome of the request back to the limit. Requests over the limit fail as throttled requests.
+     */
+    default void invokeRemoteServiceWithinConcurrencyLimit(
+        String action,
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ExecutionContext executionContext,
+        ActionListener<Tuple<Integer, ModelTensors>> actionListener
+    ) {
+        AdaptiveConcurrencyLimiter concurrencyLimiter = getConcurrencyLimiter();
+        if (concurrencyLimiter == null || !AdaptiveConcurrencyLimiter.isEnabled()) {
+            invokeRemoteService(action, mlInput, parameters, payload, executionContext, actionListener);
+            return;
+        }
+        AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire();
+        if (permit == null) {
+            getLogger().debug("Request is throttled by the concurrency limit {} of the connector", concurrencyLimiter.getLimit());
+            actionListener
+                .onFailure(
+                    new RemoteConnectorThrottlingException(
+                        "Request is throttled by the concurrency limit of the remote connector.",
+                        RestStatus.TOO_MANY_REQUESTS
+                    )
+                );
+            return;
+        }
+        invokeRemoteService(action, mlInput, parameters, payload, executionContext, ActionListener.wrap(response -> {
+            permit.onResponse();
+            actionListener.onResponse(response);
+        }, e -> {
+            permit.onFailure(e);
+            actionListener.onFailure(e);
+        }));
+    }
+
     void invokeRemoteService(
         String action,
         MLInput mlInput,
@@ -405,7 +479,14 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
             // the listener here is RetryingListener
             // If the request success, or can not retry, will call delegate listener
             args.connectionExecutor
-                .invokeRemoteService(args.action, args.mlInput, args.parameters, args.payload, args.executionContext, listener);
+                .invokeRemoteServiceWithinConcurrencyLimit(
+                    args.action,
+                    args.mlInput,
+                    args.parameters,
+                    args.payload,
+                    args.executionContext,
+                    listener
+                );
         }
 
         @Override
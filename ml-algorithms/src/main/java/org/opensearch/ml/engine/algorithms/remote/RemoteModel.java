@@ -61,6 +61,15 @@ public class RemoteModel implements Predictable {
         return this.connectorExecutor;
     }
 
+    /**
+     * Get the adaptive concurrency limiter of the connector of this model.
+     * @return concurrency limiter, or null if the model is not deployed
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        RemoteConnectorExecutor executor = this.connectorExecutor;
+        return executor == null ? null : executor.getConcurrencyLimiter();
+    }
+
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
         throw new IllegalArgumentException(
@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import org.opensearch.core.action.ActionListener;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Runs the sub-requests of split predictions with a bounded number of them in flight. A connector executor shares one
+ * window across all its predictions, so concurrent predictions together stay within the max connections of the
+ * connector. A sub-request is started when a previous one completes, so a large batch of documents waits here instead
+ * of being sent to the remote service all at once. Sub-requests start in the order they were submitted. Each
+ * sub-request completes after its own retries, and once one of them fails the remaining ones of the same prediction
+ * are not sent but completed with the same failure.
+ */
+@Log4j2
+class SubRequestWindow {
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    // number of requests to drain the queue, the thread which increments it from 0 starts the queued sub-requests
+    private final AtomicInteger toDrain = new AtomicInteger();
+
+    /**
+     * @param maxInFlight max number of sub-requests in flight
+     */
+    SubRequestWindow(int maxInFlight) {
+        this.maxInFlight = Math.max(maxInFlight, 1);
+    }
+
+    /**
+     * Run the sub-requests of a prediction.
+     * @param count number of sub-requests
+     * @param subRequest sub-request by index, which must complete the given listener
+     * @param listener listener completed once by every sub-request, e.g. a grouped action listener
+     */
+    <T> void run(int count, BiConsumer<Integer, ActionListener<T>> subRequest, ActionListener<T> listener) {
+        Prediction<T> prediction = new Prediction<>(subRequest, listener);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            queue.add(() -> prediction.start(index));
+        }
+        drain();
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    int getQueued() {
+        return queue.size();
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        // sub-requests completing on the draining thread only increment the counter, so they are started in this
+        // loop instead of recursively
+        if (toDrain.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            Runnable start;
+            while (inFlight.get() < maxInFlight && (start = queue.poll()) != null) {
+                inFlight.incrementAndGet();
+                try {
+                    start.run();
+                } catch (Exception e) {
+                    // thrown by a listener after its sub-request was released, the other sub-requests still have to start
+                    log.error("Failed to complete a sub-request", e);
+                }
+            }
+        } while (toDrain.decrementAndGet() != 0);
+    }
+
+    private class Prediction<T> {
+        private final BiConsumer<Integer, ActionListener<T>> subRequest;
+        private final ActionListener<T> listener;
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        Prediction(BiConsumer<Integer, ActionListener<T>> subRequest, ActionListener<T> listener) {
+            this.subRequest = subRequest;
+            this.listener = listener;
+        }
+
+        private void start(int index) {
+            Exception e = failure.get();
+            if (e != null) {
+                try {
+                    listener.onFailure(e);
+                } finally {
+                    release();
+                }
+                return;
+            }
+            // a sub-request is released once, even if its listener throws and the caller completes it again
+            AtomicBoolean completed = new AtomicBoolean();
+            ActionListener<T> subRequestListener = new ActionListener<>() {
+                @Override
+                public void onResponse(T response) {
+                    if (completed.compareAndSet(false, true)) {
+                        try {
+                            listener.onResponse(response);
+                        } finally {
+                            release();
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    if (completed.compareAndSet(false, true)) {
+                        fail(e);
+                    }
+                }
+            };
+            try {
+                subRequest.accept(index, subRequestListener);
+            } catch (Exception ex) {
+                subRequestListener.onFailure(ex);
+            }
+        }
+
+        private void fail(Exception e) {
+            failure.compareAndSet(null, e);
+            try {
+                listener.onFailure(e);
+            } finally {
+                release();
+            }
+        }
+    }
+}
@@ -10,12 +10,14 @@ import static org.opensearch.ml.common.agui.AGUIConstants.AGUI_PARAM_MESSAGE_ID;
 import static org.opensearch.ml.common.agui.AGUIConstants.AGUI_PARAM_TEXT_MESSAGE_STARTED;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -46,6 +48,11 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 import lombok.extern.log4j.Log4j2;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -108,6 +115,23 @@ import software.amazon.awssdk.services.s3.model.InvalidRequestException;
  */
 @Log4j2
 public class BedrockStreamingHandler extends BaseStreamingHandler {
+    private static final long MAX_CACHED_BEDROCK_CLIENTS = 100;
+    private static final long BEDROCK_CLIENT_EXPIRE_AFTER_ACCESS_IN_MINUTES = 10;
+
+    // Bedrock clients are reused by the streams of a connector. A client removed from the cache, because it isn't used
+    // for a while or too many clients are cached, is closed once its in-flight streams are finished.
+    // Closing a Bedrock client doesn't close the http client of the connector executor.
+    private static final Cache<BedrockClientKey, CachedBedrockClient> bedrockClients = CacheBuilder
+        .newBuilder()
+        .maximumSize(MAX_CACHED_BEDROCK_CLIENTS)
+        .expireAfterAccess(BEDROCK_CLIENT_EXPIRE_AFTER_ACCESS_IN_MINUTES, TimeUnit.MINUTES)
+        .removalListener((RemovalNotification<BedrockClientKey, CachedBedrockClient> notification) -> {
+            CachedBedrockClient client = notification.getValue();
+            if (client != null) {
+                client.evict();
+            }
+        })
+        .build();
 
     private final SdkAsyncHttpClient httpClient;
     private final AwsConnector connector;
@@ -168,9 +192,6 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
             AtomicReference<StreamState> currentState = new AtomicReference<>(StreamState.STREAMING_CONTENT);
             AtomicReference<Map<String, Object>> tokenUsage = new AtomicReference<>();
 
-            // Build Bedrock client
-            BedrockRuntimeAsyncClient bedrockClient = buildBedrockRuntimeAsyncClient();
-
             // Parse payload to build ConverseStreamRequest
             ConverseStreamRequest request = buildConverseStreamRequest(payload, parameters);
 
@@ -234,8 +255,14 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
                 );
             }).build();
 
-            // Start streaming
-            bedrockClient.converseStream(request, handler);
+            // Start streaming, the client is released once the stream is finished
+            CachedBedrockClient bedrockClient = acquireBedrockClient();
+            try {
+                bedrockClient.client().converseStream(request, handler).whenComplete((r, e) -> bedrockClient.release());
+            } catch (Exception e) {
+                bedrockClient.release();
+                throw e;
+            }
         } catch (Exception e) {
             log.error("Failed to execute Bedrock streaming", e);
             handleError(e, listener);
@@ -690,6 +717,40 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
         }
     }
 
+    private CachedBedrockClient acquireBedrockClient() {
+        BedrockClientKey key = new BedrockClientKey(
+            httpClient,
+            connector.getRegion(),
+            hashCredentials(connector.getAccessKey(), connector.getSecretKey(), connector.getSessionToken())
+        );
+        while (true) {
+            CachedBedrockClient client = bedrockClients
+                .asMap()
+                .computeIfAbsent(key, it -> new CachedBedrockClient(buildBedrockRuntimeAsyncClient()));
+            if (client.acquire()) {
+                return client;
+            }
+            // evicted after the lookup, the next lookup builds a new client
+            bedrockClients.asMap().remove(key, client);
+        }
+    }
+
+    /**
+     * Hash the credentials of the connector, so the cache key doesn't hold the secrets.
+     */
+    @VisibleForTesting
+    static String hashCredentials(String accessKey, String secretKey, String sessionToken) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String credential : new String[] { accessKey, secretKey, sessionToken }) {
+            if (credential == null) {
+                hasher.putInt(-1);
+            } else {
+                hasher.putInt(credential.length()).putString(credential, StandardCharsets.UTF_8);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
     private BedrockRuntimeAsyncClient buildBedrockRuntimeAsyncClient() {
         return java.security.AccessController.doPrivileged((java.security.PrivilegedAction<BedrockRuntimeAsyncClient>) () -> {
             AwsCredentialsProvider awsCredentialsProvider = connector.getSessionToken() != null
@@ -907,4 +968,59 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
 
         return builder.build();
     }
+
+    private record BedrockClientKey(SdkAsyncHttpClient httpClient, String region, String credentialsHash) {}
+
+    /**
+     * Cached Bedrock client with the number of its in-flight streams. It's closed when it's evicted from the cache and
+     * all of its streams are finished.
+     */
+    @VisibleForTesting
+    static final class CachedBedrockClient {
+        private final BedrockRuntimeAsyncClient client;
+        private int streams;
+        private boolean evicted;
+
+        CachedBedrockClient(BedrockRuntimeAsyncClient client) {
+            this.client = client;
+        }
+
+        BedrockRuntimeAsyncClient client() {
+            return client;
+        }
+
+        /**
+         * Acquire the client for a stream.
+         * @return false if the client is evicted and can't be used anymore
+         */
+        synchronized boolean acquire() {
+            if (evicted) {
+                return false;
+            }
+            streams++;
+            return true;
+        }
+
+        void release() {
+            boolean close;
+            synchronized (this) {
+                streams--;
+                close = evicted && streams == 0;
+            }
+            if (close) {
+                client.close();
+            }
+        }
+
+        void evict() {
+            boolean close;
+            synchronized (this) {
+                evicted = true;
+                close = streams == 0;
+            }
+            if (close) {
+                client.close();
+            }
+        }
+    }
 }
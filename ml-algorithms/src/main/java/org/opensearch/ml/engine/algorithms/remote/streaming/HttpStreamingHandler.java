@@ -15,7 +15,6 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_INTERFACE
 import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
-import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -54,7 +53,7 @@ import okhttp3.sse.EventSources;
 public class HttpStreamingHandler extends BaseStreamingHandler {
 
     private final Connector connector;
-    private OkHttpClient okHttpClient;
+    private final OkHttpClient okHttpClient;
     private String llmInterface;
     private Map<String, String> parameters;
 
@@ -72,21 +71,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         this.llmInterface = llmInterface;
         this.parameters = parameters;
 
-        Duration connectionTimeout = Duration.ofSeconds(connectorClientConfig.getConnectionTimeout());
-        Duration readTimeout = Duration.ofSeconds(connectorClientConfig.getReadTimeout());
-
-        try {
-            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                this.okHttpClient = new OkHttpClient.Builder()
-                    .connectTimeout(connectionTimeout)
-                    .readTimeout(readTimeout)
-                    .retryOnConnectionFailure(true)
-                    .build();
-                return null;
-            });
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to build OkHttpClient", e);
-        }
+        this.okHttpClient = StreamingHttpClientPool.getClient(connectorClientConfig);
     }
 
     @Override
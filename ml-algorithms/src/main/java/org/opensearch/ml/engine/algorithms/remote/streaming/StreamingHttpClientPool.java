@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote.streaming;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.httpclient.MLHttpClientRegistry;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * Node level pool of the OkHttp clients used for SSE streaming of remote connectors.
+ * <p>
+ * Clients are cached by connector timeouts and all share one connection pool and dispatcher, so streaming
+ * requests reuse kept-alive connections and TLS sessions instead of building a new client per request. The
+ * dispatcher bounds the number of concurrent streams of the node and per host.
+ */
+public class StreamingHttpClientPool {
+    static final int MAX_IDLE_CONNECTIONS = 32;
+    static final long KEEP_ALIVE_DURATION_IN_MINUTES = 5;
+
+    private static final OkHttpClient baseClient = AccessController.doPrivileged((PrivilegedAction<OkHttpClient>) () -> {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MLHttpClientRegistry.DEFAULT_MAX_CONNECTIONS);
+        dispatcher.setMaxRequestsPerHost(MLHttpClientRegistry.DEFAULT_MAX_CONNECTIONS_PER_HOST);
+        return new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_DURATION_IN_MINUTES, TimeUnit.MINUTES))
+            .retryOnConnectionFailure(true)
+            .build();
+    });
+    private static final Map<ClientKey, OkHttpClient> clients = new ConcurrentHashMap<>();
+
+    private StreamingHttpClientPool() {}
+
+    /**
+     * Get the shared client for the timeouts of the connector client config.
+     * @param connectorClientConfig connector client config
+     * @return OkHttp client
+     */
+    public static OkHttpClient getClient(ConnectorClientConfig connectorClientConfig) {
+        ClientKey key = new ClientKey(
+            Duration.ofSeconds(connectorClientConfig.getConnectionTimeout()),
+            Duration.ofSeconds(connectorClientConfig.getReadTimeout())
+        );
+        return clients
+            .computeIfAbsent(
+                key,
+                it -> AccessController
+                    .doPrivileged(
+                        (PrivilegedAction<OkHttpClient>) () -> baseClient
+                            .newBuilder()
+                            .connectTimeout(it.connectionTimeout())
+                            .readTimeout(it.readTimeout())
+                            .build()
+                    )
+            );
+    }
+
+    /**
+     * Set the max number of concurrent streaming requests of this node.
+     * @param maxRequests max concurrent streaming requests
+     */
+    public static void setMaxRequests(int maxRequests) {
+        baseClient.dispatcher().setMaxRequests(maxRequests);
+    }
+
+    /**
+     * Set the max number of concurrent streaming requests to one remote host.
+     * @param maxRequestsPerHost max concurrent streaming requests per host
+     */
+    public static void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        baseClient.dispatcher().setMaxRequestsPerHost(maxRequestsPerHost);
+    }
+
+    private record ClientKey(Duration connectionTimeout, Duration readTimeout) {}
+}
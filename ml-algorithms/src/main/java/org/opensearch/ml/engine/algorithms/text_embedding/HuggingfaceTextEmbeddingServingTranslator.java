@@ -7,6 +7,7 @@ package org.opensearch.ml.engine.algorithms.text_embedding;
 
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -48,21 +49,45 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
         return translator.processInput(ctx, text);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) throws Exception {
+        List<String> texts = new ArrayList<>(inputs.size());
+        for (Input input : inputs) {
+            texts.add(input.getData().getAsString());
+        }
+        return translator.batchProcessInput(ctx, texts);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) throws Exception {
-        float[] ret = translator.processOutput(ctx, list);
-        Number[] data = new Float[ret.length];
-        for (int i = 0; i < ret.length; i++) {
-            data[i] = ret[i];
+        return toOutput(translator.processOutput(ctx, list));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Output> batchProcessOutput(TranslatorContext ctx, NDList list) throws Exception {
+        List<float[]> embeddings = translator.batchProcessOutput(ctx, list);
+        List<Output> outputs = new ArrayList<>(embeddings.size());
+        for (float[] embedding : embeddings) {
+            outputs.add(toOutput(embedding));
         }
+        return outputs;
+    }
+
+    private Output toOutput(float[] ret) {
         long[] shape = new long[] { 1, ret.length };
         ModelTensor tensor = ModelTensor
             .builder()
             .name(SENTENCE_EMBEDDING)
-            .data(data)
+            .floatData(ret)
             .shape(shape)
             .dataType(MLResultDataType.FLOAT32)
             .build();
@@ -12,7 +12,11 @@
  */
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
+import static org.opensearch.ml.engine.algorithms.text_embedding.PaddedBatchEncoding.BATCH_ENCODING;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import ai.djl.huggingface.tokenizers.Encoding;
@@ -75,6 +79,21 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
         return ndList;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<String> inputs) {
+        NDManager manager = ctx.getNDManager();
+        PaddedBatchEncoding batchEncoding = new PaddedBatchEncoding(tokenizer, inputs);
+        ctx.setAttachment(BATCH_ENCODING, batchEncoding);
+        NDList ndList = new NDList(3);
+        ndList.add(batchEncoding.getIdsArray(manager));
+        ndList.add(batchEncoding.getAttentionMaskArray(manager));
+        if (inputTokenTypeIds) {
+            ndList.add(batchEncoding.getTypeIdsArray(manager));
+        }
+        return ndList;
+    }
+
     /** {@inheritDoc} */
     @Override
     public float[] processOutput(TranslatorContext ctx, NDList list) {
@@ -83,8 +102,25 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
             embeddings = list.get(0);
         }
         Encoding encoding = (Encoding) ctx.getAttachment("encoding");
-        long[] attentionMask = encoding.getAttentionMask();
-        NDManager manager = ctx.getNDManager();
+        return toEmbedding(ctx.getNDManager(), embeddings, encoding.getAttentionMask());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<float[]> batchProcessOutput(TranslatorContext ctx, NDList list) {
+        NDArray embeddings = list.get("last_hidden_state");
+        if (embeddings == null) {
+            embeddings = list.get(0);
+        }
+        PaddedBatchEncoding batchEncoding = (PaddedBatchEncoding) ctx.getAttachment(BATCH_ENCODING);
+        List<float[]> results = new ArrayList<>(batchEncoding.size());
+        for (int i = 0; i < batchEncoding.size(); i++) {
+            results.add(toEmbedding(ctx.getNDManager(), embeddings.get(i), batchEncoding.getAttentionMask(i)));
+        }
+        return results;
+    }
+
+    private float[] toEmbedding(NDManager manager, NDArray embeddings, long[] attentionMask) {
         NDArray inputAttentionMask = manager.create(attentionMask).toType(DataType.FLOAT32, true);
         switch (pooling) {
             case "mean":
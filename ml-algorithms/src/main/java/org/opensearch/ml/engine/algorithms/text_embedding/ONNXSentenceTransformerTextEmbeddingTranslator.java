@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
+import static org.opensearch.ml.engine.algorithms.text_embedding.PaddedBatchEncoding.BATCH_ENCODING;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
 
 import java.io.IOException;
@@ -25,6 +26,7 @@ import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
@@ -48,8 +50,7 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
 
     @Override
     public Batchifier getBatchifier() {
-        return null;
-
+        return Batchifier.STACK;
     }
 
     @Override
@@ -84,6 +85,35 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         return ndList;
     }
 
+    /**
+     * Tokenize all sentences of the batch and pad them to the longest one, so the whole batch
+     * runs in one forward pass.
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) {
+        NDManager manager = ctx.getNDManager();
+        List<String> sentences = new ArrayList<>(inputs.size());
+        for (Input input : inputs) {
+            sentences.add(input.getAsString(0));
+        }
+        PaddedBatchEncoding batchEncoding = new PaddedBatchEncoding(tokenizer, sentences);
+        ctx.setAttachment(BATCH_ENCODING, batchEncoding);
+
+        NDList ndList = new NDList();
+        NDArray indicesArray = batchEncoding.getIdsArray(manager);
+        indicesArray.setName("input_ids");
+        NDArray attentionMaskArray = batchEncoding.getAttentionMaskArray(manager);
+        attentionMaskArray.setName("attention_mask");
+        ndList.add(indicesArray);
+        ndList.add(attentionMaskArray);
+        if ("bert".equalsIgnoreCase(modelType) || "albert".equalsIgnoreCase(modelType)) {
+            NDArray tokenTypeIdsArray = batchEncoding.getTypeIdsArray(manager);
+            tokenTypeIdsArray.setName("token_type_ids");
+            ndList.add(tokenTypeIdsArray);
+        }
+        return ndList;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
@@ -95,7 +125,25 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         Encoding encoding = (Encoding) ctx.getAttachment("encoding");
         long[] attentionMask = encoding.getAttentionMask();
         NDManager manager = ctx.getNDManager();
-        NDArray inputAttentionMask = manager.create(attentionMask);
+        return toOutput(embeddings, manager.create(attentionMask));
+    }
+
+    /**
+     * Split the batched token embeddings and pool every sentence with its own padded attention mask.
+     */
+    @Override
+    public List<Output> batchProcessOutput(TranslatorContext ctx, NDList list) {
+        PaddedBatchEncoding batchEncoding = (PaddedBatchEncoding) ctx.getAttachment(BATCH_ENCODING);
+        NDArray embeddings = list.get(0);
+        NDManager manager = ctx.getNDManager();
+        List<Output> outputs = new ArrayList<>(batchEncoding.size());
+        for (int i = 0; i < batchEncoding.size(); i++) {
+            outputs.add(toOutput(embeddings.get(i), manager.create(batchEncoding.getAttentionMask(i))));
+        }
+        return outputs;
+    }
+
+    private Output toOutput(NDArray embeddings, NDArray inputAttentionMask) {
         switch (this.poolingMode) {
             case MEAN:
                 embeddings = meanPool(embeddings, inputAttentionMask, false);
@@ -120,13 +168,13 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
             embeddings = embeddings.normalize(2, 0);
         }
 
-        Number[] data = embeddings.toArray();
+        float[] data = embeddings.toType(DataType.FLOAT32, false).toFloatArray();
         List<ModelTensor> outputs = new ArrayList<>();
         long[] shape = embeddings.getShape().getShape();
         ModelTensor modelTensor = ModelTensor
             .builder()
             .name(SENTENCE_EMBEDDING)
-            .data(data)
+            .floatData(data)
             .shape(shape)
             .dataType(MLResultDataType.FLOAT32)
             .build();
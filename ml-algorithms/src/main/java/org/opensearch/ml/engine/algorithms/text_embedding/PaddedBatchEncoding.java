@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+
+/**
+ * Tokenized sentences of one inference batch, padded with zeros to the longest sequence in the batch.
+ * Every sentence is encoded on its own, so the tokens are the same as for a single sentence predict,
+ * and the padded positions are excluded by the attention mask.
+ */
+public class PaddedBatchEncoding {
+    public static final String BATCH_ENCODING = "batch_encoding";
+
+    private final Encoding[] encodings;
+    private final int maxLength;
+
+    public PaddedBatchEncoding(HuggingFaceTokenizer tokenizer, List<String> sentences) {
+        this.encodings = new Encoding[sentences.size()];
+        int longest = 0;
+        for (int i = 0; i < sentences.size(); i++) {
+            encodings[i] = tokenizer.encode(sentences.get(i));
+            longest = Math.max(longest, encodings[i].getIds().length);
+        }
+        this.maxLength = longest;
+    }
+
+    public int size() {
+        return encodings.length;
+    }
+
+    /**
+     * Get the padded attention mask of one sentence in the batch.
+     * @param index sentence index in the batch
+     * @return attention mask padded to the longest sequence in the batch
+     */
+    public long[] getAttentionMask(int index) {
+        return Arrays.copyOf(encodings[index].getAttentionMask(), maxLength);
+    }
+
+    public NDArray getIdsArray(NDManager manager) {
+        return toBatchArray(manager, Encoding::getIds);
+    }
+
+    public NDArray getAttentionMaskArray(NDManager manager) {
+        return toBatchArray(manager, Encoding::getAttentionMask);
+    }
+
+    public NDArray getTypeIdsArray(NDManager manager) {
+        return toBatchArray(manager, Encoding::getTypeIds);
+    }
+
+    private NDArray toBatchArray(NDManager manager, Function<Encoding, long[]> extractor) {
+        long[] data = new long[encodings.length * maxLength];
+        for (int i = 0; i < encodings.length; i++) {
+            long[] row = extractor.apply(encodings[i]);
+            System.arraycopy(row, 0, data, i * maxLength, row.length);
+        }
+        return manager.create(data, new Shape(encodings.length, maxLength));
+    }
+}
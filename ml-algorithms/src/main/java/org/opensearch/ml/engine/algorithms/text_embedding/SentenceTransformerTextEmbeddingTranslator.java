@@ -15,13 +15,41 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
+import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.TranslatorContext;
 
 public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransformerTranslator {
+
+    /**
+     * Tokenize all sentences of the batch and pad them to the longest one, so the batch can be
+     * stacked into one forward pass. The default batchifier can only stack inputs of the same length.
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) {
+        NDManager manager = ctx.getNDManager();
+        List<String> sentences = new ArrayList<>(inputs.size());
+        for (Input input : inputs) {
+            sentences.add(input.getAsString(0));
+        }
+        PaddedBatchEncoding batchEncoding = new PaddedBatchEncoding(tokenizer, sentences);
+
+        NDArray indicesArray = batchEncoding.getIdsArray(manager);
+        indicesArray.setName("input1.input_ids");
+
+        NDArray attentionMaskArray = batchEncoding.getAttentionMaskArray(manager);
+        attentionMaskArray.setName("input1.attention_mask");
+
+        NDList ndList = new NDList();
+        ndList.add(indicesArray);
+        ndList.add(attentionMaskArray);
+        return ndList;
+    }
+
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
@@ -31,20 +59,23 @@ public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransfor
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = ndArray.getName();
-            Number[] data = ndArray.toArray();
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
             ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
+            ModelTensor.ModelTensorBuilder tensorBuilder = ModelTensor
                 .builder()
                 .name(name)
-                .data(data)
                 .shape(shape)
                 .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
-            outputs.add(tensor);
+                .byteBuffer(buffer);
+            if (dataType == DataType.FLOAT32) {
+                // keep float data primitive, boxing every number of large embeddings is costly
+                tensorBuilder.floatData(ndArray.toFloatArray());
+            } else {
+                tensorBuilder.data(ndArray.toArray());
+            }
+            outputs.add(tensorBuilder.build());
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
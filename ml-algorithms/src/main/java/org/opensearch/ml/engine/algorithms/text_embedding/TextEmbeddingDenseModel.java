@@ -28,6 +28,17 @@ public class TextEmbeddingDenseModel extends TextEmbeddingModel {
 
     public static final String SENTENCE_EMBEDDING = "sentence_embedding";
 
+    @Override
+    protected boolean isBatchPredictSupported() {
+        // neuron compiled models are traced with static input shapes, so they can't take padded batches
+        return batchifierSupported
+            && (modelConfig == null || !isNeuron(((TextEmbeddingModelConfig) modelConfig).getFrameworkType()));
+    }
+
+    static boolean isNeuron(BaseModelConfig.FrameworkType transformersType) {
+        return transformersType != null && transformersType.name().endsWith("_NEURON");
+    }
+
     @Override
     public Translator<Input, Output> getTranslator(String engine, MLModelConfig modelConfig) {
         TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
@@ -53,11 +64,7 @@ public class TextEmbeddingDenseModel extends TextEmbeddingModel {
         boolean normalizeResult = textEmbeddingModelConfig.isNormalizeResult();
 
         if (PYTORCH_ENGINE.equals(engine) && transformersType != SENTENCE_TRANSFORMERS) { // pytorch
-            boolean neuron = false;
-            if (transformersType.name().endsWith("_NEURON")) {
-                neuron = true;
-            }
-            return new HuggingfaceTextEmbeddingTranslatorFactory(poolingMode, normalizeResult, modelType, neuron);
+            return new HuggingfaceTextEmbeddingTranslatorFactory(poolingMode, normalizeResult, modelType, isNeuron(transformersType));
         }
         return null;
     }
@@ -50,7 +50,7 @@ public class TextSimilarityCrossEncoderModel extends DLModel {
             Input input = new Input();
             input.add(queryText);
             input.add(doc);
-            output = getPredictor().predict(input);
+            output = withPredictor(predictor -> predictor.predict(input));
             ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
             tensorOutputs.add(outputTensors);
         }
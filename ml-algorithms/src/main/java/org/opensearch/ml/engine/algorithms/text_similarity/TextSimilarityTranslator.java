@@ -74,20 +74,23 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = SIMILARITY_NAME;
-            Number[] data = ndArray.toArray();
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
             ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
+            ModelTensor.ModelTensorBuilder tensorBuilder = ModelTensor
                 .builder()
                 .name(name)
-                .data(data)
                 .shape(shape)
                 .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
-            outputs.add(tensor);
+                .byteBuffer(buffer);
+            if (dataType == DataType.FLOAT32) {
+                // keep float data primitive, boxing every number of large embeddings is costly
+                tensorBuilder.floatData(ndArray.toFloatArray());
+            } else {
+                tensorBuilder.data(ndArray.toArray());
+            }
+            outputs.add(tensorBuilder.build());
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
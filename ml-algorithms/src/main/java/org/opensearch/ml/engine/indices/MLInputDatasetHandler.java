@@ -5,38 +5,78 @@
 
 package org.opensearch.ml.engine.indices;
 
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SEARCH_QUERY_INPUT_MAX_MEMORY;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SEARCH_QUERY_INPUT_MAX_ROWS;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.action.search.ClearScrollRequest;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnType;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.search.SearchHit;
-import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FieldAndFormat;
+import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.transport.client.Client;
 
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
-import lombok.experimental.FieldDefaults;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Convert MLInputDataset to Dataframe
  */
-@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
-@RequiredArgsConstructor
 @Log4j2
 public class MLInputDatasetHandler {
-    Client client;
+    // same as the default size of a search request
+    static final int DEFAULT_SEARCH_SIZE = 10;
+    static final int SEARCH_PAGE_SIZE = 1000;
+    static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+    private final Client client;
+    private volatile int maxRows;
+    private volatile ByteSizeValue maxMemory;
+
+    public MLInputDatasetHandler(Client client) {
+        this(client, Settings.EMPTY);
+    }
+
+    public MLInputDatasetHandler(Client client, ClusterService clusterService, Settings settings) {
+        this(client, settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_SEARCH_QUERY_INPUT_MAX_ROWS, it -> maxRows = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_SEARCH_QUERY_INPUT_MAX_MEMORY, it -> maxMemory = it);
+    }
+
+    private MLInputDatasetHandler(Client client, Settings settings) {
+        this.client = client;
+        this.maxRows = ML_COMMONS_SEARCH_QUERY_INPUT_MAX_ROWS.get(settings);
+        this.maxMemory = ML_COMMONS_SEARCH_QUERY_INPUT_MAX_MEMORY.get(settings);
+    }
 
     /**
-     * Create DataFrame based on given search query
+     * Create DataFrame based on given search query. Like a normal search, only the first 10 matched documents are
+     * loaded if the query size isn't set. Set the query size to load more documents, they are loaded page by page
+     * with scroll, up to the max rows setting. Scroll doesn't allow from, so the documents before the query from are
+     * skipped while loading. Each row is built from the document source and the docvalue fields of the query, so the
+     * query can use source filtering or load docvalue fields only. Numeric docvalues are converted to the column type
+     * inferred from the first row. Loading fails if the data frame grows over the max memory setting.
      * @param mlInputDataset MLInputDataset
      * @param listener ActionListener
      */
@@ -45,32 +85,201 @@ public class MLInputDatasetHandler {
             throw new IllegalArgumentException("Input dataset is not SEARCH_QUERY type.");
         }
         SearchQueryInputDataset inputDataset = (SearchQueryInputDataset) mlInputDataset;
+        SearchSourceBuilder searchSourceBuilder = inputDataset.getSearchSourceBuilder().shallowCopy();
+        int size = searchSourceBuilder.size() >= 0 ? searchSourceBuilder.size() : DEFAULT_SEARCH_SIZE;
+        int rowLimit = Math.min(size, maxRows);
+        int skip = Math.max(searchSourceBuilder.from(), 0);
+        searchSourceBuilder.from(0);
+        searchSourceBuilder.size((int) Math.min((long) skip + rowLimit, SEARCH_PAGE_SIZE));
+        if (searchSourceBuilder.sorts() == null) {
+            // no sort needed, scroll in index order which is the cheapest
+            searchSourceBuilder.sort(FieldSortBuilder.DOC_FIELD_NAME);
+        }
         SearchRequest searchRequest = new SearchRequest();
-        searchRequest.source(inputDataset.getSearchSourceBuilder());
+        searchRequest.source(searchSourceBuilder);
         List<String> indicesList = inputDataset.getIndices();
         String[] indices = new String[indicesList.size()];
         indices = indicesList.toArray(indices);
         searchRequest.indices(indices);
+        searchRequest.scroll(SCROLL_KEEP_ALIVE);
 
-        client.search(searchRequest, ActionListener.wrap(r -> {
-            if (r == null || r.getHits() == null || r.getHits().getTotalHits() == null || r.getHits().getTotalHits().value() == 0) {
+        SearchQueryLoader loader = new SearchQueryLoader(
+            searchSourceBuilder.docValueFields(),
+            skip,
+            rowLimit,
+            maxMemory.getBytes(),
+            listener
+        );
+        client.search(searchRequest, ActionListener.wrap(loader::onFirstPage, loader::onFailure));
+    }
+
+    /**
+     * Appends search pages to one columnar data frame and fetches the next page until all documents are loaded.
+     */
+    private class SearchQueryLoader {
+        private final List<FieldAndFormat> docValueFields;
+        private final int rowLimit;
+        // documents left to skip before the query from
+        private int skip;
+        private final long maxMemoryBytes;
+        private final ActionListener<MLInputDataset> listener;
+        private ColumnarDataFrame dataFrame;
+        // column types of the docvalue fields, set when the data frame is created
+        private Map<String, ColumnType> docValueColumnTypes;
+        private String scrollId;
+
+        SearchQueryLoader(
+            List<FieldAndFormat> docValueFields,
+            int skip,
+            int rowLimit,
+            long maxMemoryBytes,
+            ActionListener<MLInputDataset> listener
+        ) {
+            this.docValueFields = docValueFields;
+            this.skip = skip;
+            this.rowLimit = rowLimit;
+            this.maxMemoryBytes = maxMemoryBytes;
+            this.listener = listener;
+        }
+
+        void onFirstPage(SearchResponse r) {
+            if (r == null || r.getHits() == null || r.getHits().getHits().length == 0) {
+                clearScroll(r == null ? null : r.getScrollId());
                 listener.onFailure(new IllegalArgumentException("No document found"));
                 return;
             }
-            SearchHits hits = r.getHits();
-            List<Map<String, Object>> input = new ArrayList<>();
-            SearchHit[] searchHits = hits.getHits();
-            for (SearchHit hit : searchHits) {
-                input.add(hit.getSourceAsMap());
+            onPage(r);
+        }
+
+        void onPage(SearchResponse r) {
+            boolean done;
+            try {
+                scrollId = r.getScrollId();
+                SearchHit[] searchHits = r.getHits().getHits();
+                int skipped = Math.min(skip, searchHits.length);
+                skip -= skipped;
+                int count = dataFrame == null ? 0 : dataFrame.size();
+                int pageSize = Math.min(searchHits.length - skipped, rowLimit - count);
+                List<Map<String, Object>> input = new ArrayList<>(pageSize);
+                for (int i = skipped; i < skipped + pageSize; i++) {
+                    input.add(toRow(searchHits[i]));
+                }
+                if (dataFrame == null && !input.isEmpty()) {
+                    // columns grow page by page, so the memory limit is checked against the rows loaded so far
+                    dataFrame = DataFrameBuilder.emptyColumnarDataFrame(input.get(0), input.size());
+                    docValueColumnTypes = docValueColumnTypes(dataFrame);
+                }
+                if (dataFrame != null) {
+                    coerceDocValues(input);
+                    DataFrameBuilder.appendColumnar(dataFrame, input);
+                    checkMemory();
+                }
+                done = searchHits.length == 0 || (dataFrame != null && dataFrame.size() >= rowLimit) || scrollId == null;
+            } catch (Exception e) {
+                onFailure(e);
+                return;
+            }
+            if (done) {
+                clearScroll(scrollId);
+                if (dataFrame == null) {
+                    // every document was before the query from
+                    listener.onFailure(new IllegalArgumentException("No document found"));
+                    return;
+                }
+                log.debug("Loaded {} rows of search query input", dataFrame.size());
+                listener.onResponse(new DataFrameInputDataset(dataFrame));
+                return;
             }
-            DataFrame dataFrame = DataFrameBuilder.load(input);
-            MLInputDataset dfInputDataset = new DataFrameInputDataset(dataFrame);
-            listener.onResponse(dfInputDataset);
-            return;
-        }, e -> {
-            log.error("Failed to search{}", e);
+            SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE);
+            client.searchScroll(scrollRequest, ActionListener.wrap(this::onPage, this::onFailure));
+        }
+
+        void onFailure(Exception e) {
+            log.error("Failed to search", e);
+            clearScroll(scrollId);
             listener.onFailure(e);
-        }));
-        return;
+        }
+
+        private void checkMemory() {
+            if (dataFrame.ramBytesUsed() > maxMemoryBytes) {
+                throw new MLLimitExceededException(
+                    "Search query input exceeds max memory " + new ByteSizeValue(maxMemoryBytes) + " at " + dataFrame.size() + " rows"
+                );
+            }
+        }
+
+        private Map<String, ColumnType> docValueColumnTypes(ColumnarDataFrame dataFrame) {
+            Map<String, ColumnType> columnTypes = new HashMap<>();
+            if (docValueFields == null) {
+                return columnTypes;
+            }
+            for (ColumnMeta columnMeta : dataFrame.columnMetas()) {
+                for (FieldAndFormat docValueField : docValueFields) {
+                    if (docValueField.field.equals(columnMeta.getName())) {
+                        columnTypes.put(columnMeta.getName(), columnMeta.getColumnType());
+                    }
+                }
+            }
+            return columnTypes;
+        }
+
+        /**
+         * The same field can be loaded from docvalues in one document and from source in another one if it has no
+         * docvalue, e.g. a long docvalue and an integer in source. Convert such numbers to the column type.
+         */
+        private void coerceDocValues(List<Map<String, Object>> input) {
+            if (docValueColumnTypes.isEmpty()) {
+                return;
+            }
+            for (Map<String, Object> row : input) {
+                for (Map.Entry<String, ColumnType> column : docValueColumnTypes.entrySet()) {
+                    Object value = row.get(column.getKey());
+                    if (value instanceof Number) {
+                        row.put(column.getKey(), toColumnType((Number) value, column.getValue()));
+                    }
+                }
+            }
+        }
+
+        private Map<String, Object> toRow(SearchHit hit) {
+            Map<String, Object> row = hit.hasSource() ? hit.getSourceAsMap() : new HashMap<>();
+            if (docValueFields != null && !docValueFields.isEmpty()) {
+                row = new HashMap<>(row);
+                for (FieldAndFormat docValueField : docValueFields) {
+                    DocumentField field = hit.field(docValueField.field);
+                    if (field != null) {
+                        row.put(field.getName(), field.getValue());
+                    }
+                }
+            }
+            return row;
+        }
+
+        private Object toColumnType(Number value, ColumnType columnType) {
+            switch (columnType) {
+                case DOUBLE:
+                    return value.doubleValue();
+                case FLOAT:
+                    return value.floatValue();
+                case LONG:
+                    return value.longValue();
+                case INTEGER:
+                    return value.intValue();
+                case SHORT:
+                    return value.shortValue();
+                default:
+                    return value;
+            }
+        }
+
+        private void clearScroll(String id) {
+            if (id == null) {
+                return;
+            }
+            scrollId = null;
+            ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+            clearScrollRequest.addScrollId(id);
+            client.clearScroll(clearScrollRequest, ActionListener.wrap(r -> {}, e -> log.warn("Failed to clear scroll", e)));
+        }
     }
 }
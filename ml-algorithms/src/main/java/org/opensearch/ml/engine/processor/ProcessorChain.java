@@ -15,6 +15,8 @@ import java.util.Map;
 
 import org.opensearch.ml.engine.MLEngineClassLoader;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.JsonSyntaxException;
 
@@ -49,6 +51,17 @@ public class ProcessorChain {
      */
     public static final String OUTPUT_PROCESSORS = "output_processors";
 
+    private static final long MAX_CACHED_PROCESSOR_CHAINS = 1000;
+
+    /**
+     * Processor chains by processor configuration. Processors are immutable after construction,
+     * so a chain is shared by all requests with the same configuration.
+     */
+    private static final Cache<String, ProcessorChain> processorChainCache = CacheBuilder
+        .newBuilder()
+        .maximumSize(MAX_CACHED_PROCESSOR_CHAINS)
+        .build();
+
     /**
      * List of processors to apply sequentially.
      */
@@ -221,6 +234,32 @@ public class ProcessorChain {
         return !processors.isEmpty();
     }
 
+    /**
+     * Gets the processor chain configured in parameters, built once per processor configuration.
+     * <p>
+     * Connector parameters hold the configuration as a JSON string, so the chain is cached by that
+     * string and requests with the same configuration neither parse the configuration nor
+     * instantiate the processors again. Other configuration values are not cached.
+     *
+     * @param params Parameter map that may contain processor configurations
+     * @param paramName The key name to look for in the params map (e.g., "input_processors", "output_processors")
+     * @return Processor chain, which has no processors if the configuration is missing or invalid
+     * @throws IllegalArgumentException if a processor type is invalid or instantiation fails
+     */
+    public static ProcessorChain getProcessorChain(Map<String, ?> params, String paramName) {
+        Object configObj = params == null ? null : params.get(paramName);
+        if (!(configObj instanceof String)) {
+            return new ProcessorChain(extractProcessorConfigs(params, paramName));
+        }
+        String config = (String) configObj;
+        ProcessorChain processorChain = processorChainCache.getIfPresent(config);
+        if (processorChain == null) {
+            processorChain = new ProcessorChain(extractProcessorConfigs(params, paramName));
+            processorChainCache.put(config, processorChain);
+        }
+        return processorChain;
+    }
+
     /**
      * Extracts processor configurations from tool parameters.
      * <p>
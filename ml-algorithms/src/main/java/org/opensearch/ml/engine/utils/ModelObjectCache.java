@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.opensearch.ml.common.MLModel;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level LRU cache of deserialized model objects, so predicting with a model which doesn't need deployment
+ * doesn't decode and deserialize the model content on every request.
+ * <p>
+ * Entries are keyed by model id and checked against the last update time and the content length of the model, a
+ * model updated since it was cached is deserialized again. The cache is bounded by the decoded size of the model
+ * contents. Cached objects are shared by concurrent predict requests, so only cache models which are read only in
+ * predict.
+ */
+@Log4j2
+public class ModelObjectCache {
+    private volatile Cache<String, CachedModel> cache;
+
+    /**
+     * @param maxSizeInBytes max decoded size of cached model contents, 0 disables the cache
+     */
+    public ModelObjectCache(long maxSizeInBytes) {
+        this.cache = buildCache(maxSizeInBytes);
+    }
+
+    /**
+     * Change the max size of the cache. All cached models are dropped.
+     * @param maxSizeInBytes max decoded size of cached model contents, 0 disables the cache
+     */
+    public synchronized void setMaxSize(long maxSizeInBytes) {
+        Cache<String, CachedModel> oldCache = cache;
+        cache = buildCache(maxSizeInBytes);
+        oldCache.invalidateAll();
+    }
+
+    /**
+     * Get the deserialized object of the model from the cache, or deserialize and cache it.
+     * Models without model id, content or last update time are not cached.
+     * @param model model with content
+     * @param deserializer function to deserialize the model content
+     * @return deserialized model object
+     * @param <T> type of deserialized model object
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(MLModel model, Function<MLModel, T> deserializer) {
+        String modelId = model.getModelId();
+        String content = model.getContent();
+        Instant lastUpdateTime = model.getLastUpdateTime();
+        if (modelId == null || content == null || lastUpdateTime == null) {
+            return deserializer.apply(model);
+        }
+        CachedModel cachedModel = cache.getIfPresent(modelId);
+        if (cachedModel != null && cachedModel.lastUpdateTime.equals(lastUpdateTime) && cachedModel.contentLength == content.length()) {
+            return (T) cachedModel.modelObject;
+        }
+        T modelObject = deserializer.apply(model);
+        // base64 content is 4/3 of the decoded size
+        long size = content.length() * 3L / 4;
+        cache.put(modelId, new CachedModel(lastUpdateTime, content.length(), modelObject, (int) Math.min(size, Integer.MAX_VALUE)));
+        return modelObject;
+    }
+
+    /**
+     * Remove the cached object of the model.
+     * @param modelId model id
+     */
+    public void invalidate(String modelId) {
+        if (modelId != null) {
+            cache.invalidate(modelId);
+        }
+    }
+
+    /**
+     * @return ids of the models with cached objects
+     */
+    public Set<String> getModelIds() {
+        return new HashSet<>(cache.asMap().keySet());
+    }
+
+    private static Cache<String, CachedModel> buildCache(long maxSizeInBytes) {
+        return CacheBuilder
+            .newBuilder()
+            .maximumWeight(maxSizeInBytes)
+            .weigher((String modelId, CachedModel cachedModel) -> cachedModel.size)
+            .removalListener(notification -> log.debug("Removed cached model object of model {}", notification.getKey()))
+            .build();
+    }
+
+    private static class CachedModel {
+        private final Instant lastUpdateTime;
+        private final int contentLength;
+        private final Object modelObject;
+        private final int size;
+
+        CachedModel(Instant lastUpdateTime, int contentLength, Object modelObject, int size) {
+            this.lastUpdateTime = lastUpdateTime;
+            this.contentLength = contentLength;
+            this.modelObject = modelObject;
+            this.size = size;
+        }
+    }
+}
@@ -111,8 +111,14 @@ public class ModelSerDeSer {
     }
 
     public static Object deserialize(MLModel model) {
-        byte[] decodeBytes = decodeBase64(model.getContent());
-        return deserialize(decodeBytes);
+        return deserialize(decodeBase64(model.getContent()));
+    }
+
+    public static Object deserialize(MLModel model, ModelObjectCache modelObjectCache) {
+        if (modelObjectCache == null) {
+            return deserialize(model);
+        }
+        return modelObjectCache.get(model, m -> deserialize(decodeBase64(m.getContent())));
     }
 
     public static byte[] decodeBase64(String base64Str) {
@@ -18,9 +18,19 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.script.ScriptType;
 import org.opensearch.script.TemplateScript;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 
 public class ScriptUtils {
+    private static final long MAX_CACHED_POST_PROCESS_SOURCES = 1000;
+
+    // sources of post process functions with the default methods they use. Compiling is left to the script service,
+    // which caches compiled scripts and applies the compilation limits and the script settings.
+    private static final Cache<String, String> postProcessSources = CacheBuilder
+        .newBuilder()
+        .maximumSize(MAX_CACHED_POST_PROCESS_SOURCES)
+        .build();
 
     public static Optional<String> executePreprocessFunction(
         ScriptService scriptService,
@@ -33,11 +43,22 @@ public class ScriptUtils {
     public static Optional<String> executePostProcessFunction(ScriptService scriptService, String postProcessFunction, String resultJson) {
         Map<String, Object> result = StringUtils.fromJson(resultJson, "result");
         if (postProcessFunction != null) {
-            return Optional.ofNullable(executeScript(scriptService, addDefaultMethod(postProcessFunction), result));
+            Script script = new Script(ScriptType.INLINE, "painless", getPostProcessSource(postProcessFunction), Collections.emptyMap());
+            TemplateScript.Factory factory = scriptService.compile(script, TemplateScript.CONTEXT);
+            return Optional.ofNullable(factory.newInstance(result).execute());
         }
         return Optional.empty();
     }
 
+    private static String getPostProcessSource(String postProcessFunction) {
+        String source = postProcessSources.getIfPresent(postProcessFunction);
+        if (source == null) {
+            source = addDefaultMethod(postProcessFunction);
+            postProcessSources.put(postProcessFunction, source);
+        }
+        return source;
+    }
+
     public static String executeScript(ScriptService scriptService, String painlessScript, Map<String, Object> params) {
         Script script = new Script(ScriptType.INLINE, "painless", painlessScript, Collections.emptyMap());
         TemplateScript templateScript = scriptService.compile(script, TemplateScript.CONTEXT).newInstance(params);
@@ -17,6 +17,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
 import org.opensearch.ml.common.dataframe.ColumnValue;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
@@ -38,6 +39,9 @@ import lombok.experimental.UtilityClass;
 public class TribuoUtil {
     public static Tuple<String[], double[][]> transformDataFrame(DataFrame dataFrame) {
         String[] featureNames = Arrays.stream(dataFrame.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
+        if (dataFrame instanceof ColumnarDataFrame) {
+            return new Tuple<>(featureNames, ((ColumnarDataFrame) dataFrame).toDoubleArray());
+        }
         double[][] featureValues = new double[dataFrame.size()][];
         Iterator<Row> itr = dataFrame.iterator();
         int i = 0;
@@ -52,6 +56,9 @@ public class TribuoUtil {
 
     public static Tuple<String[], float[][]> transformDataFrameFloat(DataFrame dataFrame) {
         String[] featureNames = Arrays.stream(dataFrame.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
+        if (dataFrame instanceof ColumnarDataFrame) {
+            return new Tuple<>(featureNames, ((ColumnarDataFrame) dataFrame).toFloatArray());
+        }
         float[][] featureValues = new float[dataFrame.size()][];
         Iterator<Row> itr = dataFrame.iterator();
         int i = 0;
@@ -72,6 +79,11 @@ public class TribuoUtil {
     public static Tuple<String[], double[][]> transformClassificationDataFrame(DataFrame dataFrame, String target) {
         List<String> featureNames = Arrays.stream(dataFrame.columnMetas()).map(ColumnMeta::getName).collect(Collectors.toList());
         int targetIndex = dataFrame.getColumnIndex(target);
+        if (dataFrame instanceof ColumnarDataFrame) {
+            double[][] featureValues = ((ColumnarDataFrame) dataFrame.remove(targetIndex)).toDoubleArray();
+            featureNames.remove(target);
+            return new Tuple<>(featureNames.toArray(new String[featureNames.size()]), featureValues);
+        }
 
         int i = 0;
         Iterator<Row> itr = dataFrame.iterator();
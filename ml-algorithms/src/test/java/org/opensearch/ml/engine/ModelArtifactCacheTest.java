@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ModelArtifactCacheTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private Path cacheRootPath;
+    private ModelArtifactCache cache;
+
+    @Before
+    public void setUp() {
+        cacheRootPath = tempFolder.getRoot().toPath().resolve("artifacts");
+        cache = new ModelArtifactCache(cacheRootPath, 1024, 0);
+    }
+
+    @Test
+    public void putAndGet() throws IOException {
+        File modelZipFile = modelZipFile("model1", "model content");
+        String hash = calculateFileHash(modelZipFile);
+        cache.put(hash, "model1", modelZipFile);
+        // the deployed model file is removed on undeploy
+        Files.delete(modelZipFile.toPath());
+
+        File targetFile = tempFolder.getRoot().toPath().resolve("deploy").resolve("model.zip").toFile();
+        assertTrue(cache.get(hash, "model1", targetFile));
+        assertEquals("model content", Files.readString(targetFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void get_NotCached() throws IOException {
+        File targetFile = tempFolder.getRoot().toPath().resolve("model.zip").toFile();
+        assertFalse(cache.get("abc123", "model1", targetFile));
+        assertFalse(targetFile.exists());
+    }
+
+    @Test
+    public void get_HashMismatch() throws IOException {
+        File modelZipFile = modelZipFile("model1", "model content");
+        String hash = calculateFileHash(modelZipFile);
+        cache.put(hash, "model1", modelZipFile);
+        Files.writeString(cacheRootPath.resolve(hash), "changed content", StandardCharsets.UTF_8);
+
+        File targetFile = tempFolder.getRoot().toPath().resolve("model.zip").toFile();
+        assertFalse(cache.get(hash, "model1", targetFile));
+        assertFalse(targetFile.exists());
+        assertFalse(Files.exists(cacheRootPath.resolve(hash)));
+    }
+
+    @Test
+    public void put_EvictLeastRecentlyUsed() throws IOException {
+        cache = new ModelArtifactCache(cacheRootPath, 20, 0);
+        File modelZipFile1 = modelZipFile("model1", "model content 1");
+        String hash1 = calculateFileHash(modelZipFile1);
+        cache.put(hash1, "model1", modelZipFile1);
+        Files.setLastModifiedTime(cacheRootPath.resolve(hash1), FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+
+        File modelZipFile2 = modelZipFile("model2", "model content 2");
+        String hash2 = calculateFileHash(modelZipFile2);
+        cache.put(hash2, "model2", modelZipFile2);
+
+        assertFalse(Files.exists(cacheRootPath.resolve(hash1)));
+        assertTrue(Files.exists(cacheRootPath.resolve(hash2)));
+    }
+
+    @Test
+    public void setMaxSizeInBytes_Disabled() throws IOException {
+        File modelZipFile = modelZipFile("model1", "model content");
+        String hash = calculateFileHash(modelZipFile);
+        cache.put(hash, "model1", modelZipFile);
+
+        cache.setMaxSizeInBytes(0);
+        assertFalse(Files.exists(cacheRootPath.resolve(hash)));
+        cache.put(hash, "model1", modelZipFile);
+        assertFalse(Files.exists(cacheRootPath.resolve(hash)));
+    }
+
+    @Test
+    public void put_InvalidHash() throws IOException {
+        File modelZipFile = modelZipFile("model1", "model content");
+        cache.put("../model", "model1", modelZipFile);
+        cache.put(null, "model1", modelZipFile);
+
+        assertFalse(Files.exists(cacheRootPath));
+    }
+
+    @Test
+    public void put_InvalidModelId() throws IOException {
+        File modelZipFile = modelZipFile("model1", "model content");
+        cache.put(calculateFileHash(modelZipFile), "../model1", modelZipFile);
+
+        assertFalse(Files.exists(cacheRootPath));
+    }
+
+    @Test
+    public void remove_KeepFileUsedByOtherModel() throws IOException {
+        File modelZipFile = modelZipFile("model1", "model content");
+        String hash = calculateFileHash(modelZipFile);
+        cache.put(hash, "model1", modelZipFile);
+        File targetFile = tempFolder.getRoot().toPath().resolve("model2").resolve("model.zip").toFile();
+        assertTrue(cache.get(hash, "model2", targetFile));
+        assertEquals(Set.of("model1", "model2"), cache.getModelIds());
+
+        cache.remove("model1");
+        assertTrue(Files.exists(cacheRootPath.resolve(hash)));
+        assertEquals(Set.of("model2"), cache.getModelIds());
+
+        cache.remove("model2");
+        assertFalse(Files.exists(cacheRootPath.resolve(hash)));
+        assertEquals(Set.of(), cache.getModelIds());
+    }
+
+    @Test
+    public void remove_NotCached() {
+        cache.remove("model1");
+        cache.remove(null);
+
+        assertEquals(Set.of(), cache.getModelIds());
+    }
+
+    @Test
+    public void setMinFreeSpaceInBytes_Evict() throws IOException {
+        File modelZipFile = modelZipFile("model1", "model content");
+        String hash = calculateFileHash(modelZipFile);
+        cache.put(hash, "model1", modelZipFile);
+        assertTrue(Files.exists(cacheRootPath.resolve(hash)));
+
+        // the disk can't have this much free space, so no model file can be cached
+        cache.setMinFreeSpaceInBytes(Long.MAX_VALUE / 2);
+        assertFalse(Files.exists(cacheRootPath.resolve(hash)));
+        assertEquals(Set.of(), cache.getModelIds());
+    }
+
+    private File modelZipFile(String modelId, String content) throws IOException {
+        Path path = tempFolder.getRoot().toPath().resolve(modelId).resolve("model.zip");
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        return path.toFile();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+
+public class PredictorPoolTest {
+
+    @SuppressWarnings("unchecked")
+    private Predictor<Input, Output> mockPredictor() {
+        return mock(Predictor.class);
+    }
+
+    @Test
+    public void checkout_ReusesIdlePredictor() {
+        Predictor<Input, Output> initialPredictor = mockPredictor();
+        PredictorPool pool = new PredictorPool(initialPredictor, () -> {
+            fail("should not create new predictor");
+            return null;
+        }, 2);
+
+        Predictor<Input, Output> predictor = pool.checkout();
+        assertSame(initialPredictor, predictor);
+        assertEquals(1, pool.getInUse());
+        pool.checkin(predictor);
+        assertEquals(0, pool.getInUse());
+
+        assertSame(initialPredictor, pool.checkout());
+        assertEquals(1, pool.getSize());
+    }
+
+    @Test
+    public void checkout_CreatesPredictorUpToMaxSize() {
+        Predictor<Input, Output> initialPredictor = mockPredictor();
+        Predictor<Input, Output> pooledPredictor = mockPredictor();
+        PredictorPool pool = new PredictorPool(initialPredictor, () -> pooledPredictor, 2);
+
+        Predictor<Input, Output> first = pool.checkout();
+        Predictor<Input, Output> second = pool.checkout();
+        assertNotSame(first, second);
+        assertEquals(2, pool.getSize());
+        assertEquals(2, pool.getInUse());
+        assertEquals(2, pool.getMaxSize());
+    }
+
+    @Test
+    public void checkout_WaitsWhenPoolExhausted() throws InterruptedException {
+        Predictor<Input, Output> initialPredictor = mockPredictor();
+        PredictorPool pool = new PredictorPool(initialPredictor, this::mockPredictor, 1);
+        Predictor<Input, Output> predictor = pool.checkout();
+
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Predictor<Input, Output>> waited = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            waited.set(pool.checkout());
+            done.countDown();
+        });
+        waiter.start();
+        while (pool.getWaiting() == 0) {
+            Thread.sleep(10);
+        }
+        pool.checkin(predictor);
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertSame(initialPredictor, waited.get());
+        assertEquals(1, pool.getSize());
+        assertEquals(1, pool.getWaitCount());
+        assertEquals(0, pool.getWaiting());
+    }
+
+    @Test
+    public void checkout_FailsAfterClose() throws InterruptedException {
+        Predictor<Input, Output> initialPredictor = mockPredictor();
+        PredictorPool pool = new PredictorPool(initialPredictor, this::mockPredictor, 1);
+        pool.checkout();
+
+        AtomicReference<Exception> error = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                pool.checkout();
+            } catch (Exception e) {
+                error.set(e);
+            }
+        });
+        waiter.start();
+        while (pool.getWaiting() == 0) {
+            Thread.sleep(10);
+        }
+        pool.close();
+        waiter.join(10_000);
+
+        assertTrue(error.get() instanceof MLException);
+        verify(initialPredictor).close();
+    }
+}
@@ -53,6 +53,7 @@ import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.PredictorPool;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.utils.FileUtils;
@@ -502,6 +503,9 @@ public class QuestionAnsweringModelTest {
         java.lang.reflect.Field predictorsField = DLModel.class.getDeclaredField("predictors");
         predictorsField.setAccessible(true);
         predictorsField.set(model, new Predictor[] { predictor });
+        java.lang.reflect.Field predictorPoolsField = DLModel.class.getDeclaredField("predictorPools");
+        predictorPoolsField.setAccessible(true);
+        predictorPoolsField.set(model, new PredictorPool[] { new PredictorPool(predictor, () -> predictor, 1) });
 
         MLInput mlInput = MLInput.builder().algorithm(FunctionName.QUESTION_ANSWERING).inputDataset(inputDataSet).build();
 
@@ -535,6 +539,9 @@ public class QuestionAnsweringModelTest {
         java.lang.reflect.Field predictorsField = DLModel.class.getDeclaredField("predictors");
         predictorsField.setAccessible(true);
         predictorsField.set(model, new Predictor[] { predictor });
+        java.lang.reflect.Field predictorPoolsField = DLModel.class.getDeclaredField("predictorPools");
+        predictorPoolsField.setAccessible(true);
+        predictorPoolsField.set(model, new PredictorPool[] { new PredictorPool(predictor, () -> predictor, 1) });
 
         MLInput mlInput = MLInput.builder().algorithm(FunctionName.QUESTION_ANSWERING).inputDataset(inputDataSet).build();
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
+
+public class AdaptiveConcurrencyLimiterTest {
+    private static final long LATENCY_NANOS = 100_000_000L;
+
+    @Test
+    public void tryAcquire_RejectsOverLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2);
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        assertNotNull(permit);
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getRejectedCount());
+
+        permit.onResponse(LATENCY_NANOS);
+        assertEquals(1, limiter.getInFlight());
+        assertNotNull(limiter.tryAcquire());
+    }
+
+    @Test
+    public void onFailure_ThrottledBacksOffOncePerGeneration() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20);
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+
+        // all requests in flight when the remote service starts throttling back off once
+        for (AdaptiveConcurrencyLimiter.Permit permit : permits) {
+            permit.onFailure(new RemoteConnectorThrottlingException("throttled", RestStatus.TOO_MANY_REQUESTS));
+        }
+        assertEquals(18, limiter.getLimit());
+        assertEquals(10, limiter.getThrottledCount());
+        assertEquals(0, limiter.getInFlight());
+
+        limiter.tryAcquire().onFailure(new OpenSearchStatusException("unavailable", RestStatus.SERVICE_UNAVAILABLE));
+        assertEquals(16, limiter.getLimit());
+    }
+
+    @Test
+    public void onFailure_ClientErrorKeepsLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+
+        limiter.tryAcquire().onFailure(new OpenSearchStatusException("bad request", RestStatus.BAD_REQUEST));
+        limiter.tryAcquire().onFailure(new IllegalArgumentException("invalid payload"));
+
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getThrottledCount());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void onResponse_GrowsBackToMaxLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4);
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire().onFailure(new RemoteConnectorThrottlingException("throttled", RestStatus.TOO_MANY_REQUESTS));
+        }
+        assertEquals(AdaptiveConcurrencyLimiter.MIN_LIMIT, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            AdaptiveConcurrencyLimiter.Permit permit;
+            while ((permit = limiter.tryAcquire()) != null) {
+                permits.add(permit);
+            }
+            permits.forEach(it -> it.onResponse(LATENCY_NANOS));
+        }
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    public void onResponse_UnusedLimitDoesNotGrow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        limiter.tryAcquire().onFailure(new RemoteConnectorThrottlingException("throttled", RestStatus.TOO_MANY_REQUESTS));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire().onResponse(LATENCY_NANOS);
+        }
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    public void onResponse_SustainedSlowdownBacksOff() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire().onResponse(LATENCY_NANOS);
+        }
+        assertEquals(10, limiter.getLimit());
+
+        // a single outlier is tolerated
+        limiter.tryAcquire().onResponse(LATENCY_NANOS * 3);
+        assertEquals(10, limiter.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire().onResponse(LATENCY_NANOS * 10);
+        }
+        assertTrue(limiter.getLimit() < 10);
+        assertEquals(0, limiter.getThrottledCount());
+    }
+
+    @Test
+    public void isOverloaded() {
+        assertTrue(AdaptiveConcurrencyLimiter.isOverloaded(new RemoteConnectorThrottlingException("throttled", RestStatus.BAD_REQUEST)));
+        assertTrue(AdaptiveConcurrencyLimiter.isOverloaded(new OpenSearchStatusException("error", RestStatus.INTERNAL_SERVER_ERROR)));
+        assertFalse(AdaptiveConcurrencyLimiter.isOverloaded(new OpenSearchStatusException("not found", RestStatus.NOT_FOUND)));
+        assertFalse(AdaptiveConcurrencyLimiter.isOverloaded(new RuntimeException("error")));
+    }
+
+    @Test
+    public void enabled() {
+        assertFalse(AdaptiveConcurrencyLimiter.isEnabled());
+        try {
+            AdaptiveConcurrencyLimiter.setEnabled(true);
+            assertTrue(AdaptiveConcurrencyLimiter.isEnabled());
+        } finally {
+            AdaptiveConcurrencyLimiter.setEnabled(false);
+        }
+    }
+}
@@ -243,9 +243,9 @@ public class ConnectorUtilsTest {
         assertEquals("sentence_embedding", tensors.getMlModelTensors().get(0).getName());
         assertNull(tensors.getMlModelTensors().get(0).getDataAsMap());
         assertEquals(3, tensors.getMlModelTensors().get(0).getData().length);
-        assertEquals(-0.014555434, tensors.getMlModelTensors().get(0).getData()[0]);
-        assertEquals(-0.0002135904, tensors.getMlModelTensors().get(0).getData()[1]);
-        assertEquals(0.0035105038, tensors.getMlModelTensors().get(0).getData()[2]);
+        assertEquals(-0.014555434f, tensors.getMlModelTensors().get(0).getData()[0]);
+        assertEquals(-0.0002135904f, tensors.getMlModelTensors().get(0).getData()[1]);
+        assertEquals(0.0035105038f, tensors.getMlModelTensors().get(0).getData()[2]);
     }
 
     private void processInput_TextDocsInputDataSet_PreprocessFunction(
@@ -1322,6 +1322,35 @@ public class ConnectorUtilsTest {
         assertEquals(1, tensors.getMlModelTensors().size());
     }
 
+    @Test
+    public void processOutput_ScriptReturnPlainText() throws IOException {
+        when(scriptService.compile(any(), any())).then(invocation -> new TestTemplateService.MockTemplateScript.Factory("hello world"));
+
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .postProcessFunction("custom_script")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .build();
+        String modelResponse = "{\"result\":\"test\"}";
+
+        ModelTensors tensors = ConnectorUtils
+            .processOutput(PREDICT.name(), modelResponse, connector, scriptService, ImmutableMap.of(), null);
+
+        assertEquals(1, tensors.getMlModelTensors().size());
+        assertEquals("response", tensors.getMlModelTensors().get(0).getName());
+        assertEquals("hello world", tensors.getMlModelTensors().get(0).getDataAsMap().get("response"));
+    }
+
     @Test
     public void processOutput_WithProcessorChain_StringOutput() throws IOException {
         ConnectorAction predictAction = ConnectorAction
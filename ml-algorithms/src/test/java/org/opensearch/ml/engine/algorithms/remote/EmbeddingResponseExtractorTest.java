@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+public class EmbeddingResponseExtractorTest {
+
+    @Test
+    public void extract_OpenAIEmbedding() {
+        String modelResponse = "{\"object\":\"list\",\"data\":["
+            + "{\"object\":\"embedding\",\"index\":0,\"embedding\":[-0.014555434,-0.0002135904,0.0035105038]},"
+            + "{\"object\":\"embedding\",\"index\":1,\"embedding\":[0.1,0.2,0.3]}],"
+            + "\"model\":\"text-embedding-ada-002-v2\",\"usage\":{\"prompt_tokens\":5,\"total_tokens\":5}}";
+        List<ModelTensor> modelTensors = extract(modelResponse, MLPostProcessFunction.OPENAI_EMBEDDING, null);
+
+        assertEquals(2, modelTensors.size());
+        assertEquals("sentence_embedding", modelTensors.get(0).getName());
+        assertEquals(MLResultDataType.FLOAT32, modelTensors.get(0).getDataType());
+        assertArrayEquals(new long[] { 3 }, modelTensors.get(0).getShape());
+        assertArrayEquals(new float[] { -0.014555434f, -0.0002135904f, 0.0035105038f }, modelTensors.get(0).getFloatData(), 0);
+        assertArrayEquals(new float[] { 0.1f, 0.2f, 0.3f }, modelTensors.get(1).getFloatData(), 0);
+    }
+
+    @Test
+    public void extract_CohereEmbedding() {
+        String modelResponse = "{\"id\":\"1\",\"texts\":[\"a\",\"b\"],\"embeddings\":[[0.1,0.2],[1,2]]}";
+        List<ModelTensor> modelTensors = extract(modelResponse, MLPostProcessFunction.COHERE_EMBEDDING, null);
+
+        assertEquals(2, modelTensors.size());
+        assertArrayEquals(new float[] { 0.1f, 0.2f }, modelTensors.get(0).getFloatData(), 0);
+        assertArrayEquals(new float[] { 1f, 2f }, modelTensors.get(1).getFloatData(), 0);
+    }
+
+    @Test
+    public void extract_CohereV2Int8Embedding() {
+        String modelResponse = "{\"embeddings\":{\"int8\":[[-1,2,3],[4,5,-6]]}}";
+        List<ModelTensor> modelTensors = extract(modelResponse, MLPostProcessFunction.COHERE_V2_EMBEDDING_INT8, MLResultDataType.INT8);
+
+        assertEquals(2, modelTensors.size());
+        assertEquals(MLResultDataType.INT8, modelTensors.get(0).getDataType());
+        assertArrayEquals(new int[] { -1, 2, 3 }, modelTensors.get(0).getIntData());
+        assertArrayEquals(new int[] { 4, 5, -6 }, modelTensors.get(1).getIntData());
+    }
+
+    @Test
+    public void extract_BedrockEmbedding() {
+        String modelResponse = "{\"embedding\":[0.46484375,-0.017822266,0.17382812],\"inputTextTokenCount\":3}";
+        List<ModelTensor> modelTensors = extract(modelResponse, MLPostProcessFunction.BEDROCK_EMBEDDING, null);
+
+        assertEquals(1, modelTensors.size());
+        assertArrayEquals(new float[] { 0.46484375f, -0.017822266f, 0.17382812f }, modelTensors.get(0).getFloatData(), 0);
+    }
+
+    @Test
+    public void extract_DefaultEmbedding() {
+        List<ModelTensor> modelTensors = extract("[[0.1,0.2],[0.3,0.4]]", MLPostProcessFunction.DEFAULT_EMBEDDING, null);
+
+        assertEquals(2, modelTensors.size());
+        assertArrayEquals(new float[] { 0.3f, 0.4f }, modelTensors.get(1).getFloatData(), 0);
+    }
+
+    @Test
+    public void extract_EmptyBatch() {
+        List<ModelTensor> modelTensors = extract("{\"data\":[]}", MLPostProcessFunction.OPENAI_EMBEDDING, null);
+
+        assertTrue(modelTensors.isEmpty());
+    }
+
+    @Test
+    public void extract_UnsupportedResponseFilter() {
+        String modelResponse = "{\"data\":[{\"embedding\":[0.1,0.2]}]}";
+        assertNull(
+            EmbeddingResponseExtractor.extract(modelResponse, "$.data[0].embedding", MLPostProcessFunction.OPENAI_EMBEDDING, null)
+        );
+        assertNull(
+            EmbeddingResponseExtractor.extract(modelResponse, "$..embedding", MLPostProcessFunction.OPENAI_EMBEDDING, null)
+        );
+    }
+
+    @Test
+    public void extract_UnsupportedPostProcessFunction() {
+        assertNull(extract("{\"results\":[{\"index\":0,\"relevance_score\":0.9}]}", MLPostProcessFunction.COHERE_RERANK, null));
+    }
+
+    @Test
+    public void extract_UnexpectedResponse() {
+        // missing path
+        assertNull(extract("{\"data\":[{\"index\":0}]}", MLPostProcessFunction.OPENAI_EMBEDDING, null));
+        // not numbers
+        assertNull(extract("{\"data\":[{\"embedding\":[\"a\"]}]}", MLPostProcessFunction.OPENAI_EMBEDDING, null));
+        // empty embedding
+        assertNull(extract("{\"embedding\":[]}", MLPostProcessFunction.BEDROCK_EMBEDDING, null));
+        // floating numbers of integer embedding
+        assertNull(extract("{\"embeddings\":{\"int8\":[[0.5]]}}", MLPostProcessFunction.COHERE_V2_EMBEDDING_INT8, MLResultDataType.INT8));
+        // invalid json
+        assertNull(extract("{\"data\":[{\"embedding\":[0.1,", MLPostProcessFunction.OPENAI_EMBEDDING, null));
+    }
+
+    private List<ModelTensor> extract(String modelResponse, String postProcessFunction, MLResultDataType dataType) {
+        String responseFilter = MLPostProcessFunction.getResponseFilter(postProcessFunction);
+        return EmbeddingResponseExtractor.extract(modelResponse, responseFilter, postProcessFunction, dataType);
+    }
+}
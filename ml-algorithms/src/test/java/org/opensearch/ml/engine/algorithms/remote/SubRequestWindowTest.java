@@ -0,0 +1,226 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.core.action.ActionListener;
+
+public class SubRequestWindowTest {
+
+    @Test
+    public void run_BoundsInFlightSubRequests() {
+        List<ActionListener<Integer>> inFlight = new ArrayList<>();
+        List<Integer> started = new ArrayList<>();
+        AtomicReference<Collection<Integer>> result = new AtomicReference<>();
+        GroupedActionListener<Integer> listener = new GroupedActionListener<>(
+            ActionListener.wrap(result::set, e -> { throw new AssertionError(e); }),
+            5
+        );
+
+        new SubRequestWindow(2).<Integer>run(5, (index, subRequestListener) -> {
+            started.add(index);
+            inFlight.add(subRequestListener);
+        }, listener);
+
+        assertEquals(List.of(0, 1), started);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(inFlight.size() <= 2);
+            ActionListener<Integer> subRequestListener = inFlight.remove(0);
+            subRequestListener.onResponse(i);
+        }
+        assertEquals(List.of(0, 1, 2, 3, 4), started);
+        assertEquals(5, result.get().size());
+    }
+
+    @Test
+    public void run_SkipsRemainingSubRequestsAfterFailure() {
+        List<ActionListener<Integer>> inFlight = new ArrayList<>();
+        List<Integer> started = new ArrayList<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        GroupedActionListener<Integer> listener = new GroupedActionListener<>(
+            ActionListener.wrap(r -> { throw new AssertionError("unexpected response"); }, failure::set),
+            5
+        );
+
+        new SubRequestWindow(2).<Integer>run(5, (index, subRequestListener) -> {
+            started.add(index);
+            inFlight.add(subRequestListener);
+        }, listener);
+        RuntimeException exception = new RuntimeException("remote error");
+        inFlight.remove(0).onFailure(exception);
+        inFlight.remove(0).onResponse(1);
+
+        // the failure completes the skipped sub-requests, so the grouped listener gets notified
+        assertEquals(List.of(0, 1), started);
+        assertSame(exception, failure.get());
+    }
+
+    @Test
+    public void run_SubRequestThrows() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        GroupedActionListener<Integer> listener = new GroupedActionListener<>(
+            ActionListener.wrap(r -> { throw new AssertionError("unexpected response"); }, failure::set),
+            3
+        );
+        IllegalArgumentException exception = new IllegalArgumentException("invalid payload");
+
+        new SubRequestWindow(1).<Integer>run(3, (index, subRequestListener) -> { throw exception; }, listener);
+
+        assertSame(exception, failure.get());
+    }
+
+    @Test
+    public void run_SynchronousSubRequests() {
+        int count = 100_000;
+        AtomicReference<Collection<Integer>> result = new AtomicReference<>();
+        GroupedActionListener<Integer> listener = new GroupedActionListener<>(
+            ActionListener.wrap(result::set, e -> { throw new AssertionError(e); }),
+            count
+        );
+
+        new SubRequestWindow(1).<Integer>run(count, (index, subRequestListener) -> subRequestListener.onResponse(index), listener);
+
+        assertEquals(count, result.get().size());
+    }
+
+    @Test
+    public void run_MaxInFlightLargerThanCount() {
+        List<Integer> started = new ArrayList<>();
+
+        new SubRequestWindow(30).<Integer>run(2, (index, subRequestListener) -> started.add(index), ActionListener.wrap(r -> {}, e -> {}));
+
+        assertEquals(List.of(0, 1), started);
+    }
+
+    @Test
+    public void run_SharedAcrossPredictions() {
+        SubRequestWindow window = new SubRequestWindow(2);
+        List<ActionListener<Integer>> inFlight = new ArrayList<>();
+        List<String> started = new ArrayList<>();
+        AtomicReference<Collection<Integer>> result1 = new AtomicReference<>();
+        AtomicReference<Collection<Integer>> result2 = new AtomicReference<>();
+
+        window.<Integer>run(2, (index, subRequestListener) -> {
+            started.add("a" + index);
+            inFlight.add(subRequestListener);
+        }, new GroupedActionListener<>(ActionListener.wrap(result1::set, e -> { throw new AssertionError(e); }), 2));
+        window.<Integer>run(2, (index, subRequestListener) -> {
+            started.add("b" + index);
+            inFlight.add(subRequestListener);
+        }, new GroupedActionListener<>(ActionListener.wrap(result2::set, e -> { throw new AssertionError(e); }), 2));
+
+        // the second prediction waits for the sub-requests of the first one
+        assertEquals(List.of("a0", "a1"), started);
+        assertEquals(2, window.getInFlight());
+        assertEquals(2, window.getQueued());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(inFlight.size() <= 2);
+            inFlight.remove(0).onResponse(i);
+        }
+        assertEquals(List.of("a0", "a1", "b0", "b1"), started);
+        assertEquals(2, result1.get().size());
+        assertEquals(2, result2.get().size());
+        assertEquals(0, window.getInFlight());
+    }
+
+    @Test
+    public void run_FailureOnlySkipsSubRequestsOfSamePrediction() {
+        SubRequestWindow window = new SubRequestWindow(1);
+        List<ActionListener<Integer>> inFlight = new ArrayList<>();
+        List<String> started = new ArrayList<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicReference<Collection<Integer>> result = new AtomicReference<>();
+
+        window.<Integer>run(2, (index, subRequestListener) -> {
+            started.add("a" + index);
+            inFlight.add(subRequestListener);
+        }, new GroupedActionListener<>(ActionListener.wrap(r -> { throw new AssertionError("unexpected response"); }, failure::set), 2));
+        window.<Integer>run(1, (index, subRequestListener) -> {
+            started.add("b" + index);
+            inFlight.add(subRequestListener);
+        }, new GroupedActionListener<>(ActionListener.wrap(result::set, e -> { throw new AssertionError(e); }), 1));
+        RuntimeException exception = new RuntimeException("remote error");
+        inFlight.remove(0).onFailure(exception);
+        inFlight.remove(0).onResponse(0);
+
+        assertEquals(List.of("a0", "b0"), started);
+        assertSame(exception, failure.get());
+        assertEquals(1, result.get().size());
+        assertEquals(0, window.getInFlight());
+    }
+
+    @Test
+    public void run_ListenerThrowsOnResponse() {
+        SubRequestWindow window = new SubRequestWindow(1);
+        List<ActionListener<Integer>> inFlight = new ArrayList<>();
+        List<String> started = new ArrayList<>();
+        AtomicReference<Collection<Integer>> result = new AtomicReference<>();
+        ActionListener<Integer> throwingListener = new ActionListener<>() {
+            @Override
+            public void onResponse(Integer response) {
+                throw new IllegalStateException("listener error");
+            }
+
+            @Override
+            public void onFailure(Exception e) {}
+        };
+
+        window.<Integer>run(1, (index, subRequestListener) -> {
+            started.add("a" + index);
+            inFlight.add(subRequestListener);
+        }, throwingListener);
+        window.<Integer>run(1, (index, subRequestListener) -> {
+            started.add("b" + index);
+            inFlight.add(subRequestListener);
+        }, new GroupedActionListener<>(ActionListener.wrap(result::set, e -> { throw new AssertionError(e); }), 1));
+
+        ActionListener<Integer> subRequestListener = inFlight.remove(0);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> subRequestListener.onResponse(0));
+        // the caller reports the exception of the listener, which must not release the sub-request again
+        subRequestListener.onFailure(exception);
+
+        assertEquals(List.of("a0", "b0"), started);
+        assertEquals(1, window.getInFlight());
+        inFlight.remove(0).onResponse(0);
+        assertEquals(1, result.get().size());
+        assertEquals(0, window.getInFlight());
+    }
+
+    @Test
+    public void run_ListenerThrowsWhileDraining() {
+        SubRequestWindow window = new SubRequestWindow(1);
+        List<ActionListener<Integer>> inFlight = new ArrayList<>();
+        AtomicReference<Collection<Integer>> result = new AtomicReference<>();
+
+        ActionListener<Integer> throwingListener = ActionListener.wrap(r -> {}, e -> { throw new IllegalStateException(e); });
+        GroupedActionListener<Integer> listener = new GroupedActionListener<>(
+            ActionListener.wrap(result::set, e -> { throw new AssertionError(e); }),
+            2
+        );
+
+        window.<Integer>run(3, (index, subRequestListener) -> inFlight.add(subRequestListener), throwingListener);
+        window.<Integer>run(2, (index, subRequestListener) -> subRequestListener.onResponse(index), listener);
+
+        // the skipped sub-requests are completed in the drain loop, where the listener throws again
+        assertThrows(IllegalStateException.class, () -> inFlight.remove(0).onFailure(new RuntimeException("remote error")));
+
+        assertEquals(0, inFlight.size());
+        assertEquals(2, result.get().size());
+        assertEquals(0, window.getInFlight());
+        assertEquals(0, window.getQueued());
+    }
+}
@@ -1,9 +1,14 @@
 package org.opensearch.ml.engine.algorithms.remote.streaming;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.InvocationTargetException;
@@ -23,6 +28,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeAsyncClient;
 import software.amazon.awssdk.services.bedrockruntime.model.ConverseStreamRequest;
 import software.amazon.awssdk.services.bedrockruntime.model.GuardrailStreamConfiguration;
 
@@ -568,4 +574,43 @@ public class BedrockStreamingHandlerTest {
         method.setAccessible(true);
         return (MLTaskResponse) method.invoke(handler, toolName, toolInput, toolUseId, accumulatedContent, tokenUsage);
     }
+
+    @Test
+    public void testCachedBedrockClient_ClosedAfterStreamsFinished() {
+        BedrockRuntimeAsyncClient client = mock(BedrockRuntimeAsyncClient.class);
+        BedrockStreamingHandler.CachedBedrockClient cachedClient = new BedrockStreamingHandler.CachedBedrockClient(client);
+        assertTrue(cachedClient.acquire());
+        assertTrue(cachedClient.acquire());
+
+        cachedClient.evict();
+        cachedClient.release();
+        verify(client, never()).close();
+
+        cachedClient.release();
+        verify(client).close();
+    }
+
+    @Test
+    public void testCachedBedrockClient_EvictWithoutStreams() {
+        BedrockRuntimeAsyncClient client = mock(BedrockRuntimeAsyncClient.class);
+        BedrockStreamingHandler.CachedBedrockClient cachedClient = new BedrockStreamingHandler.CachedBedrockClient(client);
+        assertTrue(cachedClient.acquire());
+        cachedClient.release();
+        verify(client, never()).close();
+
+        cachedClient.evict();
+        verify(client).close();
+        assertFalse(cachedClient.acquire());
+    }
+
+    @Test
+    public void testHashCredentials() {
+        String hash = BedrockStreamingHandler.hashCredentials("access-key", "secret-key", null);
+
+        assertEquals(hash, BedrockStreamingHandler.hashCredentials("access-key", "secret-key", null));
+        assertFalse(hash.contains("secret-key"));
+        assertNotEquals(hash, BedrockStreamingHandler.hashCredentials("access-key", "other-secret-key", null));
+        assertNotEquals(hash, BedrockStreamingHandler.hashCredentials("access-key", "secret-key", ""));
+        assertNotEquals(hash, BedrockStreamingHandler.hashCredentials("access-keys", "ecret-key", null));
+    }
 }
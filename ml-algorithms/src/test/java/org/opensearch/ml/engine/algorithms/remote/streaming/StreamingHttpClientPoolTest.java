@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.httpclient.MLHttpClientRegistry;
+
+import okhttp3.OkHttpClient;
+
+public class StreamingHttpClientPoolTest {
+
+    @Test
+    public void getClient_SameTimeouts() {
+        OkHttpClient client1 = StreamingHttpClientPool.getClient(clientConfig(10, 20));
+        OkHttpClient client2 = StreamingHttpClientPool.getClient(clientConfig(10, 20));
+
+        assertSame(client1, client2);
+        assertEquals(10_000, client1.connectTimeoutMillis());
+        assertEquals(20_000, client1.readTimeoutMillis());
+    }
+
+    @Test
+    public void getClient_DifferentTimeouts_SharePool() {
+        OkHttpClient client1 = StreamingHttpClientPool.getClient(clientConfig(10, 20));
+        OkHttpClient client2 = StreamingHttpClientPool.getClient(clientConfig(10, 30));
+
+        assertNotSame(client1, client2);
+        assertSame(client1.connectionPool(), client2.connectionPool());
+        assertSame(client1.dispatcher(), client2.dispatcher());
+    }
+
+    @Test
+    public void setMaxRequests() {
+        OkHttpClient client = StreamingHttpClientPool.getClient(clientConfig(10, 20));
+        StreamingHttpClientPool.setMaxRequests(10);
+        StreamingHttpClientPool.setMaxRequestsPerHost(5);
+        try {
+            assertEquals(10, client.dispatcher().getMaxRequests());
+            assertEquals(5, client.dispatcher().getMaxRequestsPerHost());
+        } finally {
+            StreamingHttpClientPool.setMaxRequests(MLHttpClientRegistry.DEFAULT_MAX_CONNECTIONS);
+            StreamingHttpClientPool.setMaxRequestsPerHost(MLHttpClientRegistry.DEFAULT_MAX_CONNECTIONS_PER_HOST);
+        }
+    }
+
+    private ConnectorClientConfig clientConfig(int connectionTimeout, int readTimeout) {
+        return ConnectorClientConfig.builder().connectionTimeout(connectionTimeout).readTimeout(readTimeout).build();
+    }
+}
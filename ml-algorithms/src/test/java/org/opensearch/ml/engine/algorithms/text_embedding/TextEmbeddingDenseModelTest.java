@@ -6,15 +6,18 @@
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.opensearch.ml.common.model.BaseModelConfig.FrameworkType.HUGGINGFACE_TRANSFORMERS;
+import static org.opensearch.ml.common.model.BaseModelConfig.FrameworkType.HUGGINGFACE_TRANSFORMERS_NEURON;
 import static org.opensearch.ml.common.model.BaseModelConfig.FrameworkType.SENTENCE_TRANSFORMERS;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.PREDICT_BATCH_SIZE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
 
 import java.io.File;
@@ -181,6 +184,101 @@ public class TextEmbeddingDenseModelTest {
         textEmbeddingDenseModel.close();
     }
 
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_BatchMatchesSingleDoc() {
+        TextDocsInputDataSet docs = TextDocsInputDataSet
+            .builder()
+            .docs(Arrays.asList("today is sunny", "That is a happy dog", "a much longer sentence which needs padding in the batch"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(docs).build();
+        assertBatchMatchesSingleDoc(model, params, mlInput);
+    }
+
+    @Test
+    public void initModel_predict_ONNX_BatchMatchesSingleDoc() throws URISyntaxException {
+        Map<String, Object> params = new HashMap<>();
+        params.put(MODEL_HELPER, modelHelper);
+        params.put(MODEL_ZIP_FILE, new File(getClass().getResource("all-MiniLM-L6-v2_onnx.zip").toURI()));
+        params.put(ML_ENGINE, mlEngine);
+        TextEmbeddingModelConfig onnxModelConfig = modelConfig
+            .toBuilder()
+            .frameworkType(HUGGINGFACE_TRANSFORMERS)
+            .poolingMode(TextEmbeddingModelConfig.PoolingMode.MEAN)
+            .normalizeResult(true)
+            .modelMaxLength(512)
+            .build();
+        MLModel onnxModel = model.toBuilder().modelFormat(MLModelFormat.ONNX).modelConfig(onnxModelConfig).build();
+        TextDocsInputDataSet docs = TextDocsInputDataSet
+            .builder()
+            .docs(Arrays.asList("today is sunny", "That is a happy dog", "a much longer sentence which needs padding in the batch"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(docs).build();
+        assertBatchMatchesSingleDoc(onnxModel, params, mlInput);
+    }
+
+    @Test
+    public void initModel_predict_TorchScript_Huggingface_BatchMatchesSingleDoc() throws URISyntaxException {
+        Map<String, Object> params = new HashMap<>();
+        params.put(MODEL_HELPER, modelHelper);
+        params.put(MODEL_ZIP_FILE, new File(getClass().getResource("all-MiniLM-L6-v2_torchscript_huggingface.zip").toURI()));
+        params.put(ML_ENGINE, mlEngine);
+        TextEmbeddingModelConfig huggingfaceModelConfig = modelConfig
+            .toBuilder()
+            .frameworkType(HUGGINGFACE_TRANSFORMERS)
+            .poolingMode(TextEmbeddingModelConfig.PoolingMode.MEAN)
+            .normalizeResult(true)
+            .modelMaxLength(512)
+            .build();
+        MLModel huggingfaceModel = model.toBuilder().modelConfig(huggingfaceModelConfig).build();
+        TextDocsInputDataSet docs = TextDocsInputDataSet
+            .builder()
+            .docs(Arrays.asList("today is sunny", "That is a happy dog", "a much longer sentence which needs padding in the batch"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(docs).build();
+        assertBatchMatchesSingleDoc(huggingfaceModel, params, mlInput);
+    }
+
+    @Test
+    public void isNeuron() {
+        assertTrue(TextEmbeddingDenseModel.isNeuron(HUGGINGFACE_TRANSFORMERS_NEURON));
+        assertFalse(TextEmbeddingDenseModel.isNeuron(HUGGINGFACE_TRANSFORMERS));
+        assertFalse(TextEmbeddingDenseModel.isNeuron(SENTENCE_TRANSFORMERS));
+        assertFalse(TextEmbeddingDenseModel.isNeuron(null));
+    }
+
+    private void assertBatchMatchesSingleDoc(MLModel mlModel, Map<String, Object> params, MLInput mlInput) {
+        Map<String, Object> batchParams = new HashMap<>(params);
+        batchParams.put(PREDICT_BATCH_SIZE, 2);
+        TextEmbeddingDenseModel batchModel = new TextEmbeddingDenseModel();
+        batchModel.initModel(mlModel, batchParams, encryptor);
+        // the translators of the model batch with the default stack batchifier
+        assertTrue(batchModel.isBatchPredictSupported());
+        ModelTensorOutput batchOutput = (ModelTensorOutput) batchModel.predict(mlInput);
+        batchModel.close();
+
+        Map<String, Object> singleDocParams = new HashMap<>(params);
+        singleDocParams.put(PREDICT_BATCH_SIZE, 1);
+        TextEmbeddingDenseModel singleDocModel = new TextEmbeddingDenseModel();
+        singleDocModel.initModel(mlModel, singleDocParams, encryptor);
+        ModelTensorOutput singleDocOutput = (ModelTensorOutput) singleDocModel.predict(mlInput);
+        singleDocModel.close();
+
+        assertEquals(singleDocOutput.getMlModelOutputs().size(), batchOutput.getMlModelOutputs().size());
+        for (int i = 0; i < batchOutput.getMlModelOutputs().size(); i++) {
+            ModelTensors batchTensors = batchOutput.getMlModelOutputs().get(i);
+            ModelTensors singleDocTensors = singleDocOutput.getMlModelOutputs().get(i);
+            Number[] batchEmbedding = batchTensors.getMlModelTensors().get(findSentenceEmbeddingPosition(batchTensors)).getData();
+            Number[] singleDocEmbedding = singleDocTensors
+                .getMlModelTensors()
+                .get(findSentenceEmbeddingPosition(singleDocTensors))
+                .getData();
+            assertEquals(singleDocEmbedding.length, batchEmbedding.length);
+            for (int j = 0; j < batchEmbedding.length; j++) {
+                assertEquals(singleDocEmbedding[j].floatValue(), batchEmbedding[j].floatValue(), 1e-4);
+            }
+        }
+    }
+
     @Test
     public void initModel_predict_TorchScript_Huggingface() throws URISyntaxException {
         String modelFile = "all-MiniLM-L6-v2_torchscript_huggingface.zip";
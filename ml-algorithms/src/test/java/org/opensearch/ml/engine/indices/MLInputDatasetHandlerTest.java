@@ -0,0 +1,286 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.indices;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SEARCH_QUERY_INPUT_MAX_MEMORY;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SEARCH_QUERY_INPUT_MAX_ROWS;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchResponseSections;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.ml.common.dataframe.ColumnType;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
+import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.transport.client.Client;
+
+public class MLInputDatasetHandlerTest {
+
+    private Client client;
+    private LinkedList<SearchResponse> responses;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        client = mock(Client.class);
+        responses = new LinkedList<>();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(responses.poll());
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(responses.poll());
+            return null;
+        }).when(client).searchScroll(any(SearchScrollRequest.class), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_LoadAllPages() {
+        responses.add(searchResponse(sourceHit(1.0, "a"), sourceHit(2.0, "b")));
+        responses.add(searchResponse(sourceHit(3.0, "a")));
+        responses.add(searchResponse());
+
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().query(new MatchAllQueryBuilder()).size(5000);
+        DataFrame dataFrame = parse(new MLInputDatasetHandler(client), searchSourceBuilder);
+
+        assertTrue(dataFrame instanceof ColumnarDataFrame);
+        assertEquals(3, dataFrame.size());
+        assertEquals(3.0, dataFrame.getRow(2).getValue(dataFrame.getColumnIndex("f1")).doubleValue(), 0.0);
+        assertEquals("a", dataFrame.getRow(2).getValue(dataFrame.getColumnIndex("f2")).stringValue());
+        verify(client, times(2)).searchScroll(any(SearchScrollRequest.class), any());
+        verify(client).clearScroll(any(ClearScrollRequest.class), any());
+
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), any());
+        assertEquals(MLInputDatasetHandler.SEARCH_PAGE_SIZE, requestCaptor.getValue().source().size());
+        assertEquals(MLInputDatasetHandler.SCROLL_KEEP_ALIVE, requestCaptor.getValue().scroll().keepAlive());
+    }
+
+    @Test
+    public void parseSearchQueryInput_DefaultSize() {
+        SearchHit[] hits = new SearchHit[12];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = sourceHit(i, "a");
+        }
+        responses.add(searchResponse(hits));
+
+        DataFrame dataFrame = parse(new MLInputDatasetHandler(client), new SearchSourceBuilder());
+
+        assertEquals(MLInputDatasetHandler.DEFAULT_SEARCH_SIZE, dataFrame.size());
+        verify(client, never()).searchScroll(any(SearchScrollRequest.class), any());
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), any());
+        assertEquals(MLInputDatasetHandler.DEFAULT_SEARCH_SIZE, requestCaptor.getValue().source().size());
+    }
+
+    @Test
+    public void parseSearchQueryInput_StopAtQuerySize() {
+        responses.add(searchResponse(sourceHit(1.0, "a"), sourceHit(2.0, "b")));
+
+        DataFrame dataFrame = parse(new MLInputDatasetHandler(client), new SearchSourceBuilder().size(2));
+
+        assertEquals(2, dataFrame.size());
+        verify(client, never()).searchScroll(any(SearchScrollRequest.class), any());
+        verify(client).clearScroll(any(ClearScrollRequest.class), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_StopAtMaxRows() {
+        responses.add(searchResponse(sourceHit(1.0, "a"), sourceHit(2.0, "b"), sourceHit(3.0, "c")));
+        Settings settings = Settings.builder().put(ML_COMMONS_SEARCH_QUERY_INPUT_MAX_ROWS.getKey(), 2).build();
+
+        DataFrame dataFrame = parse(handler(settings), new SearchSourceBuilder());
+
+        assertEquals(2, dataFrame.size());
+        verify(client, never()).searchScroll(any(SearchScrollRequest.class), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_SkipFrom() {
+        responses.add(searchResponse(sourceHit(1.0, "a"), sourceHit(2.0, "b")));
+        responses.add(searchResponse(sourceHit(3.0, "c"), sourceHit(4.0, "d")));
+        responses.add(searchResponse(sourceHit(5.0, "e")));
+
+        DataFrame dataFrame = parse(new MLInputDatasetHandler(client), new SearchSourceBuilder().from(3).size(2));
+
+        assertEquals(2, dataFrame.size());
+        assertEquals(4.0, dataFrame.getRow(0).getValue(dataFrame.getColumnIndex("f1")).doubleValue(), 0.0);
+        assertEquals(5.0, dataFrame.getRow(1).getValue(dataFrame.getColumnIndex("f1")).doubleValue(), 0.0);
+
+        // scroll doesn't allow from, so the documents before it are fetched and skipped
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), any());
+        assertEquals(0, requestCaptor.getValue().source().from());
+        assertEquals(5, requestCaptor.getValue().source().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parseSearchQueryInput_SkipAllDocuments() {
+        responses.add(searchResponse(sourceHit(1.0, "a")));
+        responses.add(searchResponse());
+        ActionListener<MLInputDataset> listener = mock(ActionListener.class);
+
+        new MLInputDatasetHandler(client).parseSearchQueryInput(queryInput(new SearchSourceBuilder().from(1)), listener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        assertEquals("No document found", captor.getValue().getMessage());
+    }
+
+    @Test
+    public void parseSearchQueryInput_MemoryOfLoadedRows() {
+        // far more matches than the memory limit allows, but only the loaded rows count
+        responses.add(searchResponse(1_000_000, sourceHit(1.0, "a"), sourceHit(2.0, "b")));
+        Settings settings = Settings.builder().put(ML_COMMONS_SEARCH_QUERY_INPUT_MAX_MEMORY.getKey(), "1kb").build();
+
+        DataFrame dataFrame = parse(handler(settings), new SearchSourceBuilder().size(2));
+
+        assertEquals(2, dataFrame.size());
+    }
+
+    @Test
+    public void parseSearchQueryInput_DocValueFields() {
+        SearchHit hit = new SearchHit(1, "1", Map.of("f1", new DocumentField("f1", List.of(5.0))), null);
+        responses.add(searchResponse(hit));
+        responses.add(searchResponse());
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().fetchSource(false).docValueField("f1");
+
+        DataFrame dataFrame = parse(new MLInputDatasetHandler(client), searchSourceBuilder);
+
+        assertEquals(1, dataFrame.size());
+        assertEquals(1, dataFrame.columnMetas().length);
+        assertEquals(5.0, dataFrame.getRow(0).getValue(0).doubleValue(), 0.0);
+    }
+
+    @Test
+    public void parseSearchQueryInput_CoerceDocValues() {
+        // the first document has no docvalue, so the column type is inferred from its source
+        SearchHit sourceOnly = new SearchHit(1, "1", null, null);
+        sourceOnly.sourceRef(new BytesArray("{\"f1\":1}"));
+        SearchHit docValue = new SearchHit(2, "2", Map.of("f1", new DocumentField("f1", List.of(2L))), null);
+        docValue.sourceRef(new BytesArray("{\"f1\":2}"));
+        responses.add(searchResponse(sourceOnly, docValue));
+        responses.add(searchResponse());
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().docValueField("f1").size(100);
+
+        DataFrame dataFrame = parse(new MLInputDatasetHandler(client), searchSourceBuilder);
+
+        assertEquals(2, dataFrame.size());
+        assertEquals(ColumnType.INTEGER, dataFrame.columnMetas()[0].getColumnType());
+        assertEquals(2, dataFrame.getRow(1).getValue(0).intValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parseSearchQueryInput_NoDocument() {
+        responses.add(searchResponse());
+        ActionListener<MLInputDataset> listener = mock(ActionListener.class);
+
+        new MLInputDatasetHandler(client).parseSearchQueryInput(queryInput(new SearchSourceBuilder()), listener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        assertEquals("No document found", captor.getValue().getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parseSearchQueryInput_ExceedMaxMemory() {
+        responses.add(searchResponse(sourceHit(1.0, "a"), sourceHit(2.0, "b")));
+        Settings settings = Settings.builder().put(ML_COMMONS_SEARCH_QUERY_INPUT_MAX_MEMORY.getKey(), "10b").build();
+        ActionListener<MLInputDataset> listener = mock(ActionListener.class);
+
+        handler(settings).parseSearchQueryInput(queryInput(new SearchSourceBuilder()), listener);
+
+        verify(listener).onFailure(any(MLLimitExceededException.class));
+        verify(listener, never()).onResponse(any());
+        verify(client).clearScroll(any(ClearScrollRequest.class), any());
+    }
+
+    private MLInputDatasetHandler handler(Settings settings) {
+        ClusterService clusterService = mock(ClusterService.class);
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            Set.of(ML_COMMONS_SEARCH_QUERY_INPUT_MAX_ROWS, ML_COMMONS_SEARCH_QUERY_INPUT_MAX_MEMORY)
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        return new MLInputDatasetHandler(client, clusterService, settings);
+    }
+
+    @SuppressWarnings("unchecked")
+    private DataFrame parse(MLInputDatasetHandler handler, SearchSourceBuilder searchSourceBuilder) {
+        ActionListener<MLInputDataset> listener = mock(ActionListener.class);
+        handler.parseSearchQueryInput(queryInput(searchSourceBuilder), listener);
+        ArgumentCaptor<MLInputDataset> captor = ArgumentCaptor.forClass(MLInputDataset.class);
+        verify(listener).onResponse(captor.capture());
+        return ((DataFrameInputDataset) captor.getValue()).getDataFrame();
+    }
+
+    private SearchQueryInputDataset queryInput(SearchSourceBuilder searchSourceBuilder) {
+        return new SearchQueryInputDataset(List.of("test_index"), searchSourceBuilder);
+    }
+
+    private SearchHit sourceHit(double f1, String f2) {
+        SearchHit hit = new SearchHit(1, "1", null, null);
+        hit.sourceRef(new BytesArray("{\"f1\":" + f1 + ",\"f2\":\"" + f2 + "\"}"));
+        return hit;
+    }
+
+    private SearchResponse searchResponse(SearchHit... hits) {
+        return searchResponse(hits.length, hits);
+    }
+
+    private SearchResponse searchResponse(long totalHits, SearchHit... hits) {
+        SearchHits searchHits = new SearchHits(hits, new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), 1.0f);
+        return new SearchResponse(
+            new SearchResponseSections(searchHits, null, null, false, false, null, 0),
+            "scroll_id",
+            1,
+            1,
+            0,
+            10,
+            new ShardSearchFailure[] {},
+            SearchResponse.Clusters.EMPTY
+        );
+    }
+}
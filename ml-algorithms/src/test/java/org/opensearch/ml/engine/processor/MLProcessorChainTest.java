@@ -8,6 +8,7 @@ package org.opensearch.ml.engine.processor;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -543,6 +544,27 @@ public class MLProcessorChainTest {
         assertEquals("second", result2);
     }
 
+    @Test
+    public void testGetProcessorChainCachedByConfig() {
+        String config = "[{\"type\": \"regex_replace\", \"pattern\": \"test\", \"replacement\": \"replaced\"}]";
+        Map<String, String> params1 = Map.of(ProcessorChain.OUTPUT_PROCESSORS, config);
+        Map<String, String> params2 = Map.of(ProcessorChain.OUTPUT_PROCESSORS, new String(config));
+
+        ProcessorChain chain1 = ProcessorChain.getProcessorChain(params1, ProcessorChain.OUTPUT_PROCESSORS);
+        ProcessorChain chain2 = ProcessorChain.getProcessorChain(params2, ProcessorChain.OUTPUT_PROCESSORS);
+
+        assertSame(chain1, chain2);
+        assertEquals("replaced", chain1.process("test"));
+    }
+
+    @Test
+    public void testGetProcessorChainWithoutConfig() {
+        ProcessorChain chain = ProcessorChain.getProcessorChain(new HashMap<>(), ProcessorChain.INPUT_PROCESSORS);
+
+        assertFalse(chain.hasProcessors());
+        assertEquals("test", chain.process("test"));
+    }
+
     // Helper methods
     private Map<String, Object> createProcessorConfig(String type) {
         Map<String, Object> config = new HashMap<>();
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+
+public class ModelObjectCacheTest {
+
+    private final Instant lastUpdateTime = Instant.now();
+
+    private ModelObjectCache modelObjectCache;
+
+    private AtomicInteger deserializeCount;
+
+    @Before
+    public void setUp() {
+        modelObjectCache = new ModelObjectCache(1024 * 1024);
+        deserializeCount = new AtomicInteger();
+    }
+
+    @Test
+    public void get_CachedByModelId() {
+        MLModel model = model("model_id", "content");
+        Object first = modelObjectCache.get(model, this::deserialize);
+        Object second = modelObjectCache.get(model("model_id", "content"), this::deserialize);
+
+        assertSame(first, second);
+        assertEquals(1, deserializeCount.get());
+    }
+
+    @Test
+    public void get_ContentChanged() {
+        Object first = modelObjectCache.get(model("model_id", "content"), this::deserialize);
+        Object second = modelObjectCache.get(model("model_id", "new_content"), this::deserialize);
+
+        assertNotSame(first, second);
+        assertEquals(2, deserializeCount.get());
+    }
+
+    @Test
+    public void get_ModelUpdated() {
+        Object first = modelObjectCache.get(model("model_id", "content"), this::deserialize);
+        MLModel updated = model("model_id", "content").toBuilder().lastUpdateTime(lastUpdateTime.plusSeconds(1)).build();
+        Object second = modelObjectCache.get(updated, this::deserialize);
+
+        assertNotSame(first, second);
+        assertEquals(2, deserializeCount.get());
+    }
+
+    @Test
+    public void get_NoLastUpdateTime() {
+        MLModel model = model("model_id", "content").toBuilder().lastUpdateTime(null).build();
+        modelObjectCache.get(model, this::deserialize);
+        modelObjectCache.get(model, this::deserialize);
+
+        assertEquals(2, deserializeCount.get());
+    }
+
+    @Test
+    public void get_NoModelId() {
+        modelObjectCache.get(model(null, "content"), this::deserialize);
+        modelObjectCache.get(model(null, "content"), this::deserialize);
+
+        assertEquals(2, deserializeCount.get());
+    }
+
+    @Test
+    public void invalidate() {
+        modelObjectCache.get(model("model_id", "content"), this::deserialize);
+        modelObjectCache.invalidate("model_id");
+        modelObjectCache.get(model("model_id", "content"), this::deserialize);
+
+        assertEquals(2, deserializeCount.get());
+    }
+
+    @Test
+    public void getModelIds() {
+        modelObjectCache.get(model("model_id", "content"), this::deserialize);
+        assertEquals(Set.of("model_id"), modelObjectCache.getModelIds());
+
+        modelObjectCache.invalidate("model_id");
+        assertEquals(Set.of(), modelObjectCache.getModelIds());
+    }
+
+    @Test
+    public void setMaxSize_Disabled() {
+        modelObjectCache.setMaxSize(0);
+        modelObjectCache.get(model("model_id", "content"), this::deserialize);
+        modelObjectCache.get(model("model_id", "content"), this::deserialize);
+
+        assertEquals(2, deserializeCount.get());
+    }
+
+    private Object deserialize(MLModel model) {
+        deserializeCount.incrementAndGet();
+        return new Object();
+    }
+
+    private MLModel model(String modelId, String content) {
+        return MLModel
+            .builder()
+            .modelId(modelId)
+            .algorithm(FunctionName.KMEANS)
+            .name("test")
+            .content(content)
+            .lastUpdateTime(lastUpdateTime)
+            .build();
+    }
+}
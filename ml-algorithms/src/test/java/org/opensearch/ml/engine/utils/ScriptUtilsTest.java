@@ -7,8 +7,13 @@ package org.opensearch.ml.engine.utils;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.utils.StringUtils.addDefaultMethod;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -17,11 +22,13 @@ import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.ingest.TestTemplateService;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.script.Script;
 import org.opensearch.script.ScriptService;
 
 public class ScriptUtilsTest {
@@ -57,6 +64,26 @@ public class ScriptUtilsTest {
         assertEquals("{\"result\": \"test result\"}", resultOpt.get());
     }
 
+    @Test
+    public void test_executePostProcessFunction_CompiledByScriptService() {
+        String function = "return escape(params.result);";
+        ScriptUtils.executePostProcessFunction(scriptService, function, "{\"result\": \"test result\"}");
+        Optional<String> resultOpt = ScriptUtils.executePostProcessFunction(scriptService, function, "{\"result\": \"another result\"}");
+        assertEquals("test result", resultOpt.get());
+        // the script service caches the compiled script, and both predictions use the same source
+        ArgumentCaptor<Script> scriptCaptor = ArgumentCaptor.forClass(Script.class);
+        verify(scriptService, times(2)).compile(scriptCaptor.capture(), any());
+        assertEquals(addDefaultMethod(function), scriptCaptor.getAllValues().get(0).getIdOrCode());
+        assertEquals(scriptCaptor.getAllValues().get(0), scriptCaptor.getAllValues().get(1));
+    }
+
+    @Test
+    public void test_executePostProcessFunction_NullFunction() {
+        Optional<String> resultOpt = ScriptUtils.executePostProcessFunction(scriptService, null, "{\"result\": \"test result\"}");
+        assertTrue(resultOpt.isEmpty());
+        verify(scriptService, never()).compile(any(), any());
+    }
+
     @Test
     public void test_executeScript() {
         String result = ScriptUtils.executeScript(scriptService, "any function", Collections.singletonMap("key", "value"));
@@ -8,6 +8,8 @@ package org.opensearch.ml.action.prediction;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.STREAM_PREDICT_THREAD_POOL;
 
+import java.util.Map;
+
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.support.ActionFilters;
@@ -17,11 +19,9 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
-import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
-import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
@@ -45,6 +45,9 @@ import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.log4j.Log4j2;
@@ -282,13 +285,14 @@ public class TransportPredictionStreamTaskAction extends HandledTransportAction<
     }
 
     public void validateInputSchema(String modelId, MLInput mlInput) {
-        if (modelCacheHelper.getModelInterface(modelId) != null && modelCacheHelper.getModelInterface(modelId).get("input") != null) {
-            String inputSchemaString = modelCacheHelper.getModelInterface(modelId).get("input");
+        Map<String, String> modelInterface = modelCacheHelper.getModelInterface(modelId);
+        if (modelInterface != null && modelInterface.get("input") != null) {
             try {
-                String InputString = mlInput.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
+                JsonSchema inputSchema = modelCacheHelper.getModelInterfaceSchema(modelId, "input");
+                JsonNode inputNode = MLNodeUtils.toJsonNode(mlInput);
                 // Process the parameters field in the input dataset to convert it back to its original datatype, instead of a string
-                String processedInputString = MLNodeUtils.processRemoteInferenceInputDataSetParametersValue(InputString, inputSchemaString);
-                MLNodeUtils.validateSchema(inputSchemaString, processedInputString);
+                MLNodeUtils.processRemoteInferenceInputDataSetParametersValue(inputNode, inputSchema.getSchemaNode());
+                MLNodeUtils.validateSchema(inputSchema, inputNode);
             } catch (Exception e) {
                 throw new OpenSearchStatusException(
                     "Error validating input schema, if you think this is expected, please update your 'input' field in the 'interface' field for this model: "
@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.action.syncup;
 
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 
@@ -18,11 +19,15 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.nodes.TransportNodesAction;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.MLTask;
@@ -41,6 +46,7 @@ import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLTaskCache;
 import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
@@ -163,12 +169,17 @@ public class TransportSyncUpOnNodeAction extends
         String[] runningDeployModelTaskIds = null;
         String[] runningDeployModelIds = null;
         String[] expiredModelIds = null;
+        Map<String, Long> rateLimiterDemands = null;
         if (syncUpInput.isGetDeployedModels()) {
             deployedModelIds = mlModelManager.getLocalDeployedModels();
             List<String[]> localRunningDeployModel = mlTaskManager.getLocalRunningDeployModelTasks();
             runningDeployModelTaskIds = localRunningDeployModel.get(0);
             runningDeployModelIds = localRunningDeployModel.get(1);
             expiredModelIds = mlModelManager.getExpiredModels();
+            rateLimiterDemands = mlModelManager.getRateLimiterDemands();
+        }
+        if (syncUpInput.getRateLimiterDemands() != null) {
+            mlModelManager.rebalanceRateLimiters(syncUpInput.getRateLimiterDemands());
         }
 
         if (syncUpInput.isClearRoutingTable()) {
@@ -182,6 +193,7 @@ public class TransportSyncUpOnNodeAction extends
 
         cleanUpLocalCache(runningDeployModelTasks);
         cleanUpLocalCacheFiles();
+        cleanUpDeletedModels();
 
         return new MLSyncUpNodeResponse(
             clusterService.localNode(),
@@ -189,7 +201,8 @@ public class TransportSyncUpOnNodeAction extends
             deployedModelIds,
             runningDeployModelIds,
             runningDeployModelTaskIds,
-            expiredModelIds
+            expiredModelIds,
+            rateLimiterDemands
         );
     }
 
@@ -255,6 +268,39 @@ public class TransportSyncUpOnNodeAction extends
         }
     }
 
+    /**
+     * Removes deleted models from the local model artifact cache and model object cache, so their cached model files
+     * and deserialized model objects don't stay on this node until they are evicted. The model is deleted on one node
+     * only, so every node checks its own caches. A model can only be deleted after it's undeployed, so only models not
+     * running on this node are checked.
+     */
+    @VisibleForTesting
+    void cleanUpDeletedModels() {
+        Set<String> modelIds = mlModelManager.getModelArtifactCacheModelIds();
+        modelIds.addAll(mlEngine.getModelObjectCache().getModelIds());
+        modelIds.removeIf(mlModelManager::isModelRunningOnNode);
+        if (modelIds.isEmpty()) {
+            return;
+        }
+        MultiGetRequest multiGetRequest = new MultiGetRequest();
+        for (String modelId : modelIds) {
+            MultiGetRequest.Item item = new MultiGetRequest.Item(ML_MODEL_INDEX, modelId);
+            multiGetRequest.add(item.fetchSourceContext(FetchSourceContext.DO_NOT_FETCH_SOURCE));
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.multiGet(multiGetRequest, ActionListener.runBefore(ActionListener.wrap(response -> {
+                for (MultiGetItemResponse itemResponse : response.getResponses()) {
+                    // models which failed to get are kept
+                    if (!itemResponse.isFailed() && !itemResponse.getResponse().isExists()) {
+                        log.info("ML model deleted. Remove it from model caches. model id: {}", itemResponse.getId());
+                        mlModelManager.removeModelArtifacts(itemResponse.getId());
+                        mlEngine.getModelObjectCache().invalidate(itemResponse.getId());
+                    }
+                }
+            }, e -> log.warn("Failed to check models in model caches", e)), context::restore));
+        }
+    }
+
     private void deleteFileCache(String modelId) {
         deleteFileQuietly(mlEngine.getModelCachePath(modelId));
         deleteFileQuietly(mlEngine.getDeployModelPath(modelId));
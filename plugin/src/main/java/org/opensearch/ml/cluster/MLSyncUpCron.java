@@ -130,6 +130,8 @@ public class MLSyncUpCron implements Runnable {
             Map<String, Set<String>> deployingModels = new HashMap<>();
             // key is expired model_id, value is set of worker node ids
             Map<String, Set<String>> expiredModelToNodes = new HashMap<>();
+            // key is rate limiter key, value is map of node id and number of requests on the node
+            Map<String, Map<String, Long>> rateLimiterDemands = new HashMap<>();
             for (MLSyncUpNodeResponse response : responses) {
                 String nodeId = response.getNode().getId();
                 log.debug("Processing sync response from node: {}", nodeId);
@@ -140,6 +142,12 @@ public class MLSyncUpCron implements Runnable {
                         .forEach(modelId -> { expiredModelToNodes.computeIfAbsent(modelId, it -> new HashSet<>()).add(nodeId); });
                 }
 
+                Map<String, Long> nodeRateLimiterDemands = response.getRateLimiterDemands();
+                if (nodeRateLimiterDemands != null) {
+                    nodeRateLimiterDemands
+                        .forEach((key, demand) -> rateLimiterDemands.computeIfAbsent(key, it -> new HashMap<>()).put(nodeId, demand));
+                }
+
                 String[] deployedModelIds = response.getDeployedModelIds();
                 if (deployedModelIds != null) {
                     for (String modelId : deployedModelIds) {
@@ -183,7 +191,8 @@ public class MLSyncUpCron implements Runnable {
             MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
                 .builder()
                 .syncRunningDeployModelTasks(true)
-                .runningDeployModelTasks(runningDeployModelTasks);
+                .runningDeployModelTasks(runningDeployModelTasks)
+                .rateLimiterDemands(rateLimiterDemands);
             if (modelWorkerNodes.isEmpty()) {
                 log.debug("No deployed model found. Will clear model routing on all nodes");
                 inputBuilder.clearRoutingTable(true);
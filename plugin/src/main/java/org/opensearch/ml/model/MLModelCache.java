@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.model;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.DoubleSummaryStatistics;
 import java.util.List;
@@ -13,6 +14,8 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.DoubleStream;
 
 import org.opensearch.common.util.TokenBucket;
@@ -23,8 +26,11 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.task.MLPredictBatcher;
+import org.opensearch.ml.utils.MLNodeUtils;
 
 import com.google.common.math.Quantiles;
+import com.networknt.schema.JsonSchema;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -48,19 +54,23 @@ public class MLModelCache {
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLGuard mlGuard;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, String> modelInterface;
+    private @Getter(AccessLevel.PROTECTED) Map<String, String> modelInterface;
+    // compiled model interface schemas by schema string
+    private final Map<String, JsonSchema> modelInterfaceSchemas;
 
     // In rare case, this could be null, e.g. model info not synced up yet a predict request comes in.
     @Setter
     private Boolean deployToAllNodes;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Instant lastAccessTime;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Boolean isAutoDeploying;
+    private volatile MLPredictBatcher predictBatcher;
 
     public MLModelCache() {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
         modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
         predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        modelInterfaceSchemas = new ConcurrentHashMap<>();
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -178,7 +188,53 @@ public class MLModelCache {
         rateLimiter = null;
         userRateLimiterMap = null;
         mlGuard = null;
-        modelInterface = null;
+        predictBatcher = null;
+        setModelInterface(null);
+    }
+
+    /**
+     * Get the predict batcher of the model, or create a new one if there is none or it can't be used anymore.
+     * @param isUsable check if the current batcher can be used
+     * @param newBatcher create a new batcher
+     * @return predict batcher
+     */
+    protected MLPredictBatcher getPredictBatcher(Predicate<MLPredictBatcher> isUsable, Supplier<MLPredictBatcher> newBatcher) {
+        MLPredictBatcher batcher = predictBatcher;
+        if (batcher != null && isUsable.test(batcher)) {
+            return batcher;
+        }
+        synchronized (this) {
+            if (predictBatcher == null || !isUsable.test(predictBatcher)) {
+                predictBatcher = newBatcher.get();
+            }
+            return predictBatcher;
+        }
+    }
+
+    protected void setModelInterface(Map<String, String> modelInterface) {
+        this.modelInterface = modelInterface;
+        modelInterfaceSchemas.clear();
+    }
+
+    /**
+     * Get the compiled schema of a model interface field. The schema is compiled once and reused until the model
+     * interface is changed.
+     * @param field model interface field, e.g. "input" or "output"
+     * @return compiled schema, or null if the model interface doesn't have the field
+     * @throws IOException if the schema is not valid JSON
+     */
+    protected JsonSchema getModelInterfaceSchema(String field) throws IOException {
+        Map<String, String> modelInterface = this.modelInterface;
+        String schemaString = modelInterface == null ? null : modelInterface.get(field);
+        if (schemaString == null) {
+            return null;
+        }
+        JsonSchema schema = modelInterfaceSchemas.get(schemaString);
+        if (schema == null) {
+            schema = MLNodeUtils.compileSchema(schemaString);
+            modelInterfaceSchemas.put(schemaString, schema);
+        }
+        return schema;
     }
 
     public void addModelInferenceDuration(double duration, long maxRequestCount) {
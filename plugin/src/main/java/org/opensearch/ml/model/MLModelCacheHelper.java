@@ -7,6 +7,7 @@ package org.opensearch.ml.model;
 
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashSet;
@@ -15,6 +16,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -29,7 +32,16 @@ import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.PredictorPool;
+import org.opensearch.ml.engine.algorithms.remote.AdaptiveConcurrencyLimiter;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
+import org.opensearch.ml.profile.MLConcurrencyLimitStats;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.profile.MLPredictorPoolStats;
+import org.opensearch.ml.task.MLPredictBatcher;
+
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -213,6 +225,23 @@ public class MLModelCacheHelper {
         return modelCache.getModelInterface();
     }
 
+    /**
+     * Get the compiled schema of a model interface field. Schemas are compiled once per model interface and
+     * invalidated when the model interface is changed.
+     *
+     * @param modelId model id
+     * @param field model interface field, e.g. "input" or "output"
+     * @return compiled schema, or null if the model has no schema for the field
+     * @throws IOException if the schema is not valid JSON
+     */
+    public JsonSchema getModelInterfaceSchema(String modelId, String field) throws IOException {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.getModelInterfaceSchema(field);
+    }
+
     /**
      * Remove the ml interface from cache
      *
@@ -234,6 +263,22 @@ public class MLModelCacheHelper {
         getExistingModelCache(modelId).setMlGuard(mlGuard);
     }
 
+    /**
+     * Get the predict batcher of a model, which is removed with the model from cache on undeploy.
+     *
+     * @param modelId model id
+     * @param isUsable check if the current batcher can be used
+     * @param newBatcher create a new batcher
+     * @return predict batcher, null if the model is not in cache
+     */
+    public MLPredictBatcher getPredictBatcher(String modelId, Predicate<MLPredictBatcher> isUsable, Supplier<MLPredictBatcher> newBatcher) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.getPredictBatcher(isUsable, newBatcher);
+    }
+
     /**
      * Get the current ML guard for the model.
      *
@@ -689,9 +734,58 @@ public class MLModelCacheHelper {
         builder.predictRequestStats(modelCache.getInferenceStats(false));
         builder.memSizeEstimationCPU(modelCache.getMemSizeEstimationCPU());
         builder.memSizeEstimationGPU(modelCache.getMemSizeEstimationGPU());
+        if (modelCache.getPredictor() instanceof DLModel) {
+            builder.predictorPoolStats(getPredictorPoolStats(((DLModel) modelCache.getPredictor()).getPredictorPools()));
+        }
+        if (modelCache.getPredictor() instanceof RemoteModel && AdaptiveConcurrencyLimiter.isEnabled()) {
+            builder.concurrencyLimitStats(getConcurrencyLimitStats(((RemoteModel) modelCache.getPredictor()).getConcurrencyLimiter()));
+        }
         return builder.build();
     }
 
+    private MLConcurrencyLimitStats getConcurrencyLimitStats(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        if (concurrencyLimiter == null) {
+            return null;
+        }
+        return MLConcurrencyLimitStats
+            .builder()
+            .limit(concurrencyLimiter.getLimit())
+            .maxLimit(concurrencyLimiter.getMaxLimit())
+            .inFlight(concurrencyLimiter.getInFlight())
+            .throttledCount(concurrencyLimiter.getThrottledCount())
+            .rejectedCount(concurrencyLimiter.getRejectedCount())
+            .build();
+    }
+
+    private MLPredictorPoolStats getPredictorPoolStats(PredictorPool[] predictorPools) {
+        if (predictorPools == null) {
+            return null;
+        }
+        int maxSize = 0;
+        int size = 0;
+        int inUse = 0;
+        int waiting = 0;
+        long waitCount = 0;
+        long totalWaitTimeNanos = 0;
+        for (PredictorPool pool : predictorPools) {
+            maxSize += pool.getMaxSize();
+            size += pool.getSize();
+            inUse += pool.getInUse();
+            waiting += pool.getWaiting();
+            waitCount += pool.getWaitCount();
+            totalWaitTimeNanos += pool.getTotalWaitTimeNanos();
+        }
+        return MLPredictorPoolStats
+            .builder()
+            .maxSize(maxSize)
+            .size(size)
+            .inUse(inUse)
+            .waiting(waiting)
+            .waitCount(waitCount)
+            .totalWaitTimeMillis(totalWaitTimeNanos / 1_000_000.0)
+            .build();
+    }
+
     /**
      * Add model inference duration.
      * 
@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Retrieves all chunks of a model and writes them into the model zip file.
+ * <p>
+ * Up to {@code concurrency} chunks are fetched at the same time. Each chunk is decoded when it arrives and
+ * written into the zip file at its position once all chunks before it are written, so there are no chunk files
+ * and at most {@code concurrency} decoded chunks are held in memory.
+ */
+@Log4j2
+class MLModelChunkRetriever {
+    private final int totalChunks;
+    private final int concurrency;
+    private final IntFunction<String> chunkIdFunction;
+    private final BiConsumer<String, ActionListener<MLModel>> chunkFetcher;
+    private final File modelZipFile;
+    private final ActionListener<File> listener;
+
+    // decoded chunks which can't be written yet because a chunk before them is not retrieved
+    private final Map<Integer, byte[]> pendingChunks = new HashMap<>();
+    private FileChannel channel;
+    private long position;
+    private int nextChunkToFetch;
+    private int nextChunkToWrite;
+    private boolean done;
+
+    /**
+     * @param totalChunks number of model chunks
+     * @param concurrency max number of chunks fetched at the same time
+     * @param chunkIdFunction function to get the chunk id of a chunk number
+     * @param chunkFetcher function to get a model chunk by chunk id
+     * @param modelZipFile model zip file to write
+     * @param listener action listener called with the model zip file once all chunks are written
+     */
+    MLModelChunkRetriever(
+        int totalChunks,
+        int concurrency,
+        IntFunction<String> chunkIdFunction,
+        BiConsumer<String, ActionListener<MLModel>> chunkFetcher,
+        File modelZipFile,
+        ActionListener<File> listener
+    ) {
+        this.totalChunks = totalChunks;
+        this.concurrency = Math.max(1, concurrency);
+        this.chunkIdFunction = chunkIdFunction;
+        this.chunkFetcher = chunkFetcher;
+        this.modelZipFile = modelZipFile;
+        this.listener = listener;
+    }
+
+    void start() {
+        List<Integer> chunksToFetch;
+        synchronized (this) {
+            try {
+                org.apache.commons.io.FileUtils.forceMkdir(modelZipFile.getParentFile());
+                // an old model file may be a hard link of a cached model file, so don't write into it
+                Files.deleteIfExists(modelZipFile.toPath());
+                channel = FileChannel.open(modelZipFile.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                log.error("Failed to create model file {}", modelZipFile, e);
+                done = true;
+                listener.onFailure(e);
+                return;
+            }
+            chunksToFetch = nextChunksToFetch();
+        }
+        chunksToFetch.forEach(this::fetch);
+    }
+
+    private void fetch(int chunkNumber) {
+        String chunkId = chunkIdFunction.apply(chunkNumber);
+        try {
+            chunkFetcher.accept(chunkId, ActionListener.wrap(chunk -> onChunk(chunkNumber, chunk), e -> {
+                log.error("Failed to retrieve model chunk {}", chunkId, e);
+                fail(new MLResourceNotFoundException("Fail to find model chunk " + chunkId));
+            }));
+        } catch (Exception e) {
+            log.error("Failed to retrieve model chunk {}", chunkId, e);
+            fail(e);
+        }
+    }
+
+    private void onChunk(int chunkNumber, MLModel chunk) {
+        List<Integer> chunksToFetch;
+        boolean completed;
+        try {
+            byte[] bytes = Base64.getDecoder().decode(chunk.getContent());
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                pendingChunks.put(chunkNumber, bytes);
+                while ((bytes = pendingChunks.remove(nextChunkToWrite)) != null) {
+                    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                    nextChunkToWrite++;
+                }
+                completed = nextChunkToWrite == totalChunks;
+                if (completed) {
+                    channel.close();
+                    done = true;
+                }
+                chunksToFetch = nextChunksToFetch();
+            }
+        } catch (Exception e) {
+            log.error("Failed to write model chunk {} to {}", chunkNumber, modelZipFile, e);
+            fail(e);
+            return;
+        }
+        if (completed) {
+            listener.onResponse(modelZipFile);
+            return;
+        }
+        chunksToFetch.forEach(this::fetch);
+    }
+
+    private List<Integer> nextChunksToFetch() {
+        List<Integer> chunksToFetch = new ArrayList<>();
+        while (!done && nextChunkToFetch < totalChunks && nextChunkToFetch < nextChunkToWrite + concurrency) {
+            chunksToFetch.add(nextChunkToFetch++);
+        }
+        return chunksToFetch;
+    }
+
+    private void fail(Exception e) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+            pendingChunks.clear();
+            try {
+                channel.close();
+            } catch (IOException closeException) {
+                log.debug("Failed to close model file {}", modelZipFile, closeException);
+            }
+            org.apache.commons.io.FileUtils.deleteQuietly(modelZipFile);
+        }
+        listener.onFailure(e);
+    }
+}
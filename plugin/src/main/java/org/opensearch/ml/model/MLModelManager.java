@@ -22,11 +22,20 @@ import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_DISK_FREE_SPACE_THRESHOLD;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PREDICTOR_POOL_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_SIZE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INFERENCE_TASKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INGESTION_TASKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_RATE_LIMITER_EVEN_SHARE_RATIO;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_ADAPTIVE_CONCURRENCY_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_MAX_CONNECTIONS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_MAX_CONNECTIONS_PER_HOST;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
@@ -45,6 +54,8 @@ import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_RE
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.PREDICTOR_POOL_SIZE;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.PREDICT_BATCH_SIZE;
 import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
@@ -57,7 +68,7 @@ import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
-import java.nio.file.Path;
+import java.io.IOException;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
 import java.util.Arrays;
@@ -70,11 +81,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -97,6 +108,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.core.action.ActionListener;
@@ -123,7 +135,9 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.httpclient.MLHttpClientRegistry;
 import org.opensearch.ml.common.model.Guardrails;
+import org.opensearch.ml.common.model.MLDeploySetting;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
@@ -135,15 +149,18 @@ import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLExecutable;
+import org.opensearch.ml.engine.ModelArtifactCache;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.AdaptiveConcurrencyLimiter;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamingHttpClientPool;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.task.MLPredictBatcher;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.ml.utils.MLExceptionUtils;
 import org.opensearch.ml.utils.MLNodeUtils;
@@ -162,6 +179,7 @@ import org.opensearch.transport.client.Client;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.Files;
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -198,6 +216,11 @@ public class MLModelManager {
     private volatile Integer maxDeployTasksPerNode;
     private volatile Integer maxBatchInferenceTasks;
     private volatile Integer maxBatchIngestionTasks;
+    private final Integer localModelPredictBatchSize;
+    private final Integer localModelPredictorPoolSize;
+    private volatile Integer modelChunkRetrievalConcurrency;
+    private volatile Double rateLimiterEvenShareRatio;
+    private final ModelArtifactCache modelArtifactCache;
 
     public static final ImmutableSet<MLModelState> MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -266,6 +289,55 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_BATCH_INGESTION_TASKS, it -> maxBatchIngestionTasks = it);
+
+        localModelPredictBatchSize = ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_SIZE.get(settings);
+
+        localModelPredictorPoolSize = ML_COMMONS_LOCAL_MODEL_PREDICTOR_POOL_SIZE.get(settings);
+
+        modelChunkRetrievalConcurrency = ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY, it -> modelChunkRetrievalConcurrency = it);
+
+        rateLimiterEvenShareRatio = ML_COMMONS_RATE_LIMITER_EVEN_SHARE_RATIO.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_RATE_LIMITER_EVEN_SHARE_RATIO, it -> rateLimiterEvenShareRatio = it);
+
+        modelArtifactCache = new ModelArtifactCache(
+            mlEngine.getModelArtifactCacheRootPath(),
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE.get(settings).getBytes(),
+            ML_COMMONS_DISK_FREE_SPACE_THRESHOLD.get(settings).getBytes()
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE, it -> modelArtifactCache.setMaxSizeInBytes(it.getBytes()));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_DISK_FREE_SPACE_THRESHOLD, it -> modelArtifactCache.setMinFreeSpaceInBytes(it.getBytes()));
+
+        setRemoteInferenceMaxConnections(ML_COMMONS_REMOTE_INFERENCE_MAX_CONNECTIONS.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_INFERENCE_MAX_CONNECTIONS, this::setRemoteInferenceMaxConnections);
+        setRemoteInferenceMaxConnectionsPerHost(ML_COMMONS_REMOTE_INFERENCE_MAX_CONNECTIONS_PER_HOST.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_INFERENCE_MAX_CONNECTIONS_PER_HOST, this::setRemoteInferenceMaxConnectionsPerHost);
+        AdaptiveConcurrencyLimiter.setEnabled(ML_COMMONS_REMOTE_INFERENCE_ADAPTIVE_CONCURRENCY_ENABLED.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_INFERENCE_ADAPTIVE_CONCURRENCY_ENABLED, AdaptiveConcurrencyLimiter::setEnabled);
+    }
+
+    private void setRemoteInferenceMaxConnections(int maxConnections) {
+        MLHttpClientRegistry.setMaxConnections(maxConnections);
+        StreamingHttpClientPool.setMaxRequests(maxConnections);
+    }
+
+    private void setRemoteInferenceMaxConnectionsPerHost(int maxConnections) {
+        MLHttpClientRegistry.setMaxConnectionsPerHost(maxConnections);
+        StreamingHttpClientPool.setMaxRequestsPerHost(maxConnections);
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -1269,16 +1341,20 @@ public class MLModelManager {
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
-                    if (modelContentHash != null && !modelContentHash.equals(hash)) {
-                        log.error("Model content hash can't match original hash value");
-                        removeModel(modelId);
-                        wrappedListener.onFailure(new IllegalArgumentException("model content changed"));
-                        return;
-                    }
-                    log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                retrieveModelArtifact(mlModel, modelContentHash, ActionListener.wrap(modelZipFile -> {
+                    Map<String, Object> params = Map
+                        .of(
+                            MODEL_ZIP_FILE,
+                            modelZipFile,
+                            MODEL_HELPER,
+                            modelHelper,
+                            ML_ENGINE,
+                            mlEngine,
+                            PREDICT_BATCH_SIZE,
+                            localModelPredictBatchSize,
+                            PREDICTOR_POOL_SIZE,
+                            getPredictorPoolSize()
+                        );
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1420,16 +1496,20 @@ public class MLModelManager {
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
-                    if (modelContentHash != null && !modelContentHash.equals(hash)) {
-                        log.error("Model content hash can't match original hash value");
-                        removeModel(modelId);
-                        wrappedListener.onFailure(new IllegalArgumentException("model content changed"));
-                        return;
-                    }
-                    log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                retrieveModelArtifact(mlModel, modelContentHash, ActionListener.wrap(modelZipFile -> {
+                    Map<String, Object> params = Map
+                        .of(
+                            MODEL_ZIP_FILE,
+                            modelZipFile,
+                            MODEL_HELPER,
+                            modelHelper,
+                            ML_ENGINE,
+                            mlEngine,
+                            PREDICT_BATCH_SIZE,
+                            localModelPredictBatchSize,
+                            PREDICTOR_POOL_SIZE,
+                            getPredictorPoolSize()
+                        );
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1801,6 +1881,17 @@ public class MLModelManager {
         }, e -> log.error("Failed to re-deploy the model controller for model: {}", mlModel.getModelId(), e)));
     }
 
+    /**
+     * Get the max predictor count per device of a local model. By default, every thread of the predict
+     * thread pool can check out its own predictor.
+     */
+    private int getPredictorPoolSize() {
+        if (localModelPredictorPoolSize > 0) {
+            return localModelPredictorPoolSize;
+        }
+        return OpenSearchExecutors.allocatedProcessors(settings) * 2;
+    }
+
     private void setupRateLimiter(String modelId, Integer eligibleNodeCount, MLRateLimiter rateLimiter) {
         if (rateLimiter != null) {
             modelCacheHelper.setRateLimiter(modelId, createTokenBucket(eligibleNodeCount, rateLimiter));
@@ -1842,17 +1933,102 @@ public class MLModelManager {
                     limit / unit.toSeconds(1),
                     eligibleNodeCount
                 );
-            // Burst token must be greater than 1 to accept request
-            return new TokenBucket(
-                System::nanoTime,
-                limit / unit.toNanos(1) / eligibleNodeCount,
-                Math.max(limit / eligibleNodeCount, 1),
-                Math.max(limit / eligibleNodeCount, 1)
-            );
+            // the even split is rebalanced by the demand of each node on sync up
+            return new MLRateLimitBucket(System::nanoTime, limit / unit.toNanos(1), limit, 1.0 / eligibleNodeCount);
         }
         return null;
     }
 
+    /**
+     * Get the requests each rate limiter of the models on this node received since the last call.
+     *
+     * @return key is rate limiter key, value is number of requests
+     */
+    public Map<String, Long> getRateLimiterDemands() {
+        Map<String, Long> rateLimiterDemands = new HashMap<>();
+        for (String modelId : modelCacheHelper.getAllModels()) {
+            TokenBucket rateLimiter = modelCacheHelper.getRateLimiter(modelId);
+            if (rateLimiter instanceof MLRateLimitBucket) {
+                rateLimiterDemands.put(modelId, ((MLRateLimitBucket) rateLimiter).takeDemand());
+            }
+            Map<String, TokenBucket> userRateLimiterMap = modelCacheHelper.getUserRateLimiterMap(modelId);
+            if (userRateLimiterMap != null) {
+                userRateLimiterMap.forEach((user, userRateLimiter) -> {
+                    if (userRateLimiter instanceof MLRateLimitBucket) {
+                        rateLimiterDemands.put(getUserRateLimiterKey(modelId, user), ((MLRateLimitBucket) userRateLimiter).takeDemand());
+                    }
+                });
+            }
+        }
+        return rateLimiterDemands;
+    }
+
+    /**
+     * Rebalance the share of this node in the rate limiters of its models by the demand of all nodes.
+     *
+     * @param rateLimiterDemands key is rate limiter key, value is map of node id and number of requests of the node
+     */
+    public void rebalanceRateLimiters(Map<String, Map<String, Long>> rateLimiterDemands) {
+        String localNodeId = clusterService.localNode().getId();
+        for (String modelId : modelCacheHelper.getAllModels()) {
+            String[] workerNodes = modelCacheHelper.getWorkerNodes(modelId);
+            if (workerNodes == null || workerNodes.length == 0) {
+                workerNodes = modelCacheHelper.getTargetWorkerNodes(modelId);
+            }
+            if (workerNodes == null || workerNodes.length == 0) {
+                continue;
+            }
+            String[] modelWorkerNodes = workerNodes;
+            rebalanceRateLimiter(modelCacheHelper.getRateLimiter(modelId), rateLimiterDemands.get(modelId), modelWorkerNodes, localNodeId);
+            Map<String, TokenBucket> userRateLimiterMap = modelCacheHelper.getUserRateLimiterMap(modelId);
+            if (userRateLimiterMap != null) {
+                userRateLimiterMap
+                    .forEach(
+                        (user, userRateLimiter) -> rebalanceRateLimiter(
+                            userRateLimiter,
+                            rateLimiterDemands.get(getUserRateLimiterKey(modelId, user)),
+                            modelWorkerNodes,
+                            localNodeId
+                        )
+                    );
+            }
+        }
+    }
+
+    private void rebalanceRateLimiter(TokenBucket rateLimiter, Map<String, Long> nodeDemands, String[] workerNodes, String localNodeId) {
+        if (!(rateLimiter instanceof MLRateLimitBucket)) {
+            return;
+        }
+        ((MLRateLimitBucket) rateLimiter).setShare(getRateLimiterShare(nodeDemands, workerNodes, localNodeId, rateLimiterEvenShareRatio));
+    }
+
+    /**
+     * Get the share of a node in a rate limiter. The even share ratio of the limit is split evenly over the worker
+     * nodes of the model, the rest by the demand of each worker node, so the shares of all worker nodes add up to one.
+     * Until every worker node reports its demand, e.g. while older nodes are in the cluster or right after the model
+     * is deployed to a new node, the whole limit is split evenly, as the nodes which don't report keep the even split.
+     */
+    static double getRateLimiterShare(Map<String, Long> nodeDemands, String[] workerNodes, String nodeId, double evenShareRatio) {
+        int nodeCount = workerNodes.length;
+        long totalDemand = 0;
+        for (String workerNode : workerNodes) {
+            Long demand = nodeDemands == null ? null : nodeDemands.get(workerNode);
+            if (demand == null) {
+                return 1.0 / nodeCount;
+            }
+            totalDemand += demand;
+        }
+        if (totalDemand == 0) {
+            return 1.0 / nodeCount;
+        }
+        return evenShareRatio / nodeCount + (1 - evenShareRatio) * nodeDemands.getOrDefault(nodeId, 0L) / totalDemand;
+    }
+
+    private static String getUserRateLimiterKey(String modelId, String user) {
+        // model ids don't contain "/", so the key is unique for any user name
+        return modelId + "/" + user;
+    }
+
     /**
      * Get model-level rate limiter with model id.
      *
@@ -1896,6 +2072,18 @@ public class MLModelManager {
         return modelCacheHelper.getModelInterface(modelId);
     }
 
+    /**
+     * Get the compiled schema of a model interface field with model id.
+     *
+     * @param modelId model id
+     * @param field model interface field, e.g. "input" or "output"
+     * @return compiled schema, or null if the model has no schema for the field
+     * @throws IOException if the schema is not valid JSON
+     */
+    public JsonSchema getModelInterfaceSchema(String modelId, String field) throws IOException {
+        return modelCacheHelper.getModelInterfaceSchema(modelId, field);
+    }
+
     /**
      * Set up ML guard with model id.
      *
@@ -2153,50 +2341,54 @@ public class MLModelManager {
     }
 
     /**
-     * Retreive a model's all chunks.
+     * Get the model zip file from the local model artifact cache, or retrieve the model chunks and add the
+     * verified model zip file to the cache.
+     *
+     * @param mlModelMeta      model meta
+     * @param modelContentHash model content hash
+     * @param listener         action listener
+     */
+    private void retrieveModelArtifact(MLModel mlModelMeta, String modelContentHash, ActionListener<File> listener) {
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(mlModelMeta.getModelId(), mlModelMeta.getName()));
+        try {
+            if (modelArtifactCache.get(modelContentHash, mlModelMeta.getModelId(), modelZipFile)) {
+                log.debug("Found model {} in local model artifact cache", mlModelMeta.getModelId());
+                listener.onResponse(modelZipFile);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to get model {} from local model artifact cache", mlModelMeta.getModelId(), e);
+        }
+        retrieveModelChunks(mlModelMeta, ActionListener.wrap(file -> {
+            String hash = calculateFileHash(file);
+            if (modelContentHash != null && !modelContentHash.equals(hash)) {
+                log.error("Model content hash can't match original hash value");
+                listener.onFailure(new IllegalArgumentException("model content changed"));
+                return;
+            }
+            log.debug("Model content matches original hash value, continue deploying");
+            modelArtifactCache.put(modelContentHash, mlModelMeta.getModelId(), file);
+            listener.onResponse(file);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Retreive a model's all chunks and write them into the model zip file.
      *
      * @param mlModelMeta model meta
      * @param listener    action listener
      */
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) {
         String modelId = mlModelMeta.getModelId();
-        String modelName = mlModelMeta.getName();
-        Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
-        AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
-            }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
-            this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
-                }
-                semaphore.release();
-            }, e -> {
-                stopNow.set(true);
-                semaphore.release();
-                log.error("Failed to retrieve model chunk {}", modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
-                    listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
-                }
-            })));
-        }
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, mlModelMeta.getName()));
+        new MLModelChunkRetriever(
+            mlModelMeta.getTotalChunks(),
+            modelChunkRetrievalConcurrency,
+            chunkNumber -> getModelChunkId(modelId, chunkNumber),
+            (modelChunkId, chunkListener) -> getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, chunkListener)),
+            modelZipFile,
+            listener
+        ).start();
     }
 
     /**
@@ -2453,6 +2645,26 @@ public class MLModelManager {
     private void removeModel(String modelId) {
         modelCacheHelper.removeModel(modelId);
         modelHelper.deleteFileCache(modelId);
+        // undeploy runs on every node, so the model object is dropped everywhere
+        mlEngine.getModelObjectCache().invalidate(modelId);
+    }
+
+    /**
+     * Get ids of the models which use model files in the local model artifact cache.
+     *
+     * @return model ids
+     */
+    public Set<String> getModelArtifactCacheModelIds() {
+        return modelArtifactCache.getModelIds();
+    }
+
+    /**
+     * Remove a deleted model from the local model artifact cache, with its cached model files which no other model uses.
+     *
+     * @param modelId model id
+     */
+    public void removeModelArtifacts(String modelId) {
+        modelArtifactCache.remove(modelId);
     }
 
     /**
@@ -2518,6 +2730,29 @@ public class MLModelManager {
         return modelCacheHelper.getPredictor(modelId);
     }
 
+    /**
+     * Get deploy setting of model from cache.
+     *
+     * @param modelId model id
+     * @return deploy setting, null if model info not cached or no deploy setting
+     */
+    public MLDeploySetting getDeploySetting(String modelId) {
+        MLModel mlModel = modelCacheHelper.getModelInfo(modelId);
+        return mlModel == null ? null : mlModel.getDeploySetting();
+    }
+
+    /**
+     * Get predict batcher of model from cache, the batcher is dropped when the model is undeployed.
+     *
+     * @param modelId model id
+     * @param isUsable check if the current batcher can be used
+     * @param newBatcher create a new batcher
+     * @return predict batcher, null if model not cached
+     */
+    public MLPredictBatcher getPredictBatcher(String modelId, Predicate<MLPredictBatcher> isUsable, Supplier<MLPredictBatcher> newBatcher) {
+        return modelCacheHelper.getPredictBatcher(modelId, isUsable, newBatcher);
+    }
+
     /**
      * Get all model ids in cache, both local model id and remote model in routing
      * table.
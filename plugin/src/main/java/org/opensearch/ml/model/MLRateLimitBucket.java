@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.opensearch.common.util.TokenBucket;
+
+/**
+ * Token bucket of the share of this node in a cluster wide rate limit.
+ * <p>
+ * The share starts as an even split over the eligible nodes and is rebalanced by the ML sync up job according to
+ * the demand every node reported since the previous sync up, so hot nodes get the tokens cold nodes don't use. The
+ * shares of all nodes add up to one, so the cluster keeps to the configured limit. Changing the share keeps the
+ * tokens the bucket has, up to the new burst size.
+ */
+public class MLRateLimitBucket extends TokenBucket {
+    private final LongSupplier clock;
+    // rate in tokens per nanosecond and burst of the whole cluster
+    private final double clusterRate;
+    private final double clusterBurst;
+    // requests since the last sync up, accepted or not
+    private final LongAdder demand = new LongAdder();
+    // guarded by this
+    private double share;
+    private double rate;
+    private double burst;
+    private double tokens;
+    private long lastRefillTime;
+
+    public MLRateLimitBucket(LongSupplier clock, double clusterRate, double clusterBurst, double share) {
+        super(clock, clusterRate * share, getBurst(clusterBurst, share));
+        this.clock = clock;
+        this.clusterRate = clusterRate;
+        this.clusterBurst = clusterBurst;
+        this.share = share;
+        this.rate = clusterRate * share;
+        this.burst = getBurst(clusterBurst, share);
+        this.tokens = burst;
+        this.lastRefillTime = clock.getAsLong();
+    }
+
+    // Burst token must be greater than 1 to accept request
+    private static double getBurst(double clusterBurst, double share) {
+        return Math.max(clusterBurst * share, 1);
+    }
+
+    @Override
+    public boolean request() {
+        return request(1.0);
+    }
+
+    @Override
+    public boolean request(double n) {
+        demand.increment();
+        synchronized (this) {
+            refill();
+            if (tokens < n) {
+                return false;
+            }
+            tokens -= n;
+            return true;
+        }
+    }
+
+    /**
+     * Set the share of this node in the cluster wide rate limit.
+     * @param share share between 0 and 1
+     */
+    public synchronized void setShare(double share) {
+        refill();
+        this.share = share;
+        this.rate = clusterRate * share;
+        this.burst = getBurst(clusterBurst, share);
+        this.tokens = Math.min(tokens, burst);
+    }
+
+    public synchronized double getShare() {
+        return share;
+    }
+
+    /**
+     * Get the number of requests since the last call and reset it.
+     * @return number of requests
+     */
+    public long takeDemand() {
+        return demand.sumThenReset();
+    }
+
+    private void refill() {
+        long now = clock.getAsLong();
+        tokens = Math.min(burst, tokens + (now - lastRefillTime) * rate);
+        lastRefillTime = now;
+    }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.ml.plugin;
 
 import static org.opensearch.ml.common.CommonValue.*;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_OBJECT_CACHE_SIZE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.REMOTE_METADATA_ENDPOINT;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.REMOTE_METADATA_GLOBAL_RESOURCE_CACHE_TTL;
@@ -152,6 +153,7 @@ import org.opensearch.ml.cluster.MLCommonsClusterEventListener;
 import org.opensearch.ml.cluster.MLCommonsClusterManagerEventListener;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.httpclient.MLHttpClientRegistry;
 import org.opensearch.ml.common.input.execute.anomalylocalization.AnomalyLocalizationInput;
 import org.opensearch.ml.common.input.execute.metricscorrelation.MetricsCorrelationInput;
 import org.opensearch.ml.common.input.execute.samplecalculator.LocalSampleCalculatorInput;
@@ -285,6 +287,7 @@ import org.opensearch.ml.engine.tools.SearchIndexTool;
 import org.opensearch.ml.engine.tools.VisualizationsTool;
 import org.opensearch.ml.engine.tools.WriteToScratchPadTool;
 import org.opensearch.ml.engine.utils.AgentModelsSearcher;
+import org.opensearch.ml.engine.utils.ModelObjectCache;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.jobs.MLJobParameter;
@@ -694,7 +697,11 @@ public class MachineLearningPlugin extends Plugin
 
         encryptor = new EncryptorImpl(clusterService, client, sdkClient, mlIndicesHandler);
 
-        mlEngine = new MLEngine(dataPath, encryptor);
+        ModelObjectCache modelObjectCache = new ModelObjectCache(ML_COMMONS_MODEL_OBJECT_CACHE_SIZE.get(settings).getBytes());
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_OBJECT_CACHE_SIZE, it -> modelObjectCache.setMaxSize(it.getBytes()));
+        mlEngine = new MLEngine(dataPath, encryptor, modelObjectCache);
         nodeHelper = new DiscoveryNodeHelper(clusterService, settings);
         modelCacheHelper = new MLModelCacheHelper(clusterService, settings);
         cmHandler = new OpenSearchConversationalMemoryHandler(client, clusterService);
@@ -725,13 +732,16 @@ public class MachineLearningPlugin extends Plugin
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_INFERENCE_CACHE_HIT_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_INFERENCE_CACHE_MISS_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_REMOTE_CONNECTION_POOLS, new MLStat<>(false, MLHttpClientRegistry::getPoolStats));
         this.mlStats = new MLStats(stats);
 
         mlTaskManager = new MLTaskManager(client, sdkClient, threadPool, mlIndicesHandler);
         mlFeatureEnabledSetting.addListener(mlTaskManager);
         modelHelper = new ModelHelper(mlEngine);
 
-        mlInputDatasetHandler = new MLInputDatasetHandler(client);
+        mlInputDatasetHandler = new MLInputDatasetHandler(client, clusterService, settings);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         connectorAccessControlHelper = new ConnectorAccessControlHelper(clusterService, settings);
 
@@ -1358,11 +1368,19 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE,
                 MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS,
+                MLCommonsSettings.ML_COMMONS_RATE_LIMITER_EVEN_SHARE_RATIO,
                 MLCommonsSettings.ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS,
                 MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT,
                 MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_SIZE,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PREDICTOR_POOL_SIZE,
+                MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY,
+                MLCommonsSettings.ML_COMMONS_SEARCH_QUERY_INPUT_MAX_ROWS,
+                MLCommonsSettings.ML_COMMONS_SEARCH_QUERY_INPUT_MAX_MEMORY,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_MODEL_OBJECT_CACHE_SIZE,
                 MLCommonsSettings.ML_COMMONS_TRUSTED_URL_REGEX,
                 MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD,
                 MLCommonsSettings.ML_COMMONS_DISK_FREE_SPACE_THRESHOLD,
@@ -1387,6 +1405,9 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_AGENT_FRAMEWORK_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE,
                 MLCommonsSettings.ML_COMMONS_CONNECTOR_PRIVATE_IP_ENABLED,
+                MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_MAX_CONNECTIONS,
+                MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_MAX_CONNECTIONS_PER_HOST,
+                MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_ADAPTIVE_CONCURRENCY_ENABLED,
                 MLCommonsSettings.ML_COMMONS_REMOTE_JOB_STATUS_FIELD,
                 MLCommonsSettings.ML_COMMONS_REMOTE_JOB_STATUS_COMPLETED_REGEX,
                 MLCommonsSettings.ML_COMMONS_REMOTE_JOB_STATUS_CANCELLED_REGEX,
@@ -1468,7 +1489,7 @@ public class MachineLearningPlugin extends Plugin
         requestProcessors
             .put(
                 MLInferenceSearchRequestProcessor.TYPE,
-                new MLInferenceSearchRequestProcessor.Factory(parameters.client, parameters.namedXContentRegistry)
+                new MLInferenceSearchRequestProcessor.Factory(parameters.client, parameters.namedXContentRegistry, mlStats)
             );
         return requestProcessors;
     }
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.processor;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.utils.StringUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Cache of the model outputs of an ML inference processor, keyed by model id, requesting user, tenant and the
+ * resolved model input, so repeated inputs like popular queries don't call the model again. Outputs are only served
+ * to the user and tenant whose request produced them, which passed the model access check.
+ * <p>
+ * The cache is bounded by both entries and bytes: every entry weighs at least the max size divided by the max
+ * entries, so the cache never holds more than max entries. Entries expire a fixed time after they are written, so
+ * a changed model is picked up after the TTL. Cached outputs are shared by concurrent requests and must not be
+ * modified.
+ */
+public class InferenceResultCache {
+    private static final long MAX_WEIGHT = Integer.MAX_VALUE;
+
+    private final Cache<String, CachedOutput> cache;
+
+    public InferenceResultCache(int maxEntries, long maxSizeInBytes, TimeValue ttl) {
+        long minEntrySize = Math.max(maxSizeInBytes / Math.max(maxEntries, 1), 1);
+        this.cache = CacheBuilder
+            .newBuilder()
+            .maximumWeight(maxSizeInBytes)
+            .weigher((String key, CachedOutput cachedOutput) -> (int) Math.min(Math.max(cachedOutput.size, minEntrySize), MAX_WEIGHT))
+            .expireAfterWrite(ttl.nanos(), TimeUnit.NANOSECONDS)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Get the key of a model input.
+     * @param modelId model id
+     * @param user user string of the requesting user, or null if security is disabled
+     * @param tenantId tenant id, or null if multi-tenancy is disabled
+     * @param modelParameters resolved model input parameters
+     * @return cache key, independent of the order of the parameters
+     */
+    public static String getKey(String modelId, String user, String tenantId, Map<String, String> modelParameters) {
+        return modelId + ":" + StringUtils.toJson(Arrays.asList(user, tenantId, new TreeMap<>(modelParameters)));
+    }
+
+    /**
+     * Get the cached model output.
+     * @param key cache key
+     * @return model output, or null if not cached
+     */
+    public MLOutput get(String key) {
+        CachedOutput cachedOutput = cache.getIfPresent(key);
+        return cachedOutput == null ? null : cachedOutput.output;
+    }
+
+    /**
+     * Cache a model output.
+     * @param key cache key
+     * @param output model output
+     * @throws IOException if the size of the output can't be computed
+     */
+    public void put(String key, MLOutput output) throws IOException {
+        try (BytesStreamOutput bytesStreamOutput = new BytesStreamOutput()) {
+            output.writeTo(bytesStreamOutput);
+            // keys are kept as UTF-16 strings
+            cache.put(key, new CachedOutput(output, bytesStreamOutput.size() + key.length() * 2L));
+        }
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private static class CachedOutput {
+        private final MLOutput output;
+        private final long size;
+
+        CachedOutput(MLOutput output, long size) {
+            this.output = output;
+            this.size = size;
+        }
+    }
+}
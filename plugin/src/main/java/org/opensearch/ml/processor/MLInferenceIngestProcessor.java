@@ -7,13 +7,17 @@ package org.opensearch.ml.processor;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,6 +29,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.ValueSource;
 import org.opensearch.ml.common.FunctionName;
@@ -36,6 +41,7 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.script.TemplateScript;
 import org.opensearch.transport.client.Client;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 
 /**
@@ -55,6 +61,9 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     private final boolean ignoreFailure;
     private final boolean override;
     private final String modelInput;
+    private final int maxBatchSize;
+    // JSON paths of the document fields in the input maps and of the model output fields in the output maps
+    private final Map<String, JsonPath> compiledJsonPaths;
     private final ScriptService scriptService;
     private static Client client;
     public static final String TYPE = "ml_inference";
@@ -69,6 +78,10 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     // At default, ml inference processor allows maximum 10 prediction tasks running in parallel
     // it can be overwritten using max_prediction_tasks when creating processor
     public static final int DEFAULT_MAX_PREDICTION_TASKS = 10;
+    // At default, every document is predicted on its own. When max_batch_size is greater than 1, the documents of a bulk
+    // request are predicted in batches of up to max_batch_size documents, so the model has to take arrays of inputs
+    public static final String MAX_BATCH_SIZE = "max_batch_size";
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1;
     public static final String DEFAULT_MODEl_INPUT = "{ \"parameters\": ${ml_inference.parameters} }";
     private final NamedXContentRegistry xContentRegistry;
 
@@ -89,6 +102,46 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         ScriptService scriptService,
         Client client,
         NamedXContentRegistry xContentRegistry
+    ) {
+        this(
+            modelId,
+            inputMaps,
+            outputMaps,
+            modelConfigMaps,
+            maxPredictionTask,
+            tag,
+            description,
+            ignoreMissing,
+            functionName,
+            fullResponsePath,
+            ignoreFailure,
+            override,
+            modelInput,
+            DEFAULT_MAX_BATCH_SIZE,
+            scriptService,
+            client,
+            xContentRegistry
+        );
+    }
+
+    protected MLInferenceIngestProcessor(
+        String modelId,
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps,
+        Map<String, String> modelConfigMaps,
+        int maxPredictionTask,
+        String tag,
+        String description,
+        boolean ignoreMissing,
+        String functionName,
+        boolean fullResponsePath,
+        boolean ignoreFailure,
+        boolean override,
+        String modelInput,
+        int maxBatchSize,
+        ScriptService scriptService,
+        Client client,
+        NamedXContentRegistry xContentRegistry
     ) {
         super(tag, description);
         this.inferenceProcessorAttributes = new InferenceProcessorAttributes(
@@ -104,11 +157,33 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         this.ignoreFailure = ignoreFailure;
         this.override = override;
         this.modelInput = modelInput;
+        this.maxBatchSize = maxBatchSize;
+        this.compiledJsonPaths = compileMappingJsonPaths(inputMaps, outputMaps);
         this.scriptService = scriptService;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
     }
 
+    private static Map<String, JsonPath> compileMappingJsonPaths(
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps
+    ) {
+        List<String> paths = new ArrayList<>();
+        if (inputMaps != null) {
+            inputMaps.forEach(inputMap -> paths.addAll(inputMap.values()));
+        }
+        if (outputMaps != null) {
+            // model output values are read by the base field name, without the output transformation
+            outputMaps.forEach(outputMap -> outputMap.values().forEach(value -> paths.add(OutputTransformations.getBaseFieldName(value))));
+        }
+        return ModelExecutor.compileJsonPaths(paths);
+    }
+
+    @Override
+    public Map<String, JsonPath> getCompiledJsonPaths() {
+        return compiledJsonPaths;
+    }
+
     /**
      * This method is used to execute inference asynchronously,
      * supporting multiple predictions.
@@ -139,15 +214,311 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
             }
         }, Math.max(inputMapSize, 1));
 
+        // parse the document once for all the input maps
+        DocumentContext documentContext = parseDocument(ingestDocument);
         for (int inputMapIndex = 0; inputMapIndex < Math.max(inputMapSize, 1); inputMapIndex++) {
             try {
-                processPredictions(ingestDocument, batchPredictionListener, processInputMap, processOutputMap, inputMapIndex, inputMapSize);
+                processPredictions(
+                    ingestDocument,
+                    documentContext,
+                    batchPredictionListener,
+                    processInputMap,
+                    processOutputMap,
+                    inputMapIndex,
+                    inputMapSize
+                );
             } catch (Exception e) {
                 batchPredictionListener.onFailure(e);
             }
         }
     }
 
+    /**
+     * This method is used to execute inference for the documents of a bulk request in batches,
+     * one prediction per batch of up to max_batch_size documents for every input map.
+     * Every model input field of the batch is an array with the value of every document, and every
+     * model output field in the output map must be an array with one value for every document.
+     * Documents whose inputs are missing are predicted on their own, and a failure only fails the
+     * documents of the batch it happened in.
+     *
+     * @param ingestDocumentWrappers The documents to be processed.
+     * @param handler                A consumer for handling the processed documents or the exceptions of the failed documents.
+     */
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
+        List<Map<String, String>> processOutputMap = inferenceProcessorAttributes.getOutputMaps();
+        // without mappings the whole document is the model input and the whole model output is the document field,
+        // which can't be split by document
+        if (maxBatchSize <= 1
+            || ingestDocumentWrappers.size() <= 1
+            || processInputMap == null
+            || processInputMap.isEmpty()
+            || processOutputMap == null
+            || processOutputMap.isEmpty()) {
+            super.batchExecute(ingestDocumentWrappers, handler);
+            return;
+        }
+
+        AtomicReferenceArray<Exception> failures = new AtomicReferenceArray<>(ingestDocumentWrappers.size());
+        // parse every document once for all the input maps
+        List<DocumentContext> documentContexts = new ArrayList<>(ingestDocumentWrappers.size());
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            documentContexts.add(parseDocument(ingestDocumentWrapper.getIngestDocument()));
+        }
+        List<Consumer<ActionListener<Void>>> predictions = new ArrayList<>();
+        for (int inputMapIndex = 0; inputMapIndex < processInputMap.size(); inputMapIndex++) {
+            int index = inputMapIndex;
+            List<Integer> batchedDocuments = new ArrayList<>();
+            List<Map<String, Object>> batchedInputs = new ArrayList<>();
+            List<Map<String, String>> batchedOutputMappings = new ArrayList<>();
+            for (int slot = 0; slot < ingestDocumentWrappers.size(); slot++) {
+                int documentSlot = slot;
+                IngestDocument ingestDocument = ingestDocumentWrappers.get(slot).getIngestDocument();
+                DocumentContext documentContext = documentContexts.get(slot);
+                try {
+                    Map<String, String> outputMapping = getNewOutputMapping(ingestDocument, processOutputMap.get(index));
+                    if (outputMapping.isEmpty()) {
+                        continue;
+                    }
+                    Map<String, String> inputMapping = processInputMap.get(index);
+                    Map<String, Object> documentInputs = new HashMap<>();
+                    for (Map.Entry<String, String> entry : inputMapping.entrySet()) {
+                        // model field as key, document field as value
+                        String modelInputFieldName = entry.getKey();
+                        readDocumentFieldValue(
+                            ingestDocument,
+                            documentContext,
+                            entry.getValue(),
+                            value -> documentInputs.put(modelInputFieldName, value)
+                        );
+                    }
+                    if (documentInputs.size() < inputMapping.size()) {
+                        // missing fields are left out of the model input, so this document has a model input of its own
+                        predictions.add(listener -> {
+                            ActionListener<Void> documentListener = getPredictionListener(failures, List.of(documentSlot), listener);
+                            try {
+                                processPredictions(
+                                    ingestDocument,
+                                    documentContext,
+                                    documentListener,
+                                    processInputMap,
+                                    processOutputMap,
+                                    index,
+                                    processInputMap.size()
+                                );
+                            } catch (Exception e) {
+                                documentListener.onFailure(e);
+                            }
+                        });
+                        continue;
+                    }
+                    batchedDocuments.add(slot);
+                    batchedInputs.add(documentInputs);
+                    batchedOutputMappings.add(outputMapping);
+                } catch (Exception e) {
+                    failures.compareAndSet(slot, null, e);
+                }
+            }
+            for (int from = 0; from < batchedDocuments.size(); from += maxBatchSize) {
+                int to = Math.min(from + maxBatchSize, batchedDocuments.size());
+                List<Integer> slots = batchedDocuments.subList(from, to);
+                List<IngestDocument> documents = new ArrayList<>(slots.size());
+                for (int slot : slots) {
+                    documents.add(ingestDocumentWrappers.get(slot).getIngestDocument());
+                }
+                List<Map<String, Object>> inputs = batchedInputs.subList(from, to);
+                List<Map<String, String>> outputMappings = batchedOutputMappings.subList(from, to);
+                predictions.add(listener -> {
+                    ActionListener<Void> batchListener = getPredictionListener(failures, slots, listener);
+                    try {
+                        processBatchPredictions(documents, inputs, outputMappings, batchListener);
+                    } catch (Exception e) {
+                        batchListener.onFailure(e);
+                    }
+                });
+            }
+        }
+
+        Runnable onCompletion = () -> {
+            List<IngestDocumentWrapper> results = new ArrayList<>(ingestDocumentWrappers.size());
+            for (int slot = 0; slot < ingestDocumentWrappers.size(); slot++) {
+                IngestDocumentWrapper ingestDocumentWrapper = ingestDocumentWrappers.get(slot);
+                Exception failure = failures.get(slot);
+                if (failure == null || ignoreFailure) {
+                    IngestDocument ingestDocument = ingestDocumentWrapper.getIngestDocument();
+                    results.add(new IngestDocumentWrapper(ingestDocumentWrapper.getSlot(), ingestDocument, null));
+                } else {
+                    results.add(new IngestDocumentWrapper(ingestDocumentWrapper.getSlot(), null, failure));
+                }
+            }
+            handler.accept(results);
+        };
+        if (predictions.isEmpty()) {
+            onCompletion.run();
+            return;
+        }
+        // failures are kept by document, so the grouped listener only counts the completed predictions
+        GroupedActionListener<Void> predictionsListener = new GroupedActionListener<>(
+            ActionListener.wrap(voids -> onCompletion.run(), e -> onCompletion.run()),
+            predictions.size()
+        );
+        for (Consumer<ActionListener<Void>> prediction : predictions) {
+            prediction.accept(predictionsListener);
+        }
+    }
+
+    /**
+     * Keeps the failure of a prediction for each of its documents, so it only fails those documents.
+     */
+    private ActionListener<Void> getPredictionListener(
+        AtomicReferenceArray<Exception> failures,
+        List<Integer> slots,
+        ActionListener<Void> listener
+    ) {
+        return ActionListener.wrap(listener::onResponse, e -> {
+            for (int slot : slots) {
+                failures.compareAndSet(slot, null, e);
+            }
+            listener.onResponse(null);
+        });
+    }
+
+    /**
+     * Predicts a batch of documents for one input map, and writes the value of every model output field
+     * at the position of a document to the fields of that document.
+     *
+     * @param documents      The documents of the batch.
+     * @param inputs         The model inputs of every document, model field as key.
+     * @param outputMappings The output mapping of every document, without the fields the document already has.
+     * @param listener       The listener notified when the batch is completed.
+     */
+    private void processBatchPredictions(
+        List<IngestDocument> documents,
+        List<Map<String, Object>> inputs,
+        List<Map<String, String>> outputMappings,
+        ActionListener<Void> listener
+    ) throws IOException {
+        Map<String, String> modelParameters = new HashMap<>();
+        Map<String, String> modelConfigs = new HashMap<>();
+        if (inferenceProcessorAttributes.getModelConfigMaps() != null) {
+            modelParameters.putAll(inferenceProcessorAttributes.getModelConfigMaps());
+            modelConfigs.putAll(inferenceProcessorAttributes.getModelConfigMaps());
+        }
+
+        Map<String, String> inputMappings = new HashMap<>();
+        for (String modelInputFieldName : inputs.get(0).keySet()) {
+            List<Object> batchedValues = new ArrayList<>(inputs.size());
+            for (Map<String, Object> documentInputs : inputs) {
+                batchedValues.add(documentInputs.get(modelInputFieldName));
+            }
+            String batchedValuesAsString = toString(batchedValues);
+            modelParameters.put(modelInputFieldName, batchedValuesAsString);
+            inputMappings.put(modelInputFieldName, batchedValuesAsString);
+        }
+        ActionRequest request = getMLModelInferenceRequest(
+            xContentRegistry,
+            modelParameters,
+            modelConfigs,
+            inputMappings,
+            inferenceProcessorAttributes.getModelId(),
+            functionName,
+            modelInput
+        );
+
+        client.execute(MLPredictionTaskAction.INSTANCE, request, ActionListener.wrap(mlTaskResponse -> {
+            MLOutput mlOutput = mlTaskResponse.getOutput();
+            if (mlOutput == null) {
+                throw new RuntimeException("model inference output is null");
+            }
+            // read every model output field once for the whole batch
+            Map<String, List<?>> modelOutputValues = new HashMap<>();
+            for (Map<String, String> outputMapping : outputMappings) {
+                for (String modelOutputFieldName : outputMapping.values()) {
+                    if (!modelOutputValues.containsKey(modelOutputFieldName)) {
+                        List<?> modelOutputValue = getBatchModelOutputValue(mlOutput, modelOutputFieldName, documents.size());
+                        modelOutputValues.put(modelOutputFieldName, modelOutputValue);
+                    }
+                }
+            }
+            // check the values of all documents before writing any, so a failed batch leaves every document unchanged
+            List<Map<String, Object>> ingestValues = new ArrayList<>(documents.size());
+            for (int i = 0; i < documents.size(); i++) {
+                Map<String, Object> documentIngestValues = new LinkedHashMap<>();
+                for (Map.Entry<String, String> entry : outputMappings.get(i).entrySet()) {
+                    // document field as key, model field as value
+                    String modelOutputFieldName = entry.getValue();
+                    List<?> modelOutputValue = modelOutputValues.get(modelOutputFieldName);
+                    if (modelOutputValue != null) {
+                        documentIngestValues
+                            .putAll(getIngestValues(modelOutputValue.get(i), modelOutputFieldName, entry.getKey(), documents.get(i)));
+                    }
+                }
+                ingestValues.add(documentIngestValues);
+            }
+            for (int i = 0; i < documents.size(); i++) {
+                setIngestValues(ingestValues.get(i), documents.get(i));
+            }
+            listener.onResponse(null);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Gets the values of a model output field for a batch, one value for every document.
+     *
+     * @param mlOutput             the MLOutput of the batch
+     * @param modelOutputFieldName the name of the field in the model output
+     * @param batchSize            the number of documents in the batch
+     * @return the value of every document, or null when the field is missing and ignore_missing is set
+     */
+    private List<?> getBatchModelOutputValue(MLOutput mlOutput, String modelOutputFieldName, int batchSize) {
+        String baseFieldName = OutputTransformations.getBaseFieldName(modelOutputFieldName);
+        Object modelOutputValue = getModelOutputValue(mlOutput, baseFieldName, ignoreMissing, fullResponsePath);
+        if (ignoreMissing && !(modelOutputValue instanceof List)) {
+            // a missing field reads as null or as the whole model output, no document gets this field
+            logger.debug("{} is missing in the model output of the batch, skipping it", modelOutputFieldName);
+            return null;
+        }
+        if (!(modelOutputValue instanceof List) || ((List<?>) modelOutputValue).size() != batchSize) {
+            throw new IllegalArgumentException(
+                "the prediction field: "
+                    + modelOutputFieldName
+                    + " of a batch of "
+                    + batchSize
+                    + " documents must be an array with one value for every document."
+            );
+        }
+        return (List<?>) modelOutputValue;
+    }
+
+    /**
+     * Gets the output mapping of an input map for a document, without the document fields the document
+     * already has when override is not set.
+     *
+     * @param ingestDocument The IngestDocument to write the model output to.
+     * @param outputMapping  The output mapping of the input map, document field as key.
+     * @return the output mapping to write for this document
+     */
+    private Map<String, String> getNewOutputMapping(IngestDocument ingestDocument, Map<String, String> outputMapping) {
+        Map<String, Object> ingestDocumentSourceAndMetaData = new HashMap<>();
+        ingestDocumentSourceAndMetaData.putAll(ingestDocument.getSourceAndMetadata());
+        ingestDocumentSourceAndMetaData.put(IngestDocument.INGEST_KEY, ingestDocument.getIngestMetadata());
+
+        Map<String, String> newOutputMapping = new HashMap<>();
+        for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
+            String newDocumentFieldName = entry.getKey();
+            if (!override) {
+                List<String> dotPaths = writeNewDotPathForNestedObject(ingestDocumentSourceAndMetaData, newDocumentFieldName);
+                if (dotPaths.stream().allMatch(ingestDocument::hasField)) {
+                    logger.debug("{} already exists in the ingest document. Removing it from output mapping", newDocumentFieldName);
+                    continue;
+                }
+            }
+            newOutputMapping.put(newDocumentFieldName, entry.getValue());
+        }
+        return newOutputMapping;
+    }
+
     /**
      * This method was called previously within
      * execute( IngestDocument ingestDocument, BiConsumer (IngestDocument, Exception)  handler)
@@ -169,7 +540,8 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
      * "inference_results" field (the same format as predict API)
      *
      * @param ingestDocument          The IngestDocument object containing the data to be processed.
-     * @param batchPredictionListener The GroupedActionListener for batch prediction.
+     * @param documentContext         The parsed source and metadata of the IngestDocument.
+     * @param batchPredictionListener The listener notified when this prediction is completed.
      * @param processInputMap         A list of maps containing input field mappings.
      * @param processOutputMap        A list of maps containing output field mappings.
      * @param inputMapIndex           The current index of the inputMap.
@@ -177,7 +549,8 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
      */
     private void processPredictions(
         IngestDocument ingestDocument,
-        GroupedActionListener<Void> batchPredictionListener,
+        DocumentContext documentContext,
+        ActionListener<Void> batchPredictionListener,
         List<Map<String, String>> processInputMap,
         List<Map<String, String>> processOutputMap,
         int inputMapIndex,
@@ -229,7 +602,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         if (inputMapSize == 0) {
             Set<String> documentFields = ingestDocument.getSourceAndMetadata().keySet();
             for (String field : documentFields) {
-                getMappedModelInputFromDocuments(ingestDocument, modelParameters, field, field);
+                getMappedModelInputFromDocuments(ingestDocument, documentContext, modelParameters, field, field);
             }
 
         } else {
@@ -238,7 +611,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 // model field as key, document field as value
                 String modelInputFieldName = entry.getKey();
                 String documentFieldName = entry.getValue();
-                getMappedModelInputFromDocuments(ingestDocument, modelParameters, documentFieldName, modelInputFieldName);
+                getMappedModelInputFromDocuments(ingestDocument, documentContext, modelParameters, documentFieldName, modelInputFieldName);
             }
         }
 
@@ -296,39 +669,60 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
      * Retrieves the mapped model input from the IngestDocument and updates the model parameters.
      *
      * @param ingestDocument      The IngestDocument object containing the data.
+     * @param documentContext     The parsed source and metadata of the IngestDocument.
      * @param modelParameters     The map to store the model parameters.
      * @param documentFieldName   The name of the field in the IngestDocument.
      * @param modelInputFieldName The name of the model input field.
      */
     private void getMappedModelInputFromDocuments(
         IngestDocument ingestDocument,
+        DocumentContext documentContext,
         Map<String, String> modelParameters,
         String documentFieldName,
         String modelInputFieldName
+    ) {
+        readDocumentFieldValue(
+            ingestDocument,
+            documentContext,
+            documentFieldName,
+            documentFieldValue -> updateModelParameters(modelInputFieldName, toString(documentFieldValue), modelParameters)
+        );
+    }
+
+    /**
+     * Reads the value of a document field, either by standard dot path or by JSON path for nested arrays.
+     *
+     * @param ingestDocument    The IngestDocument object containing the data.
+     * @param documentContext   The parsed source and metadata of the IngestDocument.
+     * @param documentFieldName The name of the field in the IngestDocument.
+     * @param valueConsumer     The consumer of the field value, not called when the field is missing and ignore_missing is set.
+     */
+    private void readDocumentFieldValue(
+        IngestDocument ingestDocument,
+        DocumentContext documentContext,
+        String documentFieldName,
+        Consumer<Object> valueConsumer
     ) {
         // if users used standard dot path, try getFieldPath from document
         String originalFieldPath = getFieldPath(ingestDocument, documentFieldName);
         if (originalFieldPath != null) {
-            Object documentFieldValue = ingestDocument.getFieldValue(originalFieldPath, Object.class);
-            String documentFieldValueAsString = toString(documentFieldValue);
-            updateModelParameters(modelInputFieldName, documentFieldValueAsString, modelParameters);
+            valueConsumer.accept(ingestDocument.getFieldValue(originalFieldPath, Object.class));
             return;
         }
         // If the standard dot path fails, try to check for a nested array using JSON path
-        if (StringUtils.isValidJSONPath(documentFieldName)) {
-            Map<String, Object> sourceObject = ingestDocument.getSourceAndMetadata();
-            Object fieldValue = JsonPath.using(suppressExceptionConfiguration).parse(sourceObject).read(documentFieldName);
+        if (compiledJsonPaths.containsKey(documentFieldName) || StringUtils.isValidJSONPath(documentFieldName)) {
+            Object fieldValue = readJsonPath(documentContext, documentFieldName);
 
             if (fieldValue != null) {
                 if (fieldValue instanceof List) {
                     List<?> fieldValueList = (List<?>) fieldValue;
                     if (!fieldValueList.isEmpty()) {
-                        updateModelParameters(modelInputFieldName, toString(fieldValueList), modelParameters);
+                        valueConsumer.accept(fieldValueList);
                     } else if (!ignoreMissing) {
                         throw new IllegalArgumentException("Cannot find field name defined from input map: " + documentFieldName);
                     }
                 } else {
-                    updateModelParameters(modelInputFieldName, toString(fieldValue), modelParameters);
+                    valueConsumer.accept(fieldValue);
                 }
             } else if (!ignoreMissing) {
                 throw new IllegalArgumentException("Cannot find field name defined from input map: " + documentFieldName);
@@ -338,6 +732,17 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         }
     }
 
+    /**
+     * Parses the source and metadata of the IngestDocument, so its JSON paths can be read without parsing it again.
+     * The context reads the document itself, so it sees the fields written by predictions which completed before.
+     *
+     * @param ingestDocument The IngestDocument object containing the data.
+     * @return the parsed document
+     */
+    private DocumentContext parseDocument(IngestDocument ingestDocument) {
+        return JsonPath.using(suppressExceptionConfiguration).parse(ingestDocument.getSourceAndMetadata());
+    }
+
     /**
      * This method supports mapping multiple document fields to the same model input field.
      * It checks if the given model input field name already exists in the modelParameters map.
@@ -398,7 +803,41 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         // Check if transformation is needed
         String baseFieldName = OutputTransformations.getBaseFieldName(modelOutputFieldName);
         Object modelOutputValue = getModelOutputValue(mlOutput, baseFieldName, ignoreMissing, fullResponsePath);
+        setModelOutputValue(modelOutputValue, modelOutputFieldName, newDocumentFieldName, ingestDocument);
+    }
+
+    /**
+     * Writes the model output value of one document to the specified field in the IngestDocument.
+     *
+     * @param modelOutputValue     the value of the model output field for this document
+     * @param modelOutputFieldName the name of the field in the model output
+     * @param newDocumentFieldName the name of the field in the IngestDocument to append the value to
+     * @param ingestDocument       the IngestDocument to append the value to
+     */
+    private void setModelOutputValue(
+        Object modelOutputValue,
+        String modelOutputFieldName,
+        String newDocumentFieldName,
+        IngestDocument ingestDocument
+    ) {
+        setIngestValues(getIngestValues(modelOutputValue, modelOutputFieldName, newDocumentFieldName, ingestDocument), ingestDocument);
+    }
 
+    /**
+     * Gets the values to write to the IngestDocument for the model output value of one document, without writing them.
+     *
+     * @param modelOutputValue     the value of the model output field for this document
+     * @param modelOutputFieldName the name of the field in the model output
+     * @param newDocumentFieldName the name of the field in the IngestDocument to append the value to
+     * @param ingestDocument       the IngestDocument to append the value to
+     * @return the value to write by the dot path of the document field
+     */
+    private Map<String, Object> getIngestValues(
+        Object modelOutputValue,
+        String modelOutputFieldName,
+        String newDocumentFieldName,
+        IngestDocument ingestDocument
+    ) {
         // Apply transformation if specified
         if (OutputTransformations.hasTransformation(modelOutputFieldName)) {
             modelOutputValue = OutputTransformations.applyTransformation(modelOutputFieldName, modelOutputValue);
@@ -409,11 +848,9 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         ingestDocumentSourceAndMetaData.put(IngestDocument.INGEST_KEY, ingestDocument.getIngestMetadata());
         List<String> dotPathsInArray = writeNewDotPathForNestedObject(ingestDocumentSourceAndMetaData, newDocumentFieldName);
 
+        Map<String, Object> ingestValues = new LinkedHashMap<>();
         if (dotPathsInArray.size() == 1) {
-            ValueSource ingestValue = ValueSource.wrap(modelOutputValue, scriptService);
-            TemplateScript.Factory ingestField = ConfigurationUtils
-                .compileTemplate(TYPE, tag, dotPathsInArray.get(0), dotPathsInArray.get(0), scriptService);
-            ingestDocument.setFieldValue(ingestField, ingestValue, ignoreMissing);
+            ingestValues.put(dotPathsInArray.get(0), modelOutputValue);
         } else {
             if (!(modelOutputValue instanceof List)) {
                 throw new IllegalArgumentException("Model output is not an array, cannot assign to array in documents.");
@@ -434,14 +871,25 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
             }
             // Iterate over dotPathInArray
             for (int i = 0; i < dotPathsInArray.size(); i++) {
-                String dotPathInArray = dotPathsInArray.get(i);
-                Object modelOutputValueInArray = modelOutputValueArray.get(i);
-                ValueSource ingestValue = ValueSource.wrap(modelOutputValueInArray, scriptService);
-                TemplateScript.Factory ingestField = ConfigurationUtils
-                    .compileTemplate(TYPE, tag, dotPathInArray, dotPathInArray, scriptService);
-                ingestDocument.setFieldValue(ingestField, ingestValue, ignoreMissing);
+                ingestValues.put(dotPathsInArray.get(i), modelOutputValueArray.get(i));
             }
         }
+        return ingestValues;
+    }
+
+    /**
+     * Writes values to the IngestDocument.
+     *
+     * @param ingestValues   the value to write by the dot path of the document field
+     * @param ingestDocument the IngestDocument to write the values to
+     */
+    private void setIngestValues(Map<String, Object> ingestValues, IngestDocument ingestDocument) {
+        for (Map.Entry<String, Object> entry : ingestValues.entrySet()) {
+            ValueSource ingestValue = ValueSource.wrap(entry.getValue(), scriptService);
+            TemplateScript.Factory ingestField = ConfigurationUtils
+                .compileTemplate(TYPE, tag, entry.getKey(), entry.getKey(), scriptService);
+            ingestDocument.setFieldValue(ingestField, ingestValue, ignoreMissing);
+        }
     }
 
     @Override
@@ -510,6 +958,10 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
 
             boolean ignoreFailure = ConfigurationUtils
                 .readBooleanProperty(TYPE, processorTag, config, ConfigurationUtils.IGNORE_FAILURE_KEY, false);
+            int maxBatchSize = ConfigurationUtils.readIntProperty(TYPE, processorTag, config, MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE);
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("max_batch_size must be a positive integer, but was " + maxBatchSize);
+            }
             // convert model config user input data structure to Map<String, String>
             Map<String, String> modelConfigMaps = null;
             if (modelConfigInput != null) {
@@ -543,6 +995,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 ignoreFailure,
                 override,
                 modelInput,
+                maxBatchSize,
                 scriptService,
                 client,
                 xContentRegistry
@@ -27,18 +27,25 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.commons.ConfigConstants;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.Constants;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.utils.StringUtils;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStats;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.pipeline.AbstractProcessor;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
@@ -74,6 +81,9 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
     private final boolean fullResponsePath;
     private final boolean ignoreFailure;
     private final String modelInput;
+    @Getter
+    private final InferenceResultCache inferenceResultCache;
+    private final MLStats mlStats;
     private static Client client;
     public static final String TYPE = "ml_inference";
     // allow to ignore a field from mapping is not present in the query, and when the output field is not found in the
@@ -89,6 +99,14 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
     public static final int DEFAULT_MAX_PREDICTION_TASKS = 10;
     public static final String OPTIONAL_INPUT_MAP = "optional_input_map";
     public static final String OPTIONAL_OUTPUT_MAP = "optional_output_map";
+    // model outputs are cached by the resolved model input when cache_max_entries is set,
+    // so repeated queries don't call the model again
+    public static final String CACHE_MAX_ENTRIES = "cache_max_entries";
+    public static final String CACHE_MAX_SIZE = "cache_max_size";
+    public static final String CACHE_TTL = "cache_ttl";
+    public static final int DEFAULT_CACHE_MAX_ENTRIES = 0;
+    public static final String DEFAULT_CACHE_MAX_SIZE = "10mb";
+    public static final String DEFAULT_CACHE_TTL = "10m";
 
     protected MLInferenceSearchRequestProcessor(
         String modelId,
@@ -108,6 +126,50 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
         String modelInput,
         Client client,
         NamedXContentRegistry xContentRegistry
+    ) {
+        this(
+            modelId,
+            queryTemplate,
+            inputMaps,
+            outputMaps,
+            optionalInputMaps,
+            optionalOutputMaps,
+            modelConfigMaps,
+            maxPredictionTask,
+            tag,
+            description,
+            ignoreMissing,
+            functionName,
+            fullResponsePath,
+            ignoreFailure,
+            modelInput,
+            null,
+            null,
+            client,
+            xContentRegistry
+        );
+    }
+
+    protected MLInferenceSearchRequestProcessor(
+        String modelId,
+        String queryTemplate,
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps,
+        List<Map<String, String>> optionalInputMaps,
+        List<Map<String, String>> optionalOutputMaps,
+        Map<String, String> modelConfigMaps,
+        int maxPredictionTask,
+        String tag,
+        String description,
+        boolean ignoreMissing,
+        String functionName,
+        boolean fullResponsePath,
+        boolean ignoreFailure,
+        String modelInput,
+        InferenceResultCache inferenceResultCache,
+        MLStats mlStats,
+        Client client,
+        NamedXContentRegistry xContentRegistry
     ) {
         super(tag, description, ignoreFailure);
         this.inferenceProcessorAttributes = new InferenceProcessorAttributes(
@@ -125,6 +187,8 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
         this.queryTemplate = queryTemplate;
         this.ignoreFailure = ignoreFailure;
         this.modelInput = modelInput;
+        this.inferenceResultCache = inferenceResultCache;
+        this.mlStats = mlStats;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
     }
@@ -556,6 +620,29 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
             inputMappings.put(k, modelParameters.get(k));
         }
 
+        String cacheKey = null;
+        if (inferenceResultCache != null) {
+            // outputs are only served to the same user and tenant, since serving them skips the model access check
+            ThreadContext threadContext = client.threadPool().getThreadContext();
+            cacheKey = InferenceResultCache
+                .getKey(
+                    inferenceProcessorAttributes.getModelId(),
+                    threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT),
+                    threadContext.getHeader(Constants.TENANT_ID_HEADER),
+                    modelParameters
+                );
+            MLOutput cachedOutput = inferenceResultCache.get(cacheKey);
+            if (cachedOutput != null) {
+                incrementCacheStat(MLNodeLevelStat.ML_INFERENCE_CACHE_HIT_COUNT);
+                Map<Integer, MLOutput> mlOutputMap = new HashMap<>();
+                mlOutputMap.put(inputMapIndex, cachedOutput);
+                batchPredictionListener.onResponse(mlOutputMap);
+                return;
+            }
+            incrementCacheStat(MLNodeLevelStat.ML_INFERENCE_CACHE_MISS_COUNT);
+        }
+        String inferenceResultCacheKey = cacheKey;
+
         ActionRequest request = getMLModelInferenceRequest(
             xContentRegistry,
             modelParameters,
@@ -571,6 +658,13 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
             @Override
             public void onResponse(MLTaskResponse mlTaskResponse) {
                 MLOutput mlOutput = mlTaskResponse.getOutput();
+                if (inferenceResultCacheKey != null && mlOutput != null) {
+                    try {
+                        inferenceResultCache.put(inferenceResultCacheKey, mlOutput);
+                    } catch (Exception e) {
+                        logger.warn("Failed to cache the model output of model {}", inferenceProcessorAttributes.getModelId(), e);
+                    }
+                }
                 Map<Integer, MLOutput> mlOutputMap = new HashMap<>();
                 mlOutputMap.put(inputMapIndex, mlOutput);
                 batchPredictionListener.onResponse(mlOutputMap);
@@ -584,6 +678,12 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
 
     }
 
+    private void incrementCacheStat(MLNodeLevelStat stat) {
+        if (mlStats != null) {
+            mlStats.getStat(stat).increment();
+        }
+    }
+
     /**
      * Creates a SearchSourceBuilder instance from the given query string.
      *
@@ -629,6 +729,7 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
     public static class Factory implements Processor.Factory<SearchRequestProcessor> {
         private final Client client;
         private final NamedXContentRegistry xContentRegistry;
+        private final MLStats mlStats;
 
         /**
          * Constructs a new instance of the Factory class.
@@ -637,8 +738,20 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
          * @param xContentRegistry the xContentRegistry instance to be used by the Factory
          */
         public Factory(Client client, NamedXContentRegistry xContentRegistry) {
+            this(client, xContentRegistry, null);
+        }
+
+        /**
+         * Constructs a new instance of the Factory class, which reports the inference cache stats of its processors.
+         *
+         * @param client           the Client instance to be used by the Factory
+         * @param xContentRegistry the xContentRegistry instance to be used by the Factory
+         * @param mlStats          the node level ML stats to record inference cache hits and misses in
+         */
+        public Factory(Client client, NamedXContentRegistry xContentRegistry, MLStats mlStats) {
             this.client = client;
             this.xContentRegistry = xContentRegistry;
+            this.mlStats = mlStats;
         }
 
         /**
@@ -708,6 +821,23 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
             if (modelConfigInput != null) {
                 modelConfigMaps = StringUtils.getParameterMap(modelConfigInput);
             }
+
+            int cacheMaxEntries = ConfigurationUtils
+                .readIntProperty(TYPE, processorTag, config, CACHE_MAX_ENTRIES, DEFAULT_CACHE_MAX_ENTRIES);
+            if (cacheMaxEntries < 0) {
+                throw new IllegalArgumentException("cache_max_entries must not be negative, but was " + cacheMaxEntries);
+            }
+            ByteSizeValue cacheMaxSize = ByteSizeValue
+                .parseBytesSizeValue(
+                    ConfigurationUtils.readStringProperty(TYPE, processorTag, config, CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE),
+                    CACHE_MAX_SIZE
+                );
+            TimeValue cacheTtl = TimeValue
+                .parseTimeValue(ConfigurationUtils.readStringProperty(TYPE, processorTag, config, CACHE_TTL, DEFAULT_CACHE_TTL), CACHE_TTL);
+            InferenceResultCache inferenceResultCache = null;
+            if (cacheMaxEntries > 0 && cacheMaxSize.getBytes() > 0 && cacheTtl.nanos() > 0) {
+                inferenceResultCache = new InferenceResultCache(cacheMaxEntries, cacheMaxSize.getBytes(), cacheTtl);
+            }
             // Combine processInputMap and optionalInputMaps
             List<Map<String, String>> combinedInputMaps = ModelExecutor.combineMaps(inputMaps, optionalInputMaps);
             // Combine processOutputMap and optionalOutputMaps
@@ -749,6 +879,8 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
                 fullResponsePath,
                 ignoreFailure,
                 modelInput,
+                inferenceResultCache,
+                mlStats,
                 client,
                 xContentRegistry
             );
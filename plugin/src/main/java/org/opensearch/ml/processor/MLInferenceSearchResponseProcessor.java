@@ -18,6 +18,7 @@ import static org.opensearch.ml.processor.MLInferenceSearchRequestProcessor.OPTI
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -59,6 +60,7 @@ import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
 import org.opensearch.transport.client.Client;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 
 import lombok.Getter;
@@ -75,8 +77,14 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
     private final boolean override;
     private final boolean fullResponsePath;
     private final boolean oneToOne;
+    private final int maxBatchSize;
     private final boolean ignoreFailure;
     private final String modelInput;
+    // JSON paths of the document and request fields in the input maps and of the model output fields in the output maps
+    private final Map<String, JsonPath> compiledJsonPaths;
+    // whether any input map reads a field of the search request, which is only parsed then
+    @Getter
+    private final boolean readsRequestFields;
     private static Client client;
     public static final String TYPE = "ml_inference";
     // allow to ignore a field from mapping is not present in the query, and when the output field is not found in the
@@ -86,6 +94,10 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
     public static final String FULL_RESPONSE_PATH = "full_response_path";
     public static final String MODEL_INPUT = "model_input";
     public static final String ONE_TO_ONE = "one_to_one";
+    // with one_to_one, the hits are predicted in batches of up to max_batch_size hits,
+    // where every model input field is an array with the value of every hit
+    public static final String MAX_BATCH_SIZE = "max_batch_size";
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1;
     public static final String DEFAULT_MODEL_INPUT = "{ \"parameters\": ${ml_inference.parameters} }";
     // At default, ml inference processor allows maximum 10 prediction tasks running in parallel
     // it can be overwritten using max_prediction_tasks when creating processor
@@ -118,9 +130,54 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         Client client,
         NamedXContentRegistry xContentRegistry,
         boolean oneToOne
+    ) {
+        this(
+            modelId,
+            inputMaps,
+            outputMaps,
+            optionalInputMaps,
+            optionalOutputMaps,
+            modelConfigMaps,
+            maxPredictionTask,
+            tag,
+            description,
+            ignoreMissing,
+            functionName,
+            fullResponsePath,
+            ignoreFailure,
+            override,
+            modelInput,
+            client,
+            xContentRegistry,
+            oneToOne,
+            DEFAULT_MAX_BATCH_SIZE
+        );
+    }
+
+    protected MLInferenceSearchResponseProcessor(
+        String modelId,
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps,
+        List<Map<String, String>> optionalInputMaps,
+        List<Map<String, String>> optionalOutputMaps,
+        Map<String, String> modelConfigMaps,
+        int maxPredictionTask,
+        String tag,
+        String description,
+        boolean ignoreMissing,
+        String functionName,
+        boolean fullResponsePath,
+        boolean ignoreFailure,
+        boolean override,
+        String modelInput,
+        Client client,
+        NamedXContentRegistry xContentRegistry,
+        boolean oneToOne,
+        int maxBatchSize
     ) {
         super(tag, description, ignoreFailure);
         this.oneToOne = oneToOne;
+        this.maxBatchSize = maxBatchSize;
         this.inferenceProcessorAttributes = new InferenceProcessorAttributes(
             modelId,
             inputMaps,
@@ -138,6 +195,30 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         this.modelInput = modelInput;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
+
+        List<String> paths = new ArrayList<>();
+        for (Map<String, String> inputMap : ModelExecutor.combineMaps(inputMaps, optionalInputMaps)) {
+            for (String fieldName : inputMap.values()) {
+                paths.add(fieldName);
+                if (isRequestField(fieldName)) {
+                    paths.add(fieldName.replaceFirst(REQUEST_PREFIX, ""));
+                }
+            }
+        }
+        for (Map<String, String> outputMap : ModelExecutor.combineMaps(outputMaps, optionalOutputMaps)) {
+            paths.addAll(outputMap.values());
+        }
+        this.compiledJsonPaths = ModelExecutor.compileJsonPaths(paths);
+        this.readsRequestFields = paths.stream().anyMatch(MLInferenceSearchResponseProcessor::isRequestField);
+    }
+
+    @Override
+    public Map<String, JsonPath> getCompiledJsonPaths() {
+        return compiledJsonPaths;
+    }
+
+    private static boolean isRequestField(String fieldName) {
+        return fieldName != null && (fieldName.startsWith("$." + REQUEST_PREFIX) || fieldName.startsWith(REQUEST_PREFIX));
     }
 
     @Override
@@ -153,6 +234,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      * executes the same rewriteResponseDocument method for each one-hit search response,
      * and after receiving N one-hit search responses with inference results,
      * it combines them back into a single N-hits search response.
+     * When max_batch_size is greater than 1, it separates the search response into search responses of up to
+     * max_batch_size hits instead, and predicts every hit of one of them in a single batched prediction.
      *
      * @param request          the search request
      * @param response         the search response
@@ -177,6 +260,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
             }
 
             setRequestContextFromExt(request, responseContext);
+            // parse the query once for all the hits and input maps
+            DocumentContext queryContext = readsRequestFields ? JsonPath.using(suppressExceptionConfiguration).parse(queryString) : null;
 
             // if many to one, run rewriteResponseDocuments
             if (!oneToOne) {
@@ -201,22 +286,21 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                     );
                 }
 
-                rewriteResponseDocuments(mlInferenceSearchResponse, responseListener, queryString);
+                rewriteResponseDocuments(mlInferenceSearchResponse, responseListener, queryString, queryContext);
             } else {
-                // if one to one, make one hit search response and run rewriteResponseDocuments
+                // if one to one, make one hit (or one batch of hits) search responses and run rewriteResponseDocuments
                 GroupedActionListener<SearchResponse> combineResponseListener = getCombineResponseGroupedActionListener(
                     response,
                     responseListener,
                     hits
                 );
                 AtomicBoolean isOneHitListenerFailed = new AtomicBoolean(false);
-                ;
-                for (SearchHit hit : hits) {
-                    SearchHit[] newHits = new SearchHit[1];
-                    newHits[0] = hit;
-                    SearchResponse oneHitResponse = SearchResponseUtil.replaceHits(newHits, response);
+                int batchSize = Math.max(maxBatchSize, 1);
+                for (int from = 0; from < hits.length; from += batchSize) {
+                    SearchHit[] newHits = Arrays.copyOfRange(hits, from, Math.min(from + batchSize, hits.length));
+                    SearchResponse splitResponse = SearchResponseUtil.replaceHits(newHits, response);
                     ActionListener<SearchResponse> oneHitListener = getOneHitListener(combineResponseListener, isOneHitListenerFailed);
-                    rewriteResponseDocuments(oneHitResponse, oneHitListener, queryString);
+                    rewriteResponseDocuments(splitResponse, oneHitListener, queryString, queryContext);
                     // if any OneHitListener failure, try stop the rest of the predictions
                     if (isOneHitListenerFailed.get()) {
                         break;
@@ -292,17 +376,13 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         ActionListener<SearchResponse> responseListener,
         SearchHit[] hits
     ) {
+        int batchSize = Math.max(maxBatchSize, 1);
         GroupedActionListener<SearchResponse> combineResponseListener = new GroupedActionListener<>(new ActionListener<>() {
             @Override
             public void onResponse(Collection<SearchResponse> responseMapCollection) {
-                SearchHit[] combinedHits = new SearchHit[hits.length];
-                int i = 0;
-                for (SearchResponse OneHitResponseAfterInference : responseMapCollection) {
-                    SearchHit[] hitsAfterInference = OneHitResponseAfterInference.getHits().getHits();
-                    combinedHits[i] = hitsAfterInference[0];
-                    i++;
-                }
-                SearchResponse oneToOneInferenceSearchResponse = SearchResponseUtil.replaceHits(combinedHits, response);
+                // the hits of the split search responses are rewritten in place,
+                // so combine them in the order of the original hits rather than the order the predictions completed in
+                SearchResponse oneToOneInferenceSearchResponse = SearchResponseUtil.replaceHits(hits, response);
                 responseListener.onResponse(oneToOneInferenceSearchResponse);
             }
 
@@ -314,7 +394,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                     responseListener.onFailure(e);
                 }
             }
-        }, hits.length);
+        }, (hits.length + batchSize - 1) / batchSize);
         return combineResponseListener;
     }
 
@@ -324,10 +404,15 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      * @param response         the search response
      * @param responseListener the listener to be notified when the response is processed
      * @param queryString      the query body in string format, for example, "{ \"query\": { \"match_all\": {} } }\n"
+     * @param queryContext     the parsed query body, null when no input map reads a field of the search request
      * @throws IOException if an I/O error occurs during the rewriting process
      */
-    private void rewriteResponseDocuments(SearchResponse response, ActionListener<SearchResponse> responseListener, String queryString)
-        throws IOException {
+    private void rewriteResponseDocuments(
+        SearchResponse response,
+        ActionListener<SearchResponse> responseListener,
+        String queryString,
+        DocumentContext queryContext
+    ) throws IOException {
         List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
         List<Map<String, String>> processOutputMap = inferenceProcessorAttributes.getOutputMaps();
 
@@ -339,6 +424,12 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         int inputMapSize = (combinedInputMaps == null) ? 0 : combinedInputMaps.size();
         // hitCountInPredictions keeps track of the count of hit that have the required input fields for each round of prediction
         Map<Integer, Integer> hitCountInPredictions = new HashMap<>();
+        SearchHit[] hits = response.getHits().getHits();
+        // parse every hit once for all the input maps
+        List<DocumentContext> hitContexts = new ArrayList<>(hits.length);
+        for (SearchHit hit : hits) {
+            hitContexts.add(parseDocument(hit.getSourceAsMap()));
+        }
 
         ActionListener<Map<Integer, MLOutput>> rewriteResponseListener = createRewriteResponseListener(
             response,
@@ -346,38 +437,61 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
             processInputMap,
             combinedInputMaps,
             combinedOutputMaps,
-            hitCountInPredictions
+            hitCountInPredictions,
+            hitContexts
         );
 
         GroupedActionListener<Map<Integer, MLOutput>> batchPredictionListener = createBatchPredictionListener(
             rewriteResponseListener,
             inputMapSize
         );
-        SearchHit[] hits = response.getHits().getHits();
 
         for (int inputMapIndex = 0; inputMapIndex < max(inputMapSize, 1); inputMapIndex++) {
-            processPredictions(hits, combinedInputMaps, inputMapIndex, batchPredictionListener, hitCountInPredictions, queryString);
+            processPredictions(
+                hits,
+                hitContexts,
+                combinedInputMaps,
+                inputMapIndex,
+                batchPredictionListener,
+                hitCountInPredictions,
+                queryString,
+                queryContext
+            );
         }
     }
 
+    /**
+     * Parses the source of a hit, so its JSON paths can be read without parsing it again.
+     *
+     * @param document the source of the hit
+     * @return the parsed source, or null if the hit has no source
+     */
+    private static DocumentContext parseDocument(Map<String, Object> document) {
+        return document == null ? null : JsonPath.using(suppressExceptionConfiguration).parse(document);
+    }
+
     /**
      * Processes the predictions for the given input map index.
      *
      * @param hits                    the search hits
+     * @param hitContexts             the parsed sources of the search hits
      * @param processInputMap         the list of input mappings
      * @param inputMapIndex           the index of the input mapping to process
      * @param batchPredictionListener the listener to be notified when the predictions are processed
      * @param hitCountInPredictions   a map to keep track of the count of hits that have the required input fields for each round of prediction
      * @param queryString             the query body in string format, for example, "{ \"query\": { \"match_all\": {} } }\n"
+     * @param queryContext            the parsed query body, null when no input map reads a field of the search request
      * @throws IOException if an I/O error occurs during the prediction process
      */
     private void processPredictions(
         SearchHit[] hits,
+        List<DocumentContext> hitContexts,
         List<Map<String, String>> processInputMap,
         int inputMapIndex,
         GroupedActionListener<Map<Integer, MLOutput>> batchPredictionListener,
         Map<Integer, Integer> hitCountInPredictions,
-        String queryString
+        String queryString,
+        DocumentContext queryContext
     ) throws IOException {
 
         Map<String, String> modelParameters = new HashMap<>();
@@ -396,7 +510,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         Map<String, String> inputMapping;
         if (!CollectionUtils.isEmpty(processInputMap)) {
             inputMapping = processInputMap.get(inputMapIndex);
-            boolean isRequestInputMissing = checkIsRequestInputMissing(queryString, inputMapping);
+            boolean isRequestInputMissing = checkIsRequestInputMissing(queryContext, inputMapping);
             if (isRequestInputMissing) {
                 if (!ignoreMissing) {
                     throw new IllegalArgumentException(
@@ -413,9 +527,10 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 requiredInputMapping = new HashMap<>();
             }
 
-            for (SearchHit hit : hits) {
-                Map<String, Object> document = hit.getSourceAsMap();
-                boolean isDocumentFieldMissing = checkIsDocumentFieldMissing(document, requiredInputMapping);
+            for (int hitIndex = 0; hitIndex < hits.length; hitIndex++) {
+                SearchHit hit = hits[hitIndex];
+                DocumentContext documentContext = hitContexts.get(hitIndex);
+                boolean isDocumentFieldMissing = checkIsDocumentFieldMissing(documentContext, requiredInputMapping);
                 if (!isDocumentFieldMissing) {
                     MapUtils.incrementCounter(hitCountInPredictions, inputMapIndex);
                     for (Map.Entry<String, String> entry : inputMapping.entrySet()) {
@@ -424,17 +539,17 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                         String documentFieldName = entry.getValue();
                         // read the query string when the mapping field name starts with "$._request." or "_request."
                         // skip when modelInputParameters already has this modelInputFieldName to avoid duplicate read
-                        if (StringUtils.isValidJSONPath(documentFieldName)
-                            && (documentFieldName.startsWith("$." + REQUEST_PREFIX) || documentFieldName.startsWith(REQUEST_PREFIX))
+                        if (isRequestField(documentFieldName)
+                            && (compiledJsonPaths.containsKey(documentFieldName) || StringUtils.isValidJSONPath(documentFieldName))
                             && !modelInputParameters.containsKey(modelInputFieldName)) {
                             String requestFieldName = documentFieldName.replaceFirst(REQUEST_PREFIX, "");
 
-                            Object queryText = JsonPath.using(suppressExceptionConfiguration).parse(queryString).read(requestFieldName);
+                            Object queryText = readJsonPath(queryContext, requestFieldName);
                             if (queryText != null) {
                                 modelInputParameters.put(modelInputFieldName, toJson(queryText));
                             }
                         } else {
-                            Object documentValue = JsonPath.using(suppressExceptionConfiguration).parse(document).read(documentFieldName);
+                            Object documentValue = documentContext == null ? null : readJsonPath(documentContext, documentFieldName);
                             if (documentValue != null) {
                                 // when not existed in the map, add into the modelInputParameters map
                                 updateModelInputParameters(modelInputParameters, modelInputFieldName, documentValue);
@@ -517,7 +632,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      * @param documentValue The value from the document that needs to be added to the model input parameters.
      */
     private void updateModelInputParameters(Map<String, Object> modelInputParameters, String modelInputFieldName, Object documentValue) {
-        if (!this.oneToOne) {
+        if (!isOneHitPerPrediction()) {
             if (!modelInputParameters.containsKey(modelInputFieldName)) {
                 List<Object> documentValueList = new ArrayList<>();
                 documentValueList.add(documentValue);
@@ -569,6 +684,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      * @param processInputMap       the list of input mappings
      * @param processOutputMap      the list of output mappings
      * @param hitCountInPredictions a map to keep track of the count of hits that have the required input fields for each round of prediction
+     * @param hitContexts           the parsed sources of the search hits
      * @return an action listener for rewriting the response with the inference results
      */
     private ActionListener<Map<Integer, MLOutput>> createRewriteResponseListener(
@@ -577,7 +693,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         List<Map<String, String>> requiredInputFields,
         List<Map<String, String>> processInputMap,
         List<Map<String, String>> processOutputMap,
-        Map<Integer, Integer> hitCountInPredictions
+        Map<Integer, Integer> hitCountInPredictions,
+        List<DocumentContext> hitContexts
     ) {
         return new ActionListener<>() {
             @Override
@@ -585,7 +702,9 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 try {
                     Map<Integer, Map<String, Integer>> writeOutputMapDocCounter = new HashMap<>();
 
-                    for (SearchHit hit : response.getHits().getHits()) {
+                    SearchHit[] hits = response.getHits().getHits();
+                    for (int hitIndex = 0; hitIndex < hits.length; hitIndex++) {
+                        SearchHit hit = hits[hitIndex];
                         Map<String, Object> sourceAsMapWithInference = new HashMap<>();
                         if (hit.hasSource()) {
                             BytesReference sourceRef = hit.getSourceRef();
@@ -594,7 +713,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
 
                             Map<String, Object> sourceAsMap = typeAndSourceMap.v2();
                             sourceAsMapWithInference.putAll(sourceAsMap);
-                            Map<String, Object> document = hit.getSourceAsMap();
+                            DocumentContext documentContext = hitContexts.get(hitIndex);
 
                             for (Map.Entry<Integer, MLOutput> entry : multipleMLOutputs.entrySet()) {
                                 Integer mappingIndex = entry.getKey();
@@ -609,7 +728,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
 
                                 boolean isDocumentFieldMissing = false;
                                 if (!CollectionUtils.isEmpty(processInputMap)) {
-                                    isDocumentFieldMissing = checkIsDocumentFieldMissing(document, requiredInputMapping);
+                                    isDocumentFieldMissing = checkIsDocumentFieldMissing(documentContext, requiredInputMapping);
                                 }
                                 if (!isDocumentFieldMissing) {
                                     // Iterate over outputMapping
@@ -644,7 +763,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                                             if (hitCountInPredictions.containsKey(mappingIndex)) {
                                                 if (modelOutputValue instanceof List
                                                     && ((List) modelOutputValue).size() == hitCountInPredictions.get(mappingIndex)
-                                                    && !oneToOne) {
+                                                    && !isOneHitPerPrediction()) {
                                                     Object valuePerDoc = ((List) modelOutputValue)
                                                         .get(
                                                             MapUtils
@@ -708,21 +827,28 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         };
     }
 
+    /**
+     * Whether every prediction takes a single hit, or the values of the hits are batched in arrays.
+     */
+    private boolean isOneHitPerPrediction() {
+        return oneToOne && maxBatchSize <= 1;
+    }
+
     /**
      * Checks if the document is missing any of the required input fields specified in the input mapping.
      * When model config contains the default model_input value, it's not considered as missing model input.
      *
-     * @param document     the document map
-     * @param inputMapping the input mapping
+     * @param documentContext the parsed document, null if the hit has no source
+     * @param inputMapping    the input mapping
      * @return true if the document is missing any of the required input fields, false otherwise
      */
-    private boolean checkIsDocumentFieldMissing(Map<String, Object> document, Map<String, String> inputMapping) {
+    private boolean checkIsDocumentFieldMissing(DocumentContext documentContext, Map<String, String> inputMapping) {
         return inputMapping
             .values()
             .stream()
-            .filter(fieldName -> !(fieldName.startsWith("$." + REQUEST_PREFIX) || fieldName.startsWith(REQUEST_PREFIX)))
+            .filter(fieldName -> !isRequestField(fieldName))
             .anyMatch(fieldName -> {
-                boolean isFieldPresentInDocument = document != null && hasField(document, fieldName);
+                boolean isFieldPresentInDocument = documentContext != null && readJsonPath(documentContext, fieldName) != null;
                 boolean isFieldPresentInModelConfig = this.inferenceProcessorAttributes.modelConfigMaps != null
                     && this.inferenceProcessorAttributes.modelConfigMaps.containsKey(fieldName);
                 return !isFieldPresentInDocument && !isFieldPresentInModelConfig;
@@ -733,18 +859,18 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      * Checks if the request is missing any of the required input fields specified in the input mapping.
      * When model config contains the default model_input value, it's not considered as missing model input.
      *
-     * @param queryString  the query body in string format, e.g., "{ \"query\": { \"match_all\": {} } }\n"
+     * @param queryContext the parsed query body, null when no input map reads a field of the search request
      * @param inputMapping the input mapping
      * @return true if the document is missing any of the required input fields, false otherwise
      */
-    private boolean checkIsRequestInputMissing(String queryString, Map<String, String> inputMapping) {
+    private boolean checkIsRequestInputMissing(DocumentContext queryContext, Map<String, String> inputMapping) {
         return inputMapping
             .values()
             .stream()
-            .filter(fieldName -> fieldName.startsWith("$." + REQUEST_PREFIX) || fieldName.startsWith(REQUEST_PREFIX))
+            .filter(MLInferenceSearchResponseProcessor::isRequestField)
             .map(fieldName -> fieldName.replaceFirst(REQUEST_PREFIX, ""))
             .anyMatch(requestFieldName -> {
-                boolean isFieldPresentInQuery = queryString != null && hasField(queryString, requestFieldName);
+                boolean isFieldPresentInQuery = queryContext != null && readJsonPath(queryContext, requestFieldName) != null;
                 boolean isFieldPresentInModelConfig = this.inferenceProcessorAttributes.modelConfigMaps != null
                     && this.inferenceProcessorAttributes.modelConfigMaps.containsKey(requestFieldName);
                 return !isFieldPresentInQuery && !isFieldPresentInModelConfig;
@@ -875,6 +1001,10 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 .readStringProperty(TYPE, processorTag, config, FUNCTION_NAME, FunctionName.REMOTE.name());
             boolean override = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, OVERRIDE, false);
             boolean oneToOne = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, ONE_TO_ONE, false);
+            int maxBatchSize = ConfigurationUtils.readIntProperty(TYPE, processorTag, config, MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE);
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("max_batch_size must be a positive integer, but was " + maxBatchSize);
+            }
 
             String modelInput = ConfigurationUtils.readOptionalStringProperty(TYPE, processorTag, config, MODEL_INPUT);
 
@@ -955,7 +1085,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 modelInput,
                 client,
                 xContentRegistry,
-                oneToOne
+                oneToOne,
+                maxBatchSize
             );
         }
     }
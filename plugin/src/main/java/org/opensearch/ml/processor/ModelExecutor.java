@@ -13,6 +13,8 @@ import static org.opensearch.searchpipelines.questionanswering.generative.ext.Ge
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -44,6 +46,7 @@ import org.opensearch.searchpipelines.questionanswering.generative.ext.Generativ
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.ReadContext;
 
 /**
  * General ModelExecutor interface.
@@ -196,7 +199,7 @@ public interface ModelExecutor {
                 return modelTensorOutputMap;
             } else {
                 try {
-                    Object modelOutputValue = JsonPath.parse(modelTensorOutputMap).read(modelOutputFieldName);
+                    Object modelOutputValue = readJsonPath(JsonPath.parse(modelTensorOutputMap), modelOutputFieldName);
                     if (modelOutputValue == null) {
                         throw new IllegalArgumentException(
                             "model inference output cannot find such json path: " + modelOutputFieldName + " in " + modelTensorOutputMap
@@ -263,7 +266,7 @@ public interface ModelExecutor {
             return modelTensorOutputMap.get(fieldName);
         }
         try {
-            return JsonPath.parse(modelTensorOutputMap).read(fieldName);
+            return readJsonPath(JsonPath.parse(modelTensorOutputMap), fieldName);
         } catch (Exception e) {
             if (ignoreMissing) {
                 return modelTensorOutputMap;
@@ -287,9 +290,9 @@ public interface ModelExecutor {
     default boolean hasField(Object json, String path) {
         Object value;
         if (json instanceof String) {
-            value = JsonPath.using(suppressExceptionConfiguration).parse((String) json).read(path);
+            value = readJsonPath(JsonPath.using(suppressExceptionConfiguration).parse((String) json), path);
         } else {
-            value = JsonPath.using(suppressExceptionConfiguration).parse(json).read(path);
+            value = readJsonPath(JsonPath.using(suppressExceptionConfiguration).parse(json), path);
         }
         if (value != null) {
             return true;
@@ -297,6 +300,45 @@ public interface ModelExecutor {
         return false;
     }
 
+    /**
+     * Returns the JSON paths of the input and output mappings which were compiled when the processor was created,
+     * by path. Paths which are not in the map are compiled when they are read.
+     *
+     * @return the compiled JSON paths by path
+     */
+    default Map<String, JsonPath> getCompiledJsonPaths() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Reads a JSON path from a parsed document, using the compiled path when there is one.
+     *
+     * @param context the parsed document, parse it once and reuse it to read several paths
+     * @param path    the JSON path to read
+     * @param <T>     the type of the value
+     * @return the value at the path
+     */
+    default <T> T readJsonPath(ReadContext context, String path) {
+        JsonPath jsonPath = getCompiledJsonPaths().get(path);
+        return jsonPath != null ? context.read(jsonPath) : context.read(path);
+    }
+
+    /**
+     * Compiles the given paths which are valid JSON paths. Invalid paths are left out, they keep failing when they are read.
+     *
+     * @param paths the paths of the input or output mappings
+     * @return the compiled JSON paths by path
+     */
+    static Map<String, JsonPath> compileJsonPaths(Collection<String> paths) {
+        Map<String, JsonPath> compiledJsonPaths = new HashMap<>();
+        for (String path : paths) {
+            if (!compiledJsonPaths.containsKey(path) && StringUtils.isValidJSONPath(path)) {
+                compiledJsonPaths.put(path, JsonPath.compile(path));
+            }
+        }
+        return compiledJsonPaths;
+    }
+
     /**
      * Writes a new dot path for a nested object within the given JSON object.
      * This method is useful when dealing with arrays or nested objects in the JSON structure.
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Adaptive concurrency limit stats of the connector of a remote model on a node.
+ */
+@Getter
+public class MLConcurrencyLimitStats implements ToXContentFragment, Writeable {
+
+    private final Integer limit;
+    private final Integer maxLimit;
+    private final Integer inFlight;
+    private final Long throttledCount;
+    private final Long rejectedCount;
+
+    @Builder
+    public MLConcurrencyLimitStats(Integer limit, Integer maxLimit, Integer inFlight, Long throttledCount, Long rejectedCount) {
+        this.limit = limit;
+        this.maxLimit = maxLimit;
+        this.inFlight = inFlight;
+        this.throttledCount = throttledCount;
+        this.rejectedCount = rejectedCount;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (limit != null) {
+            builder.field("limit", limit);
+        }
+        if (maxLimit != null) {
+            builder.field("max_limit", maxLimit);
+        }
+        if (inFlight != null) {
+            builder.field("in_flight", inFlight);
+        }
+        if (throttledCount != null) {
+            builder.field("throttled_count", throttledCount);
+        }
+        if (rejectedCount != null) {
+            builder.field("rejected_count", rejectedCount);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    public MLConcurrencyLimitStats(StreamInput in) throws IOException {
+        this.limit = in.readOptionalInt();
+        this.maxLimit = in.readOptionalInt();
+        this.inFlight = in.readOptionalInt();
+        this.throttledCount = in.readOptionalLong();
+        this.rejectedCount = in.readOptionalLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalInt(limit);
+        out.writeOptionalInt(maxLimit);
+        out.writeOptionalInt(inFlight);
+        out.writeOptionalLong(throttledCount);
+        out.writeOptionalLong(rejectedCount);
+    }
+}
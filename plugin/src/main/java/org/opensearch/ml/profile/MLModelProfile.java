@@ -13,6 +13,7 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 
@@ -33,6 +34,8 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
     private final MLPredictRequestStats predictRequestStats;
     private final Long memSizeEstimationCPU;
     private final Long memSizeEstimationGPU;
+    private final MLPredictorPoolStats predictorPoolStats;
+    private final MLConcurrencyLimitStats concurrencyLimitStats;
     @Setter
     private Boolean isHidden;
 
@@ -45,7 +48,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         MLPredictRequestStats modelInferenceStats,
         MLPredictRequestStats predictRequestStats,
         Long memSizeEstimationCPU,
-        Long memSizeEstimationGPU
+        Long memSizeEstimationGPU,
+        MLPredictorPoolStats predictorPoolStats,
+        MLConcurrencyLimitStats concurrencyLimitStats
     ) {
         this.modelState = modelState;
         this.predictor = predictor;
@@ -55,6 +60,8 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         this.predictRequestStats = predictRequestStats;
         this.memSizeEstimationCPU = memSizeEstimationCPU;
         this.memSizeEstimationGPU = memSizeEstimationGPU;
+        this.predictorPoolStats = predictorPoolStats;
+        this.concurrencyLimitStats = concurrencyLimitStats;
     }
 
     @Override
@@ -84,6 +91,12 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (memSizeEstimationGPU != null) {
             builder.field("memory_size_estimation_gpu", memSizeEstimationGPU);
         }
+        if (predictorPoolStats != null) {
+            builder.field("predictor_pool_stats", predictorPoolStats);
+        }
+        if (concurrencyLimitStats != null) {
+            builder.field("concurrency_limit_stats", concurrencyLimitStats);
+        }
         if (isHidden != null && isHidden) {
             builder.field("is_hidden", true);
         }
@@ -116,6 +129,16 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (streamInputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             this.isHidden = in.readOptionalBoolean();
         }
+        if (streamInputVersion.onOrAfter(CommonValue.VERSION_3_6_0) && in.readBoolean()) {
+            this.predictorPoolStats = new MLPredictorPoolStats(in);
+        } else {
+            this.predictorPoolStats = null;
+        }
+        if (streamInputVersion.onOrAfter(CommonValue.VERSION_3_6_0) && in.readBoolean()) {
+            this.concurrencyLimitStats = new MLConcurrencyLimitStats(in);
+        } else {
+            this.concurrencyLimitStats = null;
+        }
     }
 
     @Override
@@ -147,5 +170,19 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (streamOutputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             out.writeOptionalBoolean(isHidden);
         }
+        if (streamOutputVersion.onOrAfter(CommonValue.VERSION_3_6_0)) {
+            if (predictorPoolStats != null) {
+                out.writeBoolean(true);
+                predictorPoolStats.writeTo(out);
+            } else {
+                out.writeBoolean(false);
+            }
+            if (concurrencyLimitStats != null) {
+                out.writeBoolean(true);
+                concurrencyLimitStats.writeTo(out);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Predictor pool stats of a local model, summed over all devices of the node.
+ */
+@Getter
+public class MLPredictorPoolStats implements ToXContentFragment, Writeable {
+
+    private final Integer maxSize;
+    private final Integer size;
+    private final Integer inUse;
+    private final Integer waiting;
+    private final Long waitCount;
+    private final Double totalWaitTimeMillis;
+
+    @Builder
+    public MLPredictorPoolStats(Integer maxSize, Integer size, Integer inUse, Integer waiting, Long waitCount, Double totalWaitTimeMillis) {
+        this.maxSize = maxSize;
+        this.size = size;
+        this.inUse = inUse;
+        this.waiting = waiting;
+        this.waitCount = waitCount;
+        this.totalWaitTimeMillis = totalWaitTimeMillis;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (maxSize != null) {
+            builder.field("max_size", maxSize);
+        }
+        if (size != null) {
+            builder.field("size", size);
+        }
+        if (inUse != null) {
+            builder.field("in_use", inUse);
+        }
+        if (waiting != null) {
+            builder.field("waiting", waiting);
+        }
+        if (waitCount != null) {
+            builder.field("wait_count", waitCount);
+        }
+        if (totalWaitTimeMillis != null) {
+            builder.field("total_wait_time_ms", totalWaitTimeMillis);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    public MLPredictorPoolStats(StreamInput in) throws IOException {
+        this.maxSize = in.readOptionalInt();
+        this.size = in.readOptionalInt();
+        this.inUse = in.readOptionalInt();
+        this.waiting = in.readOptionalInt();
+        this.waitCount = in.readOptionalLong();
+        this.totalWaitTimeMillis = in.readOptionalDouble();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalInt(maxSize);
+        out.writeOptionalInt(size);
+        out.writeOptionalInt(inUse);
+        out.writeOptionalInt(waiting);
+        out.writeOptionalLong(waitCount);
+        out.writeOptionalDouble(totalWaitTimeMillis);
+    }
+}
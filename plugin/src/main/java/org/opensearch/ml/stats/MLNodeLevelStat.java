@@ -16,7 +16,10 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_INFERENCE_CACHE_HIT_COUNT,
+    ML_INFERENCE_CACHE_MISS_COUNT,
+    ML_REMOTE_CONNECTION_POOLS;
 
     public static MLNodeLevelStat from(String value) {
         try {
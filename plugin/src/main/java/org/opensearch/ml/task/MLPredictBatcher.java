@@ -0,0 +1,245 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Merges concurrent text docs predict requests of one local model into one predict call.
+ * <p>
+ * Requests are collected until the pending docs reach the max batch size or the oldest request has waited
+ * for the max batch wait time. The merged request runs one predict on the model, and the model output is split
+ * back to each request by its number of docs. Only requests with the same result filter and no parameters are
+ * merged, other requests run on their own. Each listener is called with the thread context of its own request.
+ */
+@Log4j2
+public class MLPredictBatcher {
+    public static final long DEFAULT_MAX_BATCH_WAIT_MILLIS = 5;
+
+    private final String modelId;
+    @Getter
+    private final Predictable predictor;
+    @Getter
+    private final int maxBatchSize;
+    @Getter
+    private final long maxBatchWaitMillis;
+    private final ThreadPool threadPool;
+    private final MLModelManager mlModelManager;
+
+    private PendingBatch pendingBatch;
+
+    /**
+     * @param modelId model id
+     * @param predictor deployed local model
+     * @param maxBatchSize max number of docs in one merged predict
+     * @param maxBatchWaitMillis max time in milliseconds a request waits for other requests
+     * @param threadPool thread pool to schedule and run merged predicts
+     * @param mlModelManager model manager to track predict duration
+     */
+    public MLPredictBatcher(
+        String modelId,
+        Predictable predictor,
+        int maxBatchSize,
+        long maxBatchWaitMillis,
+        ThreadPool threadPool,
+        MLModelManager mlModelManager
+    ) {
+        this.modelId = modelId;
+        this.predictor = predictor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchWaitMillis = maxBatchWaitMillis;
+        this.threadPool = threadPool;
+        this.mlModelManager = mlModelManager;
+    }
+
+    /**
+     * Check if the predict request can be merged with other requests.
+     * @param mlInput predict input
+     * @return true if the request can be merged
+     */
+    public static boolean isBatchable(MLInput mlInput) {
+        return mlInput.getAlgorithm() == FunctionName.TEXT_EMBEDDING
+            && mlInput.getParameters() == null
+            && mlInput.getInputDataset() instanceof TextDocsInputDataSet;
+    }
+
+    /**
+     * Add a predict request to the pending batch. The listener is called once the merged predict is done.
+     * Caller must check the request with {@link #isBatchable(MLInput)} first.
+     * @param mlInput predict input with text docs
+     * @param requestListener action listener of this request
+     */
+    public void submit(MLInput mlInput, ActionListener<MLOutput> requestListener) {
+        // the merged predict runs on the thread of another request or of the flush
+        ActionListener<MLOutput> listener = new ContextPreservingActionListener<>(
+            threadPool.getThreadContext().newRestorableContext(false),
+            requestListener
+        );
+        TextDocsInputDataSet inputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+        if (inputDataSet.getDocs().size() >= maxBatchSize) {
+            runBatch(new PendingBatch(mlInput, inputDataSet.getResultFilter(), List.of(new PendingRequest(inputDataSet, listener))));
+            return;
+        }
+        List<Object> filterKey = resultFilterKey(inputDataSet.getResultFilter());
+        PendingBatch readyBatch = null;
+        PendingBatch staleBatch = null;
+        PendingBatch newBatch = null;
+        synchronized (this) {
+            if (pendingBatch != null
+                && (!pendingBatch.filterKey.equals(filterKey) || pendingBatch.docCount + inputDataSet.getDocs().size() > maxBatchSize)) {
+                staleBatch = pendingBatch;
+                pendingBatch = null;
+            }
+            if (pendingBatch == null) {
+                pendingBatch = new PendingBatch(mlInput, inputDataSet.getResultFilter(), new ArrayList<>());
+                newBatch = pendingBatch;
+            }
+            pendingBatch.add(new PendingRequest(inputDataSet, listener));
+            if (pendingBatch.docCount >= maxBatchSize) {
+                readyBatch = pendingBatch;
+                pendingBatch = null;
+            }
+        }
+        if (staleBatch != null) {
+            PendingBatch batch = staleBatch;
+            threadPool.executor(PREDICT_THREAD_POOL).execute(() -> runBatch(batch));
+        }
+        if (readyBatch != null) {
+            runBatch(readyBatch);
+        } else if (newBatch != null) {
+            PendingBatch batch = newBatch;
+            threadPool.schedule(() -> flush(batch), TimeValue.timeValueMillis(maxBatchWaitMillis), PREDICT_THREAD_POOL);
+        }
+    }
+
+    private void flush(PendingBatch batch) {
+        synchronized (this) {
+            if (pendingBatch != batch) {
+                // already run because it was full or replaced
+                return;
+            }
+            pendingBatch = null;
+        }
+        runBatch(batch);
+    }
+
+    private void runBatch(PendingBatch batch) {
+        List<PendingRequest> requests = batch.requests;
+        List<MLOutput> outputs;
+        try {
+            if (requests.size() == 1) {
+                outputs = List.of(predict(batch.firstInput));
+            } else {
+                List<String> docs = new ArrayList<>(batch.docCount);
+                for (PendingRequest request : requests) {
+                    docs.addAll(request.inputDataSet.getDocs());
+                }
+                TextDocsInputDataSet mergedDataSet = TextDocsInputDataSet.builder().docs(docs).resultFilter(batch.resultFilter).build();
+                MLInput mergedInput = batch.firstInput.toBuilder().inputDataset(mergedDataSet).build();
+                log.debug("Run merged predict of {} requests with {} docs for model {}", requests.size(), docs.size(), modelId);
+                outputs = split(predict(mergedInput), requests);
+            }
+        } catch (Exception e) {
+            for (PendingRequest request : requests) {
+                request.listener.onFailure(e);
+            }
+            return;
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            requests.get(i).listener.onResponse(outputs.get(i));
+        }
+    }
+
+    private MLOutput predict(MLInput mlInput) {
+        return mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput));
+    }
+
+    private List<MLOutput> split(MLOutput output, List<PendingRequest> requests) {
+        if (!(output instanceof ModelTensorOutput)) {
+            throw new MLException("Unexpected output of merged predict for model " + modelId);
+        }
+        List<ModelTensors> tensors = ((ModelTensorOutput) output).getMlModelOutputs();
+        int docCount = requests.stream().mapToInt(request -> request.inputDataSet.getDocs().size()).sum();
+        if (tensors == null || tensors.size() != docCount) {
+            throw new MLException("Output size of merged predict doesn't match input docs for model " + modelId);
+        }
+        List<MLOutput> outputs = new ArrayList<>(requests.size());
+        int start = 0;
+        for (PendingRequest request : requests) {
+            int end = start + request.inputDataSet.getDocs().size();
+            outputs.add(new ModelTensorOutput(new ArrayList<>(tensors.subList(start, end))));
+            start = end;
+        }
+        return outputs;
+    }
+
+    private static List<Object> resultFilterKey(ModelResultFilter resultFilter) {
+        if (resultFilter == null) {
+            return Collections.emptyList();
+        }
+        return Arrays
+            .asList(
+                resultFilter.isReturnBytes(),
+                resultFilter.isReturnNumber(),
+                resultFilter.getTargetResponse(),
+                resultFilter.getTargetResponsePositions()
+            );
+    }
+
+    private static class PendingRequest {
+        private final TextDocsInputDataSet inputDataSet;
+        private final ActionListener<MLOutput> listener;
+
+        PendingRequest(TextDocsInputDataSet inputDataSet, ActionListener<MLOutput> listener) {
+            this.inputDataSet = inputDataSet;
+            this.listener = listener;
+        }
+    }
+
+    private static class PendingBatch {
+        private final MLInput firstInput;
+        private final ModelResultFilter resultFilter;
+        private final List<Object> filterKey;
+        private final List<PendingRequest> requests;
+        private int docCount;
+
+        PendingBatch(MLInput firstInput, ModelResultFilter resultFilter, List<PendingRequest> requests) {
+            this.firstInput = firstInput;
+            this.resultFilter = resultFilter;
+            this.filterKey = resultFilterKey(resultFilter);
+            this.requests = requests;
+            this.docCount = requests.stream().mapToInt(request -> request.inputDataSet.getDocs().size()).sum();
+        }
+
+        void add(PendingRequest request) {
+            requests.add(request);
+            docCount += request.inputDataSet.getDocs().size();
+        }
+    }
+}
@@ -35,14 +35,12 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
-import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
-import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
@@ -57,6 +55,7 @@ import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.MLDeploySetting;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
@@ -505,6 +504,30 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         }));
     }
 
+    /**
+     * Get the predict batcher of a local model if max batch size is set in its deploy setting.
+     * A new batcher is created when the model is redeployed or the batch setting is updated, and the batcher is
+     * dropped with the model cache when the model is undeployed.
+     */
+    private MLPredictBatcher getPredictBatcher(String modelId, Predictable predictor) {
+        MLDeploySetting deploySetting = mlModelManager.getDeploySetting(modelId);
+        if (deploySetting == null || deploySetting.getMaxBatchSize() == null || deploySetting.getMaxBatchSize() <= 1) {
+            return null;
+        }
+        int maxBatchSize = deploySetting.getMaxBatchSize();
+        long maxBatchWaitMillis = deploySetting.getMaxBatchWaitMillis() == null
+            ? MLPredictBatcher.DEFAULT_MAX_BATCH_WAIT_MILLIS
+            : deploySetting.getMaxBatchWaitMillis();
+        return mlModelManager
+            .getPredictBatcher(
+                modelId,
+                batcher -> batcher.getPredictor() == predictor
+                    && batcher.getMaxBatchSize() == maxBatchSize
+                    && batcher.getMaxBatchWaitMillis() == maxBatchWaitMillis,
+                () -> new MLPredictBatcher(modelId, predictor, maxBatchSize, maxBatchWaitMillis, threadPool, mlModelManager)
+            );
+    }
+
     private void runPredict(
         String modelId,
         String tenantId,
@@ -523,6 +546,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     if (!predictor.isModelReady()) {
                         throw new IllegalArgumentException("Model not ready: " + modelId);
                     }
+                    MLPredictBatcher predictBatcher = MLPredictBatcher.isBatchable(mlInput) ? getPredictBatcher(modelId, predictor) : null;
                     if (mlInput.getAlgorithm() == FunctionName.REMOTE) {
                         long startTime = System.nanoTime();
                         ActionListener<MLTaskResponse> trackPredictDurationListener = ActionListener.wrap(output -> {
@@ -587,6 +611,16 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                             }
                         }, e -> handlePredictFailure(mlTask, internalListener, e, shouldTrackRemoteFailure(e), modelId, actionName));
                         predictor.asyncPredict(mlInput, trackPredictDurationListener, channel); // with listener
+                    } else if (predictBatcher != null) {
+                        // merge with concurrent requests of same model into one predict
+                        predictBatcher.submit(mlInput, ActionListener.wrap(output -> {
+                            validateOutputSchema(modelId, (ModelTensorOutput) output);
+                            handleAsyncMLTaskComplete(mlTask);
+                            internalListener.onResponse(new MLTaskResponse(output));
+                        }, e -> {
+                            log.error("Failed to predict model " + modelId, e);
+                            handlePredictFailure(mlTask, internalListener, e, shouldTrackRemoteFailure(e), modelId, actionName);
+                        }));
                     } else {
                         // long startTime = System.nanoTime();
                         MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput)); // without
@@ -715,14 +749,10 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     }
 
     public void validateOutputSchema(String modelId, ModelTensorOutput output) {
-        if (mlModelManager.getModelInterface(modelId) != null && mlModelManager.getModelInterface(modelId).get("output") != null) {
-            String outputSchemaString = mlModelManager.getModelInterface(modelId).get("output");
+        Map<String, String> modelInterface = mlModelManager.getModelInterface(modelId);
+        if (modelInterface != null && modelInterface.get("output") != null) {
             try {
-                MLNodeUtils
-                    .validateSchema(
-                        outputSchemaString,
-                        output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString()
-                    );
+                MLNodeUtils.validateSchema(mlModelManager.getModelInterfaceSchema(modelId, "output"), MLNodeUtils.toJsonNode(output));
             } catch (Exception e) {
                 throw new OpenSearchStatusException(
                     "Error validating output schema, if you think this is expected, please update your 'output' field in the 'interface' field for this model: "
@@ -16,12 +16,15 @@ import java.util.function.Function;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
@@ -40,6 +43,8 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class MLNodeUtils {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     public boolean isMLNode(DiscoveryNode node) {
         return node.getRoles().stream().anyMatch(role -> role.roleName().equalsIgnoreCase(ML_ROLE_NAME));
     }
@@ -68,24 +73,47 @@ public class MLNodeUtils {
     }
 
     public static void validateSchema(String schemaString, String instanceString) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        // parse the schema JSON as string
-        JsonNode schemaNode = mapper.readTree(schemaString);
-        JsonSchema schema = JsonSchemaFactory.getInstance(VersionFlag.V202012).getSchema(schemaNode);
+        validateSchema(compileSchema(schemaString), MAPPER.readTree(instanceString));
+    }
+
+    /**
+     * Convert the content to a JSON tree without building an intermediate string.
+     * @param content content to convert
+     * @return JSON tree
+     */
+    public static JsonNode toJsonNode(ToXContent content) throws IOException {
+        XContentBuilder builder = content.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+        return MAPPER.readTree(BytesReference.toBytes(BytesReference.bytes(builder)));
+    }
 
-        // JSON data to validate
-        JsonNode jsonNode = mapper.readTree(instanceString);
+    /**
+     * Compile the JSON schema, the compiled schema can be reused to validate many instances.
+     * @param schemaString JSON schema
+     * @return compiled JSON schema
+     * @throws IOException if the schema is not valid JSON
+     */
+    public static JsonSchema compileSchema(String schemaString) throws IOException {
+        // parse the schema JSON as string
+        JsonNode schemaNode = MAPPER.readTree(schemaString);
+        return JsonSchemaFactory.getInstance(VersionFlag.V202012).getSchema(schemaNode);
+    }
 
+    /**
+     * Validate the parsed JSON instance against the compiled schema.
+     * @param schema compiled JSON schema
+     * @param instance JSON instance
+     */
+    public static void validateSchema(JsonSchema schema, JsonNode instance) {
         // Validate JSON node against the schema
-        Set<ValidationMessage> errors = schema.validate(jsonNode);
+        Set<ValidationMessage> errors = schema.validate(instance);
         if (!errors.isEmpty()) {
             throw new OpenSearchParseException(
                 "Validation failed: "
                     + Arrays.toString(errors.toArray(new ValidationMessage[0]))
                     + " for instance: "
-                    + instanceString
+                    + instance
                     + " with schema: "
-                    + schemaString
+                    + schema.getSchemaNode()
             );
         }
     }
@@ -97,10 +125,18 @@ public class MLNodeUtils {
      * @return The processed JSON string
      */
     public static String processRemoteInferenceInputDataSetParametersValue(String inputJson, String schemaJson) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode rootNode = mapper.readTree(inputJson);
-        JsonNode schemaNode = mapper.readTree(schemaJson);
+        JsonNode rootNode = MAPPER.readTree(inputJson);
+        processRemoteInferenceInputDataSetParametersValue(rootNode, MAPPER.readTree(schemaJson));
+        return MAPPER.writeValueAsString(rootNode);
+    }
 
+    /**
+     * Same as {@link #processRemoteInferenceInputDataSetParametersValue(String, String)}, but replaces the parameter values
+     * of the parsed input in place, so the input can be validated without being serialized and parsed again.
+     * @param rootNode The parsed input JSON
+     * @param schemaNode The schema matching the input JSON
+     */
+    public static void processRemoteInferenceInputDataSetParametersValue(JsonNode rootNode, JsonNode schemaNode) {
         // Get the schema properties for parameters if they exist
         JsonNode parametersSchema = schemaNode.path("properties").path("parameters").path("properties");
 
@@ -113,7 +149,7 @@ public class MLNodeUtils {
 
                 if (value.isTextual() && !isStringTypeInSchema(parametersSchema, key)) {
                     try {
-                        JsonNode parsedValue = mapper.readTree(value.asText());
+                        JsonNode parsedValue = MAPPER.readTree(value.asText());
                         parametersNode.set(key, parsedValue);
                     } catch (IOException e) {
                         // If parsing fails, keep it as is
@@ -122,7 +158,6 @@ public class MLNodeUtils {
                 }
             });
         }
-        return mapper.writeValueAsString(rootNode);
     }
 
     private static boolean isStringTypeInSchema(JsonNode schema, String fieldName) {
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -56,6 +57,7 @@ import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLPredictTaskRunner;
+import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
 import org.opensearch.tasks.Task;
@@ -417,7 +419,7 @@ public class TransportPredictionStreamTaskActionTests extends OpenSearchTestCase
     }
 
     @Test
-    public void testValidateInputSchemaSuccess() {
+    public void testValidateInputSchemaSuccess() throws IOException {
         RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
             .builder()
             .parameters(
@@ -437,11 +439,13 @@ public class TransportPredictionStreamTaskActionTests extends OpenSearchTestCase
                     + "\"description\":\"This is a test description field\",\"type\":\"string\"}}}}}"
             );
         when(modelCacheHelper.getModelInterface(any())).thenReturn(modelInterface);
+        when(modelCacheHelper.getModelInterfaceSchema(any(), eq("input")))
+            .thenReturn(MLNodeUtils.compileSchema(modelInterface.get("input")));
         transportPredictionStreamTaskAction.validateInputSchema("testId", mlInput);
     }
 
     @Test
-    public void testValidateInputSchemaFailed() {
+    public void testValidateInputSchemaFailed() throws IOException {
         exceptionRule.expect(OpenSearchStatusException.class);
         RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
             .builder()
@@ -462,6 +466,8 @@ public class TransportPredictionStreamTaskActionTests extends OpenSearchTestCase
                     + "\"description\":\"This is a test description field\",\"type\":\"integer\"}}}}}"
             );
         when(modelCacheHelper.getModelInterface(any())).thenReturn(modelInterface);
+        when(modelCacheHelper.getModelInterfaceSchema(any(), eq("input")))
+            .thenReturn(MLNodeUtils.compileSchema(modelInterface.get("input")));
         transportPredictionStreamTaskAction.validateInputSchema("testId", mlInput);
     }
 }
@@ -8,12 +8,14 @@ package org.opensearch.ml.action.prediction;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
 import static org.opensearch.ml.utils.MLExceptionUtils.LOCAL_MODEL_DISABLED_ERR_MSG;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -56,6 +58,7 @@ import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLPredictTaskRunner;
+import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
 import org.opensearch.test.OpenSearchTestCase;
@@ -272,7 +275,7 @@ public class TransportPredictionTaskActionTests extends OpenSearchTestCase {
     }
 
     @Test
-    public void testValidateInputSchemaSuccess() {
+    public void testValidateInputSchemaSuccess() throws IOException {
         RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
             .builder()
             .parameters(
@@ -292,11 +295,13 @@ public class TransportPredictionTaskActionTests extends OpenSearchTestCase {
                     + "\"description\":\"This is a test description field\",\"type\":\"string\"}}}}}"
             );
         when(modelCacheHelper.getModelInterface(any())).thenReturn(modelInterface);
+        when(modelCacheHelper.getModelInterfaceSchema(any(), eq("input")))
+            .thenReturn(MLNodeUtils.compileSchema(modelInterface.get("input")));
         transportPredictionTaskAction.validateInputSchema("testId", mlInput);
     }
 
     @Test
-    public void testValidateInputSchemaFailed() {
+    public void testValidateInputSchemaFailed() throws IOException {
         exceptionRule.expect(OpenSearchStatusException.class);
         RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
             .builder()
@@ -317,11 +322,13 @@ public class TransportPredictionTaskActionTests extends OpenSearchTestCase {
                     + "\"description\":\"This is a test description field\",\"type\":\"integer\"}}}}}"
             );
         when(modelCacheHelper.getModelInterface(any())).thenReturn(modelInterface);
+        when(modelCacheHelper.getModelInterfaceSchema(any(), eq("input")))
+            .thenReturn(MLNodeUtils.compileSchema(modelInterface.get("input")));
         transportPredictionTaskAction.validateInputSchema("testId", mlInput);
     }
 
     @Test
-    public void testValidateBatchPredictInputSchemaSuccess() {
+    public void testValidateBatchPredictInputSchemaSuccess() throws IOException {
         RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
             .builder()
             .parameters(
@@ -342,11 +349,13 @@ public class TransportPredictionTaskActionTests extends OpenSearchTestCase {
                     + "\"description\":\"This is a test description field\",\"type\":\"string\"}}}}}"
             );
         when(modelCacheHelper.getModelInterface(any())).thenReturn(modelInterface);
+        when(modelCacheHelper.getModelInterfaceSchema(any(), eq("input")))
+            .thenReturn(MLNodeUtils.compileSchema(modelInterface.get("input")));
         transportPredictionTaskAction.validateInputSchema("testId", mlInput);
     }
 
     @Test
-    public void testInvalidateBatchPredictInputSchemaSuccess() {
+    public void testInvalidateBatchPredictInputSchemaSuccess() throws IOException {
         RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
             .builder()
             .parameters(
@@ -367,6 +376,8 @@ public class TransportPredictionTaskActionTests extends OpenSearchTestCase {
                     + "\"description\":\"This is a test description field\",\"type\":\"integer\"}}}}}"
             );
         when(modelCacheHelper.getModelInterface(any())).thenReturn(modelInterface);
+        when(modelCacheHelper.getModelInterfaceSchema(any(), eq("input")))
+            .thenReturn(MLNodeUtils.compileSchema(modelInterface.get("input")));
         transportPredictionTaskAction.validateInputSchema("testId", mlInput);
     }
 }
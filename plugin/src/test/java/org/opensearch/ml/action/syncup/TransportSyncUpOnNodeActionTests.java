@@ -11,11 +11,15 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
+import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
@@ -44,6 +48,10 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.Version;
 import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -51,9 +59,13 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.get.GetResult;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.model.MLModelState;
@@ -64,6 +76,7 @@ import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.utils.ModelObjectCache;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLTaskCache;
@@ -108,6 +121,8 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
     @Mock
     private MLEngine mlEngine;
 
+    private ModelObjectCache modelObjectCache;
+
     private Settings settings;
 
     public TemporaryFolder testFolder = new TemporaryFolder();
@@ -123,6 +138,8 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
         mockSettings(true);
+        modelObjectCache = new ModelObjectCache(1024 * 1024);
+        when(mlEngine.getModelObjectCache()).thenReturn(modelObjectCache);
         when(clusterService.getClusterName()).thenReturn(new ClusterName("Local Cluster"));
         action = new TransportSyncUpOnNodeAction(
             transportService,
@@ -316,6 +333,57 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         testCleanUpLocalCache_ExpiredMLTask_DeployStatus(MLModelState.DEPLOYED);
     }
 
+    @Test
+    public void testCleanUpDeletedModels() {
+        when(mlModelManager.getModelArtifactCacheModelIds()).thenReturn(new HashSet<>(Set.of("deleted", "existing", "running")));
+        when(mlModelManager.isModelRunningOnNode("running")).thenReturn(true);
+        MLModel objectModel = MLModel
+            .builder()
+            .modelId("deleted_object")
+            .algorithm(FunctionName.KMEANS)
+            .name("test")
+            .content("content")
+            .lastUpdateTime(Instant.now())
+            .build();
+        modelObjectCache.get(objectModel, model -> new Object());
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(settings));
+        ArgumentCaptor<MultiGetRequest> requestCaptor = ArgumentCaptor.forClass(MultiGetRequest.class);
+        doAnswer(invocation -> {
+            ActionListener<MultiGetResponse> listener = invocation.getArgument(1);
+            MultiGetItemResponse[] responses = new MultiGetItemResponse[] {
+                multiGetItemResponse("deleted", false),
+                multiGetItemResponse("existing", true),
+                multiGetItemResponse("deleted_object", false) };
+            listener.onResponse(new MultiGetResponse(responses));
+            return null;
+        }).when(client).multiGet(requestCaptor.capture(), any());
+
+        action.cleanUpDeletedModels();
+
+        assertEquals(3, requestCaptor.getValue().getItems().size());
+        verify(mlModelManager).removeModelArtifacts("deleted");
+        verify(mlModelManager, never()).removeModelArtifacts("existing");
+        verify(mlModelManager, never()).removeModelArtifacts("running");
+        assertTrue(modelObjectCache.getModelIds().isEmpty());
+    }
+
+    @Test
+    public void testCleanUpDeletedModels_NoModels() {
+        when(mlModelManager.getModelArtifactCacheModelIds()).thenReturn(new HashSet<>());
+
+        action.cleanUpDeletedModels();
+
+        verify(client, never()).multiGet(any(), any());
+    }
+
+    private static MultiGetItemResponse multiGetItemResponse(String modelId, boolean exists) {
+        GetResult getResult = exists
+            ? new GetResult(ML_MODEL_INDEX, modelId, 1, 1, 1, true, null, null, null)
+            : new GetResult(ML_MODEL_INDEX, modelId, UNASSIGNED_SEQ_NO, UNASSIGNED_PRIMARY_TERM, -1, false, null, null, null);
+        return new MultiGetItemResponse(new GetResponse(getResult), null);
+    }
+
     private void testCleanUpLocalCache_ExpiredMLTask_DeployStatus(MLModelState modelState) {
         String taskId = randomAlphaOfLength(5);
         String modelId = randomAlphaOfLength(5);
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -38,9 +39,11 @@ import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.task.MLPredictBatcher;
 import org.opensearch.test.OpenSearchTestCase;
 
 import com.google.common.collect.ImmutableSet;
+import com.networknt.schema.JsonSchema;
 
 public class MLModelCacheHelperTests extends OpenSearchTestCase {
     @Rule
@@ -148,6 +151,21 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertNull(cacheHelper.getMLExecutor(modelId));
     }
 
+    public void testPredictBatcher() {
+        MLPredictBatcher batcher = mock(MLPredictBatcher.class);
+        assertNull(cacheHelper.getPredictBatcher(modelId, b -> true, () -> batcher));
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        assertEquals(batcher, cacheHelper.getPredictBatcher(modelId, b -> true, () -> batcher));
+        assertEquals(batcher, cacheHelper.getPredictBatcher(modelId, b -> true, () -> mock(MLPredictBatcher.class)));
+        MLPredictBatcher newBatcher = mock(MLPredictBatcher.class);
+        assertEquals(newBatcher, cacheHelper.getPredictBatcher(modelId, b -> false, () -> newBatcher));
+
+        // undeploy drops the batcher of the model
+        cacheHelper.removeModel(modelId);
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        assertEquals(batcher, cacheHelper.getPredictBatcher(modelId, b -> true, () -> batcher));
+    }
+
     public void testRateLimiter() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.METRICS_CORRELATION, targetWorkerNodes, true);
         assertNull(cacheHelper.getRateLimiter(modelId));
@@ -157,6 +175,22 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertNull(cacheHelper.getRateLimiter(modelId));
     }
 
+    public void testModelInterfaceSchema() throws IOException {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "input"));
+        cacheHelper.setModelInterface(modelId, Map.of("input", "{\"type\": \"object\"}"));
+        JsonSchema schema = cacheHelper.getModelInterfaceSchema(modelId, "input");
+        assertNotNull(schema);
+        assertSame(schema, cacheHelper.getModelInterfaceSchema(modelId, "input"));
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+
+        cacheHelper.setModelInterface(modelId, Map.of("input", "{\"type\": \"string\"}"));
+        assertNotSame(schema, cacheHelper.getModelInterfaceSchema(modelId, "input"));
+        cacheHelper.removeModelInterface(modelId);
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "input"));
+        assertNull(cacheHelper.getModelInterfaceSchema("unknown_model", "input"));
+    }
+
     public void testModelEnabled() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.METRICS_CORRELATION, targetWorkerNodes, true);
         assertNull(cacheHelper.getIsModelEnabled(modelId));
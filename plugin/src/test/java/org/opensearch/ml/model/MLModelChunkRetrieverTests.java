@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelChunkRetrieverTests extends OpenSearchTestCase {
+
+    private File modelZipFile;
+    private Map<String, ActionListener<MLModel>> inFlightChunks;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        modelZipFile = createTempDir().resolve("model").resolve("model.zip").toFile();
+        inFlightChunks = new LinkedHashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRetrieve_WriteChunksInOrder() throws Exception {
+        ActionListener<File> listener = mock(ActionListener.class);
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            3,
+            2,
+            chunkNumber -> "model_" + chunkNumber,
+            inFlightChunks::put,
+            modelZipFile,
+            listener
+        );
+
+        retriever.start();
+        assertEquals(List.of("model_0", "model_1"), List.copyOf(inFlightChunks.keySet()));
+
+        // the second chunk arrives first and waits for the first one
+        inFlightChunks.remove("model_1").onResponse(chunk("chunk1"));
+        assertEquals(List.of("model_0"), List.copyOf(inFlightChunks.keySet()));
+        inFlightChunks.remove("model_0").onResponse(chunk("chunk0"));
+        assertEquals(List.of("model_2"), List.copyOf(inFlightChunks.keySet()));
+        verify(listener, never()).onResponse(any());
+
+        inFlightChunks.remove("model_2").onResponse(chunk("chunk2"));
+        verify(listener).onResponse(modelZipFile);
+        assertEquals("chunk0chunk1chunk2", Files.readString(modelZipFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRetrieve_FailOnce() {
+        ActionListener<File> listener = mock(ActionListener.class);
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            3,
+            3,
+            chunkNumber -> "model_" + chunkNumber,
+            inFlightChunks::put,
+            modelZipFile,
+            listener
+        );
+
+        retriever.start();
+        inFlightChunks.remove("model_0").onResponse(chunk("chunk0"));
+        inFlightChunks.remove("model_1").onFailure(new RuntimeException("failed to get chunk"));
+        inFlightChunks.remove("model_2").onFailure(new RuntimeException("failed to get chunk"));
+
+        verify(listener, times(1)).onFailure(any(MLResourceNotFoundException.class));
+        verify(listener, never()).onResponse(any());
+        assertFalse(modelZipFile.exists());
+    }
+
+    private MLModel chunk(String content) {
+        return MLModel.builder().content(Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8))).build();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLRateLimitBucketTests extends OpenSearchTestCase {
+    private final AtomicLong clock = new AtomicLong();
+
+    public void testRequestWithinShare() {
+        // 10 requests per second on the cluster, half of it on this node
+        MLRateLimitBucket bucket = new MLRateLimitBucket(clock::get, 10.0 / TimeUnit.SECONDS.toNanos(1), 10, 0.5);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.request());
+        }
+        assertFalse(bucket.request());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+        assertTrue(bucket.request());
+        assertFalse(bucket.request());
+        assertEquals(8, bucket.takeDemand());
+        assertEquals(0, bucket.takeDemand());
+    }
+
+    public void testSetShare() {
+        MLRateLimitBucket bucket = new MLRateLimitBucket(clock::get, 10.0 / TimeUnit.SECONDS.toNanos(1), 10, 0.5);
+
+        // a smaller share caps the tokens to the new burst
+        bucket.setShare(0.2);
+        assertEquals(0.2, bucket.getShare(), 0.0);
+        assertTrue(bucket.request());
+        assertTrue(bucket.request());
+        assertFalse(bucket.request());
+
+        // a larger share refills to a larger burst
+        bucket.setShare(0.8);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        for (int i = 0; i < 8; i++) {
+            assertTrue(bucket.request());
+        }
+        assertFalse(bucket.request());
+    }
+
+    public void testMinBurst() {
+        MLRateLimitBucket bucket = new MLRateLimitBucket(clock::get, 1.0 / TimeUnit.SECONDS.toNanos(1), 1, 0.1);
+
+        assertTrue(bucket.request());
+        assertFalse(bucket.request());
+    }
+
+    public void testGetRateLimiterShare() {
+        Map<String, Long> nodeDemands = Map.of("node1", 90L, "node2", 10L, "node3", 0L);
+        String[] workerNodes = { "node1", "node2", "node3" };
+
+        assertEquals(0.9, MLModelManager.getRateLimiterShare(nodeDemands, workerNodes, "node1", 0), 1e-9);
+        assertEquals(0.0, MLModelManager.getRateLimiterShare(nodeDemands, workerNodes, "node3", 0), 1e-9);
+        assertEquals(0.2 / 3 + 0.8 * 0.9, MLModelManager.getRateLimiterShare(nodeDemands, workerNodes, "node1", 0.2), 1e-9);
+        assertEquals(0.2 / 3, MLModelManager.getRateLimiterShare(nodeDemands, workerNodes, "node3", 0.2), 1e-9);
+        assertEquals(1.0 / 3, MLModelManager.getRateLimiterShare(nodeDemands, workerNodes, "node1", 1), 1e-9);
+        Map<String, Long> noDemands = Map.of("node1", 0L, "node2", 0L, "node3", 0L);
+        assertEquals(1.0 / 3, MLModelManager.getRateLimiterShare(noDemands, workerNodes, "node2", 0.2), 1e-9);
+    }
+
+    public void testGetRateLimiterShare_PartiallyReported() {
+        // node3 runs an older version, or got the model after the last sync up, so it keeps the even split
+        Map<String, Long> nodeDemands = Map.of("node1", 90L, "node2", 10L);
+        String[] workerNodes = { "node1", "node2", "node3" };
+
+        assertEquals(1.0 / 3, MLModelManager.getRateLimiterShare(nodeDemands, workerNodes, "node1", 0.2), 1e-9);
+        assertEquals(1.0 / 3, MLModelManager.getRateLimiterShare(nodeDemands, workerNodes, "node2", 0.2), 1e-9);
+        assertEquals(1.0 / 3, MLModelManager.getRateLimiterShare(null, workerNodes, "node1", 0.2), 1e-9);
+
+        // demand of a node which no longer runs the model doesn't take a share
+        Map<String, Long> staleDemands = Map.of("node1", 90L, "node2", 10L, "node4", 100L);
+        String[] twoWorkerNodes = { "node1", "node2" };
+        assertEquals(0.9, MLModelManager.getRateLimiterShare(staleDemands, twoWorkerNodes, "node1", 0), 1e-9);
+    }
+}
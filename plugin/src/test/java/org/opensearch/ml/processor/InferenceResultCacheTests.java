@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.processor;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.google.common.collect.ImmutableMap;
+
+public class InferenceResultCacheTests extends OpenSearchTestCase {
+
+    public void testGetKeyIgnoresParameterOrder() {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("a", "1");
+        parameters.put("b", "2");
+        Map<String, String> reversedParameters = new LinkedHashMap<>();
+        reversedParameters.put("b", "2");
+        reversedParameters.put("a", "1");
+
+        assertEquals(
+            InferenceResultCache.getKey("model1", null, null, parameters),
+            InferenceResultCache.getKey("model1", null, null, reversedParameters)
+        );
+        assertNotEquals(
+            InferenceResultCache.getKey("model1", null, null, parameters),
+            InferenceResultCache.getKey("model2", null, null, parameters)
+        );
+    }
+
+    public void testGetKeyDependsOnUserAndTenant() {
+        Map<String, String> parameters = ImmutableMap.of("a", "1");
+        String key = InferenceResultCache.getKey("model1", "alice|role1|all_access|", "tenant1", parameters);
+
+        assertEquals(key, InferenceResultCache.getKey("model1", "alice|role1|all_access|", "tenant1", parameters));
+        assertNotEquals(key, InferenceResultCache.getKey("model1", "bob|role2||", "tenant1", parameters));
+        assertNotEquals(key, InferenceResultCache.getKey("model1", "alice|role1|all_access|", "tenant2", parameters));
+        assertNotEquals(key, InferenceResultCache.getKey("model1", null, null, parameters));
+    }
+
+    public void testPutAndGet() throws Exception {
+        InferenceResultCache cache = new InferenceResultCache(10, 1024 * 1024, TimeValue.timeValueMinutes(1));
+        ModelTensorOutput output = getOutput("eng");
+
+        assertNull(cache.get("key1"));
+        cache.put("key1", output);
+        assertSame(output, cache.get("key1"));
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(1, cache.getStats().missCount());
+    }
+
+    public void testMaxEntries() throws Exception {
+        InferenceResultCache cache = new InferenceResultCache(2, 1024 * 1024, TimeValue.timeValueMinutes(1));
+        for (int i = 0; i < 5; i++) {
+            cache.put("key" + i, getOutput("value" + i));
+        }
+
+        assertTrue(cache.size() <= 2);
+        assertNotNull(cache.get("key4"));
+    }
+
+    public void testMaxSize() throws Exception {
+        InferenceResultCache cache = new InferenceResultCache(1000, 64, TimeValue.timeValueMinutes(1));
+        // larger than the whole cache
+        cache.put("key1", getOutput(randomAlphaOfLength(100)));
+
+        assertEquals(0, cache.size());
+    }
+
+    private ModelTensorOutput getOutput(String response) {
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", response)).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        return ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.ml.processor;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.FULL_RESPONSE_PATH;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.FUNCTION_NAME;
+import static org.opensearch.ml.processor.MLInferenceIngestProcessor.MAX_BATCH_SIZE;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.MODEL_INPUT;
 
 import java.util.ArrayList;
@@ -48,6 +49,17 @@ public class MLInferenceIngestProcessorFactoryTests extends OpenSearchTestCase {
         assertEquals(mLInferenceIngestProcessor.getType(), MLInferenceIngestProcessor.TYPE);
     }
 
+    public void testCreateWithInvalidMaxBatchSize() throws Exception {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model1");
+        config.put(MAX_BATCH_SIZE, 0);
+        String processorTag = randomAlphaOfLength(10);
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> factory.create(registry, processorTag, null, config));
+        assertEquals("max_batch_size must be a positive integer, but was 0", e.getMessage());
+    }
+
     public void testCreateLocalModelProcessor() throws Exception {
         Map<String, Processor.Factory> registry = new HashMap<>();
         Map<String, Object> config = new HashMap<>();
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -30,6 +31,7 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
@@ -244,6 +246,31 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
 
     }
 
+    public void testCompiledJsonPaths() {
+        List<Map<String, String>> inputMap = getInputMapsForNestedObjectChunks("chunks.*.chunk.text");
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        outputMap.add(Map.of("chunks.*.chunk.embedding", "$.response.meanPooling()"));
+
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            true,
+            "remote",
+            false,
+            false,
+            false,
+            null
+        );
+
+        // input paths are compiled as they are, output paths without the output transformation
+        Map<String, JsonPath> compiledJsonPaths = processor.getCompiledJsonPaths();
+        assertEquals(2, compiledJsonPaths.size());
+        assertEquals(JsonPath.compile("chunks.*.chunk.text").getPath(), compiledJsonPaths.get("chunks.*.chunk.text").getPath());
+        assertEquals(JsonPath.compile("$.response").getPath(), compiledJsonPaths.get("$.response").getPath());
+    }
+
     /**
      * test nested object document with array of Map<String,Object>,
      * the value Object is a Map<String,String>
@@ -2145,6 +2172,250 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
         assertEquals(6.0, meanPooled.get(2), 0.001); // (3+6+9)/3
     }
 
+    public void testBatchExecute_OnePredictionPerBatch() {
+        MLInferenceIngestProcessor processor = createBatchMLInferenceProcessor(2);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = getIngestDocumentWrappers("text1", "text2", "text3");
+
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) request.getMlInput().getInputDataset();
+            List<String> texts = new ObjectMapper().readValue(inputDataSet.getParameters().get("inputs"), List.class);
+            List<String> embeddings = new ArrayList<>();
+            for (String text : texts) {
+                embeddings.add("embedding_" + text);
+            }
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", embeddings)).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultsCaptor = ArgumentCaptor.forClass(List.class);
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, batchHandler);
+
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        MLInput mlInput = argCaptor.getAllValues().get(0).getMlInput();
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) mlInput.getInputDataset();
+        assertEquals("[\"text1\",\"text2\"]", inputDataSet.getParameters().get("inputs"));
+
+        verify(batchHandler).accept(resultsCaptor.capture());
+        List<IngestDocumentWrapper> results = resultsCaptor.getValue();
+        assertEquals(3, results.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, results.get(i).getSlot());
+            assertNull(results.get(i).getException());
+            assertEquals("embedding_text" + (i + 1), results.get(i).getIngestDocument().getFieldValue("embedding", String.class));
+        }
+    }
+
+    public void testBatchExecute_OutputSizeMismatchFailsBatch() {
+        MLInferenceIngestProcessor processor = createBatchMLInferenceProcessor(2);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = getIngestDocumentWrappers("text1", "text2", "text3");
+
+        doAnswer(invocation -> {
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", Arrays.asList("embedding"))).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultsCaptor = ArgumentCaptor.forClass(List.class);
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, batchHandler);
+
+        verify(batchHandler).accept(resultsCaptor.capture());
+        List<IngestDocumentWrapper> results = resultsCaptor.getValue();
+        // only the documents of the first batch fail
+        assertNull(results.get(0).getIngestDocument());
+        assertEquals(
+            "the prediction field: response of a batch of 2 documents must be an array with one value for every document.",
+            results.get(0).getException().getMessage()
+        );
+        assertNotNull(results.get(1).getException());
+        assertNull(results.get(2).getException());
+        assertEquals("embedding", results.get(2).getIngestDocument().getFieldValue("embedding", String.class));
+    }
+
+    public void testBatchExecute_MissingInputPredictedOnItsOwn() {
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        inputMap.add(ImmutableMap.of("inputs", "text"));
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        outputMap.add(ImmutableMap.of("embedding", "response"));
+        MLInferenceIngestProcessor processor = new MLInferenceIngestProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            RANDOM_MULTIPLIER,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            true,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            10,
+            scriptService,
+            client,
+            xContentRegistry
+        );
+        List<IngestDocumentWrapper> ingestDocumentWrappers = getIngestDocumentWrappers("text1", "text2");
+        ingestDocumentWrappers.add(new IngestDocumentWrapper(2, new IngestDocument(new HashMap<>(), new HashMap<>()), null));
+
+        doAnswer(invocation -> {
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", Arrays.asList("e1", "e2"))).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultsCaptor = ArgumentCaptor.forClass(List.class);
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, batchHandler);
+
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        verify(batchHandler).accept(resultsCaptor.capture());
+        List<IngestDocumentWrapper> results = resultsCaptor.getValue();
+        assertEquals("e1", results.get(0).getIngestDocument().getFieldValue("embedding", String.class));
+        assertEquals("e2", results.get(1).getIngestDocument().getFieldValue("embedding", String.class));
+        assertEquals(Arrays.asList("e1", "e2"), results.get(2).getIngestDocument().getFieldValue("embedding", List.class));
+    }
+
+    public void testBatchExecute_IgnoreMissingOutputField() {
+        MLInferenceIngestProcessor processor = createBatchMLInferenceProcessor(ImmutableMap.of("embedding", "response"), true, 2);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = getIngestDocumentWrappers("text1", "text2");
+
+        doAnswer(invocation -> {
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("other", Arrays.asList("e1", "e2"))).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultsCaptor = ArgumentCaptor.forClass(List.class);
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, batchHandler);
+
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        verify(batchHandler).accept(resultsCaptor.capture());
+        for (IngestDocumentWrapper result : resultsCaptor.getValue()) {
+            assertNull(result.getException());
+            assertFalse(result.getIngestDocument().hasField("embedding"));
+        }
+    }
+
+    public void testBatchExecute_InvalidOutputLeavesBatchUnchanged() {
+        MLInferenceIngestProcessor processor = createBatchMLInferenceProcessor(ImmutableMap.of("chunks.*.embedding", "response"), false, 2);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = getIngestDocumentWrappers("text1", "text2");
+        IngestDocument document1 = ingestDocumentWrappers.get(0).getIngestDocument();
+        document1.setFieldValue("chunks", List.of(Map.of("chunk", "c1")));
+        IngestDocument document2 = ingestDocumentWrappers.get(1).getIngestDocument();
+        document2.setFieldValue("chunks", List.of(Map.of("chunk", "c2"), Map.of("chunk", "c3")));
+
+        doAnswer(invocation -> {
+            // the value of the second document is not an array for its two chunks
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", Arrays.asList("e1", "e2"))).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultsCaptor = ArgumentCaptor.forClass(List.class);
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, batchHandler);
+
+        verify(batchHandler).accept(resultsCaptor.capture());
+        List<IngestDocumentWrapper> results = resultsCaptor.getValue();
+        assertEquals("Model output is not an array, cannot assign to array in documents.", results.get(0).getException().getMessage());
+        assertNotNull(results.get(1).getException());
+        // the first document is valid, but is not written either
+        assertFalse(document1.hasField("chunks.0.embedding"));
+        assertFalse(document2.hasField("chunks.0.embedding"));
+    }
+
+    public void testBatchExecute_DefaultMaxBatchSizePredictsEveryDocument() {
+        MLInferenceIngestProcessor processor = createBatchMLInferenceProcessor(1);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = getIngestDocumentWrappers("text1", "text2");
+
+        doAnswer(invocation -> {
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", "embedding")).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultsCaptor = ArgumentCaptor.forClass(List.class);
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, batchHandler);
+
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        MLInput mlInput = argCaptor.getAllValues().get(0).getMlInput();
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) mlInput.getInputDataset();
+        assertEquals("text1", inputDataSet.getParameters().get("inputs"));
+        verify(batchHandler).accept(resultsCaptor.capture());
+        assertEquals("embedding", resultsCaptor.getValue().get(1).getIngestDocument().getFieldValue("embedding", String.class));
+    }
+
+    private MLInferenceIngestProcessor createBatchMLInferenceProcessor(int maxBatchSize) {
+        return createBatchMLInferenceProcessor(ImmutableMap.of("embedding", "response"), false, maxBatchSize);
+    }
+
+    private MLInferenceIngestProcessor createBatchMLInferenceProcessor(
+        Map<String, String> outputMapping,
+        boolean ignoreMissing,
+        int maxBatchSize
+    ) {
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        inputMap.add(ImmutableMap.of("inputs", "text"));
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        outputMap.add(outputMapping);
+        return new MLInferenceIngestProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            RANDOM_MULTIPLIER,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            ignoreMissing,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            maxBatchSize,
+            scriptService,
+            client,
+            xContentRegistry
+        );
+    }
+
+    private static List<IngestDocumentWrapper> getIngestDocumentWrappers(String... texts) {
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        for (int i = 0; i < texts.length; i++) {
+            Map<String, Object> sourceAndMetadata = new HashMap<>();
+            sourceAndMetadata.put("text", texts[i]);
+            ingestDocumentWrappers.add(new IngestDocumentWrapper(i, new IngestDocument(sourceAndMetadata, new HashMap<>()), null));
+        }
+        return ingestDocumentWrappers;
+    }
+
     private static List<Map<String, String>> getInputMapsForNestedObjectChunks(String documentFieldPath) {
         List<Map<String, String>> inputMap = new ArrayList<>();
         Map<String, String> input = new HashMap<>();
@@ -11,12 +11,16 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.utils.StringUtils.toJson;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.INPUT_MAP;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.MAX_PREDICTION_TASKS;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.MODEL_CONFIG;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.MODEL_ID;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.OUTPUT_MAP;
+import static org.opensearch.ml.processor.MLInferenceSearchRequestProcessor.CACHE_MAX_ENTRIES;
+import static org.opensearch.ml.processor.MLInferenceSearchRequestProcessor.CACHE_MAX_SIZE;
+import static org.opensearch.ml.processor.MLInferenceSearchRequestProcessor.CACHE_TTL;
 import static org.opensearch.ml.processor.MLInferenceSearchRequestProcessor.DEFAULT_MAX_PREDICTION_TASKS;
 import static org.opensearch.ml.processor.MLInferenceSearchRequestProcessor.FULL_RESPONSE_PATH;
 import static org.opensearch.ml.processor.MLInferenceSearchRequestProcessor.FUNCTION_NAME;
@@ -38,7 +42,10 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.commons.ConfigConstants;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
@@ -61,6 +68,10 @@ import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.repackage.com.google.common.collect.ImmutableMap;
 import org.opensearch.ml.searchext.MLInferenceRequestParameters;
 import org.opensearch.ml.searchext.MLInferenceRequestParametersExtBuilder;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.plugins.SearchPlugin;
 import org.opensearch.script.Script;
 import org.opensearch.script.ScriptType;
@@ -68,6 +79,7 @@ import org.opensearch.search.SearchModule;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.test.AbstractBuilderTestCase;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
 public class MLInferenceSearchRequestProcessorTests extends AbstractBuilderTestCase {
@@ -2208,6 +2220,125 @@ public class MLInferenceSearchRequestProcessorTests extends AbstractBuilderTestC
         return requestProcessor;
     }
 
+    /**
+     * Tests that the model output of a repeated query is served from the inference result cache.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    public void testExecute_inferenceResultCacheHit() throws Exception {
+        mockThreadContext();
+        MLStats mlStats = getInferenceCacheStats();
+        MLInferenceSearchRequestProcessor requestProcessor = getCachingRequestProcessor(mlStats);
+        mockRewritingModel();
+
+        for (String text : Arrays.asList("foo", "bar", "foo")) {
+            processTermQuery(requestProcessor, text);
+        }
+
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_INFERENCE_CACHE_HIT_COUNT).getValue());
+        assertEquals(2L, mlStats.getStat(MLNodeLevelStat.ML_INFERENCE_CACHE_MISS_COUNT).getValue());
+        assertEquals(1, requestProcessor.getInferenceResultCache().getStats().hitCount());
+        assertEquals(2, requestProcessor.getInferenceResultCache().size());
+    }
+
+    /**
+     * Tests that a cached model output is not served to another user, which has to pass the model access check itself.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    public void testExecute_inferenceResultCacheMissForOtherUser() throws Exception {
+        ThreadContext threadContext = mockThreadContext();
+        MLStats mlStats = getInferenceCacheStats();
+        MLInferenceSearchRequestProcessor requestProcessor = getCachingRequestProcessor(mlStats);
+        mockRewritingModel();
+
+        for (String user : Arrays.asList("alice|role1||", "bob|role2||")) {
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, user);
+                processTermQuery(requestProcessor, "foo");
+            }
+        }
+
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        assertEquals(0L, mlStats.getStat(MLNodeLevelStat.ML_INFERENCE_CACHE_HIT_COUNT).getValue());
+        assertEquals(2L, mlStats.getStat(MLNodeLevelStat.ML_INFERENCE_CACHE_MISS_COUNT).getValue());
+    }
+
+    private ThreadContext mockThreadContext() {
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        return threadContext;
+    }
+
+    private MLStats getInferenceCacheStats() {
+        Map<Enum, MLStat<?>> stats = new HashMap<>();
+        stats.put(MLNodeLevelStat.ML_INFERENCE_CACHE_HIT_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_INFERENCE_CACHE_MISS_COUNT, new MLStat<>(false, new CounterSupplier()));
+        return new MLStats(stats);
+    }
+
+    private MLInferenceSearchRequestProcessor getCachingRequestProcessor(MLStats mlStats) {
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        inputMap.add(ImmutableMap.of("inputs", "query.term.text.value"));
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        outputMap.add(ImmutableMap.of("query.term.text.value", "response"));
+        return new MLInferenceSearchRequestProcessor(
+            "model1",
+            null,
+            inputMap,
+            outputMap,
+            null,
+            null,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            new InferenceResultCache(10, 1024 * 1024, TimeValue.timeValueMinutes(1)),
+            mlStats,
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY
+        );
+    }
+
+    private void mockRewritingModel() {
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest predictionRequest = invocation.getArgument(1);
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) predictionRequest.getMlInput().getInputDataset();
+            String text = inputDataSet.getParameters().get("inputs");
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", text + "_rewritten")).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+    }
+
+    private void processTermQuery(MLInferenceSearchRequestProcessor requestProcessor, String text) throws Exception {
+        SearchRequest request = new SearchRequest().source(new SearchSourceBuilder().query(new TermQueryBuilder("text", text)));
+        QueryBuilder expectedQuery = new TermQueryBuilder("text", text + "_rewritten");
+        ActionListener<SearchRequest> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(SearchRequest newSearchRequest) {
+                assertEquals(expectedQuery, newSearchRequest.source().query());
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                throw new RuntimeException("Failed in executing processRequestAsync." + e.getMessage());
+            }
+        };
+        requestProcessor.processRequestAsync(request, requestContext, listener);
+    }
+
     /**
      * Tests the creation of the MLInferenceSearchRequestProcessor with required fields.
      *
@@ -2250,6 +2381,35 @@ public class MLInferenceSearchRequestProcessorTests extends AbstractBuilderTestC
         assertEquals(MLInferenceSearchRequestProcessor.isIgnoreFailure(), false);
     }
 
+    /**
+     * Tests the creation of the MLInferenceSearchRequestProcessor with an inference result cache.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    public void testCreateWithInferenceResultCache() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model1");
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        inputMap.add(ImmutableMap.of("text_docs", "text"));
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        outputMap.add(ImmutableMap.of("text_embedding", "$.inference_results[0].output[0].data"));
+        config.put(INPUT_MAP, inputMap);
+        config.put(OUTPUT_MAP, outputMap);
+        config.put(CACHE_MAX_ENTRIES, 100);
+        config.put(CACHE_MAX_SIZE, "1mb");
+        config.put(CACHE_TTL, "5m");
+        String processorTag = randomAlphaOfLength(10);
+        MLInferenceSearchRequestProcessor requestProcessor = factory.create(Collections.emptyMap(), processorTag, null, false, config, null);
+        assertNotNull(requestProcessor.getInferenceResultCache());
+
+        Map<String, Object> configWithoutCache = new HashMap<>();
+        configWithoutCache.put(MODEL_ID, "model1");
+        configWithoutCache.put(INPUT_MAP, inputMap);
+        configWithoutCache.put(OUTPUT_MAP, outputMap);
+        requestProcessor = factory.create(Collections.emptyMap(), processorTag, null, false, configWithoutCache, null);
+        assertNull(requestProcessor.getInferenceResultCache());
+    }
+
     /**
      * Tests the creation of the MLInferenceSearchRequestProcessor for a local model.
      *
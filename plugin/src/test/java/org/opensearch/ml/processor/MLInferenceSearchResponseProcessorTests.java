@@ -12,6 +12,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.utils.StringUtils.gson;
 import static org.opensearch.ml.common.utils.StringUtils.toJson;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.INPUT_MAP;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.MAX_PREDICTION_TASKS;
@@ -24,6 +25,7 @@ import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.DEF
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.DEFAULT_OUTPUT_FIELD_NAME;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.FULL_RESPONSE_PATH;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.FUNCTION_NAME;
+import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.MAX_BATCH_SIZE;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.MODEL_INPUT;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.ONE_TO_ONE;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.TYPE;
@@ -78,6 +80,8 @@ import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.test.AbstractBuilderTestCase;
 import org.opensearch.transport.client.Client;
 
+import com.jayway.jsonpath.JsonPath;
+
 public class MLInferenceSearchResponseProcessorTests extends AbstractBuilderTestCase {
     @Mock
     private Client client;
@@ -1425,6 +1429,93 @@ public class MLInferenceSearchResponseProcessorTests extends AbstractBuilderTest
         verify(client, times(5)).execute(any(), any(), any());
     }
 
+    /**
+     * Tests create processor with one_to_one is true and max_batch_size is 2
+     * with input_maps and output_maps
+     * expect to run one prediction per batch of two hits, and to write the model output of each hit by index
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseOneToOneWithMaxBatchSize() throws Exception {
+        String newDocumentField = "text_embedding";
+        String modelOutputField = "response";
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        Map<String, String> input = new HashMap<>();
+        input.put("inputs", "text");
+        inputMap.add(input);
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put(newDocumentField, modelOutputField);
+        outputMap.add(output);
+
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            null,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            true,
+            2
+        );
+
+        SearchRequest request = getSearchRequest();
+        String fieldName = "text";
+        SearchResponse response = getSearchResponse(5, true, fieldName);
+
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest predictionRequest = invocation.getArgument(1);
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) predictionRequest.getMlInput().getInputDataset();
+            List<String> texts = gson.fromJson(inputDataSet.getParameters().get("inputs"), List.class);
+            List<String> embeddings = new ArrayList<>();
+            for (String text : texts) {
+                embeddings.add("embedding of " + text);
+            }
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", embeddings)).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ActionListener<SearchResponse> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse newSearchResponse) {
+                assertEquals(newSearchResponse.getHits().getHits().length, 5);
+                for (int i = 0; i < 5; i++) {
+                    assertEquals(
+                        "embedding of value " + i,
+                        newSearchResponse.getHits().getHits()[i].getSourceAsMap().get(newDocumentField).toString()
+                    );
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                throw new RuntimeException(e);
+            }
+
+        };
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(3)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        MLInput mlInput = argCaptor.getAllValues().get(0).getMlInput();
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) mlInput.getInputDataset();
+        assertEquals("[\"value 0\",\"value 1\"]", inputDataSet.getParameters().get("inputs"));
+    }
+
     /**
      * Tests create processor with one_to_one is true
      * with output_maps
@@ -4916,6 +5007,194 @@ public class MLInferenceSearchResponseProcessorTests extends AbstractBuilderTest
         verify(client, times(5)).execute(any(), any(), any());
     }
 
+    /**
+     * Tests that the request and document fields of the input maps are compiled, and that the search request is only
+     * parsed when an input map reads a request field.
+     */
+    public void testCompiledJsonPathsOfRequestAndDocumentFields() {
+        MLInferenceSearchResponseProcessor documentFieldProcessor = getRequestFieldProcessor(
+            List.of(Map.of("inputs", "text")),
+            null,
+            false
+        );
+        assertFalse(documentFieldProcessor.isReadsRequestFields());
+        assertTrue(documentFieldProcessor.getCompiledJsonPaths().containsKey("text"));
+
+        MLInferenceSearchResponseProcessor requestFieldProcessor = getRequestFieldProcessor(
+            List.of(Map.of("inputs", "text", "query_text", "$._request.query.term.text.value")),
+            null,
+            false
+        );
+        assertTrue(requestFieldProcessor.isReadsRequestFields());
+        Map<String, JsonPath> compiledJsonPaths = requestFieldProcessor.getCompiledJsonPaths();
+        assertTrue(compiledJsonPaths.containsKey("$._request.query.term.text.value"));
+        // the path read from the search request, without the request prefix
+        assertTrue(compiledJsonPaths.containsKey("$.query.term.text.value"));
+
+        MLInferenceSearchResponseProcessor optionalRequestFieldProcessor = getRequestFieldProcessor(
+            List.of(Map.of("inputs", "text")),
+            List.of(Map.of("query_text", "_request.query.term.text.value")),
+            false
+        );
+        assertTrue(optionalRequestFieldProcessor.isReadsRequestFields());
+        assertTrue(optionalRequestFieldProcessor.getCompiledJsonPaths().containsKey("query.term.text.value"));
+    }
+
+    /**
+     * Tests that every input map reads the request field from the search request parsed once, and the document
+     * fields from the hits parsed once.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    public void testProcessResponseReadRequestAndDocumentFieldsForEveryInputMap() throws Exception {
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        inputMap.add(Map.of("query_text", "$._request.query.term.text.value", "inputs", "text"));
+        inputMap.add(Map.of("query_text", "_request.query.term.text.value", "inputs", "image"));
+        MLInferenceSearchResponseProcessor responseProcessor = getRequestFieldProcessor(inputMap, null, false);
+        SearchRequest request = getSearchRequest();
+        SearchResponse response = getSearchResponseTwoFields(3, true, "text", "image");
+        mockListOutput(3);
+
+        List<SearchResponse> responses = new ArrayList<>();
+        responseProcessor.processResponseAsync(request, response, responseContext, ActionListener.wrap(responses::add, e -> {
+            throw new RuntimeException(e);
+        }));
+
+        assertEquals(1, responses.size());
+        SearchHit[] hits = responses.get(0).getHits().getHits();
+        assertEquals(3, hits.length);
+        for (int i = 0; i < hits.length; i++) {
+            assertEquals((double) i, hits[i].getSourceAsMap().get("text_embedding"));
+            assertEquals((double) i, hits[i].getSourceAsMap().get("image_embedding"));
+        }
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        for (MLPredictionTaskRequest predictionRequest : argCaptor.getAllValues()) {
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) predictionRequest.getMlInput().getInputDataset();
+            assertEquals("foo", inputDataSet.getParameters().get("query_text"));
+            assertEquals("[\"value 0\",\"value 1\",\"value 2\"]", inputDataSet.getParameters().get("inputs"));
+        }
+    }
+
+    /**
+     * Tests that document fields are read from the parsed hits when no input map reads a request field, and that a
+     * hit without source is skipped as a hit missing the field.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    public void testProcessResponseReadDocumentFieldsWithoutRequestFields() throws Exception {
+        MLInferenceSearchResponseProcessor responseProcessor = getRequestFieldProcessor(List.of(Map.of("inputs", "text")), null, true);
+        assertFalse(responseProcessor.isReadsRequestFields());
+        SearchResponse response = getSearchResponse(3, true, "text");
+        // the second hit has no source
+        response.getHits().getHits()[1].sourceRef(null);
+        mockListOutput(2);
+
+        List<SearchResponse> responses = new ArrayList<>();
+        responseProcessor.processResponseAsync(getSearchRequest(), response, responseContext, ActionListener.wrap(responses::add, e -> {
+            throw new RuntimeException(e);
+        }));
+
+        assertEquals(1, responses.size());
+        SearchHit[] hits = responses.get(0).getHits().getHits();
+        assertEquals(0.0, hits[0].getSourceAsMap().get("text_embedding"));
+        assertNull(hits[1].getSourceAsMap());
+        assertEquals(1.0, hits[2].getSourceAsMap().get("text_embedding"));
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) argCaptor.getValue().getMlInput().getInputDataset();
+        assertEquals("[\"value 0\",\"value 2\"]", inputDataSet.getParameters().get("inputs"));
+        assertFalse(inputDataSet.getParameters().containsKey("query_text"));
+    }
+
+    /**
+     * Tests that a request field missing from the search request fails the response, unless missing fields are
+     * ignored, in which case the model is called with the document fields only.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    public void testProcessResponseRequestFieldMissing() throws Exception {
+        List<Map<String, String>> inputMap = List.of(Map.of("query_text", "$._request.query.match.text.query", "inputs", "text"));
+        mockListOutput(3);
+
+        MLInferenceSearchResponseProcessor responseProcessor = getRequestFieldProcessor(inputMap, null, false);
+        List<Exception> failures = new ArrayList<>();
+        responseProcessor
+            .processResponseAsync(
+                getSearchRequest(),
+                getSearchResponse(3, true, "text"),
+                responseContext,
+                ActionListener.wrap(r -> { throw new RuntimeException("error handling not properly"); }, failures::add)
+            );
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).getMessage().startsWith("Missing required input field in query body."));
+
+        verify(client, times(0)).execute(any(), any(), any());
+
+        MLInferenceSearchResponseProcessor ignoreMissingProcessor = getRequestFieldProcessor(inputMap, null, true);
+        List<SearchResponse> responses = new ArrayList<>();
+        ignoreMissingProcessor
+            .processResponseAsync(
+                getSearchRequest(),
+                getSearchResponse(3, true, "text"),
+                responseContext,
+                ActionListener.wrap(responses::add, e -> { throw new RuntimeException(e); })
+            );
+        assertEquals(1, responses.size());
+        assertEquals(2.0, responses.get(0).getHits().getHits()[2].getSourceAsMap().get("text_embedding"));
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) argCaptor.getValue().getMlInput().getInputDataset();
+        assertEquals("[\"value 0\",\"value 1\",\"value 2\"]", inputDataSet.getParameters().get("inputs"));
+        assertFalse(inputDataSet.getParameters().containsKey("query_text"));
+    }
+
+    private MLInferenceSearchResponseProcessor getRequestFieldProcessor(
+        List<Map<String, String>> inputMap,
+        List<Map<String, String>> optionalInputMap,
+        boolean ignoreMissing
+    ) {
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        for (int i = 0; i < inputMap.size(); i++) {
+            outputMap.add(Map.of(i == 0 ? "text_embedding" : "image_embedding", "response"));
+        }
+        return new MLInferenceSearchResponseProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            optionalInputMap,
+            null,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            ignoreMissing,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            false
+        );
+    }
+
+    private void mockListOutput(int size) {
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values.add((double) i);
+        }
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", values)).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+    }
+
     private static SearchRequest getSearchRequest() {
         QueryBuilder incomingQuery = new TermQueryBuilder("text", "foo");
         SearchSourceBuilder source = new SearchSourceBuilder().query(incomingQuery).size(5).sort("text");
@@ -5526,4 +5805,24 @@ public class MLInferenceSearchResponseProcessorTests extends AbstractBuilderTest
         }
     }
 
+    /**
+     * Tests the case where max_batch_size is not a positive integer
+     * and an exception is expected.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    public void testInvalidMaxBatchSize() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model2");
+        config.put(ONE_TO_ONE, true);
+        config.put(MAX_BATCH_SIZE, 0);
+        String processorTag = randomAlphaOfLength(10);
+
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> factory.create(Collections.emptyMap(), processorTag, null, false, config, null)
+        );
+        assertEquals("max_batch_size must be a positive integer, but was 0", e.getMessage());
+    }
+
 }
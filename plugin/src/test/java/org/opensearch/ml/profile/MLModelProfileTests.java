@@ -193,4 +193,105 @@ public class MLModelProfileTests {
         assertNull(deserialized.getMemSizeEstimationCPU());
         assertNull(deserialized.getMemSizeEstimationGPU());
     }
+
+    @Test
+    public void testPredictorPoolStats() throws IOException {
+        MLPredictorPoolStats poolStats = MLPredictorPoolStats
+            .builder()
+            .maxSize(4)
+            .size(2)
+            .inUse(1)
+            .waiting(0)
+            .waitCount(3L)
+            .totalWaitTimeMillis(1.5)
+            .build();
+        MLModelProfile original = MLModelProfile.builder().modelState(MLModelState.DEPLOYED).predictorPoolStats(poolStats).build();
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        original.toXContent(builder, null);
+        assertEquals(
+            "{\"model_state\":\"DEPLOYED\",\"predictor_pool_stats\":"
+                + "{\"max_size\":4,\"size\":2,\"in_use\":1,\"waiting\":0,\"wait_count\":3,\"total_wait_time_ms\":1.5}}",
+            builder.toString()
+        );
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.CURRENT);
+        original.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.CURRENT);
+        MLModelProfile deserialized = new MLModelProfile(input);
+
+        assertEquals(Integer.valueOf(4), deserialized.getPredictorPoolStats().getMaxSize());
+        assertEquals(Integer.valueOf(2), deserialized.getPredictorPoolStats().getSize());
+        assertEquals(Integer.valueOf(1), deserialized.getPredictorPoolStats().getInUse());
+        assertEquals(Integer.valueOf(0), deserialized.getPredictorPoolStats().getWaiting());
+        assertEquals(Long.valueOf(3L), deserialized.getPredictorPoolStats().getWaitCount());
+        assertEquals(1.5, deserialized.getPredictorPoolStats().getTotalWaitTimeMillis(), 0.0001);
+    }
+
+    @Test
+    public void testPredictorPoolStats_OldVersion() throws IOException {
+        MLPredictorPoolStats poolStats = MLPredictorPoolStats.builder().maxSize(4).size(2).build();
+        MLModelProfile original = MLModelProfile.builder().predictorPoolStats(poolStats).build();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_0_0);
+        original.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_0_0);
+        MLModelProfile deserialized = new MLModelProfile(input);
+
+        assertNull(deserialized.getPredictorPoolStats());
+    }
+
+    @Test
+    public void testConcurrencyLimitStats() throws IOException {
+        MLConcurrencyLimitStats limitStats = MLConcurrencyLimitStats
+            .builder()
+            .limit(18)
+            .maxLimit(30)
+            .inFlight(5)
+            .throttledCount(4L)
+            .rejectedCount(2L)
+            .build();
+        MLModelProfile original = MLModelProfile.builder().modelState(MLModelState.DEPLOYED).concurrencyLimitStats(limitStats).build();
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        original.toXContent(builder, null);
+        assertEquals(
+            "{\"model_state\":\"DEPLOYED\",\"concurrency_limit_stats\":"
+                + "{\"limit\":18,\"max_limit\":30,\"in_flight\":5,\"throttled_count\":4,\"rejected_count\":2}}",
+            builder.toString()
+        );
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.CURRENT);
+        original.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.CURRENT);
+        MLModelProfile deserialized = new MLModelProfile(input);
+
+        assertNull(deserialized.getPredictorPoolStats());
+        assertEquals(Integer.valueOf(18), deserialized.getConcurrencyLimitStats().getLimit());
+        assertEquals(Integer.valueOf(30), deserialized.getConcurrencyLimitStats().getMaxLimit());
+        assertEquals(Integer.valueOf(5), deserialized.getConcurrencyLimitStats().getInFlight());
+        assertEquals(Long.valueOf(4L), deserialized.getConcurrencyLimitStats().getThrottledCount());
+        assertEquals(Long.valueOf(2L), deserialized.getConcurrencyLimitStats().getRejectedCount());
+    }
+
+    @Test
+    public void testConcurrencyLimitStats_OldVersion() throws IOException {
+        MLConcurrencyLimitStats limitStats = MLConcurrencyLimitStats.builder().limit(18).maxLimit(30).build();
+        MLModelProfile original = MLModelProfile.builder().concurrencyLimitStats(limitStats).build();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_0_0);
+        original.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_0_0);
+        MLModelProfile deserialized = new MLModelProfile(input);
+
+        assertNull(deserialized.getConcurrencyLimitStats());
+    }
 }
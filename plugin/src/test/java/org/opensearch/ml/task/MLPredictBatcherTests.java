@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters;
+import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters.EmbeddingContentType;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLPredictBatcherTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private ThreadContext threadContext;
+    private MLModelManager mlModelManager;
+    private Predictable predictor;
+    private MLPredictBatcher batcher;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        threadPool = mock(ThreadPool.class);
+        ExecutorService executorService = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+        when(threadPool.executor(PREDICT_THREAD_POOL)).thenReturn(executorService);
+        threadContext = new ThreadContext(Settings.EMPTY);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+
+        mlModelManager = mock(MLModelManager.class);
+        when(mlModelManager.trackPredictDuration(anyString(), any(Supplier.class)))
+            .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+
+        predictor = mock(Predictable.class);
+        when(predictor.predict(any(MLInput.class))).thenAnswer(invocation -> {
+            MLInput input = invocation.getArgument(0);
+            List<ModelTensors> outputs = new ArrayList<>();
+            for (String doc : ((TextDocsInputDataSet) input.getInputDataset()).getDocs()) {
+                outputs.add(ModelTensors.builder().mlModelTensors(List.of(ModelTensor.builder().name(doc).build())).build());
+            }
+            return new ModelTensorOutput(outputs);
+        });
+
+        batcher = new MLPredictBatcher("test_model", predictor, 3, 10, threadPool, mlModelManager);
+    }
+
+    public void testIsBatchable() {
+        assertTrue(MLPredictBatcher.isBatchable(textDocsInput(null, "doc1")));
+        AsymmetricTextEmbeddingParameters parameters = AsymmetricTextEmbeddingParameters
+            .builder()
+            .embeddingContentType(EmbeddingContentType.QUERY)
+            .build();
+        MLInput withParameters = textDocsInput(null, "doc1").toBuilder().parameters(parameters).build();
+        assertFalse(MLPredictBatcher.isBatchable(withParameters));
+        MLInput otherAlgorithm = textDocsInput(null, "doc1").toBuilder().algorithm(FunctionName.SPARSE_ENCODING).build();
+        assertFalse(MLPredictBatcher.isBatchable(otherAlgorithm));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_MergeUntilMaxBatchSize() {
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+
+        batcher.submit(textDocsInput(null, "doc1"), listener1);
+        verify(predictor, never()).predict(any(MLInput.class));
+
+        batcher.submit(textDocsInput(null, "doc2", "doc3"), listener2);
+        verify(predictor, times(1)).predict(any(MLInput.class));
+        assertEquals(List.of("doc1"), responseDocs(listener1));
+        assertEquals(List.of("doc2", "doc3"), responseDocs(listener2));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_FlushAfterMaxWait() {
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        batcher.submit(textDocsInput(null, "doc1"), listener);
+        verify(predictor, never()).predict(any(MLInput.class));
+
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(flushCaptor.capture(), eq(TimeValue.timeValueMillis(10)), eq(PREDICT_THREAD_POOL));
+        flushCaptor.getValue().run();
+
+        verify(predictor, times(1)).predict(any(MLInput.class));
+        assertEquals(List.of("doc1"), responseDocs(listener));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_DifferentResultFilterNotMerged() {
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        ModelResultFilter filter = ModelResultFilter.builder().returnNumber(true).targetResponse(List.of("sentence_embedding")).build();
+
+        batcher.submit(textDocsInput(null, "doc1"), listener1);
+        batcher.submit(textDocsInput(filter, "doc2"), listener2);
+
+        // the first batch runs on its own once a request with another result filter comes in
+        verify(predictor, times(1)).predict(any(MLInput.class));
+        assertEquals(List.of("doc1"), responseDocs(listener1));
+        verify(listener2, never()).onResponse(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSubmit_FailureSentToAllRequests() {
+        when(predictor.predict(any(MLInput.class))).thenThrow(new IllegalArgumentException("test failure"));
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+
+        batcher.submit(textDocsInput(null, "doc1"), listener1);
+        batcher.submit(textDocsInput(null, "doc2", "doc3"), listener2);
+
+        verify(listener1).onFailure(any(IllegalArgumentException.class));
+        verify(listener2).onFailure(any(IllegalArgumentException.class));
+    }
+
+    public void testSubmit_ListenerKeepsThreadContextOfRequest() {
+        List<String> headers = new ArrayList<>();
+        ActionListener<MLOutput> listener1 = ActionListener
+            .wrap(output -> headers.add(threadContext.getHeader("request")), e -> fail(e.getMessage()));
+        ActionListener<MLOutput> listener2 = ActionListener
+            .wrap(output -> headers.add(threadContext.getHeader("request")), e -> fail(e.getMessage()));
+
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader("request", "request1");
+            batcher.submit(textDocsInput(null, "doc1"), listener1);
+        }
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader("request", "request2");
+            // the merged predict runs on the thread of the second request
+            batcher.submit(textDocsInput(null, "doc2", "doc3"), listener2);
+        }
+
+        assertEquals(List.of("request1", "request2"), headers);
+        assertEquals(Map.of(), threadContext.getHeaders());
+    }
+
+    private MLInput textDocsInput(ModelResultFilter resultFilter, String... docs) {
+        TextDocsInputDataSet dataSet = TextDocsInputDataSet.builder().docs(List.of(docs)).resultFilter(resultFilter).build();
+        return MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(dataSet).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> responseDocs(ActionListener<MLOutput> listener) {
+        ArgumentCaptor<MLOutput> outputCaptor = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener).onResponse(outputCaptor.capture());
+        List<String> docs = new ArrayList<>();
+        for (ModelTensors tensors : ((ModelTensorOutput) outputCaptor.getValue()).getMlModelOutputs()) {
+            docs.add(tensors.getMlModelTensors().get(0).getName());
+        }
+        return docs;
+    }
+}
@@ -86,6 +86,7 @@ import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
+import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.ml.utils.TestData;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
@@ -414,7 +415,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("No model found, please check the modelId.", argumentCaptor.getValue().getMessage());
     }
 
-    public void testValidateModelTensorOutputSuccess() {
+    public void testValidateModelTensorOutputSuccess() throws IOException {
         ModelTensor modelTensor = ModelTensor
             .builder()
             .name("response")
@@ -430,6 +431,8 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
             .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()))
             .build();
         when(mlModelManager.getModelInterface(any())).thenReturn(modelInterface);
+        when(mlModelManager.getModelInterfaceSchema(any(), eq("output")))
+            .thenReturn(MLNodeUtils.compileSchema(modelInterface.get("output")));
         taskRunner.validateOutputSchema("testId", modelTensorOutput);
     }
 
@@ -482,6 +485,8 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         }).when(mlTaskManager).createMLTask(any(MLTask.class), Mockito.isA(ActionListener.class));
 
         when(mlModelManager.getModelInterface(any())).thenReturn(modelInterface);
+        when(mlModelManager.getModelInterfaceSchema(any(), eq("output")))
+            .thenReturn(MLNodeUtils.compileSchema(modelInterface.get("output")));
 
         when(mlModelManager.getPredictor(anyString())).thenReturn(predictor);
         when(mlModelManager.getWorkerNodes(anyString(), eq(FunctionName.REMOTE), eq(true))).thenReturn(new String[] { "node1" });
@@ -569,7 +574,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("Unable to create batch transform job", argumentCaptor.getValue().getMessage());
     }
 
-    public void testValidateModelTensorOutputFailed() {
+    public void testValidateModelTensorOutputFailed() throws IOException {
         exceptionRule.expect(OpenSearchStatusException.class);
         ModelTensor modelTensor = ModelTensor
             .builder()
@@ -586,6 +591,8 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
             .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()))
             .build();
         when(mlModelManager.getModelInterface(any())).thenReturn(modelInterface);
+        when(mlModelManager.getModelInterfaceSchema(any(), eq("output")))
+            .thenReturn(MLNodeUtils.compileSchema(modelInterface.get("output")));
         taskRunner.validateOutputSchema("testId", modelTensorOutput);
     }
 
@@ -677,6 +684,8 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         }).when(mlTaskManager).createMLTask(any(MLTask.class), Mockito.isA(ActionListener.class));
 
         when(mlModelManager.getModelInterface(any())).thenReturn(modelInterface);
+        when(mlModelManager.getModelInterfaceSchema(any(), eq("output")))
+            .thenReturn(MLNodeUtils.compileSchema(modelInterface.get("output")));
 
         when(mlModelManager.getPredictor(anyString())).thenReturn(predictor);
         when(mlModelManager.getWorkerNodes(anyString(), eq(FunctionName.REMOTE), eq(true))).thenReturn(new String[] { "node1" });